@@ -62,9 +62,50 @@ public final class GameConstants {
 
     // Collision / CCD
     public static final boolean USE_CCD = true;
-    public static final double MAX_ITER_PER_FRAME = 5;
+    public static final int MAX_ITER_PER_FRAME = 5;
     public static final double COLLISION_EPSILON = 0.1;
 
+    // Texture atlas
+    public static final int ATLAS_PAGE_SIZE = 1024;
+    public static final int ATLAS_MAX_SPRITE_WIDTH = 512;
+    public static final int ATLAS_MAX_SPRITE_HEIGHT = 192;
+
+    // Asset loading
+    public static final int ASSET_LOADER_THREADS = 4;
+    public static final int MUSIC_STREAM_BUFFER_BYTES = 16 * 1024;
+
+    // Font / paint / effect cache
+    public static final int FONT_CACHE_CAPACITY = 64;
+    public static final int GRADIENT_CACHE_CAPACITY = 32;
+    public static final int EFFECT_CACHE_CAPACITY = 32;
+
+    // Text raster cache
+    public static final boolean USE_TEXT_CACHE = true;
+    public static final int TEXT_CACHE_MAX_ENTRIES = 256;
+    public static final long TEXT_CACHE_MAX_BYTES = 16L * 1024 * 1024;
+
+    // Image tint: từ kích thước này trở lên thì tint song song theo hàng
+    public static final int TINT_PARALLEL_MIN_PIXELS = 256 * 256;
+
+    // SFX mixer
+    public static final int SFX_VOICES = 4;
+    public static final int SFX_COMMAND_QUEUE_CAPACITY = 256;
+    public static final long SFX_DEDUP_WINDOW_NANOS = 16_000_000L;
+
+    // Particles
+    public static final int PARTICLE_CAPACITY = 4096;
+    public static final boolean PARTICLE_OVERWRITE_ON_OVERFLOW = true;
+    public static final int PARTICLE_ALPHA_BUCKETS = 8;
+
+    // Simulation thread (bật bằng -Darkanoid.simulationThread=true): mô phỏng chạy trên thread riêng,
+    // FX thread chỉ vẽ snapshot mới nhất
+    public static final boolean USE_SIMULATION_THREAD = Boolean.getBoolean("arkanoid.simulationThread");
+    public static final double SNAPSHOT_MAX_INTERPOLATION_DISTANCE = 64.0;
+
+    // Events (bật bằng -Darkanoid.eventQueue=true): hoãn sự kiện va chạm và phát một lượt cuối tick
+    public static final boolean USE_EVENT_QUEUE = Boolean.getBoolean("arkanoid.eventQueue");
+    public static final int EVENT_QUEUE_CAPACITY = 256;
+
     // Bricks
     public static final double BRICK_PADDING = 2;
     public static final double BRICK_DURABILITY = 1;
@@ -93,6 +134,9 @@ public final class GameConstants {
     public static final int POWERUP_TOTAL_FRAMES = 14;
     public static final double POWERUP_FRAME_DURATION = 0.1;
 
+    // Levels
+    public static final int CAMPAIGN_LEVEL_COUNT = 5; // số file levels/level_N.txt
+
     // Gameplay tuning
     public static final double BALL_INITIAL_ANGLE_RANDOM_RANGE = 15.0; // ±15 degrees
     public static final double BALL_SPEED_SCALE_ON_HIT = 1.02; // speed increase on hit
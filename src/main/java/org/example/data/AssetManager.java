@@ -3,29 +3,217 @@ package org.example.data;
 import javax.sound.sampled.*;
 import java.io.BufferedInputStream;
 import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import javafx.scene.image.Image;
 import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
 import javafx.scene.effect.Effect;
 import javafx.scene.paint.Paint;
+import org.example.config.GameConstants;
+import org.example.gamelogic.multithreading.AsyncExecutor;
 
 public class AssetManager {
-    private Map<String, Clip> sounds = new HashMap<>();
-    private Map<String, Image> images = new HashMap<>();
+    private static final String[][] SOUND_MANIFEST = {
+            {"brick_destroyed", "/sounds/brick_destroyed.wav"},
+            {"paddle_hit", "/sounds/paddle_hit.wav"},
+            {"ball_lost", "/sounds/ball_lost.wav"},
+            {"glass", "/sounds/glass.wav"},
+            {"powerup", "/sounds/powerup.wav"},
+            {"brick_hit", "/sounds/brick_hit.wav"},
+            {"bomb", "/sounds/Bomb.wav"},
+            {"siren", "/sounds/siren.wav"},
+            {"victory", "/sounds/victory.wav"},
+            {"star_accounted", "/sounds/star_accounted.wav"},
+    };
+
+    // Nhạc nền không được decode sẵn thành Clip mà stream trực tiếp từ resource khi phát
+    private static final Map<String, String> MUSIC_MANIFEST = Map.of(
+            "music_1", "/sounds/music_1.wav",
+            "music_2", "/sounds/music_2.wav",
+            "music_3", "/sounds/music_3.wav"
+    );
+
+    private static final String[][] IMAGE_MANIFEST = {
+            // {"ball", "/images/ball.png"},
+            {"paddle", "/images/paddle.png"},
+            {"normalBrick", "/images/cyanBrick.png"},
+            {"hardBrick1", "/images/hardBrick1.png"},
+            {"hardBrick2", "/images/hardBrick2.png"},
+            {"hardBrick3", "/images/hardBrick3.png"},
+            {"healingBrick", "/images/greenBrick.png"},
+            {"explosiveBrick", "/images/redBrick.png"},
+            {"unbreakableBrick", "/images/unbreakableBrick.png"},
+            {"unbreakableBrickHit", "/images/unbreakableBrickHit.png"},
+            {"powerups", "/images/PowerupSprites.png"},
+
+            {"enemy1", "/images/UFO.png"},
+            {"enemy2", "/images/asteroid.png"},
+            {"boss", "/images/moai.png"},
+            {"bossShoot", "/images/moaiShooting.png"},
+            {"bossEnraged", "/images/angryMoai.png"},
+            {"bossEnragedShoot", "/images/angryMoaiShooting.png"},
+            {"bossHit", "/images/moaiHit.png"},
+            {"bossEnragedHit", "/images/angryMoaiHit.png"},
+            {"minion", "/images/minion.png"},
+            {"minionShoot", "/images/minionShoot.png"},
+            {"enemyExplode", "/images/enemyExplode.png"},
+
+            {"frame", "/images/GameFrame.png"},
+            {"pause", "/images/pause.png"},
+            {"hud", "/images/hud.png"},
+
+            {"mainMenu", "/images/mainMenu.png"}, //
+            {"ranking", "/images/ranking.png"}, //
+            {"settings", "/images/settings.png"},
+            {"gameMode", "/images/gameMode.png"},
+            {"modesFrame", "/images/modesFrame.png"}, //
+            {"gameOver", "/images/gameOver.png"}, //
+            {"victory", "/images/victory.png"}, //
+            {"level", "/images/level.png"}, //
+            {"button", "/images/button.png"},
+            {"hoveredButton", "/images/hoveredButton.png"},
+
+            {"page1", "/images/page1.png"},
+            {"page2", "/images/page2.png"},
+
+            {"icon_expand", "/images/expandpaddle.png"}, //
+            {"icon_extra_life", "/images/extra.png"}, //
+            {"bullet", "/images/bullet.png"},
+            {"bossBullet", "/images/bossBullet.png"},
+
+            {"banner1", "/images/banner1.png"},
+            {"banner2", "/images/banner2.png"},
+            {"sfxIcon", "/images/sfxIcon.png"},
+            {"musicIcon", "/images/musicIcon.png"},
+            {"backButton", "/images/backButton.png"},
+            {"backButtonHovered", "/images/backButtonHovered.png"},
+            {"nextButton", "/images/nextButton.png"},
+            {"prevButton", "/images/prevButton.png"},
+            {"hologram", "/images/hologram.png"},
+            {"popup_fill", "/images/hologram.png"},
+            {"textButton", "/images/textButton.png"},
+            {"selectButton", "/images/selectButton.png"},
+            {"selectButtonHovered", "/images/selectButtonHovered.png"},
+
+            {"toggleOn", "/images/toggleOn.png"},
+            {"toggleOff", "/images/toggleOff.png"},
+            {"barFrame", "/images/barFrame.png"},
+            {"barFill", "/images/barFill.png"},
+            {"barHandle", "/images/barHandle.png"},
+            {"rankBanner", "/images/rankBanner.png"},
+
+            {"infiniteStatic", "/images/infiniteStatic.png"},
+            {"infinite", "/images/infinite.png"},
+
+            {"bg1", "/images/background1.png"},
+            {"bg2", "/images/background2.png"},
+            {"bg3", "/images/background3.png"},
+            {"bossBackground", "/images/bossBackground.png"},
+            {"infiniteBackground", "/images/infiniteBackground.png"},
+            {"confetti", "/images/confetti.gif"},
+    };
+
+    // Ảnh chỉ được vẽ ở một kích thước cố định: decode thẳng về kích thước đó, ảnh gốc không được giữ lại
+    private static final ScaledKey[] IMAGE_SIZE_MANIFEST = {
+            fullScreen("mainMenu"),
+            fullScreen("ranking"),
+            fullScreen("settings"),
+            fullScreen("gameOver"),
+            fullScreen("level"),
+            fullScreen("infiniteBackground"),
+            playArea("bg1"),
+            playArea("bg2"),
+            playArea("bg3"),
+            playArea("bossBackground"),
+            playArea("frame"),
+            new ScaledKey("hud", (int) GameConstants.UI_BAR_WIDTH, (int) GameConstants.SCREEN_HEIGHT),
+    };
+
+    // Ảnh mà UI đọc nguyên dạng qua getImage(): được giữ bản gốc kể cả khi đã đóng gói vào atlas.
+    // Ảnh đóng gói khác chỉ còn trong trang atlas, bản gốc bị bỏ sau khi đóng gói.
+    private static final Set<String> UI_IMAGE_NAMES = Set.of(
+            "mainMenu", "ranking", "settings", "gameOver", "victory", "level", "modesFrame", "confetti",
+            "bg1", "bg2", "bg3", "bossBackground", "infiniteBackground", "frame", "hud", "pause",
+            "banner1", "banner2", "page1", "page2", "rankBanner", "hologram", "popup_fill",
+            "button", "hoveredButton", "selectButton", "selectButtonHovered", "backButton", "backButtonHovered",
+            "nextButton", "prevButton", "sfxIcon", "musicIcon", "toggleOn", "toggleOff",
+            "barFrame", "barFill", "barHandle", "infinite", "infiniteStatic",
+            "boss", "bossEnraged", "bossHit", "icon_expand", "icon_extra_life",
+            "normalBrick", "hardBrick1", "explosiveBrick", "unbreakableBrick", "healingBrick"
+    );
+
+    // Ảnh được vẽ ở nhiều kích thước: giữ bản gốc và decode thêm từng bản scale ngay lúc load.
+    // Chiều rộng 0 nghĩa là giữ tỉ lệ ảnh gốc theo chiều cao cho trước.
+    private static final ScaledKey[] SCALED_VARIANT_MANIFEST = {
+            // Nửa màn hình chọn chế độ chơi (GameModeState)
+            new ScaledKey("victory", (int) (GameConstants.SCREEN_WIDTH / 2), (int) GameConstants.SCREEN_HEIGHT),
+            // Nền màn chiến thắng, cao bằng màn hình (VictoryState)
+            new ScaledKey("victory", 0, (int) GameConstants.SCREEN_HEIGHT),
+    };
+
+    private static final String[][] FONT_MANIFEST = {
+            {"Anxel", "/fonts/Anxel.ttf"},
+    };
+
+    private Map<String, Clip[]> sounds = new ConcurrentHashMap<>();
+    private Map<String, Image> images = new ConcurrentHashMap<>();
     private Map<String, Font> fonts = new HashMap<>();
-    private Map<String, Effect> effects = new HashMap<>();
-    private Map<String, Paint> gradients = new HashMap<>();
-    private Map<String, String> fontFamilies = new HashMap<>();
+    private Map<EffectKey, Effect> effects = new LruCache<>(GameConstants.EFFECT_CACHE_CAPACITY);
+    private Map<String, Paint> gradients = new LruCache<>(GameConstants.GRADIENT_CACHE_CAPACITY);
+    private Map<FontKey, Font> sizedFonts = new LruCache<>(GameConstants.FONT_CACHE_CAPACITY);
+    private Map<String, String> fontFamilies = new ConcurrentHashMap<>();
+    private Map<String, AtlasRegion> standaloneRegions = new ConcurrentHashMap<>();
+    private Map<ScaledKey, Image> scaledImages = new ConcurrentHashMap<>();
+    private Set<String> animatedImages = ConcurrentHashMap.newKeySet();
+    private volatile TextureAtlas atlas;
+
+    // Trạng thái load bất đồng bộ: mỗi tên tài nguyên ứng với future hoàn tất khi nó đã load xong
+    private final Map<String, CompletableFuture<Void>> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger loadedCount = new AtomicInteger();
+    private final AtomicLong workNanos = new AtomicLong();
+    private volatile int totalCount;
+    private volatile CompletableFuture<Void> allLoaded;
+    private long loadStartNanos;
 
     private boolean resourcesPreloaded = false;
 
+    private static volatile boolean headless = Boolean.getBoolean("arkanoid.headless");
+
     /**
-     * Khởi tạo AssetManager và load toàn bộ tài nguyên mặc định.
-     * <br>Input: không có (chỉ dùng nội bộ). Output: cache nội bộ được điền.
+     * Khởi tạo AssetManager với cache rỗng.
+     * <br>Tài nguyên chỉ được load khi gọi {@link #startLoading(Collection)} hoặc {@link #loadAssets()};
+     * ở chế độ headless không load gì cả: mọi getter trả về {@code null}.
      */
     private AssetManager() {
-        loadAssets();
+    }
+
+    /**
+     * Bật chế độ headless (không ảnh, không âm thanh, không font, không cần JavaFX toolkit).
+     * <br>Phải gọi trước lần đầu tiên {@link #getInstance()}; cũng có thể bật bằng
+     * system property {@code -Darkanoid.headless=true}.
+     */
+    public static void enableHeadlessMode() {
+        headless = true;
+    }
+
+    /**
+     * Kiểm tra AssetManager có đang ở chế độ headless không.
+     *
+     * @return true nếu tài nguyên không được load
+     */
+    public static boolean isHeadless() {
+        return headless;
     }
 
     private static class SingletonHolder {
@@ -43,123 +231,207 @@ public class AssetManager {
 
 
     /**
-     * Load tất cả âm thanh, hình ảnh và font mặc định vào cache.
+     * Load tất cả âm thanh, hình ảnh và font mặc định vào cache và chờ tới khi xong.
      * <br>Input: không có. Output: các map sounds/images/fontFamilies được cập nhật.
      */
     public void loadAssets() {
-        try {
-            loadSound("brick_destroyed", "/sounds/brick_destroyed.wav");
-            loadSound("paddle_hit", "/sounds/paddle_hit.wav");
-            loadSound("ball_lost", "/sounds/ball_lost.wav");
-            loadSound("glass", "/sounds/glass.wav");
-            loadSound("powerup", "/sounds/powerup.wav");
-            loadSound("brick_hit", "/sounds/brick_hit.wav");
-            loadSound("bomb", "/sounds/Bomb.wav");
-            loadSound("music_1", "/sounds/music_1.wav");
-            loadSound("music_2", "/sounds/music_2.wav");
-            loadSound("music_3", "/sounds/music_3.wav");
-            loadSound("siren", "/sounds/siren.wav");
-            loadSound("victory", "/sounds/victory.wav");
-            loadSound("star_accounted", "/sounds/star_accounted.wav");
-        } catch (Exception e) {
-            System.err.println("Không thể tải file âm thanh: " + e.getMessage());
-            e.printStackTrace();
+        startLoading(List.of());
+        awaitAll();
+    }
+
+    /**
+     * Bắt đầu load toàn bộ tài nguyên song song trên một worker pool, không chặn thread gọi.
+     * <br>Các tài nguyên có tên trong {@code priorityNames} được xếp hàng trước; atlas được đóng gói
+     * sau khi mọi ảnh đã decode xong. Gọi lại lần nữa (hoặc ở chế độ headless) không làm gì.
+     *
+     * @param priorityNames tên tài nguyên cần sẵn sàng sớm nhất (ví dụ những gì main menu dùng)
+     */
+    public synchronized void startLoading(Collection<String> priorityNames) {
+        if (headless || allLoaded != null) {
+            return;
+        }
+
+        loadStartNanos = System.nanoTime();
+        int workers = Math.max(1, Math.min(GameConstants.ASSET_LOADER_THREADS,
+                Runtime.getRuntime().availableProcessors()));
+        ExecutorService loader = AsyncExecutor.newWorkerPool("asset-loader", workers);
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        List<CompletableFuture<Void>> imageTasks = new ArrayList<>();
+        for (boolean priorityPass : new boolean[] {true, false}) {
+            for (String[] entry : FONT_MANIFEST) {
+                if (priorityNames.contains(entry[0]) == priorityPass) {
+                    tasks.add(submit(loader, entry[0], () -> loadFont(entry[0], entry[1])));
+                }
+            }
+            for (String[] entry : IMAGE_MANIFEST) {
+                if (priorityNames.contains(entry[0]) == priorityPass) {
+                    imageTasks.add(submit(loader, entry[0], () -> loadImage(entry[0], entry[1])));
+                }
+            }
+            for (String[] entry : SOUND_MANIFEST) {
+                if (priorityNames.contains(entry[0]) == priorityPass) {
+                    tasks.add(submit(loader, entry[0], () -> loadSound(entry[0], entry[1])));
+                }
+            }
+        }
+        tasks.addAll(imageTasks);
+        totalCount = tasks.size();
+
+        CompletableFuture<Void> atlasTask = CompletableFuture
+                .allOf(imageTasks.toArray(new CompletableFuture<?>[0]))
+                .thenRunAsync(this::buildAtlas, loader);
+        tasks.add(atlasTask);
+
+        allLoaded = CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((ignored, error) -> {
+                    loader.shutdown();
+                    System.out.println("Đã load " + totalCount + " tài nguyên trong " + getElapsedLoadMillis()
+                            + " ms với " + workers + " luồng (load tuần tự ước tính "
+                            + workNanos.get() / 1_000_000 + " ms)");
+                });
+    }
+
+    private record FontKey(String name, FontWeight weight, double size) {}
+
+    // Effect được cache theo cả tên lẫn kiểu, nên hai nơi dùng chung tên với kiểu khác nhau không đè lên nhau
+    private record EffectKey(String name, Class<? extends Effect> type) {}
+
+    /**
+     * Khóa của một bản ảnh đã scale sẵn: tên ảnh và kích thước (pixel) trên màn hình.
+     *
+     * @param name   key của ảnh
+     * @param width  chiều rộng (pixel)
+     * @param height chiều cao (pixel)
+     */
+    public record ScaledKey(String name, int width, int height) {}
+
+    private static ScaledKey fullScreen(String name) {
+        return new ScaledKey(name, (int) GameConstants.SCREEN_WIDTH, (int) GameConstants.SCREEN_HEIGHT);
+    }
+
+    private static ScaledKey playArea(String name) {
+        return new ScaledKey(name, (int) (GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH),
+                (int) GameConstants.SCREEN_HEIGHT);
+    }
+
+    private static ScaledKey targetSizeOf(String name) {
+        for (ScaledKey key : IMAGE_SIZE_MANIFEST) {
+            if (key.name().equals(name)) {
+                return key;
+            }
         }
+        return null;
+    }
 
-        try {
-            // loadImage("ball", "/images/ball.png");
-            loadImage("paddle", "/images/paddle.png");
-            loadImage("normalBrick", "/images/cyanBrick.png");
-            loadImage("hardBrick1", "/images/hardBrick1.png");
-            loadImage("hardBrick2", "/images/hardBrick2.png");
-            loadImage("hardBrick3", "/images/hardBrick3.png");
-            loadImage("healingBrick", "/images/greenBrick.png");
-            loadImage("explosiveBrick", "/images/redBrick.png");
-            loadImage("unbreakableBrick", "/images/unbreakableBrick.png");
-            loadImage("unbreakableBrickHit", "/images/unbreakableBrickHit.png");
-            loadImage("powerups", "/images/PowerupSprites.png");
-
-            loadImage("enemy1", "/images/UFO.png");
-            loadImage("enemy2", "/images/asteroid.png");
-            loadImage("boss", "/images/moai.png");
-            loadImage("bossShoot", "/images/moaiShooting.png");
-            loadImage("bossEnraged", "/images/angryMoai.png");
-            loadImage("bossEnragedShoot", "/images/angryMoaiShooting.png");
-            loadImage("bossHit", "/images/moaiHit.png");
-            loadImage("bossEnragedHit", "/images/angryMoaiHit.png");
-            loadImage("minion", "/images/minion.png");
-            loadImage("minionShoot", "/images/minionShoot.png");
-            loadImage("enemyExplode",  "/images/enemyExplode.png");
-
-            loadImage("frame", "/images/GameFrame.png");
-            loadImage("pause", "/images/pause.png");
-            loadImage("hud", "/images/hud.png");
-
-            loadImage("mainMenu", "/images/mainMenu.png"); //
-            loadImage("ranking", "/images/ranking.png"); //
-            loadImage("settings", "/images/settings.png");
-            loadImage("gameMode", "/images/gameMode.png");
-            loadImage("modesFrame", "/images/modesFrame.png");//
-            loadImage("gameOver", "/images/gameOver.png"); //
-            loadImage("victory", "/images/victory.png"); //
-            loadImage("level", "/images/level.png"); //
-            loadImage("button", "/images/button.png");
-            loadImage("hoveredButton", "/images/hoveredButton.png");
-
-            loadImage("page1", "/images/page1.png");
-            loadImage("page2", "/images/page2.png");
-
-            loadImage("icon_expand", "/images/expandpaddle.png"); //
-            loadImage("icon_extra_life", "/images/extra.png"); //
-            loadImage("bullet", "/images/bullet.png");
-            loadImage("bossBullet", "/images/bossBullet.png");
-
-            loadImage("banner1", "/images/banner1.png");
-            loadImage("banner2", "/images/banner2.png");
-            loadImage("sfxIcon", "/images/sfxIcon.png");
-            loadImage("musicIcon", "/images/musicIcon.png");
-            loadImage("backButton", "/images/backButton.png");
-            loadImage("backButtonHovered", "/images/backButtonHovered.png");
-            loadImage("nextButton", "/images/nextButton.png");
-            loadImage("prevButton", "/images/prevButton.png");
-            loadImage("hologram", "/images/hologram.png");
-            loadImage("popup_fill", "/images/hologram.png");
-            loadImage("textButton", "/images/textButton.png");
-            loadImage("selectButton", "/images/selectButton.png");
-            loadImage("selectButtonHovered", "/images/selectButtonHovered.png");
-
-            loadImage("toggleOn", "/images/toggleOn.png");
-            loadImage("toggleOff", "/images/toggleOff.png");
-            loadImage("barFrame", "/images/barFrame.png");
-            loadImage("barFill", "/images/barFill.png");
-            loadImage("barHandle", "/images/barHandle.png");
-            loadImage("rankBanner", "/images/rankBanner.png");
-
-            loadImage("infiniteStatic", "/images/infiniteStatic.png");
-            loadImage("infinite", "/images/infinite.png");
-
-            loadImage("bg1", "/images/background1.png");
-            loadImage("bg2", "/images/background2.png");
-            loadImage("bg3", "/images/background3.png");
-            loadImage("bossBackground", "/images/bossBackground.png");
-            loadImage("infiniteBackground", "/images/infiniteBackground.png");
-            loadImage("confetti", "/images/confetti.gif");
-
-        } catch (Exception e) {
-            System.err.println("Không thể tải file hình ảnh: " + e.getMessage());
-            e.printStackTrace();
+    /**
+     * Lấy các bản scale của một ảnh được decode sẵn lúc load (theo {@code SCALED_VARIANT_MANIFEST}),
+     * với kích thước đã tính theo ảnh gốc.
+     *
+     * @param name         key của ảnh
+     * @param sourceWidth  chiều rộng ảnh gốc
+     * @param sourceHeight chiều cao ảnh gốc
+     * @return danh sách khóa (tên, rộng, cao); rỗng nếu ảnh không có bản scale nào
+     */
+    public static List<ScaledKey> scaledVariantsOf(String name, double sourceWidth, double sourceHeight) {
+        List<ScaledKey> variants = new ArrayList<>();
+        for (ScaledKey variant : SCALED_VARIANT_MANIFEST) {
+            if (!variant.name().equals(name)) {
+                continue;
+            }
+            if (variant.width() > 0) {
+                variants.add(variant);
+            } else {
+                double scale = variant.height() / sourceHeight;
+                variants.add(scaledKeyOf(name, sourceWidth * scale, variant.height()));
+            }
         }
+        return variants;
+    }
+
+    private interface LoadTask {
+        void load() throws Exception;
+    }
 
-        try {
-            loadFont("Anxel", "/fonts/Anxel.ttf");
+    /**
+     * Đưa một tác vụ load lên pool; lỗi được log và không làm hỏng các tài nguyên khác.
+     */
+    private CompletableFuture<Void> submit(ExecutorService loader, String name, LoadTask task) {
+        CompletableFuture<Void> future = CompletableFuture.runAsync(() -> {
+            long start = System.nanoTime();
+            try {
+                task.load();
+            } catch (Exception e) {
+                System.err.println("Không thể tải tài nguyên " + name + ": " + e.getMessage());
+            } finally {
+                workNanos.addAndGet(System.nanoTime() - start);
+                loadedCount.incrementAndGet();
+            }
+        }, loader);
+        // Âm thanh và ảnh có thể trùng tên (ví dụ "victory"): chờ cả hai
+        pending.merge(name, future, CompletableFuture::allOf);
+        return future;
+    }
 
-        } catch (Exception e) {
-            System.err.println("Lỗi nghiêm trọng khi tải fonts: " + e.getMessage());
+    /**
+     * Chặn thread gọi cho tới khi các tài nguyên có tên cho trước đã load xong.
+     * <br>Tên không có trong danh sách load (hoặc khi chưa bắt đầu load) được bỏ qua.
+     *
+     * @param names tên các tài nguyên cần chờ
+     */
+    public void awaitAssets(Collection<String> names) {
+        for (String name : names) {
+            CompletableFuture<Void> future = pending.get(name);
+            if (future != null) {
+                future.join();
+            }
         }
     }
 
+    /**
+     * Chặn thread gọi cho tới khi toàn bộ tài nguyên (kể cả atlas) đã sẵn sàng.
+     */
+    public void awaitAll() {
+        CompletableFuture<Void> future = allLoaded;
+        if (future != null) {
+            future.join();
+        }
+    }
+
+    /**
+     * @return true nếu toàn bộ tài nguyên đã load xong (luôn true ở chế độ headless)
+     */
+    public boolean isLoaded() {
+        CompletableFuture<Void> future = allLoaded;
+        return headless || (future != null && future.isDone());
+    }
+
+    /**
+     * Tiến độ load hiện tại.
+     *
+     * @return tỉ lệ tài nguyên đã load, trong khoảng [0, 1]
+     */
+    public double getLoadProgress() {
+        if (isLoaded()) {
+            return 1.0;
+        }
+        int total = totalCount;
+        return total == 0 ? 0.0 : Math.min(1.0, (double) loadedCount.get() / total);
+    }
+
+    /**
+     * @return số mili giây kể từ khi bắt đầu load (0 nếu chưa bắt đầu)
+     */
+    public long getElapsedLoadMillis() {
+        return allLoaded == null ? 0 : (System.nanoTime() - loadStartNanos) / 1_000_000;
+    }
+
     /**
      * Load một file âm thanh từ resource và lưu vào map {@code sounds}.
+     * <br>File chỉ được decode một lần rồi mở {@link GameConstants#SFX_VOICES} Clip (voice) từ cùng mảng PCM
+     * để có thể phát chồng nhiều lần cùng một hiệu ứng. {@link Clip#open(AudioFormat, byte[], int, int)} sao chép
+     * dữ liệu vào từng Clip nên mỗi voice giữ một bản riêng: với khoảng 3.5 MB PCM của các hiệu ứng hiện có,
+     * bốn voice tốn khoảng 14 MB. Đổi lại audio thread không phải tự trộn mẫu mà chỉ start/stop Clip.
      *
      * @param name key dùng để truy cập âm thanh
      * @param path đường dẫn trong classpath tới file âm thanh
@@ -174,14 +446,54 @@ public class AssetManager {
         try (InputStream bufferedIn = new BufferedInputStream(audioSrc);
              AudioInputStream audioStream = AudioSystem.getAudioInputStream(bufferedIn)) {
 
-            Clip clip = AudioSystem.getClip();
-            clip.open(audioStream);
-            sounds.put(name, clip);
+            AudioFormat format = audioStream.getFormat();
+            byte[] data = audioStream.readAllBytes();
+            Clip[] voices = new Clip[GameConstants.SFX_VOICES];
+            for (int i = 0; i < voices.length; i++) {
+                voices[i] = AudioSystem.getClip();
+                voices[i].open(format, data, 0, data.length);
+            }
+            sounds.put(name, voices);
+        }
+    }
+
+    /**
+     * Mở một stream PCM mới cho track nhạc nền; mỗi lần phát (hoặc lặp lại) cần một stream riêng.
+     *
+     * @param name key của track (ví dụ {@code music_1})
+     * @return stream âm thanh chưa decode, hoặc {@code null} nếu track không tồn tại hoặc đang headless
+     * @throws Exception nếu không đọc được định dạng của file
+     */
+    public AudioInputStream openMusicStream(String name) throws Exception {
+        String path = MUSIC_MANIFEST.get(name);
+        if (headless || path == null) {
+            return null;
+        }
+        InputStream musicSrc = getClass().getResourceAsStream(path);
+        if (musicSrc == null) {
+            throw new Exception("Không tìm thấy file tài nguyên: " + path);
         }
+        return AudioSystem.getAudioInputStream(new BufferedInputStream(musicSrc));
+    }
+
+    /**
+     * Đóng gói các sprite nhỏ (trừ ảnh động) vào texture atlas để entity vẽ qua {@link #getRegion},
+     * rồi bỏ bản gốc của các sprite đã đóng gói mà UI không dùng (xem {@code UI_IMAGE_NAMES}).
+     */
+    private void buildAtlas() {
+        Map<String, Image> packable = new HashMap<>(images);
+        packable.keySet().removeAll(animatedImages);
+        TextureAtlas packed = TextureAtlas.build(packable, GameConstants.ATLAS_PAGE_SIZE,
+                GameConstants.ATLAS_MAX_SPRITE_WIDTH, GameConstants.ATLAS_MAX_SPRITE_HEIGHT);
+        this.atlas = packed;
+        images.keySet().removeIf(name -> packed.getRegion(name) != null && !UI_IMAGE_NAMES.contains(name));
     }
 
     /**
      * Load một file hình ảnh từ resource và lưu vào map {@code images}.
+     * <br>Ảnh có trong {@code IMAGE_SIZE_MANIFEST} được decode thẳng về kích thước trên màn hình,
+     * nên bản gốc (thường lớn hơn) không bao giờ nằm trong bộ nhớ. Ảnh có trong
+     * {@code SCALED_VARIANT_MANIFEST} được decode thêm ở từng kích thước đó.
      *
      * @param name key dùng để truy cập ảnh
      * @param path đường dẫn trong classpath tới file ảnh
@@ -193,40 +505,136 @@ public class AssetManager {
             throw new Exception("Không tìm thấy file tài nguyên: " + path);
         }
 
+        Image image;
         try (imageStream) {
-            Image image = new Image(imageStream);
+            ScaledKey target = targetSizeOf(name);
+            image = (target == null)
+                    ? new Image(imageStream)
+                    : new Image(imageStream, target.width(), target.height(), false, true);
             images.put(name, image);
+            if (target != null) {
+                scaledImages.put(target, image);
+            }
+            if (path.endsWith(".gif")) {
+                animatedImages.add(name);
+            }
+        }
+
+        for (ScaledKey variant : scaledVariantsOf(name, image.getWidth(), image.getHeight())) {
+            try (InputStream variantStream = getClass().getResourceAsStream(path)) {
+                scaledImages.put(variant, new Image(variantStream, variant.width(), variant.height(), false, true));
+            }
         }
     }
 
     /**
-     * Lấy một âm thanh đã được cache.
+     * Lấy một âm thanh đã được cache (voice đầu tiên của hiệu ứng).
      *
      * @param name key của âm thanh cần lấy
-     * @return {@link Clip} tương ứng, hoặc {@code null} nếu không tồn tại
+     * @return {@link Clip} tương ứng, hoặc {@code null} nếu không tồn tại hoặc chưa load xong
      */
     public Clip getSound(String name) {
-        Clip clip = sounds.get(name);
-        if (clip == null) {
+        Clip[] voices = getSoundVoices(name);
+        return voices == null ? null : voices[0];
+    }
+
+    /**
+     * Lấy toàn bộ voice đã mở sẵn của một hiệu ứng âm thanh.
+     *
+     * @param name key của âm thanh cần lấy
+     * @return mảng Clip (mỗi voice giữ một bản PCM riêng), hoặc {@code null} nếu không tồn tại hoặc chưa load xong
+     */
+    public Clip[] getSoundVoices(String name) {
+        Clip[] voices = sounds.get(name);
+        if (voices == null && !headless && isLoaded()) {
             System.err.println("Yêu cầu âm thanh không tồn tại: " + name);
         }
-        return clip;
+        return voices;
+    }
+
+    /**
+     * @return tên của mọi hiệu ứng âm thanh ngắn trong danh sách load (không gồm nhạc nền)
+     */
+    public static List<String> getSoundNames() {
+        List<String> names = new ArrayList<>();
+        for (String[] entry : SOUND_MANIFEST) {
+            names.add(entry[0]);
+        }
+        return names;
     }
 
     /**
      * Lấy một hình ảnh đã được cache.
      *
      * @param name key của ảnh cần lấy
-     * @return {@link Image} tương ứng, hoặc {@code null} nếu không tồn tại
+     * @return {@link Image} tương ứng, hoặc {@code null} nếu không tồn tại hoặc chưa load xong
      */
     public Image getImage(String name) {
         Image img = images.get(name);
-        if (img == null) {
+        if (img == null && !headless && isLoaded()) {
             System.err.println("Yêu cầu hình ảnh không tồn tại: " + name);
         }
         return img;
     }
 
+    /**
+     * Lấy bản của ảnh đã được scale sẵn lúc load (theo {@code IMAGE_SIZE_MANIFEST} hoặc
+     * {@code SCALED_VARIANT_MANIFEST}), để khi vẽ không phải scale mỗi khung hình.
+     * <br>Không bao giờ decode trên thread gọi: kích thước không có trong manifest thì trả về ảnh gốc
+     * và caller tự scale khi vẽ.
+     *
+     * @param key tên ảnh và kích thước trên màn hình (xem {@link #scaledKeyOf})
+     * @return ảnh đã scale sẵn, ảnh gốc nếu kích thước đó chưa được decode,
+     *         hoặc {@code null} nếu ảnh không tồn tại
+     */
+    public Image getScaledImage(ScaledKey key) {
+        Image scaled = scaledImages.get(key);
+        if (scaled != null) {
+            return scaled;
+        }
+        Image source = getImage(key.name());
+        if (source != null && ((int) source.getWidth() != key.width() || (int) source.getHeight() != key.height())) {
+            System.err.println("Ảnh " + key.name() + " chưa được decode sẵn ở " + key.width() + "x" + key.height()
+                    + ". Dùng ảnh gốc.");
+        }
+        return source;
+    }
+
+    /**
+     * Khóa của {@link #getScaledImage}: kích thước được làm tròn về pixel nguyên, nên một yêu cầu
+     * khớp với manifest dùng lại đúng ảnh đã decode lúc load.
+     *
+     * @param name   key của ảnh
+     * @param width  chiều rộng trên màn hình
+     * @param height chiều cao trên màn hình
+     * @return khóa (tên, rộng, cao)
+     */
+    public static ScaledKey scaledKeyOf(String name, double width, double height) {
+        return new ScaledKey(name, (int) Math.round(width), (int) Math.round(height));
+    }
+
+    /**
+     * Lấy region của một ảnh: vùng trong texture atlas nếu ảnh đã được đóng gói,
+     * ngược lại là region phủ toàn bộ ảnh gốc.
+     *
+     * @param name key của ảnh
+     * @return {@link AtlasRegion} tương ứng, hoặc {@code null} nếu ảnh không tồn tại
+     */
+    public AtlasRegion getRegion(String name) {
+        TextureAtlas packed = atlas;
+        if (packed != null) {
+            AtlasRegion region = packed.getRegion(name);
+            if (region != null) {
+                return region;
+            }
+        }
+        Image image = getImage(name);
+        if (image == null) {
+            return null;
+        }
+        return standaloneRegions.computeIfAbsent(name, key -> AtlasRegion.of(image));
+    }
+
     /**
      * Load một font từ resource và lưu lại family name vào {@code fontFamilies}.
      *
@@ -262,21 +670,45 @@ public class AssetManager {
     }
 
     /**
-     * Tạo và trả về font theo family đã load trước đó.
+     * Lấy font theo family đã load trước đó; instance được cache theo (key, size).
      *
      * @param name key của font (đã load bằng {@link #loadFont(String, String)})
      * @param size kích thước font mong muốn
      * @return font với family tương ứng; nếu không có sẽ trả về Arial với size cho trước
      */
     public Font getFont(String name, double size) {
-        String familyName = fontFamilies.get(name);
+        return getFont(name, FontWeight.NORMAL, size);
+    }
 
-        if (familyName != null) {
-            return new Font(familyName, size);
-        } else {
+    /**
+     * Lấy font theo family đã load trước đó với độ đậm cho trước; instance được cache theo
+     * (key, weight, size) trong một cache LRU có giới hạn.
+     *
+     * @param name   key của font
+     * @param weight độ đậm
+     * @param size   kích thước font mong muốn
+     * @return font tương ứng; nếu không có sẽ dùng Arial ({@code null} ở chế độ headless)
+     */
+    public synchronized Font getFont(String name, FontWeight weight, double size) {
+        if (headless) {
+            return null;
+        }
+        FontKey key = new FontKey(name, weight, size);
+        Font font = sizedFonts.get(key);
+        if (font != null) {
+            return font;
+        }
+
+        String familyName = fontFamilies.get(name);
+        if (familyName == null) {
             System.err.println("Yêu cầu font không tồn tại: " + name + ". Dùng Arial.");
-            return new Font("Arial", size);
+            familyName = "Arial";
         }
+        font = (weight == FontWeight.NORMAL)
+                ? new Font(familyName, size)
+                : Font.font(familyName, weight, size);
+        sizedFonts.put(key, font);
+        return font;
     }
 
     /**
@@ -285,8 +717,8 @@ public class AssetManager {
      * @param name   key cho effect
      * @param effect effect cần cache
      */
-    public void cacheEffect(String name, Effect effect) {
-        effects.put(name, effect);
+    public synchronized void cacheEffect(String name, Effect effect) {
+        effects.put(new EffectKey(name, Effect.class), effect);
     }
 
     /**
@@ -295,8 +727,8 @@ public class AssetManager {
      * @param name key của effect cần lấy
      * @return {@link Effect} tương ứng, hoặc {@code null} nếu không tồn tại
      */
-    public Effect getEffect(String name) {
-        Effect effect = effects.get(name);
+    public synchronized Effect getEffect(String name) {
+        Effect effect = effects.get(new EffectKey(name, Effect.class));
         if (effect == null) {
             System.err.println("Yêu cầu effect không tồn tại: " + name);
         }
@@ -309,7 +741,7 @@ public class AssetManager {
      * @param name     key cho gradient
      * @param gradient đối tượng Paint cần cache
      */
-    public void cacheGradient(String name, Paint gradient) {
+    public synchronized void cacheGradient(String name, Paint gradient) {
         gradients.put(name, gradient);
     }
 
@@ -319,7 +751,7 @@ public class AssetManager {
      * @param name key của gradient
      * @return {@link Paint} tương ứng, hoặc {@code null} nếu không tồn tại
      */
-    public Paint getGradient(String name) {
+    public synchronized Paint getGradient(String name) {
         Paint gradient = gradients.get(name);
         if (gradient == null) {
             System.err.println("Yêu cầu gradient không tồn tại: " + name);
@@ -327,6 +759,30 @@ public class AssetManager {
         return gradient;
     }
 
+    /**
+     * Lấy effect đã cache, hoặc tạo bằng {@code factory} và cache lại nếu chưa có.
+     *
+     * @param name    key của effect
+     * @param type    kiểu effect; cùng tên nhưng khác kiểu là hai entry riêng
+     * @param factory hàm tạo effect khi cache chưa có
+     * @param <E>     kiểu effect
+     * @return effect dùng chung cho cặp (tên, kiểu) này
+     */
+    public synchronized <E extends Effect> E getEffect(String name, Class<E> type, Supplier<? extends E> factory) {
+        return type.cast(effects.computeIfAbsent(new EffectKey(name, type), key -> factory.get()));
+    }
+
+    /**
+     * Lấy gradient đã cache, hoặc tạo bằng {@code factory} và cache lại nếu chưa có.
+     *
+     * @param name    key của gradient
+     * @param factory hàm tạo Paint khi cache chưa có
+     * @return Paint dùng chung cho key này
+     */
+    public synchronized Paint getGradient(String name, Supplier<? extends Paint> factory) {
+        return gradients.computeIfAbsent(name, key -> factory.get());
+    }
+
     /**
      * Load toàn bộ tài nguyên và cache một số font hay dùng nếu chưa preload.
      * <br>Input: không có. Output: tài nguyên đảm bảo đã sẵn sàng dùng.
@@ -0,0 +1,75 @@
+package org.example.data;
+
+/**
+ * Xếp các hình chữ nhật vào các trang vuông cố định theo thuật toán kệ (shelf packing).
+ * <br>Để kết quả chặt, caller nên đưa vào theo chiều cao giảm dần.
+ */
+public final class AtlasPacker {
+    /**
+     * Vị trí đã xếp của một hình chữ nhật.
+     *
+     * @param page chỉ số trang
+     * @param x    toạ độ x trong trang
+     * @param y    toạ độ y trong trang
+     */
+    public record Placement(int page, int x, int y) {}
+
+    private final int pageSize;
+    private final int padding;
+
+    private int page;
+    private int shelfX;
+    private int shelfY;
+    private int shelfHeight;
+
+    /**
+     * Tạo packer.
+     *
+     * @param pageSize kích thước cạnh của mỗi trang (pixel)
+     * @param padding  khoảng trống quanh mỗi hình (pixel)
+     */
+    public AtlasPacker(int pageSize, int padding) {
+        this.pageSize = pageSize;
+        this.padding = padding;
+    }
+
+    /**
+     * Xếp một hình chữ nhật vào trang hiện tại, mở kệ hoặc trang mới khi không còn chỗ.
+     *
+     * @param width  chiều rộng
+     * @param height chiều cao
+     * @return vị trí của góc trên trái phần nội dung (không tính padding),
+     *         hoặc null nếu hình lớn hơn một trang
+     */
+    public Placement place(int width, int height) {
+        int paddedWidth = width + padding * 2;
+        int paddedHeight = height + padding * 2;
+        if (paddedWidth > pageSize || paddedHeight > pageSize) {
+            return null;
+        }
+
+        if (shelfX + paddedWidth > pageSize) {
+            shelfY += shelfHeight;
+            shelfX = 0;
+            shelfHeight = 0;
+        }
+        if (shelfY + paddedHeight > pageSize) {
+            page++;
+            shelfX = 0;
+            shelfY = 0;
+            shelfHeight = 0;
+        }
+
+        Placement placement = new Placement(page, shelfX + padding, shelfY + padding);
+        shelfX += paddedWidth;
+        shelfHeight = Math.max(shelfHeight, paddedHeight);
+        return placement;
+    }
+
+    /**
+     * @return số trang đã dùng (0 nếu chưa xếp hình nào)
+     */
+    public int getPageCount() {
+        return (shelfX == 0 && shelfY == 0 && page == 0) ? 0 : page + 1;
+    }
+}
@@ -0,0 +1,139 @@
+package org.example.data;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
+
+/**
+ * Một vùng chữ nhật trong ảnh atlas (hoặc toàn bộ một ảnh đơn lẻ không được đóng gói).
+ * <br>Entity vẽ qua region thay vì giữ {@link Image} riêng, nhờ vậy các sprite nhỏ cùng nằm
+ * trên một texture và ít phải đổi texture khi render.
+ */
+public final class AtlasRegion {
+    private final Image sheet;
+    private final double x;
+    private final double y;
+    private final double width;
+    private final double height;
+    private final int textureId;
+
+    /**
+     * Tạo region trong một sheet.
+     *
+     * @param sheet  ảnh chứa region
+     * @param x      toạ độ x của region trong sheet
+     * @param y      toạ độ y của region trong sheet
+     * @param width  chiều rộng region
+     * @param height chiều cao region
+     */
+    public AtlasRegion(Image sheet, double x, double y, double width, double height) {
+        this.sheet = sheet;
+        this.x = x;
+        this.y = y;
+        this.width = width;
+        this.height = height;
+        this.textureId = TextureRegistry.idOf(sheet);
+    }
+
+    /**
+     * Bọc toàn bộ một ảnh thành region.
+     *
+     * @param image ảnh nguồn (kỳ vọng không null)
+     * @return region phủ toàn bộ ảnh
+     */
+    public static AtlasRegion of(Image image) {
+        return new AtlasRegion(image, 0, 0, image.getWidth(), image.getHeight());
+    }
+
+    /**
+     * Vẽ toàn bộ region vào hình chữ nhật đích.
+     *
+     * @param gc context dùng để vẽ
+     * @param dx toạ độ x đích
+     * @param dy toạ độ y đích
+     * @param dw chiều rộng đích
+     * @param dh chiều cao đích
+     */
+    public void draw(GraphicsContext gc, double dx, double dy, double dw, double dh) {
+        gc.drawImage(sheet, x, y, width, height, dx, dy, dw, dh);
+    }
+
+    /**
+     * Vẽ một phần của region (toạ độ nguồn tính từ góc trên trái của region).
+     *
+     * @param gc context dùng để vẽ
+     * @param sx toạ độ x nguồn trong region
+     * @param sy toạ độ y nguồn trong region
+     * @param sw chiều rộng nguồn
+     * @param sh chiều cao nguồn
+     * @param dx toạ độ x đích
+     * @param dy toạ độ y đích
+     * @param dw chiều rộng đích
+     * @param dh chiều cao đích
+     */
+    public void draw(GraphicsContext gc, double sx, double sy, double sw, double sh,
+                     double dx, double dy, double dw, double dh) {
+        gc.drawImage(sheet, x + sx, y + sy, sw, sh, dx, dy, dw, dh);
+    }
+
+    /**
+     * Ghi lệnh vẽ toàn bộ region tại (dx, dy) với kích thước gốc.
+     *
+     * @param buffer buffer lệnh vẽ
+     * @param dx     toạ độ x đích
+     * @param dy     toạ độ y đích
+     */
+    public void draw(RenderCommandBuffer buffer, double dx, double dy) {
+        buffer.drawSprite(textureId, x, y, width, height, dx, dy, width, height);
+    }
+
+    /**
+     * Ghi lệnh vẽ toàn bộ region vào hình chữ nhật đích.
+     *
+     * @param buffer buffer lệnh vẽ
+     * @param dx     toạ độ x đích
+     * @param dy     toạ độ y đích
+     * @param dw     chiều rộng đích
+     * @param dh     chiều cao đích
+     */
+    public void draw(RenderCommandBuffer buffer, double dx, double dy, double dw, double dh) {
+        buffer.drawSprite(textureId, x, y, width, height, dx, dy, dw, dh);
+    }
+
+    /**
+     * Ghi lệnh vẽ một phần của region (toạ độ nguồn tính từ góc trên trái của region).
+     *
+     * @param buffer buffer lệnh vẽ
+     */
+    public void draw(RenderCommandBuffer buffer, double sx, double sy, double sw, double sh,
+                     double dx, double dy, double dw, double dh) {
+        buffer.drawSprite(textureId, x + sx, y + sy, sw, sh, dx, dy, dw, dh);
+    }
+
+    public Image getSheet() {
+        return sheet;
+    }
+
+    /**
+     * @return id texture của sheet do {@link TextureRegistry} cấp
+     */
+    public int getTextureId() {
+        return textureId;
+    }
+
+    public double getX() {
+        return x;
+    }
+
+    public double getY() {
+        return y;
+    }
+
+    public double getWidth() {
+        return width;
+    }
+
+    public double getHeight() {
+        return height;
+    }
+}
@@ -0,0 +1,30 @@
+package org.example.data;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Map LRU có giới hạn: duyệt theo thứ tự truy cập và khi vượt {@code capacity} thì loại phần tử
+ * ít được dùng nhất. Không thread-safe; caller tự đồng bộ.
+ *
+ * @param <K> kiểu khóa
+ * @param <V> kiểu giá trị
+ */
+public final class LruCache<K, V> extends LinkedHashMap<K, V> {
+    private static final long serialVersionUID = 1L;
+
+    private final int capacity;
+
+    /**
+     * @param capacity số phần tử tối đa được giữ
+     */
+    public LruCache(int capacity) {
+        super(16, 0.75f, true);
+        this.capacity = capacity;
+    }
+
+    @Override
+    protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+        return size() > capacity;
+    }
+}
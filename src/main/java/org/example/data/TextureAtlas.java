@@ -0,0 +1,103 @@
+package org.example.data;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Atlas gom các sprite nhỏ vào một vài trang ảnh lớn kèm bảng tra region theo tên.
+ * <br>Viền mỗi sprite được kéo dài thêm 1 pixel (extrude) để khi vẽ có làm mịn
+ * không bị lẫn màu của sprite bên cạnh.
+ */
+public final class TextureAtlas {
+    private static final int PADDING = 1;
+
+    private final Map<String, AtlasRegion> regions = new HashMap<>();
+    private final List<WritableImage> pages = new ArrayList<>();
+
+    private TextureAtlas() {
+    }
+
+    /**
+     * Đóng gói các ảnh đủ nhỏ thành atlas. Ảnh lớn hơn giới hạn, ảnh lỗi hoặc chưa load xong bị bỏ qua.
+     *
+     * @param images    bảng tên -> ảnh nguồn
+     * @param pageSize  kích thước cạnh mỗi trang atlas
+     * @param maxWidth  chiều rộng tối đa của sprite được đóng gói
+     * @param maxHeight chiều cao tối đa của sprite được đóng gói
+     * @return atlas đã đóng gói
+     */
+    public static TextureAtlas build(Map<String, Image> images, int pageSize, int maxWidth, int maxHeight) {
+        TextureAtlas atlas = new TextureAtlas();
+
+        List<Map.Entry<String, Image>> candidates = new ArrayList<>();
+        for (Map.Entry<String, Image> entry : images.entrySet()) {
+            Image image = entry.getValue();
+            if (image != null && !image.isError() && image.getPixelReader() != null
+                    && image.getWidth() > 0 && image.getWidth() <= maxWidth
+                    && image.getHeight() > 0 && image.getHeight() <= maxHeight) {
+                candidates.add(entry);
+            }
+        }
+        // Xếp theo chiều cao giảm dần để các kệ chặt hơn; tên làm khoá phụ cho bố cục ổn định
+        candidates.sort(Comparator.<Map.Entry<String, Image>>comparingDouble(e -> -e.getValue().getHeight())
+                .thenComparing(Map.Entry::getKey));
+
+        AtlasPacker packer = new AtlasPacker(pageSize, PADDING);
+        for (Map.Entry<String, Image> entry : candidates) {
+            Image image = entry.getValue();
+            int width = (int) image.getWidth();
+            int height = (int) image.getHeight();
+            AtlasPacker.Placement placement = packer.place(width, height);
+            if (placement == null) {
+                continue;
+            }
+            while (atlas.pages.size() <= placement.page()) {
+                atlas.pages.add(new WritableImage(pageSize, pageSize));
+            }
+            WritableImage page = atlas.pages.get(placement.page());
+            copyExtruded(image.getPixelReader(), page.getPixelWriter(), placement.x(), placement.y(), width, height);
+            atlas.regions.put(entry.getKey(), new AtlasRegion(page, placement.x(), placement.y(), width, height));
+        }
+        return atlas;
+    }
+
+    private static void copyExtruded(PixelReader reader, PixelWriter writer, int x, int y, int width, int height) {
+        writer.setPixels(x, y, width, height, reader, 0, 0);
+        writer.setPixels(x, y - 1, width, 1, reader, 0, 0);
+        writer.setPixels(x, y + height, width, 1, reader, 0, height - 1);
+        writer.setPixels(x - 1, y, 1, height, reader, 0, 0);
+        writer.setPixels(x + width, y, 1, height, reader, width - 1, 0);
+    }
+
+    /**
+     * Lấy region của một sprite đã được đóng gói.
+     *
+     * @param name tên sprite
+     * @return region tương ứng, hoặc null nếu sprite không nằm trong atlas
+     */
+    public AtlasRegion getRegion(String name) {
+        return regions.get(name);
+    }
+
+    /**
+     * @return số sprite đã được đóng gói
+     */
+    public int getRegionCount() {
+        return regions.size();
+    }
+
+    /**
+     * @return số trang ảnh của atlas
+     */
+    public int getPageCount() {
+        return pages.size();
+    }
+}
@@ -0,0 +1,91 @@
+package org.example.data;
+
+import javafx.scene.image.Image;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Cấp id số nguyên cho mỗi texture ({@link Image}) để lệnh vẽ chỉ cần giữ một {@code int}.
+ * <br>Id được cấp một lần khi ảnh được tạo hoặc đưa vào cache (ví dụ khi tạo {@link AtlasRegion}),
+ * không phải lúc ghi lệnh vẽ; tra ngược từ id sang ảnh không cần khóa.
+ * <br>Registry chỉ giữ tham chiếu yếu: ảnh sống chừng nào còn region (hoặc cache) giữ nó, sau đó
+ * được GC thu hồi và id tương ứng trả về {@code null}. Id không được cấp lại cho ảnh khác, nên lệnh
+ * vẽ cũ còn giữ id không bao giờ vẽ nhầm texture.
+ */
+public final class TextureRegistry {
+    private static final class Slot extends WeakReference<Image> {
+        private final int id;
+
+        private Slot(Image image, int id, ReferenceQueue<Image> queue) {
+            super(image, queue);
+            this.id = id;
+        }
+    }
+
+    // Image không ghi đè equals/hashCode nên WeakHashMap vẫn so khớp theo identity
+    private static final Map<Image, Integer> ids = new WeakHashMap<>();
+    private static final ReferenceQueue<Image> released = new ReferenceQueue<>();
+    // Mảng tăng gấp đôi khi đầy; count được ghi sau phần tử nên đọc count rồi mới đọc mảng là an toàn
+    private static volatile Slot[] textures = new Slot[16];
+    private static volatile int count;
+
+    private TextureRegistry() {
+    }
+
+    /**
+     * Lấy (hoặc cấp mới) id của một texture. Có khóa nên chỉ nên gọi lúc tạo ảnh hoặc region,
+     * rồi giữ lại id thay vì gọi mỗi khung hình.
+     *
+     * @param image texture
+     * @return id không âm, hoặc -1 nếu {@code image} là null
+     */
+    public static synchronized int idOf(Image image) {
+        if (image == null) {
+            return -1;
+        }
+        expungeReleased();
+        Integer id = ids.get(image);
+        if (id == null) {
+            id = count;
+            Slot[] current = textures;
+            if (id == current.length) {
+                current = Arrays.copyOf(current, current.length * 2);
+            }
+            current[id] = new Slot(image, id, released);
+            ids.put(image, id);
+            textures = current;
+            count = id + 1;
+        }
+        return id;
+    }
+
+    /**
+     * Tra texture theo id.
+     *
+     * @param id id do {@link #idOf(Image)} cấp
+     * @return texture tương ứng, hoặc {@code null} nếu id không hợp lệ hoặc ảnh đã được thu hồi
+     */
+    public static Image get(int id) {
+        int registered = count;
+        if (id < 0 || id >= registered) {
+            return null;
+        }
+        Slot slot = textures[id];
+        return slot == null ? null : slot.get();
+    }
+
+    /**
+     * Bỏ các slot có ảnh đã bị GC thu hồi để cả đối tượng tham chiếu cũng được giải phóng.
+     */
+    private static void expungeReleased() {
+        Reference<? extends Image> reference;
+        while ((reference = released.poll()) != null) {
+            textures[((Slot) reference).id] = null;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.data;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Cache LRU bị giới hạn theo cả số phần tử và tổng trọng số (ví dụ số byte pixel của ảnh).
+ * <br>Khi vượt một trong hai giới hạn, phần tử ít được dùng nhất bị loại cho tới khi thỏa cả hai.
+ * Không thread-safe; caller tự đồng bộ.
+ *
+ * @param <K> kiểu khóa
+ * @param <V> kiểu giá trị
+ */
+public final class WeightedLruCache<K, V> {
+    private record Entry<V>(V value, long weight) {}
+
+    private final int maxEntries;
+    private final long maxWeight;
+    private final LinkedHashMap<K, Entry<V>> entries = new LinkedHashMap<>(64, 0.75f, true);
+    private long weight = 0;
+
+    /**
+     * @param maxEntries số phần tử tối đa
+     * @param maxWeight  tổng trọng số tối đa
+     */
+    public WeightedLruCache(int maxEntries, long maxWeight) {
+        this.maxEntries = maxEntries;
+        this.maxWeight = maxWeight;
+    }
+
+    /**
+     * Lấy giá trị và đánh dấu nó là mới được dùng nhất.
+     *
+     * @param key khóa cần tìm
+     * @return giá trị, hoặc {@code null} nếu không có trong cache
+     */
+    public V get(K key) {
+        Entry<V> entry = entries.get(key);
+        return entry == null ? null : entry.value();
+    }
+
+    /**
+     * Thêm (hoặc thay) một giá trị rồi loại các phần tử cũ nhất nếu vượt giới hạn.
+     *
+     * @param key    khóa
+     * @param value  giá trị
+     * @param weight trọng số của giá trị
+     */
+    public void put(K key, V value, long weight) {
+        Entry<V> previous = entries.put(key, new Entry<>(value, weight));
+        if (previous != null) {
+            this.weight -= previous.weight();
+        }
+        this.weight += weight;
+        evict();
+    }
+
+    /**
+     * @return số phần tử đang được cache
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * @return tổng trọng số các phần tử đang được cache
+     */
+    public long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Xóa toàn bộ cache.
+     */
+    public void clear() {
+        entries.clear();
+        weight = 0;
+    }
+
+    private void evict() {
+        Iterator<Map.Entry<K, Entry<V>>> it = entries.entrySet().iterator();
+        while (it.hasNext() && (entries.size() > maxEntries || weight > maxWeight)) {
+            weight -= it.next().getValue().weight();
+            it.remove();
+        }
+    }
+}
@@ -12,6 +12,10 @@ public interface I_InputProvider {
     int getMouseY();
     boolean isMouseClicked();
     boolean isMousePressed();
-    void resetMouseClick();
+    /**
+     * Lấy click chuột cho lượt cập nhật sắp chạy; {@link #isMouseClicked()} trả về kết quả này
+     * cho tới lần gọi kế tiếp.
+     */
+    void pollMouseClick();
     void clear();
 }
\ No newline at end of file
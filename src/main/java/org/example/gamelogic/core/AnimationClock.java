@@ -0,0 +1,50 @@
+package org.example.gamelogic.core;
+
+/**
+ * Đồng hồ animation dùng chung của một {@link GameWorld}.
+ *
+ * <p>{@link org.example.presentation.SpriteAnimation} và {@link org.example.presentation.RowAnimation}
+ * chỉ là mô tả không trạng thái (sheet, số frame, thời lượng, lặp hay không); mỗi entity chỉ lưu thời điểm
+ * bắt đầu lấy từ {@link #now()}, còn frame hiện tại được tính khi render từ {@link #since(double)}.
+ * Nhờ vậy không entity nào phải tự tick animation trong {@code update}.
+ *
+ * <p>Đồng hồ chỉ chạy khi gameplay được cập nhật (xem {@code PlayingState}), nên animation dừng khi pause.
+ */
+public final class AnimationClock {
+    /**
+     * Lấy AnimationClock của {@link GameWorld} đang gắn với thread hiện tại.
+     *
+     * @return đồng hồ animation của world hiện tại
+     */
+    public static AnimationClock getInstance() {
+        return GameWorld.current().getAnimationClock();
+    }
+
+    private double time;
+
+    /**
+     * Cho đồng hồ chạy thêm một khoảng thời gian.
+     *
+     * @param deltaTime thời gian (giây) kể từ lần cập nhật trước
+     */
+    public void advance(double deltaTime) {
+        time += deltaTime;
+    }
+
+    /**
+     * @return thời gian hiện tại (giây) của đồng hồ
+     */
+    public double now() {
+        return time;
+    }
+
+    /**
+     * Thời gian đã trôi qua kể từ một mốc.
+     *
+     * @param startTime mốc bắt đầu (giá trị {@link #now()} trước đó)
+     * @return số giây kể từ {@code startTime}
+     */
+    public double since(double startTime) {
+        return time - startTime;
+    }
+}
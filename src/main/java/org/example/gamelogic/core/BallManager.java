@@ -1,6 +1,7 @@
 package org.example.gamelogic.core;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.config.GameConstants;
 import org.example.gamelogic.entities.Ball;
 import org.example.gamelogic.entities.IBall;
@@ -26,20 +27,26 @@ public final class BallManager {
     private final BallFactory ballFactory;
     private List<IBall> activeBalls;
 
-    public BallManager() {
+    /**
+     * Tạo mới BallManager và đăng ký prototype bóng vào registry của world.
+     *
+     * @param world world sở hữu
+     */
+    public BallManager(GameWorld world) {
         this.activeBalls =  new ArrayList<>();
-        BallRegistry registry = BallRegistry.getInstance();
-        registerBallPrototypes(registry);
+        BallRegistry registry = world.getBallRegistry();
+        registerBallPrototypes(world, registry);
         this.ballFactory = new BallFactory(registry);
     }
 
     /**
      * Đăng ký prototype cho các loại bóng vào registry để phục vụ việc tạo đối tượng sau này.
      *
+     * @param world world sở hữu các prototype (bản clone cũng thuộc world này)
      * @param registry BallRegistry để đăng ký prototype
      */
-    private void registerBallPrototypes(BallRegistry registry) {
-        registry.register("STANDARD", new Ball(0, 0, GameConstants.BALL_RADIUS));
+    private void registerBallPrototypes(GameWorld world, BallRegistry registry) {
+        registry.register("STANDARD", new Ball(world, 0, 0, GameConstants.BALL_RADIUS));
     }
 
     /**
@@ -91,6 +98,14 @@ public final class BallManager {
         }
     }
 
+    public void render(RenderCommandBuffer buffer) {
+        for (IBall ball : activeBalls) {
+            buffer.setKey(ball.getGameObject().getRenderId());
+            ball.render(buffer);
+        }
+        buffer.setKey(0);
+    }
+
     /**
      * Lấy danh sách các quả bóng đang hoạt động.
      *
@@ -0,0 +1,105 @@
+package org.example.gamelogic.core;
+
+import org.example.config.GameConstants;
+import org.example.gamelogic.entities.bricks.Brick;
+
+import java.util.List;
+
+/**
+ * Chỉ mục lưới đều cho các viên gạch của level hiện tại.
+ *
+ * <p>Gạch được đặt theo lưới cố định trong {@link BrickManager#loadLevel(int)}: các hàng cách nhau
+ * {@code BRICK_HEIGHT + PADDING}, các cột cách nhau {@code BRICK_WIDTH + PADDING} và mỗi hàng
+ * được căn giữa riêng nên có gốc x riêng. Mỗi ô giữ tối đa một viên gạch, nhờ vậy truy vấn
+ * theo AABB chỉ duyệt các ô mà hộp đó phủ lên thay vì toàn bộ danh sách gạch.
+ */
+final class BrickGrid {
+    private static final double ORIGIN_Y = GameConstants.PLAY_AREA_Y + GameConstants.TOP_MARGIN;
+    private static final double ROW_STRIDE = GameConstants.BRICK_HEIGHT + GameConstants.PADDING;
+    private static final double COL_STRIDE = GameConstants.BRICK_WIDTH + GameConstants.PADDING;
+
+    private Brick[][] cells = new Brick[0][];
+    private double[] rowOriginX = new double[0];
+
+    /**
+     * Xoá toàn bộ lưới và chuẩn bị cho một layout mới.
+     *
+     * @param rows số hàng của layout
+     */
+    void reset(int rows) {
+        this.cells = new Brick[rows][];
+        this.rowOriginX = new double[rows];
+    }
+
+    /**
+     * Khai báo một hàng của lưới.
+     *
+     * @param row chỉ số hàng (0-based)
+     * @param originX toạ độ x của ô đầu tiên trong hàng
+     * @param columns số ô tối đa của hàng
+     */
+    void initRow(int row, double originX, int columns) {
+        this.cells[row] = new Brick[columns];
+        this.rowOriginX[row] = originX;
+    }
+
+    /**
+     * Đặt gạch vào ô (row, col).
+     *
+     * @param row chỉ số hàng
+     * @param col chỉ số cột trong hàng
+     * @param brick viên gạch
+     */
+    void put(int row, int col, Brick brick) {
+        cells[row][col] = brick;
+    }
+
+    /**
+     * Gỡ gạch khỏi ô của nó (dựa trên toạ độ gạch). Bỏ qua nếu ô đang chứa gạch khác.
+     *
+     * @param brick viên gạch cần gỡ
+     */
+    void remove(Brick brick) {
+        int row = (int) Math.floor((brick.getY() - ORIGIN_Y) / ROW_STRIDE + 0.5);
+        if (row < 0 || row >= cells.length || cells[row] == null) {
+            return;
+        }
+        int col = (int) Math.floor((brick.getX() - rowOriginX[row]) / COL_STRIDE + 0.5);
+        if (col >= 0 && col < cells[row].length && cells[row][col] == brick) {
+            cells[row][col] = null;
+        }
+    }
+
+    /**
+     * Thêm vào {@code out} các gạch nằm trong những ô mà AABB phủ lên, theo thứ tự hàng rồi cột
+     * (cùng thứ tự với danh sách gạch của BrickManager). Kết quả có thể chứa gạch không thực sự
+     * giao với hộp; caller vẫn phải kiểm tra intersects.
+     *
+     * @param x toạ độ x góc trên trái
+     * @param y toạ độ y góc trên trái
+     * @param width chiều rộng hộp
+     * @param height chiều cao hộp
+     * @param out danh sách nhận kết quả (không bị xoá trước khi thêm)
+     */
+    void query(double x, double y, double width, double height, List<Brick> out) {
+        int firstRow = Math.max(0, (int) Math.floor((y - ORIGIN_Y) / ROW_STRIDE));
+        int lastRow = Math.min(cells.length - 1, (int) Math.floor((y + height - ORIGIN_Y) / ROW_STRIDE));
+
+        for (int row = firstRow; row <= lastRow; row++) {
+            Brick[] rowCells = cells[row];
+            if (rowCells == null) {
+                continue;
+            }
+            double originX = rowOriginX[row];
+            int firstCol = Math.max(0, (int) Math.floor((x - originX) / COL_STRIDE));
+            int lastCol = Math.min(rowCells.length - 1, (int) Math.floor((x + width - originX) / COL_STRIDE));
+
+            for (int col = firstCol; col <= lastCol; col++) {
+                Brick brick = rowCells[col];
+                if (brick != null) {
+                    out.add(brick);
+                }
+            }
+        }
+    }
+}
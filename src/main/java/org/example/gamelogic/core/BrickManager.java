@@ -4,9 +4,12 @@ import org.example.data.ILevelRepository;
 import org.example.data.LevelData;
 import org.example.gamelogic.entities.bricks.*;
 import org.example.gamelogic.events.BrickDamagedEvent;
+import org.example.gamelogic.events.EventPool;
 import org.example.gamelogic.events.ExplosiveBrickEvent;
 import org.example.gamelogic.events.BallHitBrickEvent;
 import org.example.gamelogic.factory.BrickFactory;
+import org.example.gamelogic.graphics.CachedLayer;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.registry.BrickRegistry;
 import org.example.config.GameConstants;
 import org.example.data.SavedGameState;
@@ -19,6 +22,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 import java.util.HashSet;
+import java.util.function.Consumer;
 
 /**
  * Quản lý các viên gạch trong level: tạo từ layout, cập nhật, vẽ và xử lý lưu/trở lại trạng thái.
@@ -30,28 +34,45 @@ public final class BrickManager {
     private ILevelRepository levelRepository;
     private final BrickFactory brickFactory;
     private List<Brick> bricks;
+    private final BrickGrid brickGrid = new BrickGrid();
+    private final EventManager eventManager;
+    private final EventPool<BrickDamagedEvent> brickDamagedPool = BrickDamagedEvent.newPool();
+
+    // Lớp offscreen chứa gạch tĩnh (tạo khi render lần đầu): chỉ vá những gạch vừa đổi hình,
+    // còn gạch đang có hiệu ứng được vẽ đè mỗi frame. Lớp và danh sách gạch bẩn chỉ thuộc về
+    // thread vẽ lớp (FX thread); thay đổi từ thread khác (thread mô phỏng) chỉ bật cờ layerStale
+    // để lần vẽ trực tiếp kế tiếp dựng lại cả lớp, nên danh sách không bị ghi chéo thread hay phình ra
+    private CachedLayer brickLayer;
+    private Thread layerThread;
+    private volatile boolean layerStale;
+    private final List<Brick> dirtyBricks = new ArrayList<>();
+    private final List<Brick> animatingBricks = new ArrayList<>();
+    private final Consumer<GraphicsContext> paintBrickLayer = this::paintBrickLayer;
 
-    public BrickManager(ILevelRepository levelRepository) {
+    /**
+     * Tạo mới BrickManager với repository cung cấp layout các level.
+     *
+     * @param levelRepository implementation của ILevelRepository để tải layout
+     * @param world world sở hữu (registry gạch và EventManager)
+     */
+    public BrickManager(ILevelRepository levelRepository, GameWorld world) {
         this.bricks = new ArrayList<>();
         this.levelRepository = levelRepository;
-        BrickRegistry registry = BrickRegistry.getInstance();
-        registerBrickPrototypes(registry);
+        this.eventManager = world.getEventManager();
+        BrickRegistry registry = world.getBrickRegistry();
+        registerBrickPrototypes(world, registry);
         this.brickFactory = new BrickFactory(registry);
 
         subscribeToExplosiveBrickEvent();
+        eventManager.subscribe(BallHitBrickEvent.class, event -> markDirty(event.getBrick()));
+        eventManager.subscribe(BrickDamagedEvent.class, event -> markDirty(event.getDamagedBrick()));
     }
 
-    /**
-     * Tạo mới BrickManager với repository cung cấp layout các level.
-     *
-     * @param levelRepository implementation của ILevelRepository để tải layout
-     */
-
     /**
      * Đăng ký lắng nghe sự kiện ExplosiveBrickEvent để xử lý khi gạch nổ gây sát thương lan.
      */
     private void subscribeToExplosiveBrickEvent() {
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 ExplosiveBrickEvent.class,
                 this::onBrickExploded
         );
@@ -68,8 +89,8 @@ public final class BrickManager {
         while(iterator.hasNext()) {
             Brick other=iterator.next();
             if (event.getExplosiveBrick().withinRangeOf(other)) {
-                EventManager.getInstance().
-                        publish(new BrickDamagedEvent(other, event.getExplosiveBrick().getGameObject()));
+                eventManager.
+                        publish(brickDamagedPool.obtain().set(other, event.getExplosiveBrick().getGameObject()));
             }
         }
     }
@@ -77,18 +98,19 @@ public final class BrickManager {
     /**
      * Đăng ký các prototype của các loại gạch vào registry để sau này tạo nhanh bằng factory.
      *
+     * @param world world sở hữu các prototype (bản clone cũng thuộc world này)
      * @param brickRegistry registry dùng để đăng ký prototype
      */
-    private void registerBrickPrototypes(BrickRegistry brickRegistry) {
-        brickRegistry.register("H", new HardBrick(0,  0,
+    private void registerBrickPrototypes(GameWorld world, BrickRegistry brickRegistry) {
+        brickRegistry.register("H", new HardBrick(world, 0,  0,
                 GameConstants.BRICK_WIDTH, GameConstants.BRICK_HEIGHT));
-        brickRegistry.register("N", new NormalBrick(0,  0,
+        brickRegistry.register("N", new NormalBrick(world, 0,  0,
                 GameConstants.BRICK_WIDTH, GameConstants.BRICK_HEIGHT));
-        brickRegistry.register("U", new UnbreakableBrick(0, 0,
+        brickRegistry.register("U", new UnbreakableBrick(world, 0, 0,
                 GameConstants.BRICK_WIDTH, GameConstants.BRICK_HEIGHT));
-        brickRegistry.register("E", new ExplosiveBrick(0,  0,
+        brickRegistry.register("E", new ExplosiveBrick(world, 0,  0,
                 GameConstants.BRICK_WIDTH, GameConstants.BRICK_HEIGHT));
-        brickRegistry.register("R", new HealingBrick(0, 0,
+        brickRegistry.register("R", new HealingBrick(world, 0, 0,
                 GameConstants.BRICK_WIDTH, GameConstants.BRICK_HEIGHT));
         /// HNUE :)))
         /// bựa
@@ -103,16 +125,61 @@ public final class BrickManager {
         for (Brick brick : bricks) {
             brick.update(deltaTime);
         }
-        bricks.removeIf(Brick::isDestroyed);
+        removeDestroyedBricks();
+    }
+
+    /**
+     * Loại bỏ các gạch đã bị phá khỏi danh sách và khỏi lưới chỉ mục.
+     */
+    private void removeDestroyedBricks() {
+        bricks.removeIf(brick -> {
+            if (brick.isDestroyed()) {
+                markDirty(brick);
+                brickGrid.remove(brick);
+                eventManager.unsubscribeTarget(brick);
+                return true;
+            }
+            return false;
+        });
     }
 
     /**
      * Vẽ tất cả gạch lên canvas.
      *
+     * <p>Gạch tĩnh nằm trong một lớp offscreen; mỗi frame chỉ vá lại những gạch vừa bị đánh,
+     * bị phá hoặc vừa hết hiệu ứng, nên chi phí vẽ không phụ thuộc tổng số gạch.
+     *
      * @param gc GraphicsContext của canvas (kỳ vọng không null)
      */
     public void render(GraphicsContext gc) {
-        for (Brick brick : bricks) {
+        if (brickLayer == null) {
+            brickLayer = new CachedLayer(GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH,
+                    GameConstants.SCREEN_HEIGHT);
+            layerThread = Thread.currentThread();
+        }
+        if (layerStale) {
+            layerStale = false;
+            brickLayer.invalidate();
+        }
+
+        if (brickLayer.isDirty()) {
+            // paintBrickLayer dựng lại cả lớp và danh sách gạch có hiệu ứng
+            dirtyBricks.clear();
+        } else {
+            for (int i = animatingBricks.size() - 1; i >= 0; i--) {
+                Brick brick = animatingBricks.get(i);
+                if (brick.isDestroyed() || !brick.isAnimating()) {
+                    animatingBricks.remove(i);
+                    dirtyBricks.add(brick);
+                }
+            }
+            if (!dirtyBricks.isEmpty()) {
+                patchBrickLayer();
+            }
+        }
+
+        brickLayer.draw(gc, 0, 0, paintBrickLayer);
+        for (Brick brick : animatingBricks) {
             brick.render(gc);
         }
     }
@@ -131,23 +198,114 @@ public final class BrickManager {
 
         double timePerBrick = duration / bricks.size();
 
+        gc.save();
+        try {
+            for (int i = 0; i < bricks.size(); i++) {
+                Brick brick = bricks.get(i);
+                double brickStartTime = i * timePerBrick;
+
+                if (timer < brickStartTime) {
+                    break;
+                }
+
+                double timeSinceSpawn = timer - brickStartTime;
+                double alpha = Math.min(1.0, timeSinceSpawn / timePerBrick);
+
+                gc.setGlobalAlpha(alpha);
+                brick.render(gc);
+            }
+        } finally {
+            gc.restore();
+        }
+    }
+
+    /**
+     * Ghi lệnh vẽ mọi gạch còn sống vào buffer (không dùng lớp cache, vì buffer có thể
+     * được phát lại trên thread khác với thread cập nhật gạch).
+     *
+     * @param buffer buffer lệnh vẽ
+     */
+    public void render(RenderCommandBuffer buffer) {
+        for (Brick brick : bricks) {
+            brick.render(buffer);
+        }
+    }
+
+    /**
+     * Ghi lệnh vẽ gạch theo hiệu ứng xuất hiện dần, tương tự {@link #render(GraphicsContext, double, double)}.
+     *
+     * @param buffer buffer lệnh vẽ
+     * @param timer thời gian hiện tại của hiệu ứng
+     * @param duration tổng thời gian của hiệu ứng
+     */
+    public void render(RenderCommandBuffer buffer, double timer, double duration) {
+        if (bricks.isEmpty()) {
+            return;
+        }
+
+        double timePerBrick = duration / bricks.size();
         for (int i = 0; i < bricks.size(); i++) {
-            Brick brick = bricks.get(i);
             double brickStartTime = i * timePerBrick;
-
             if (timer < brickStartTime) {
                 break;
             }
+            buffer.setAlpha(Math.min(1.0, (timer - brickStartTime) / timePerBrick));
+            bricks.get(i).render(buffer);
+        }
+        buffer.setAlpha(1.0);
+    }
 
-            double timeSinceSpawn = timer - brickStartTime;
-            double alpha = Math.min(1.0, timeSinceSpawn / timePerBrick);
+    /**
+     * Đánh dấu gạch cần vá lại trong lớp gạch tĩnh ở frame kế tiếp.
+     * Gọi ngoài thread vẽ lớp (hoặc khi chưa render lần nào) thì cả lớp được đánh dấu dựng lại.
+     *
+     * @param brick gạch vừa đổi trạng thái hiển thị
+     */
+    private void markDirty(Brick brick) {
+        if (Thread.currentThread() == layerThread) {
+            dirtyBricks.add(brick);
+        } else {
+            layerStale = true;
+        }
+    }
 
-            gc.save();
-            try {
-                gc.setGlobalAlpha(alpha);
-                brick.render(gc);
-            } finally {
-                gc.restore();
+    /**
+     * @return số gạch đang chờ được vá trong lớp gạch tĩnh
+     */
+    public int getDirtyBrickCount() {
+        return dirtyBricks.size();
+    }
+
+    /**
+     * Xoá vùng của từng gạch bẩn trong lớp rồi vẽ lại nếu gạch còn sống và đang tĩnh;
+     * gạch đang có hiệu ứng được chuyển sang danh sách vẽ đè.
+     */
+    private void patchBrickLayer() {
+        GraphicsContext layerGc = brickLayer.getGraphicsContext();
+        for (Brick brick : dirtyBricks) {
+            layerGc.clearRect(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight());
+            if (brick.isDestroyed()) {
+                continue;
+            }
+            if (brick.isAnimating()) {
+                if (!animatingBricks.contains(brick)) {
+                    animatingBricks.add(brick);
+                }
+            } else {
+                brick.render(layerGc);
+            }
+        }
+        dirtyBricks.clear();
+        brickLayer.markChanged();
+    }
+
+    private void paintBrickLayer(GraphicsContext layerGc) {
+        animatingBricks.clear();
+        for (Brick brick : bricks) {
+            if (brick.isAnimating()) {
+                animatingBricks.add(brick);
+            } else {
+                brick.render(layerGc);
             }
         }
     }
@@ -158,10 +316,15 @@ public final class BrickManager {
      * @param levelNumber số level cần tải (1-based)
      */
     public void loadLevel(int levelNumber) {
+        for (Brick brick : bricks) {
+            eventManager.unsubscribeTarget(brick);
+        }
         this.bricks.clear();
+        invalidateBrickLayer();
         LevelData levelData = levelRepository.loadLevel(levelNumber);
 
         List<String> layout = levelData.getLayout();
+        brickGrid.reset(layout.size());
 
         for (int row = 0; row < layout.size(); row++) {
 
@@ -175,6 +338,7 @@ public final class BrickManager {
             if (numCols == 0) continue;
             double rowWidth = numCols * (GameConstants.BRICK_WIDTH + GameConstants.PADDING) - GameConstants.PADDING;
             double rowStartX = (GameConstants.PLAY_AREA_WIDTH - rowWidth) / 2.0;
+            brickGrid.initRow(row, GameConstants.PLAY_AREA_X + rowStartX, numCols);
 
             int currentCol = 0;
             for (int col = 0; col < types.length; col++) {
@@ -192,6 +356,7 @@ public final class BrickManager {
                     int brickId = (row * 100) + currentCol;
                     brick.setId(brickId);
                     this.bricks.add(brick);
+                    brickGrid.put(row, currentCol, brick);
                 }
                 currentCol++;
             }
@@ -230,6 +395,23 @@ public final class BrickManager {
         return bricks;
     }
 
+    /**
+     * Lấy các gạch nằm trong những ô lưới mà AABB cho trước phủ lên.
+     *
+     * <p>Chỉ duyệt vài ô quanh hộp nên chi phí không tăng theo tổng số gạch. Kết quả có thể
+     * chứa gạch không thực sự giao với hộp hoặc đã bị phá trong tick này; caller tự kiểm tra.
+     *
+     * @param x toạ độ x góc trên trái
+     * @param y toạ độ y góc trên trái
+     * @param width chiều rộng hộp
+     * @param height chiều cao hộp
+     * @param out danh sách nhận kết quả (được xoá trước khi thêm)
+     */
+    public void queryBricks(double x, double y, double width, double height, List<Brick> out) {
+        out.clear();
+        brickGrid.query(x, y, width, height, out);
+    }
+
     /**
      * Chuẩn bị dữ liệu các gạch để lưu trạng thái trò chơi.
      *
@@ -287,6 +469,11 @@ public final class BrickManager {
         System.out.println("Số gạch đã bị phá hủy (được tải): " + destroyedCount);
         System.out.println("--- DEBUG (LOGIC MỚI): Kết thúc tải gạch ---");
 
-        bricks.removeIf(Brick::isDestroyed);
+        removeDestroyedBricks();
+        invalidateBrickLayer();
+    }
+
+    private void invalidateBrickLayer() {
+        layerStale = true;
     }
 }
\ No newline at end of file
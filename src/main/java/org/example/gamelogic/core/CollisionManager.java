@@ -20,13 +20,34 @@ import java.util.function.BiConsumer;
  */
 public final class CollisionManager {
 
+    private final EventManager eventManager;
+    private final LifeManager lifeManager;
+    private final List<Brick> nearbyBricks = new ArrayList<>();
+
+    // Pool event va chạm: mỗi tick phát rất nhiều event ngắn hạn nên tái sử dụng thay vì new
+    private final EventPool<BallHitWallEvent> ballHitWallPool = BallHitWallEvent.newPool();
+    private final EventPool<BallHitPaddleEvent> ballHitPaddlePool = BallHitPaddleEvent.newPool();
+    private final EventPool<BallHitBrickEvent> ballHitBrickPool = BallHitBrickEvent.newPool();
+    private final EventPool<BallHitEnemyEvent> ballHitEnemyPool = BallHitEnemyEvent.newPool();
+    private final EventPool<BrickDamagedEvent> brickDamagedPool = BrickDamagedEvent.newPool();
+    private final EventPool<EnemyDamagedEvent> enemyDamagedPool = EnemyDamagedEvent.newPool();
+
+    private enum SweepHit { NONE, WALL, PADDLE, BRICK, ENEMY }
+
+    // Kết quả va chạm sớm nhất của lần quét hiện tại (tái sử dụng để tránh cấp phát mỗi tick)
+    private SweepHit sweepHit;
+    private double sweepTime;
+    private boolean sweepHorizontal;
+    private GameObject sweepTarget;
+
     /**
      * Tạo mới CollisionManager.
      *
-     * <p>Hiện tại không cần tham số; constructor để public vì lớp được sử dụng trực tiếp.
+     * @param world world sở hữu, cung cấp EventManager và LifeManager để phát sự kiện va chạm
      */
-    public CollisionManager() {
-
+    public CollisionManager(GameWorld world) {
+        this.eventManager = world.getEventManager();
+        this.lifeManager = world.getLifeManager();
     }
 
     /**
@@ -117,24 +138,30 @@ public final class CollisionManager {
      *
      * @param balls danh sách bóng hiện tại (kỳ vọng không null)
      * @param paddle paddle hiện tại (có thể null)
-     * @param bricks danh sách gạch (kỳ vọng không null)
+     * @param brickManager BrickManager chứa gạch và lưới chỉ mục (kỳ vọng không null)
      * @param fallingPowerUps danh sách power-up rơi (kỳ vọng không null)
      * @param lasers danh sách tia laser hiện tại (kỳ vọng không null)
      * @param enemies danh sách kẻ địch (kỳ vọng không null)
+     * @param deltaTime thời gian (giây) của bước hiện tại, dùng để quét chuyển động bóng khi bật CCD
      */
-    public void checkCollisions(List<IBall> balls, Paddle paddle, List<Brick> bricks,
+    public void checkCollisions(List<IBall> balls, Paddle paddle, BrickManager brickManager,
                                 List<PowerUp> fallingPowerUps, List<LaserBullet> lasers,
-                                List<Enemy> enemies) {
+                                List<Enemy> enemies, double deltaTime) {
         List<IBall> ballsSnapshot = new ArrayList<>(balls);
         for (IBall ball : ballsSnapshot) {
             if (!ball.isActive()) continue;
 
+            if (GameConstants.USE_CCD && !ball.isAttachedToPaddle()) {
+                sweepBall(ball, paddle, brickManager, enemies, deltaTime);
+            }
+
             checkBallBoundsCollisions(ball);
             if (!ball.isActive()) continue;
 
             checkBallPaddleCollision(ball, paddle);
 
-            checkBallBrickCollisions(ball, bricks);
+            brickManager.queryBricks(ball.getX(), ball.getY(), ball.getWidth(), ball.getHeight(), nearbyBricks);
+            checkBallBrickCollisions(ball, nearbyBricks);
 
             checkBallEnemyCollisions(ball, enemies);
         }
@@ -142,7 +169,8 @@ public final class CollisionManager {
         for (Enemy enemy : enemies) {
             if (!enemy.isActive()) continue;
 
-            boolean didCollideWithBrick = checkEnemyBrickCollisions(enemy, bricks);
+            brickManager.queryBricks(enemy.getX(), enemy.getY(), enemy.getWidth(), enemy.getHeight(), nearbyBricks);
+            boolean didCollideWithBrick = checkEnemyBrickCollisions(enemy, nearbyBricks);
 
             if (!didCollideWithBrick) {
                 checkEnemyBoundsCollisions(enemy);
@@ -150,7 +178,7 @@ public final class CollisionManager {
         }
         checkPaddlePowerUpCollisions(paddle, fallingPowerUps);
 
-        checkLaserCollisions(lasers, bricks, enemies, paddle);
+        checkLaserCollisions(lasers, brickManager, enemies, paddle);
     }
 
     /**
@@ -182,12 +210,12 @@ public final class CollisionManager {
 
         if (ball.getY() > (GameConstants.PLAY_AREA_Y + GameConstants.PLAY_AREA_HEIGHT)) {
             ball.destroy();
-            EventManager.getInstance().publish(new BallLostEvent(ball));
+            eventManager.publish(new BallLostEvent(ball));
             collisionOccurred = false;
         }
 
         if (collisionOccurred) {
-            EventManager.getInstance().publish(new BallHitWallEvent(ball));
+            eventManager.publish(ballHitWallPool.obtain().set(ball));
         }
     }
 
@@ -203,22 +231,231 @@ public final class CollisionManager {
             boolean hitTopSurface = (ball.getY() + ball.getHeight()) < (paddle.getY() + paddle.getHeight() * 0.5);
 
             if (hitTopSurface) {
-                // Tính toán vị trí va chạm tương đối trên paddle (-1 đến 1)
-                double paddleCenter = paddle.getX() + paddle.getWidth() / 2.0;
-                double ballCenter = ball.getX() + ball.getWidth() / 2.0;
-                double hitPositionRatio = (ballCenter - paddleCenter) / (paddle.getWidth() / 2.0);
-                // Giới hạn tỉ lệ trong khoảng [-1, 1]
-                hitPositionRatio = Math.max(-1.0, Math.min(1.0, hitPositionRatio));
-
-                // Yêu cầu bóng tự xử lý va chạm với paddle
-                ball.handlePaddleCollision(paddle, hitPositionRatio);
-
-                // Phát sự kiện
-                EventManager.getInstance().publish(new BallHitPaddleEvent(ball, paddle));
+                applyPaddleHit(ball, paddle);
             }
         }
     }
 
+    /**
+     * Phản xạ bóng trên mặt trên paddle theo vị trí chạm và phát sự kiện BallHitPaddleEvent.
+     *
+     * @param ball quả bóng
+     * @param paddle paddle bị chạm
+     */
+    private void applyPaddleHit(IBall ball, Paddle paddle) {
+        // Tính toán vị trí va chạm tương đối trên paddle (-1 đến 1)
+        double paddleCenter = paddle.getX() + paddle.getWidth() / 2.0;
+        double ballCenter = ball.getX() + ball.getWidth() / 2.0;
+        double hitPositionRatio = (ballCenter - paddleCenter) / (paddle.getWidth() / 2.0);
+        // Giới hạn tỉ lệ trong khoảng [-1, 1]
+        hitPositionRatio = Math.max(-1.0, Math.min(1.0, hitPositionRatio));
+
+        // Yêu cầu bóng tự xử lý va chạm với paddle
+        ball.handlePaddleCollision(paddle, hitPositionRatio);
+
+        // Phát sự kiện
+        eventManager.publish(ballHitPaddlePool.obtain().set(ball, paddle));
+    }
+
+    /**
+     * Di chuyển bóng trong một bước bằng swept AABB (continuous collision detection).
+     *
+     * <p>Mỗi vòng lặp tìm thời điểm va chạm sớm nhất (time of impact) của quãng đường còn lại
+     * với tường trái/phải/trên, mặt trên paddle, gạch và kẻ địch; đặt bóng tại điểm chạm, phản xạ
+     * rồi tiếp tục với phần thời gian còn lại, tối đa {@code MAX_ITER_PER_FRAME} lần mỗi tick.
+     * Nhờ vậy bóng nhanh không xuyên qua gạch mỏng dù bước thời gian lớn. Bóng piercing đi xuyên
+     * gạch và kẻ địch như cũ (xử lý bằng overlap sau khi di chuyển).
+     *
+     * <p>Paddle đã được cập nhật tới vị trí cuối bước trước khi kiểm tra va chạm, nên nó được quét
+     * trong hệ quy chiếu gắn với paddle: lùi về vị trí ứng với đầu phần thời gian còn lại và trừ
+     * quãng đường paddle đi được khỏi quãng đường của bóng.
+     *
+     * @param ball quả bóng (không gắn trên paddle)
+     * @param paddle paddle hiện tại (có thể null)
+     * @param brickManager BrickManager để truy vấn gạch dọc quãng đường quét
+     * @param enemies danh sách kẻ địch
+     * @param deltaTime thời gian (giây) của bước
+     */
+    private void sweepBall(IBall ball, Paddle paddle, BrickManager brickManager,
+                           List<Enemy> enemies, double deltaTime) {
+        boolean piercing = ball.getPierceLeft() > 0;
+        double remaining = deltaTime;
+
+        for (int iter = 0; iter < GameConstants.MAX_ITER_PER_FRAME && remaining > 0; iter++) {
+            double moveX = ball.getDx() * remaining;
+            double moveY = ball.getDy() * remaining;
+
+            sweepHit = SweepHit.NONE;
+            sweepTime = 1.0;
+            sweepTarget = null;
+
+            sweepWalls(ball, moveX, moveY);
+
+            if (paddle != null && moveY > 0) {
+                double paddleMoveX = paddle.getDx() * remaining;
+                sweepAgainst(ball, moveX - paddleMoveX, moveY, paddle, paddle.getX() - paddleMoveX, SweepHit.PADDLE);
+            }
+
+            if (!piercing) {
+                double minX = Math.min(ball.getX(), ball.getX() + moveX);
+                double minY = Math.min(ball.getY(), ball.getY() + moveY);
+                brickManager.queryBricks(minX, minY, ball.getWidth() + Math.abs(moveX),
+                        ball.getHeight() + Math.abs(moveY), nearbyBricks);
+                for (Brick brick : nearbyBricks) {
+                    if (!brick.isDestroyed()) {
+                        sweepAgainst(ball, moveX, moveY, brick.getGameObject(), brick.getX(), SweepHit.BRICK);
+                    }
+                }
+                for (Enemy enemy : enemies) {
+                    if (!enemy.isDestroyed()) {
+                        sweepAgainst(ball, moveX, moveY, enemy.getGameObject(), enemy.getX(), SweepHit.ENEMY);
+                    }
+                }
+            }
+
+            if (sweepHit == SweepHit.NONE) {
+                ball.setPosition(ball.getX() + moveX, ball.getY() + moveY);
+                return;
+            }
+
+            // Đặt bóng tại điểm chạm, lùi ra một khoảng epsilon theo pháp tuyến
+            double newX = ball.getX() + moveX * sweepTime;
+            double newY = ball.getY() + moveY * sweepTime;
+            if (sweepHorizontal) {
+                newX -= Math.signum(moveX) * GameConstants.COLLISION_EPSILON;
+            } else {
+                newY -= Math.signum(moveY) * GameConstants.COLLISION_EPSILON;
+            }
+            ball.setPosition(newX, newY);
+            remaining *= (1.0 - sweepTime);
+
+            switch (sweepHit) {
+                case WALL:
+                    reflect(ball, sweepHorizontal);
+                    eventManager.publish(ballHitWallPool.obtain().set(ball));
+                    break;
+                case PADDLE:
+                    applyPaddleHit(ball, (Paddle) sweepTarget);
+                    break;
+                case BRICK:
+                    reflect(ball, sweepHorizontal);
+                    eventManager.publish(ballHitBrickPool.obtain().set((Brick) sweepTarget, ball));
+                    break;
+                case ENEMY:
+                    reflect(ball, sweepHorizontal);
+                    eventManager.publish(ballHitEnemyPool.obtain().set((Enemy) sweepTarget, ball));
+                    break;
+                default:
+                    break;
+            }
+        }
+    }
+
+    /**
+     * Đảo thành phần vận tốc tương ứng với pháp tuyến va chạm.
+     *
+     * @param ball quả bóng
+     * @param horizontal true nếu chạm mặt trái/phải (đảo dx), false nếu chạm mặt trên/dưới (đảo dy)
+     */
+    private void reflect(IBall ball, boolean horizontal) {
+        if (horizontal) {
+            ball.reverseDirX();
+        } else {
+            ball.reverseDirY();
+        }
+    }
+
+    /**
+     * Tìm thời điểm bóng chạm tường trái/phải/trên trong quãng đường (moveX, moveY).
+     * Cạnh dưới không chặn bóng: rơi khỏi cạnh dưới được xử lý ở checkBallBoundsCollisions.
+     *
+     * @param ball quả bóng
+     * @param moveX quãng đường theo x trong phần thời gian còn lại
+     * @param moveY quãng đường theo y trong phần thời gian còn lại
+     */
+    private void sweepWalls(IBall ball, double moveX, double moveY) {
+        if (moveX < 0) {
+            recordWallHit((GameConstants.PLAY_AREA_X - ball.getX()) / moveX, true);
+        } else if (moveX > 0) {
+            double rightEdge = GameConstants.PLAY_AREA_X + GameConstants.PLAY_AREA_WIDTH;
+            recordWallHit((rightEdge - (ball.getX() + ball.getWidth())) / moveX, true);
+        }
+        if (moveY < 0) {
+            recordWallHit((GameConstants.PLAY_AREA_Y - ball.getY()) / moveY, false);
+        }
+    }
+
+    private void recordWallHit(double time, boolean horizontal) {
+        if (time >= 0 && time < sweepTime) {
+            sweepHit = SweepHit.WALL;
+            sweepTime = time;
+            sweepHorizontal = horizontal;
+            sweepTarget = null;
+        }
+    }
+
+    /**
+     * Swept AABB giữa bóng và một vật, với (moveX, moveY) là quãng đường của bóng so với vật đó.
+     * Ghi nhận nếu thời điểm chạm sớm hơn kết quả hiện có. Bỏ qua nếu hai hộp đã chồng lên nhau
+     * từ đầu (để overlap resolver xử lý như trước).
+     *
+     * @param ball quả bóng
+     * @param moveX quãng đường tương đối theo x
+     * @param moveY quãng đường tương đối theo y
+     * @param target vật cần kiểm tra
+     * @param targetX hoành độ của vật ở đầu quãng quét
+     * @param kind loại vật (PADDLE chỉ nhận va chạm từ mặt trên)
+     */
+    private void sweepAgainst(IBall ball, double moveX, double moveY, GameObject target, double targetX,
+                              SweepHit kind) {
+        double left = targetX - ball.getWidth();
+        double right = targetX + target.getWidth();
+        double top = target.getY() - ball.getHeight();
+        double bottom = target.getY() + target.getHeight();
+
+        double entryX, exitX;
+        if (moveX > 0) {
+            entryX = (left - ball.getX()) / moveX;
+            exitX = (right - ball.getX()) / moveX;
+        } else if (moveX < 0) {
+            entryX = (right - ball.getX()) / moveX;
+            exitX = (left - ball.getX()) / moveX;
+        } else {
+            if (ball.getX() <= left || ball.getX() >= right) return;
+            entryX = Double.NEGATIVE_INFINITY;
+            exitX = Double.POSITIVE_INFINITY;
+        }
+
+        double entryY, exitY;
+        if (moveY > 0) {
+            entryY = (top - ball.getY()) / moveY;
+            exitY = (bottom - ball.getY()) / moveY;
+        } else if (moveY < 0) {
+            entryY = (bottom - ball.getY()) / moveY;
+            exitY = (top - ball.getY()) / moveY;
+        } else {
+            if (ball.getY() <= top || ball.getY() >= bottom) return;
+            entryY = Double.NEGATIVE_INFINITY;
+            exitY = Double.POSITIVE_INFINITY;
+        }
+
+        double entry = Math.max(entryX, entryY);
+        double exit = Math.min(exitX, exitY);
+        if (entry > exit || entry < 0 || entry >= sweepTime) {
+            return;
+        }
+
+        boolean horizontal = entryX > entryY;
+        if (kind == SweepHit.PADDLE && horizontal) {
+            return;
+        }
+
+        sweepHit = kind;
+        sweepTime = entry;
+        sweepHorizontal = horizontal;
+        sweepTarget = target;
+    }
+
     /**
      * Chọn chế độ xử lý va chạm với gạch tuỳ theo trạng thái piercing của bóng.
      *
@@ -258,7 +495,7 @@ public final class CollisionManager {
 
             if (!alreadyPierced) {
                 ball.getPiercingObjects().add(brick.getGameObject());
-                EventManager.getInstance().publish(new BallHitBrickEvent(brick, ball));
+                eventManager.publish(ballHitBrickPool.obtain().set(brick, ball));
             }
         }
 
@@ -285,7 +522,7 @@ public final class CollisionManager {
      */
     private void handleNormalBrickCollision(IBall ball, List<Brick> bricks) {
         resolveBallCollision(ball, bricks, (theBall, theBrick) -> {
-            EventManager.getInstance().publish(new BallHitBrickEvent(theBrick, theBall));
+            eventManager.publish(ballHitBrickPool.obtain().set(theBrick, theBall));
         });
     }
 
@@ -306,7 +543,7 @@ public final class CollisionManager {
             // Chỉ kiểm tra power-up còn "sống"
             if (powerUp.isActive() && paddle.intersects(powerUp.getGameObject())) {
                 // Phát sự kiện PowerUp đã được nhặt
-                EventManager.getInstance().publish(new PowerUpCollectedEvent(powerUp));
+                eventManager.publish(new PowerUpCollectedEvent(powerUp));
                 powerUp.markAsTaken(); // Đánh dấu đã nhặt (và isAlive = false)
             }
         }
@@ -317,20 +554,21 @@ public final class CollisionManager {
      * vô hiệu hoá tia khi cần.
      *
      * @param lasers danh sách tia laser
-     * @param bricks danh sách gạch
+     * @param brickManager BrickManager dùng để truy vấn gạch quanh tia laser
      * @param enemies danh sách kẻ địch
      * @param paddle paddle (dùng khi tia bắn của kẻ địch có thể chạm paddle)
      */
-    private void checkLaserCollisions(List<LaserBullet> lasers, List<Brick> bricks, List<Enemy> enemies, Paddle paddle) {
+    private void checkLaserCollisions(List<LaserBullet> lasers, BrickManager brickManager, List<Enemy> enemies, Paddle paddle) {
         Iterator<LaserBullet> iterator = lasers.iterator();
         while (iterator.hasNext()) {
             LaserBullet laser = iterator.next();
 
             if (laser.getFaction() == BulletFrom.PLAYER) {
-                for (Brick brick : bricks) {
+                brickManager.queryBricks(laser.getX(), laser.getY(), laser.getWidth(), laser.getHeight(), nearbyBricks);
+                for (Brick brick : nearbyBricks) {
                     if (!brick.isDestroyed() && laser.intersects(brick.getGameObject())) {
-                        EventManager.getInstance().
-                                publish(new BrickDamagedEvent(brick, laser.getGameObject()));
+                        eventManager.
+                                publish(brickDamagedPool.obtain().set(brick, laser.getGameObject()));
                         laser.setActive(false);
                         break;
                     }
@@ -339,8 +577,8 @@ public final class CollisionManager {
                 if (laser.isActive()) {
                     for (Enemy enemy : enemies) {
                         if (!enemy.isDestroyed() && laser.intersects(enemy.getGameObject())) {
-                            EventManager.getInstance().
-                                    publish(new EnemyDamagedEvent(enemy, laser.getGameObject()));
+                            eventManager.
+                                    publish(enemyDamagedPool.obtain().set(enemy, laser.getGameObject()));
                             laser.setActive(false);
                             break;
                         }
@@ -348,8 +586,8 @@ public final class CollisionManager {
                 }
             } else {
                 if (paddle.intersects(laser.getGameObject())) {
-                    // EventManager.getInstance().publish(new PaddleHitEvent(paddle));
-                    LifeManager.getInstance().loseLife();
+                    // eventManager.publish(new PaddleHitEvent(paddle));
+                    lifeManager.loseLife();
                     laser.setActive(false);
                     break;
                 }
@@ -394,7 +632,7 @@ public final class CollisionManager {
 
             if (!alreadyPierced) {
                 ball.getPiercingObjects().add(enemy.getGameObject());
-                EventManager.getInstance().publish(new BallHitEnemyEvent(enemy, ball));
+                eventManager.publish(ballHitEnemyPool.obtain().set(enemy, ball));
             }
         }
 
@@ -421,7 +659,7 @@ public final class CollisionManager {
      */
     private void handleNormalEnemyCollision(IBall ball, List<Enemy> enemies) {
         resolveBallCollision(ball, enemies, (theBall, theEnemy) -> {
-            EventManager.getInstance().publish(new BallHitEnemyEvent(theEnemy, theBall));
+            eventManager.publish(ballHitEnemyPool.obtain().set(theEnemy, theBall));
         });
     }
 
@@ -1,6 +1,7 @@
 package org.example.gamelogic.core;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.config.GameConstants;
 import org.example.gamelogic.entities.enemy.*;
 import org.example.gamelogic.factory.EnemyFactory;
@@ -19,20 +20,17 @@ import java.util.List;
  * và truy xuất danh sách kẻ địch đang hoạt động.
  */
 public final class EnemyManager {
-    private static class SingletonHolder {
-        private static final EnemyManager INSTANCE = new EnemyManager();
-    }
-
     /**
-     * Lấy instance đơn của EnemyManager.
+     * Lấy EnemyManager của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton EnemyManager
+     * @return EnemyManager của world hiện tại
      */
     public static EnemyManager getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getEnemyManager();
     }
 
     private final EnemyFactory enemyFactory;
+    private final EventManager eventManager;
     private List<Enemy> activeEnemies = new ArrayList<>();
     private List<Enemy> enemiesToSpawn = new ArrayList<>();
 
@@ -50,10 +48,14 @@ public final class EnemyManager {
 
     /**
      * Khởi tạo EnemyManager: đăng ký prototype và khởi tạo factory.
+     *
+     * @param world world sở hữu: cung cấp registry prototype kẻ địch và EventManager
+     *              (dùng để hủy đăng ký kẻ địch khi bị gỡ)
      */
-    public EnemyManager() {
-        EnemyRegistry registry = EnemyRegistry.getInstance();
-        registerEnemyPrototypes(registry);
+    EnemyManager(GameWorld world) {
+        this.eventManager = world.getEventManager();
+        EnemyRegistry registry = world.getEnemyRegistry();
+        registerEnemyPrototypes(world, registry);
         this.enemyFactory = new EnemyFactory(registry);
         this.bossSpawned = false;
     }
@@ -61,16 +63,17 @@ public final class EnemyManager {
     /**
      * Đăng ký prototype cho các loại enemy vào registry (dùng bởi EnemyFactory sau này).
      *
+     * @param world world sở hữu các prototype (bản clone cũng thuộc world này)
      * @param enemyRegistry registry để đăng ký prototype
      */
-    private void registerEnemyPrototypes(EnemyRegistry enemyRegistry) {
-    enemyRegistry.register("E1", new Enemy1(0.0, 0.0, GameConstants.ENEMY_WIDTH,
+    private void registerEnemyPrototypes(GameWorld world, EnemyRegistry enemyRegistry) {
+    enemyRegistry.register("E1", new Enemy1(world, 0.0, 0.0, GameConstants.ENEMY_WIDTH,
         GameConstants.ENEMY_HEIGHT, 25.0, 50.0));
-    enemyRegistry.register("E2", new Enemy2(0.0, 0.0, GameConstants.ENEMY_WIDTH,
+    enemyRegistry.register("E2", new Enemy2(world, 0.0, 0.0, GameConstants.ENEMY_WIDTH,
         GameConstants.ENEMY_HEIGHT, 25.0, 50.0));
-    enemyRegistry.register("MINION", new BossMinion(0.0, 0.0, GameConstants.MINION_WIDTH,
+    enemyRegistry.register("MINION", new BossMinion(world, 0.0, 0.0, GameConstants.MINION_WIDTH,
         GameConstants.MINION_HEIGHT, 25.0, 50.0));
-    enemyRegistry.register("BOSS", new Boss(0, 0, 0, 100));
+    enemyRegistry.register("BOSS", new Boss(world, 0, 0, 0, 100));
     }
 
     /**
@@ -139,7 +142,7 @@ public final class EnemyManager {
         this.enemiesSpawned = 0;
 
         this.bossSpawned = false;
-        this.activeEnemies.clear();
+        clear();
     }
 
     /**
@@ -165,7 +168,7 @@ public final class EnemyManager {
             updateInfiniteMode();
         }
 
-        activeEnemies.removeIf(Enemy::isDestroyed);
+        removeDestroyedEnemies();
         for (Enemy enemy : activeEnemies) {
             enemy.update(deltaTime);
         }
@@ -240,13 +243,41 @@ public final class EnemyManager {
         }
     }
 
+    public void render(RenderCommandBuffer buffer) {
+        for (Enemy enemy : activeEnemies) {
+            buffer.setKey(enemy.getGameObject().getRenderId());
+            enemy.render(buffer);
+        }
+        buffer.setKey(0);
+    }
+
     /**
      * Xóa danh sách kẻ địch đang hoạt động.
      */
     public void clear() {
+        releaseAll(activeEnemies);
         activeEnemies.clear();
     }
 
+    /**
+     * Loại bỏ kẻ địch đã bị phá và hủy đăng ký sự kiện theo đích của chúng.
+     */
+    private void removeDestroyedEnemies() {
+        activeEnemies.removeIf(enemy -> {
+            if (enemy.isDestroyed()) {
+                eventManager.unsubscribeTarget(enemy);
+                return true;
+            }
+            return false;
+        });
+    }
+
+    private void releaseAll(List<Enemy> enemies) {
+        for (Enemy enemy : enemies) {
+            eventManager.unsubscribeTarget(enemy);
+        }
+    }
+
     /**
      * Lấy danh sách kẻ địch đang hoạt động.
      *
@@ -286,7 +317,7 @@ public final class EnemyManager {
      */
     public void updateBossOnly(double deltaTime) {
         processSpawnQueue();
-        activeEnemies.removeIf(Enemy::isDestroyed);
+        removeDestroyedEnemies();
         for (Enemy enemy : activeEnemies) {
             if (enemy instanceof Boss) {
                 enemy.update(deltaTime);
@@ -351,7 +382,8 @@ public final class EnemyManager {
      * @param enemyDataList danh sách dữ liệu kẻ địch đã lưu
      */
     public void loadData(List<SavedGameState.EnemyData> enemyDataList) {
-        activeEnemies.clear();
+        clear();
+        releaseAll(enemiesToSpawn);
         enemiesToSpawn.clear();
 
         for (SavedGameState.EnemyData data : enemyDataList) {
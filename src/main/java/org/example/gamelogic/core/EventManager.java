@@ -1,33 +1,55 @@
 package org.example.gamelogic.core;
 
+import org.example.config.GameConstants;
 import org.example.gamelogic.events.GameEvent;
+import org.example.gamelogic.events.TargetedEvent;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 
 /**
  * Hệ thống phát và lắng nghe sự kiện (pub/sub) nội bộ của game.
  *
- * <p>Thread-safe cho các thao tác subscribe/unsubscribe/publish bằng synchronized.
+ * <p>Thread-safe: subscribe/unsubscribe thay mảng listener bất biến (copy-on-write) dưới một khóa
+ * ghi, còn publish đọc không khóa nên có thể đăng ký an toàn từ các thread lưu dữ liệu bất đồng bộ.
+ *
+ * <p>Ngoài listener theo kiểu sự kiện, thực thể (gạch, kẻ địch, power-up) có thể đăng ký handler
+ * theo đích bằng {@link #subscribeTarget}; sự kiện {@link TargetedEvent} được chuyển thẳng tới
+ * handler của đúng thực thể đó với chi phí O(1), và thực thể hủy đăng ký khi bị gỡ khỏi game.
+ *
+ * <p>Chế độ hàng đợi: giữa {@link #beginQueue()} và {@link #drainQueue()}, sự kiện publish từ thread
+ * đã mở hàng đợi được ghi vào ring buffer cấp phát sẵn thay vì phát ngay, rồi được phát theo đúng
+ * thứ tự FIFO trong một lượt (kể cả sự kiện do listener phát thêm trong lượt đó). Event lấy từ
+ * {@link org.example.gamelogic.events.EventPool} được trả về pool ngay sau khi phát xong.
  */
 public final class EventManager {
-    private static class SingletonHolder {
-        private static final EventManager INSTANCE = new EventManager();
-    }
-
     /**
-     * Lấy instance đơn của EventManager.
+     * Lấy EventManager của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton EventManager
+     * @return EventManager của world hiện tại
      */
     public static EventManager getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getEventManager();
     }
 
-    private final Map<Class<? extends GameEvent>, List<Consumer>> listeners = new HashMap<>();
+    private static final Consumer<?>[] NO_LISTENERS = new Consumer<?>[0];
+
+    // Bảng kiểu sự kiện -> mảng listener bất biến. Ghi (subscribe/unsubscribe) thay cả mảng dưới
+    // writeLock; publish chỉ đọc nên không cần khóa và không cấp phát.
+    private final Map<Class<?>, Consumer<?>[]> listeners = new ConcurrentHashMap<>();
+    // Bảng kiểu sự kiện -> IdentityHashMap (đích -> handler) không bao giờ bị sửa sau khi publish;
+    // ghi tạo bản sao mới dưới writeLock, giống mảng listener ở trên.
+    private final Map<Class<?>, Map<Object, Consumer<?>>> targetListeners = new ConcurrentHashMap<>();
+    private final Object writeLock = new Object();
+
+    // Ring buffer của chế độ hàng đợi; chỉ thread đã gọi beginQueue() được đọc/ghi
+    private GameEvent[] queue = new GameEvent[GameConstants.EVENT_QUEUE_CAPACITY];
+    private int queueHead;
+    private int queueSize;
+    private volatile Thread queueOwner;
 
     /**
      * Đăng ký một listener cho kiểu sự kiện cụ thể.
@@ -36,9 +58,13 @@ public final class EventManager {
      * @param listener callback sẽ được gọi khi sự kiện được publish
      * @param <T> kiểu sự kiện
      */
-    public synchronized <T extends GameEvent> void subscribe(Class<T> eventType, Consumer<T> listener) {
-        List<Consumer> eventListeners = listeners.computeIfAbsent(eventType, k -> new ArrayList<>());
-        eventListeners.add(listener);
+    public <T extends GameEvent> void subscribe(Class<T> eventType, Consumer<T> listener) {
+        synchronized (writeLock) {
+            Consumer<?>[] current = listeners.getOrDefault(eventType, NO_LISTENERS);
+            Consumer<?>[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = listener;
+            listeners.put(eventType, updated);
+        }
     }
 
     /**
@@ -48,28 +74,154 @@ public final class EventManager {
      * @param listener listener cần hủy
      * @param <T> kiểu sự kiện
      */
-    public synchronized <T extends GameEvent> void unsubscribe(Class<T> eventType, Consumer<T> listener) {
-        List<Consumer> eventListeners = listeners.get(eventType);
-        if (eventListeners != null) {
-            eventListeners.remove(listener);
+    public <T extends GameEvent> void unsubscribe(Class<T> eventType, Consumer<T> listener) {
+        synchronized (writeLock) {
+            Consumer<?>[] current = listeners.get(eventType);
+            if (current == null) {
+                return;
+            }
+            for (int i = 0; i < current.length; i++) {
+                if (current[i].equals(listener)) {
+                    Consumer<?>[] updated = new Consumer<?>[current.length - 1];
+                    System.arraycopy(current, 0, updated, 0, i);
+                    System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+                    listeners.put(eventType, updated);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Đăng ký handler chỉ nhận các sự kiện có đích là {@code target}.
+     * Mỗi thực thể giữ tối đa một handler cho mỗi kiểu sự kiện.
+     *
+     * @param eventType lớp sự kiện (phải implement {@link TargetedEvent})
+     * @param target thực thể đích (so khớp theo identity)
+     * @param listener callback sẽ được gọi khi sự kiện nhắm tới target được publish
+     * @param <T> kiểu sự kiện
+     */
+    public <T extends GameEvent & TargetedEvent> void subscribeTarget(Class<T> eventType, Object target,
+                                                                       Consumer<T> listener) {
+        synchronized (writeLock) {
+            Map<Object, Consumer<?>> current = targetListeners.get(eventType);
+            Map<Object, Consumer<?>> updated = current == null ? new IdentityHashMap<>() : new IdentityHashMap<>(current);
+            updated.put(target, listener);
+            targetListeners.put(eventType, updated);
+        }
+    }
+
+    /**
+     * Hủy mọi handler theo đích mà {@code target} đã đăng ký (gọi khi thực thể bị gỡ khỏi game).
+     *
+     * @param target thực thể đích
+     */
+    public void unsubscribeTarget(Object target) {
+        synchronized (writeLock) {
+            for (Map.Entry<Class<?>, Map<Object, Consumer<?>>> entry : targetListeners.entrySet()) {
+                if (entry.getValue().containsKey(target)) {
+                    Map<Object, Consumer<?>> updated = new IdentityHashMap<>(entry.getValue());
+                    updated.remove(target);
+                    entry.setValue(updated);
+                }
+            }
         }
     }
 
     /**
      * Phát một sự kiện tới tất cả listener đã đăng ký cho kiểu sự kiện tương ứng.
+     * Nếu là {@link TargetedEvent}, handler của thực thể đích được gọi sau các listener chung.
+     *
+     * <p>Không khóa và không cấp phát: duyệt trên snapshot mảng listener tại thời điểm publish,
+     * nên listener có thể subscribe/unsubscribe ngay trong callback mà không ảnh hưởng lần phát này.
+     * Nếu thread hiện tại đang mở hàng đợi, sự kiện chỉ được xếp hàng và phát ở {@link #drainQueue()}.
      *
      * @param event instance của GameEvent (kỳ vọng không null)
      */
-    public synchronized void publish(GameEvent event) {
-        Class<?> eventType = event.getClass();
-        List<Consumer> eventListeners = listeners.get(eventType);
+    public void publish(GameEvent event) {
+        if (queueOwner == Thread.currentThread()) {
+            enqueue(event);
+            return;
+        }
+        dispatch(event);
+        event.recycle();
+    }
 
-        if (eventListeners == null) return;
+    /**
+     * Bật chế độ hàng đợi cho thread hiện tại: các lần publish tiếp theo từ thread này được
+     * hoãn tới {@link #drainQueue()}.
+     */
+    public void beginQueue() {
+        queueOwner = Thread.currentThread();
+    }
+
+    /**
+     * Phát lần lượt mọi sự kiện đang xếp hàng theo thứ tự FIFO rồi tắt chế độ hàng đợi.
+     * Sự kiện do listener publish trong lúc drain được nối vào cuối hàng và phát trong cùng lượt.
+     */
+    public void drainQueue() {
+        while (queueSize > 0) {
+            GameEvent event = queue[queueHead];
+            queue[queueHead] = null;
+            queueHead = (queueHead + 1) % queue.length;
+            queueSize--;
+
+            dispatch(event);
+            event.recycle();
+        }
+        queueHead = 0;
+        queueOwner = null;
+    }
+
+    /**
+     * @return số sự kiện đang chờ trong hàng đợi
+     */
+    public int getQueuedCount() {
+        return queueSize;
+    }
+
+    private void enqueue(GameEvent event) {
+        if (queueSize == queue.length) {
+            // Hàng đợi đầy: mở rộng và duỗi ring buffer về đầu mảng
+            GameEvent[] grown = new GameEvent[queue.length * 2];
+            for (int i = 0; i < queueSize; i++) {
+                grown[i] = queue[(queueHead + i) % queue.length];
+            }
+            queue = grown;
+            queueHead = 0;
+        }
+        queue[(queueHead + queueSize) % queue.length] = event;
+        queueSize++;
+    }
+
+    private void dispatch(GameEvent event) {
+        Class<?> eventType = event.getClass();
+        Consumer<?>[] eventListeners = listeners.get(eventType);
 
-        List<Consumer> listenersCopy = new ArrayList<>(eventListeners);
+        if (eventListeners != null) {
+            for (Consumer<?> listener : eventListeners) {
+                deliver(listener, event);
+            }
+        }
 
-        for (Consumer listener : listenersCopy) {
-            listener.accept(event);
+        if (event instanceof TargetedEvent targetedEvent) {
+            Map<Object, Consumer<?>> handlers = targetListeners.get(eventType);
+            if (handlers != null) {
+                Consumer<?> handler = handlers.get(targetedEvent.getTarget());
+                if (handler != null) {
+                    deliver(handler, event);
+                }
+            }
         }
     }
+
+    /**
+     * Gọi listener với sự kiện. Ép kiểu an toàn vì listener chỉ được lưu dưới khóa {@code Class<T>}
+     * của chính kiểu {@code T} nó nhận (xem {@link #subscribe} và {@link #subscribeTarget}),
+     * và sự kiện được tra theo đúng lớp runtime của nó.
+     */
+    @SuppressWarnings("unchecked")
+    private static void deliver(Consumer<?> listener, GameEvent event) {
+        ((Consumer<GameEvent>) listener).accept(event);
+    }
 }
@@ -0,0 +1,22 @@
+package org.example.gamelogic.core;
+
+/**
+ * Nguồn thời gian (nanosecond) cho vòng lặp game.
+ *
+ * <p>Tách khỏi {@code AnimationTimer} để GameManager có thể chạy headless, ví dụ khi đo
+ * số tick/giây hoặc chạy soak test trên máy không có JavaFX toolkit.
+ */
+@FunctionalInterface
+public interface GameClock {
+    /**
+     * Đồng hồ hệ thống, dựa trên {@link System#nanoTime()}.
+     */
+    GameClock SYSTEM = System::nanoTime;
+
+    /**
+     * Lấy thời điểm hiện tại của đồng hồ.
+     *
+     * @return thời gian tính bằng nanosecond (chỉ có ý nghĩa khi so sánh hai lần gọi)
+     */
+    long nanoTime();
+}
@@ -8,7 +8,10 @@ import org.example.data.FileLevelRepository;
 import org.example.data.ILevelRepository;
 import org.example.data.InfiniteLevelRepository;
 import org.example.gamelogic.I_InputProvider;
+import org.example.gamelogic.entities.Ball;
 import org.example.gamelogic.events.ChangeStateEvent;
+import org.example.gamelogic.graphics.RenderSnapshot;
+import org.example.gamelogic.graphics.SnapshotExchange;
 import org.example.gamelogic.states.*;
 import javafx.scene.image.Image;
 import java.util.HashMap;
@@ -16,11 +19,15 @@ import java.util.List;
 import java.util.Map;
 import java.util.Random;
 
-import java.util.Map;
-
-//singleton (co dung Bill Pugh Idiom de xu li multithreading)
+/**
+ * Điều phối một ván game: managers, state hiện tại và vòng lặp update/render.
+ *
+ * <p>Ứng dụng JavaFX dùng instance mặc định {@link #getInstance()} (Bill Pugh holder, gắn với
+ * {@link GameWorld#getDefault()}); mô phỏng độc lập, ví dụ chạy headless song song, tạo instance riêng
+ * bằng {@link #GameManager(GameWorld)}.
+ */
 public final class GameManager {
-    private final AnimationTimer gameLoop;
+    private AnimationTimer gameLoop;
     private StateManager stateManager;
     private BrickManager brickManager;
     private PowerUpManager powerUpManager;
@@ -46,13 +53,44 @@ public final class GameManager {
     private List<String> backgroundKeys;
     private Random random;
 
+    // Tài nguyên main menu cần trước khi hiển thị (nhạc nền được stream nên không cần chờ)
+    private static final List<String> MAIN_MENU_ASSETS = List.of("Anxel", "mainMenu", "button", "hoveredButton");
+
+    private GameClock clock = GameClock.SYSTEM;
+    // Chỉ nội suy giữa hai snapshot cách nhau không quá số bước này
+    private static final double MAX_INTERPOLATION_STEPS = 4;
+    private SimulationThread simulation;
+    private boolean headless = false;
+    private final GameWorld world;
+
     /**
-     * Khởi tạo GameManager và thiết lập vòng lặp game (game loop).
+     * Khởi tạo GameManager của ứng dụng, dùng world mặc định.
      *
-     * <p>Constructor private theo pattern singleton.
+     * <p>Vòng lặp JavaFX chỉ được tạo khi gọi {@link #startGameLoop()}, nên chế độ headless
+     * không cần tới JavaFX toolkit.
      */
     private GameManager() {
-        this.gameLoop = new AnimationTimer() {
+        this(GameWorld.getDefault());
+    }
+
+    /**
+     * Tạo một GameManager độc lập chạy trên world riêng, ví dụ để chạy nhiều ván headless
+     * song song trên thread pool (mỗi ván một GameManager, một GameWorld).
+     *
+     * @param world world sở hữu toàn bộ trạng thái của ván game
+     */
+    public GameManager(GameWorld world) {
+        this.world = world;
+    }
+
+    /**
+     * Tạo AnimationTimer chạy game loop trên JavaFX thread.
+     *
+     * @return AnimationTimer gọi {@link #advance(double)} và {@link #render()} mỗi khung hình,
+     * hoặc chỉ {@link #renderSnapshot()} khi thread mô phỏng đang giữ quyền cập nhật
+     */
+    private AnimationTimer createFxGameLoop() {
+        return new AnimationTimer() {
             private long lastUpdate = 0;
 
             @Override
@@ -63,13 +101,19 @@ public final class GameManager {
                 }
                 double deltaTime = (now - lastUpdate) / 1_000_000_000.0;
                 lastUpdate = now;
-                accumulator += deltaTime;
 
-                while (accumulator >= FIXED_TIMESTEP) {
-                    update(FIXED_TIMESTEP);
-                    accumulator -= FIXED_TIMESTEP;
+                if (simulation != null && simulation.isOwned()) {
+                    renderSnapshot();
+                    return;
                 }
+
+                advance(deltaTime);
                 render();
+
+                if (simulation != null && stateManager.getState() instanceof RenderSnapshot.Source) {
+                    accumulator = 0;
+                    simulation.resume();
+                }
             }
         };
     }
@@ -115,37 +159,90 @@ public final class GameManager {
         this.brickManager.setLevelRepository(repo);
     }
 
+    /**
+     * Thiết lập đồng hồ dùng để đo thời gian trong chế độ headless.
+     *
+     * @param clock implementation của GameClock (null sẽ dùng đồng hồ hệ thống)
+     */
+    public void setClock(GameClock clock) {
+        this.clock = (clock != null) ? clock : GameClock.SYSTEM;
+    }
+
     /**
      * Khởi tạo các thành phần con của game (managers, state, assets) và đăng ký event.
      * Gọi khi bắt đầu ứng dụng để chuẩn bị game.
      */
     public void init() {
+        GameWorld previous = world.enter();
+        try {
+            // Chỉ những gì main menu cần mới chặn khung hình đầu; phần còn lại load nền song song
+            AssetManager assetManager = AssetManager.getInstance();
+            assetManager.startLoading(MAIN_MENU_ASSETS);
+
+            initManagers();
+            this.soundManager.subscribeToEvents(world.getEventManager());
+
+            assetManager.awaitAssets(MAIN_MENU_ASSETS);
+            System.out.println("Main menu sẵn sàng sau " + assetManager.getElapsedLoadMillis() + " ms");
+
+            currentState = new MainMenuState();
+            this.stateManager.setState(currentState);
+            this.soundManager.playSelectedMusic();
+        } finally {
+            GameWorld.exit(previous);
+        }
+    }
+
+    /**
+     * Khởi tạo game ở chế độ headless: không JavaFX toolkit, không canvas, không âm thanh.
+     * Game bắt đầu ngay ở PlayingState level 1 (chế độ LEVEL) thay vì main menu.
+     *
+     * <p>Prototype kẻ địch nạp ảnh ngay khi {@link GameWorld} được tạo, nên cần gọi
+     * {@link AssetManager#enableHeadlessMode()} trước {@link #getInstance()} hoặc {@code new GameWorld()}.
+     */
+    public void initHeadless() {
+        this.headless = true;
+        AssetManager.enableHeadlessMode();
+        if (levelRepository == null) {
+            this.levelRepository = new FileLevelRepository();
+        }
+
+        GameWorld previous = world.enter();
+        try {
+            initManagers();
+            startNewGame();
+        } finally {
+            GameWorld.exit(previous);
+        }
+    }
+
+    /**
+     * Tạo các manager dùng chung cho cả chế độ JavaFX và headless.
+     */
+    private void initManagers() {
         this.stateManager = new StateManager();
-        this.brickManager = new BrickManager(levelRepository);
-        this.powerUpManager = new PowerUpManager();
-        this.ballManager = new BallManager();
-        this.collisionManager = new CollisionManager();
+        this.brickManager = new BrickManager(levelRepository, world);
+        this.powerUpManager = new PowerUpManager(world);
+        this.ballManager = new BallManager(world);
+        this.collisionManager = new CollisionManager(world);
 
-        currentState = new MainMenuState();
         currentGameMode = GameModeEnum.LEVEL;
-        this.stateManager.setState(currentState);
 
         AssetManager.getInstance();
-        
+
         this.levelBackgroundMap = new HashMap<>();
         this.backgroundKeys = List.of("bg1", "bg2", "bg3");
         this.random = new Random();
-        initializeLevelBackgrounds(5);
+        initializeLevelBackgrounds(GameConstants.CAMPAIGN_LEVEL_COUNT);
         
-        this.enemyManager = EnemyManager.getInstance();
+        this.enemyManager = world.getEnemyManager();
         this.soundManager = SoundManager.getInstance();
-        this.scoreManager = ScoreManager.getInstance();
-        this.lifeManager = LifeManager.getInstance();
-        this.laserManager = LaserManager.getInstance();
-        this.particleManager = ParticleManager.getInstance();
+        this.scoreManager = world.getScoreManager();
+        this.lifeManager = world.getLifeManager();
+        this.laserManager = world.getLaserManager();
+        this.particleManager = world.getParticleManager();
 
         this.enemyManager.setBrickManager(this.brickManager);
-        this.soundManager.playSelectedMusic();
 
         subscribeToEvents();
     }
@@ -182,21 +279,64 @@ public final class GameManager {
     }
 
     /**
-     * Cập nhật các thành phần game chính (state, particles, ...) theo delta time.
+     * Cộng dồn thời gian thực vào accumulator và chạy đủ số bước update cố định tương ứng.
      *
-     * @param deltaTime thời gian (giây) kể từ lần cập nhật trước
+     * @param deltaTime thời gian (giây) kể từ khung hình trước
      */
-    public void update(double deltaTime) {
-        if (stateManager != null && inputProvider != null) {
-            stateManager.handleInput(inputProvider);
-            stateManager.update(deltaTime);
+    public void advance(double deltaTime) {
+        GameWorld previous = world.enter();
+        try {
+            accumulator += deltaTime;
+
+            while (accumulator >= FIXED_TIMESTEP) {
+                update(FIXED_TIMESTEP);
+                accumulator -= FIXED_TIMESTEP;
+            }
+        } finally {
+            GameWorld.exit(previous);
         }
-        if (particleManager != null) {
-            particleManager.update(deltaTime);
+    }
+
+    /**
+     * Chạy liên tiếp {@code ticks} bước update(FIXED_TIMESTEP) nhanh nhất có thể, không render.
+     * Dùng cho chế độ headless (đo ticks/giây, soak test, replay).
+     *
+     * @param ticks số bước update cần chạy
+     * @return thời gian thực đã trôi qua (nanosecond) theo {@link GameClock} hiện tại
+     */
+    public long runHeadless(long ticks) {
+        GameWorld previous = world.enter();
+        try {
+            long start = clock.nanoTime();
+            for (long i = 0; i < ticks; i++) {
+                update(FIXED_TIMESTEP);
+            }
+            return clock.nanoTime() - start;
+        } finally {
+            GameWorld.exit(previous);
         }
+    }
 
-        if (inputProvider != null) {
-            inputProvider.resetMouseClick();
+    /**
+     * Cập nhật các thành phần game chính (state, particles, ...) theo delta time.
+     *
+     * @param deltaTime thời gian (giây) kể từ lần cập nhật trước
+     */
+    public void update(double deltaTime) {
+        GameWorld previous = world.enter();
+        try {
+            if (inputProvider != null) {
+                inputProvider.pollMouseClick();
+            }
+            if (stateManager != null && inputProvider != null) {
+                stateManager.handleInput(inputProvider);
+                stateManager.update(deltaTime);
+            }
+            if (particleManager != null) {
+                particleManager.update(deltaTime);
+            }
+        } finally {
+            GameWorld.exit(previous);
         }
     }
 
@@ -204,34 +344,90 @@ public final class GameManager {
      * Thực hiện render khung hình hiện tại bằng cách ủy quyền cho state và particle manager.
      */
     public void render() {
-        GameState currentState = stateManager.getState();
-        if (currentState != null && gc != null) {
-            currentState.render(gc);
+        GameWorld previous = world.enter();
+        try {
+            GameState currentState = stateManager.getState();
+            if (currentState != null && gc != null) {
+                currentState.render(gc);
+            }
+            if (particleManager != null && gc != null) {
+                particleManager.render(gc);
+            }
+        } finally {
+            GameWorld.exit(previous);
         }
-        if (particleManager != null && gc != null) {
-            particleManager.render(gc);
+    }
+
+    /**
+     * Vẽ snapshot mới nhất do thread mô phỏng công bố, nội suy với snapshot trước đó.
+     * <br>Snapshot được vẽ trễ một khoảng bằng khoảng cách giữa hai snapshot, nên vị trí hiển thị
+     * luôn nằm giữa hai tick đã tính xong.
+     */
+    private void renderSnapshot() {
+        SnapshotExchange exchange = simulation.getExchange();
+        exchange.poll();
+        RenderSnapshot current = exchange.current();
+        if (current == null || gc == null) {
+            return;
+        }
+
+        RenderSnapshot previous = exchange.previous();
+        double alpha = 1.0;
+        if (previous != null && previous.getSource() == current.getSource()) {
+            long span = current.getTimeNanos() - previous.getTimeNanos();
+            if (span > 0 && span <= MAX_INTERPOLATION_STEPS * FIXED_TIMESTEP * 1_000_000_000L) {
+                alpha = Math.min(1.0, (clock.nanoTime() - current.getTimeNanos()) / (double) span);
+            }
+        } else {
+            previous = null;
+        }
+
+        GameWorld prevWorld = world.enter();
+        try {
+            current.getSource().render(gc, current, previous, alpha);
+        } finally {
+            GameWorld.exit(prevWorld);
         }
     }
 
     /**
      * Bắt đầu vòng lặp game (animation timer).
+     * <br>Khi bật {@link GameConstants#USE_SIMULATION_THREAD}, màn chơi được mô phỏng trên thread riêng
+     * và FX thread chỉ vẽ snapshot.
      */
     public void startGameLoop() {
+        if (gameLoop == null) {
+            gameLoop = createFxGameLoop();
+        }
+        if (GameConstants.USE_SIMULATION_THREAD && simulation == null) {
+            if (!AssetManager.isHeadless()) {
+                // Thread mô phỏng không snapshot được Canvas: tạo sẵn sprite bóng trên FX thread
+                Ball.preloadSprites(GameConstants.BALL_RADIUS);
+            }
+            simulation = new SimulationThread(this, clock);
+            simulation.start();
+        }
         gameLoop.start();
     }
 
     /**
-     * Dừng vòng lặp game.
+     * Dừng vòng lặp game (và thread mô phỏng nếu có).
      */
     public void stopGameLoop() {
-        gameLoop.stop();
+        if (gameLoop != null) {
+            gameLoop.stop();
+        }
+        if (simulation != null) {
+            simulation.stop();
+            simulation = null;
+        }
     }
 
     /**
      * Đăng ký các listener cần thiết vào EventManager (ví dụ thay đổi state).
      */
     private void subscribeToEvents() {
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribe(
                 ChangeStateEvent.class,
                 this::handleStateChangeRequest
         );
@@ -256,6 +452,10 @@ public final class GameManager {
     public void handleStateChangeRequest(ChangeStateEvent event) {
         GameState newState = null;
         GameState currentState = stateManager.getState();
+        if (currentState instanceof LoadingState) {
+            // Chuyển state tiếp như thể màn hình loading chưa từng chen vào
+            currentState = ((LoadingState) currentState).getPreviousState();
+        }
 
         int levelToLoad = 1;
         if (event.getPayload() != null && event.getPayload() instanceof Integer) {
@@ -266,6 +466,17 @@ public final class GameManager {
             ((PlayingState) currentState).cleanUp();
         }
 
+        if (headless) {
+            handleHeadlessStateChange(event, currentState);
+            return;
+        }
+
+        // Các màn ngoài main menu dùng tài nguyên load nền: chờ trong LoadingState nếu chưa xong
+        if (event.targetState != GameStateEnum.MAIN_MENU && !AssetManager.getInstance().isLoaded()) {
+            stateManager.setState(new LoadingState(event, currentState));
+            return;
+        }
+
         switch (event.targetState) {
             case PLAYING:
                 if (currentState instanceof PauseState) {
@@ -322,7 +533,7 @@ public final class GameManager {
 
                     int livesLeft = playingState.getCurrentLives();
                     int levelCompleted = playingState.getLevelNumber();
-                    int finalScore = ScoreManager.getInstance().getScore();
+                    int finalScore = scoreManager.getScore();
 
                     HighscoreManager.saveNewScore(finalScore);
 
@@ -344,7 +555,7 @@ public final class GameManager {
                          ProgressManager.clearSession(currentGameMode.toString());
                     }
 
-                    int finalScore = ScoreManager.getInstance().getScore();
+                    int finalScore = scoreManager.getScore();
                     HighscoreManager.saveNewScore(finalScore);
 
                     playingState.cleanUp();
@@ -389,6 +600,28 @@ public final class GameManager {
         }
     }
 
+    /**
+     * Xử lý chuyển state khi chạy headless: không dựng các màn hình menu (cần font/ảnh),
+     * thắng thì sang level kế tiếp, thua thì chơi lại level hiện tại.
+     *
+     * @param event sự kiện chuyển state
+     * @param currentState state hiện tại
+     */
+    private void handleHeadlessStateChange(ChangeStateEvent event, GameState currentState) {
+        if (!(currentState instanceof PlayingState)) {
+            return;
+        }
+        PlayingState playingState = (PlayingState) currentState;
+        int nextLevel = playingState.getLevelNumber();
+
+        if (event.targetState == GameStateEnum.VICTORY) {
+            nextLevel = nextLevel % GameConstants.CAMPAIGN_LEVEL_COUNT + 1;
+        } else if (event.targetState != GameStateEnum.GAME_OVER) {
+            return;
+        }
+        stateManager.setState(new PlayingState(this, currentGameMode, nextLevel, true));
+    }
+
     /**
      * Bắt đầu một game mới và chuyển state sang PlayingState.
      */
@@ -486,10 +719,28 @@ public final class GameManager {
         return this.enemyManager;
     }
 
+    /**
+     * Lấy world sở hữu trạng thái của ván game này.
+     *
+     * @return GameWorld của GameManager
+     */
+    public GameWorld getWorld() {
+        return this.world;
+    }
+
     /**
      * Lấy chế độ chơi hiện tại.
      *
      * @return GameModeEnum hiện tại
      */
     public GameModeEnum getCurrentGameMode() { return this.currentGameMode; }
+
+    /**
+     * Kiểm tra game có đang chạy ở chế độ headless hay không.
+     *
+     * @return true nếu đã khởi tạo bằng {@link #initHeadless()}
+     */
+    public boolean isHeadless() {
+        return this.headless;
+    }
 }
@@ -0,0 +1,164 @@
+package org.example.gamelogic.core;
+
+import org.example.gamelogic.registry.BallRegistry;
+import org.example.gamelogic.registry.BrickRegistry;
+import org.example.gamelogic.registry.EnemyRegistry;
+import org.example.gamelogic.registry.PowerUpRegistry;
+
+/**
+ * Ngữ cảnh của một ván game: sở hữu đúng một instance của mỗi manager trạng thái
+ * (event, điểm, mạng, kẻ địch, laser, particle, paddle, đồng hồ animation) và các registry prototype.
+ *
+ * <p>Mỗi entity nhận world của nó qua constructor (bản clone từ prototype dùng world của prototype),
+ * nên không bao giờ tự gắn nhầm sang world khác. Các {@code getInstance()} cũ của manager ủy quyền cho
+ * {@link #current()}, tức world đang được gắn với thread hiện tại (hoặc world mặc định nếu chưa gắn).
+ * Nhờ vậy nhiều ván headless có thể chạy song song trong cùng một JVM, mỗi ván một world trên thread riêng.
+ *
+ * <p>Asset, settings, âm thanh và highscore vẫn dùng chung toàn ứng dụng.
+ */
+public final class GameWorld {
+    private static final ThreadLocal<GameWorld> CURRENT = new ThreadLocal<>();
+
+    private static class DefaultHolder {
+        private static final GameWorld INSTANCE = new GameWorld();
+    }
+
+    /**
+     * Lấy world mặc định (dùng cho ứng dụng JavaFX và các thread chưa gắn world).
+     *
+     * @return world mặc định
+     */
+    public static GameWorld getDefault() {
+        return DefaultHolder.INSTANCE;
+    }
+
+    /**
+     * Lấy world đang được gắn với thread hiện tại.
+     *
+     * @return world của thread hiện tại, hoặc world mặc định nếu chưa gắn
+     */
+    public static GameWorld current() {
+        GameWorld world = CURRENT.get();
+        return (world != null) ? world : getDefault();
+    }
+
+    private final AnimationClock animationClock;
+    private final EventManager eventManager;
+    private final BallRegistry ballRegistry;
+    private final BrickRegistry brickRegistry;
+    private final EnemyRegistry enemyRegistry;
+    private final PowerUpRegistry powerUpRegistry;
+    private final ObjectAccess objectAccess;
+    private final ScoreManager scoreManager;
+    private final LifeManager lifeManager;
+    private final ParticleManager particleManager;
+    private final LaserManager laserManager;
+    private final EnemyManager enemyManager;
+
+    /**
+     * Tạo một world mới với bộ manager riêng.
+     *
+     * <p>Các prototype (gạch, kẻ địch, ...) nhận world này qua constructor, nên việc khởi tạo
+     * không phụ thuộc world đang gắn với thread.
+     */
+    public GameWorld() {
+        this.animationClock = new AnimationClock();
+        this.eventManager = new EventManager();
+        this.ballRegistry = new BallRegistry();
+        this.brickRegistry = new BrickRegistry();
+        this.enemyRegistry = new EnemyRegistry();
+        this.powerUpRegistry = new PowerUpRegistry();
+        this.objectAccess = new ObjectAccess();
+        this.scoreManager = new ScoreManager(eventManager);
+        this.lifeManager = new LifeManager(eventManager);
+        this.particleManager = new ParticleManager();
+        this.laserManager = new LaserManager(this);
+        this.enemyManager = new EnemyManager(this);
+    }
+
+    /**
+     * Gắn world này vào thread hiện tại.
+     *
+     * @return world đã gắn trước đó (có thể null), truyền lại cho {@link #exit(GameWorld)}
+     */
+    public GameWorld enter() {
+        GameWorld previous = CURRENT.get();
+        CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Khôi phục world đã gắn trước lần {@link #enter()} tương ứng.
+     *
+     * @param previous giá trị trả về của {@link #enter()}
+     */
+    public static void exit(GameWorld previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Chạy một tác vụ với world này được gắn vào thread hiện tại.
+     *
+     * @param task tác vụ cần chạy
+     */
+    public void run(Runnable task) {
+        GameWorld previous = enter();
+        try {
+            task.run();
+        } finally {
+            exit(previous);
+        }
+    }
+
+    public AnimationClock getAnimationClock() {
+        return animationClock;
+    }
+
+    public EventManager getEventManager() {
+        return eventManager;
+    }
+
+    public BallRegistry getBallRegistry() {
+        return ballRegistry;
+    }
+
+    public BrickRegistry getBrickRegistry() {
+        return brickRegistry;
+    }
+
+    public EnemyRegistry getEnemyRegistry() {
+        return enemyRegistry;
+    }
+
+    public PowerUpRegistry getPowerUpRegistry() {
+        return powerUpRegistry;
+    }
+
+    public ObjectAccess getObjectAccess() {
+        return objectAccess;
+    }
+
+    public ScoreManager getScoreManager() {
+        return scoreManager;
+    }
+
+    public LifeManager getLifeManager() {
+        return lifeManager;
+    }
+
+    public ParticleManager getParticleManager() {
+        return particleManager;
+    }
+
+    public LaserManager getLaserManager() {
+        return laserManager;
+    }
+
+    public EnemyManager getEnemyManager() {
+        return enemyManager;
+    }
+}
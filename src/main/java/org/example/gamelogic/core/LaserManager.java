@@ -1,12 +1,17 @@
 package org.example.gamelogic.core;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
+import javafx.scene.image.Image;
+import org.example.data.AssetManager;
+import org.example.data.AtlasRegion;
 import org.example.gamelogic.entities.BulletFrom;
 import org.example.gamelogic.entities.BulletType;
 import org.example.gamelogic.entities.LaserBullet;
 import org.example.gamelogic.entities.Paddle;
 import org.example.gamelogic.entities.bricks.Brick;
 import org.example.gamelogic.events.BrickDamagedEvent;
+import org.example.presentation.SpriteAnimation;
 
 import java.util.ArrayList;
 import java.util.Iterator;
@@ -14,22 +19,35 @@ import java.util.List;
 
 /**
  * Quản lý các tia laser/đạn: tạo, cập nhật, render và truy xuất danh sách.
+ *
+ * <p>Viên đạn không còn active được trả về pool và tái sử dụng ở lần bắn sau; ảnh và animation
+ * của đạn được dùng chung cho mọi viên, với frame lấy theo một đồng hồ animation duy nhất.
  */
 public final class LaserManager {
-    private static class SingletonHolder {
-        private static final LaserManager INSTANCE = new LaserManager();
-    }
-
     /**
-     * Lấy instance đơn của LaserManager.
+     * Lấy LaserManager của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton LaserManager
+     * @return LaserManager của world hiện tại
      */
     public static LaserManager getInstance() {
-        return LaserManager.SingletonHolder.INSTANCE;
+        return GameWorld.current().getLaserManager();
     }
 
+    private final GameWorld world;
     private final List<LaserBullet> lasers=new ArrayList<>();
+    private final List<LaserBullet> pool = new ArrayList<>();
+
+    private static final SpriteAnimation BOSS_BULLET_ANIMATION = new SpriteAnimation("bossBullet", 4, 4, 0.5, true);
+
+    // Tài nguyên dùng chung, nạp lần đầu khi cần (AssetManager có thể chưa load lúc tạo world)
+    private AtlasRegion bulletImage;
+
+    /**
+     * @param world world sở hữu, cũng là world của mọi viên đạn được tạo
+     */
+    LaserManager(GameWorld world) {
+        this.world = world;
+    }
 
     /**
      * Tạo một tia laser mới và thêm vào danh sách quản lý.
@@ -42,7 +60,13 @@ public final class LaserManager {
      * @param faction phe bắn (player hoặc enemy)
      */
     public void createBullet(double x, double y, double dx, double dy, BulletType type, BulletFrom faction) {
-        lasers.add(new LaserBullet(x, y, dx, dy, type, faction));
+        if (pool.isEmpty()) {
+            lasers.add(new LaserBullet(world, x, y, dx, dy, type, faction));
+        } else {
+            LaserBullet laser = pool.remove(pool.size() - 1);
+            laser.reset(x, y, dx, dy, type, faction);
+            lasers.add(laser);
+        }
     }
 
     /**
@@ -58,6 +82,7 @@ public final class LaserManager {
 
             if (!laser.isActive()) {
                 iterator.remove();
+                pool.add(laser);
             }
         }
     }
@@ -73,6 +98,14 @@ public final class LaserManager {
         }
     }
 
+    public void render(RenderCommandBuffer buffer) {
+        for (LaserBullet laser : lasers) {
+            buffer.setKey(laser.getRenderId());
+            laser.render(buffer);
+        }
+        buffer.setKey(0);
+    }
+
     /**
      * Lấy danh sách tia laser đang tồn tại.
      *
@@ -83,9 +116,39 @@ public final class LaserManager {
     }
 
     /**
-     * Xóa tất cả tia laser.
+     * Lấy vùng atlas dùng chung của đạn người chơi.
+     *
+     * @return vùng ảnh đạn (null nếu chưa được load)
+     */
+    public AtlasRegion getBulletImage() {
+        if (bulletImage == null) {
+            bulletImage = AssetManager.getInstance().getRegion("bullet");
+        }
+        return bulletImage;
+    }
+
+    /**
+     * Lấy animation dùng chung của đạn boss; vẽ bằng {@link SpriteAnimation#renderAt}
+     * với thời gian của {@link AnimationClock}.
+     *
+     * @return animation đạn boss
+     */
+    public SpriteAnimation getBossBulletAnimation() {
+        return BOSS_BULLET_ANIMATION;
+    }
+
+    /**
+     * @return số viên đạn đang chờ tái sử dụng trong pool
+     */
+    public int getPooledCount() {
+        return pool.size();
+    }
+
+    /**
+     * Xóa tất cả tia laser (trả chúng về pool).
      */
     public void clear() {
+        pool.addAll(lasers);
         lasers.clear();
     }
 }
@@ -10,25 +10,28 @@ import org.example.gamelogic.states.GameStateEnum;
 /**
  * Quản lý số mạng (lives) của người chơi.
  *
- * <p>Singleton; cung cấp API để mất/mở mạng, reset và truy xuất số mạng hiện tại.
+ * <p>Mỗi {@link GameWorld} một instance; cung cấp API để mất/mở mạng, reset và truy xuất số mạng hiện tại.
  */
 public final class LifeManager {
-    private static class SingletonHolder {
-        private static final LifeManager INSTANCE = new LifeManager();
-    }
-
     /**
-     * Lấy instance đơn của LifeManager.
+     * Lấy LifeManager của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton LifeManager
+     * @return LifeManager của world hiện tại
      */
     public static LifeManager getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getLifeManager();
     }
 
+    private final EventManager eventManager;
     private int lives;
 
-    private LifeManager() {
+    /**
+     * Tạo LifeManager cho một world.
+     *
+     * @param eventManager EventManager của world sở hữu, dùng để phát sự kiện mất/thêm mạng
+     */
+    LifeManager(EventManager eventManager) {
+        this.eventManager = eventManager;
         this.lives = GameConstants.INITIAL_LIVES;
     }
 
@@ -42,12 +45,12 @@ public final class LifeManager {
         this.lives--;
 
         if (lives > 0) {
-            EventManager.getInstance().publish(new LifeLostEvent(lives));
+            eventManager.publish(new LifeLostEvent(lives));
         } else {
-            EventManager.getInstance().publish(
+            eventManager.publish(
                     new ChangeStateEvent(GameStateEnum.GAME_OVER)
             );
-            EventManager.getInstance().publish(
+            eventManager.publish(
                     new GameOverEvent()
             );
         }
@@ -58,7 +61,7 @@ public final class LifeManager {
      */
     public void addLife() {
         this.lives++;
-        EventManager.getInstance().publish(new LifeAddedEvent(lives));
+        eventManager.publish(new LifeAddedEvent(lives));
     }
 
     /**
@@ -0,0 +1,159 @@
+package org.example.gamelogic.core;
+
+import org.example.config.GameConstants;
+import org.example.data.AssetManager;
+
+import javax.sound.sampled.AudioFormat;
+import javax.sound.sampled.AudioInputStream;
+import javax.sound.sampled.AudioSystem;
+import javax.sound.sampled.SourceDataLine;
+
+/**
+ * Phát nhạc nền bằng cách stream PCM từ resource qua {@link SourceDataLine} trên một audio thread riêng.
+ *
+ * <p>Khác với {@code Clip}, track không bao giờ được decode toàn bộ vào bộ nhớ: mỗi lần chỉ giữ
+ * một bộ đệm nhỏ ({@link GameConstants#MUSIC_STREAM_BUFFER_BYTES}). Khi lặp, stream được mở lại từ đầu.
+ * Các method public gọi được từ bất kỳ thread nào.
+ */
+public final class MusicPlayer {
+    private final AssetManager assetManager;
+    private volatile double volume = 1.0;
+    private Session current;
+
+    /**
+     * Một lượt phát; bị bỏ đi khi dừng hoặc chuyển track.
+     */
+    private final class Session implements Runnable {
+        private final String name;
+        private final boolean loop;
+        private volatile boolean running = true;
+        private volatile SourceDataLine line;
+
+        private Session(String name, boolean loop) {
+            this.name = name;
+            this.loop = loop;
+        }
+
+        @Override
+        public void run() {
+            byte[] buffer = new byte[GameConstants.MUSIC_STREAM_BUFFER_BYTES / 4];
+            try {
+                do {
+                    try (AudioInputStream source = assetManager.openMusicStream(name)) {
+                        if (source == null) {
+                            return;
+                        }
+                        AudioInputStream pcm = toPcm(source);
+                        if (line == null) {
+                            openLine(pcm.getFormat());
+                        }
+                        int read;
+                        while (running && (read = pcm.read(buffer, 0, buffer.length)) > 0) {
+                            line.write(buffer, 0, read);
+                        }
+                    }
+                } while (running && loop);
+                if (running && line != null) {
+                    line.drain();
+                }
+            } catch (Exception e) {
+                System.err.println("Không thể stream nhạc " + name + ": " + e.getMessage());
+            } finally {
+                // Track không lặp phát hết (hoặc lỗi) thì session cũng kết thúc, để isPlaying() trả về false
+                running = false;
+                SourceDataLine opened = line;
+                if (opened != null) {
+                    opened.close();
+                }
+            }
+        }
+
+        private void openLine(AudioFormat format) throws Exception {
+            SourceDataLine newLine = AudioSystem.getSourceDataLine(format);
+            newLine.open(format, GameConstants.MUSIC_STREAM_BUFFER_BYTES);
+            SoundManager.setLineVolume(newLine, volume);
+            newLine.start();
+            this.line = newLine;
+        }
+
+        private void stop() {
+            running = false;
+            SourceDataLine opened = line;
+            if (opened != null) {
+                // flush() làm write() đang chặn trên audio thread trả về ngay
+                opened.stop();
+                opened.flush();
+            }
+        }
+    }
+
+    /**
+     * @param assetManager nơi mở stream cho từng track
+     */
+    public MusicPlayer(AssetManager assetManager) {
+        this.assetManager = assetManager;
+    }
+
+    /**
+     * Dừng track hiện tại (nếu có) và bắt đầu stream track mới.
+     *
+     * @param name key của track
+     * @param loop true để lặp vô hạn
+     */
+    public synchronized void play(String name, boolean loop) {
+        stop();
+        current = new Session(name, loop);
+        Thread thread = new Thread(current, "music-stream");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Dừng track hiện tại; audio thread tự đóng line và kết thúc.
+     */
+    public synchronized void stop() {
+        if (current != null) {
+            current.stop();
+            current = null;
+        }
+    }
+
+    /**
+     * Đặt âm lượng cho track đang phát và các track sau.
+     *
+     * @param volume âm lượng tuyến tính trong khoảng [0, 1]
+     */
+    public synchronized void setVolume(double volume) {
+        this.volume = volume;
+        if (current != null && current.line != null) {
+            SoundManager.setLineVolume(current.line, volume);
+        }
+    }
+
+    /**
+     * @return true nếu đang có track được phát; false sau khi dừng hoặc khi track không lặp đã phát hết
+     */
+    public synchronized boolean isPlaying() {
+        return current != null && current.running;
+    }
+
+    /**
+     * Chuyển stream sang PCM có dấu nếu file dùng encoding khác (ví dụ u-law).
+     */
+    private static AudioInputStream toPcm(AudioInputStream source) {
+        AudioFormat format = source.getFormat();
+        if (format.getEncoding() == AudioFormat.Encoding.PCM_SIGNED) {
+            return source;
+        }
+        AudioFormat pcmFormat = new AudioFormat(
+                AudioFormat.Encoding.PCM_SIGNED,
+                format.getSampleRate(),
+                16,
+                format.getChannels(),
+                format.getChannels() * 2,
+                format.getSampleRate(),
+                false
+        );
+        return AudioSystem.getAudioInputStream(pcmFormat, source);
+    }
+}
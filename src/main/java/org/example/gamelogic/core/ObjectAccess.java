@@ -5,26 +5,22 @@ import org.example.gamelogic.entities.Paddle;
 /**
  * Cung cấp truy cập tới các đối tượng toàn cục của game (ví dụ paddle).
  *
- * <p>Singleton đơn giản dùng để đăng ký và lấy paddle từ các thành phần không dễ truyền dependency.
+ * <p>Mỗi {@link GameWorld} một instance, dùng để đăng ký và lấy paddle từ các thành phần không dễ truyền dependency.
  */
 public final class ObjectAccess {
-    private static class SingletonHolder {
-        private static final ObjectAccess INSTANCE = new ObjectAccess();
-    }
-
     /**
-     * Lấy instance đơn của ObjectAccess.
+     * Lấy ObjectAccess của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton ObjectAccess
+     * @return ObjectAccess của world hiện tại
      */
     public static ObjectAccess getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getObjectAccess();
     }
 
 
     private Paddle paddle;
 
-    private ObjectAccess() {}
+    ObjectAccess() {}
 
     /**
      * Đăng ký paddle toàn cục để các thành phần khác có thể truy xuất.
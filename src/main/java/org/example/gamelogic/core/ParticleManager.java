@@ -2,69 +2,204 @@ package org.example.gamelogic.core;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import org.example.gamelogic.entities.Particle;
+import org.example.config.GameConstants;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Random;
 
 /**
  * Quản lý các particle dùng cho hiệu ứng (ví dụ mảnh vụn gạch).
  *
- * <p>Singleton; cung cấp API để spawn, cập nhật, render và xóa particle.
+ * <p>Mỗi {@link GameWorld} một instance; cung cấp API để spawn, cập nhật, render và xóa particle.
+ *
+ * <p>Particle được lưu theo dạng structure-of-arrays trong các mảng nguyên thủy có dung lượng cố định,
+ * nên spawn/update không cấp phát đối tượng. Particle hết hạn được xóa bằng cách đổi chỗ với phần tử
+ * cuối (swap-remove); khi đầy, {@link OverflowPolicy} quyết định bỏ particle mới hay ghi đè particle cũ.
+ * Lượt render gom particle theo màu và mức alpha để mỗi nhóm chỉ đổi trạng thái GraphicsContext một lần.
  */
 public final class ParticleManager {
 
-    private final List<Particle> particles;
+    /**
+     * Cách xử lý khi spawn particle trong lúc bộ đệm đã đầy.
+     */
+    public enum OverflowPolicy {
+        /** Bỏ qua particle mới. */
+        DROP_NEW,
+        /** Ghi đè xoay vòng lên các particle đang sống. */
+        OVERWRITE
+    }
+
+    private static final double GRAVITY = 980.0;
+    private static final double PARTICLE_SIZE = 4;
+
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
     private final Random random;
 
-    private ParticleManager() {
-        this.particles = new ArrayList<>();
-        this.random = new Random();
+    private final double[] x;
+    private final double[] y;
+    private final double[] dx;
+    private final double[] dy;
+    private final double[] life;
+    private final double[] maxLife;
+    private final int[] colorIndex;
+    private int count;
+    private int overwriteCursor;
+
+    // Bảng màu: particle chỉ lưu chỉ số màu
+    private final List<Color> palette = new ArrayList<>();
+
+    // Bộ đệm sắp xếp theo nhóm (màu, mức alpha) cho lượt render, tái sử dụng giữa các frame
+    private final int[] renderOrder;
+    private int[] bucketStart = new int[0];
+
+    ParticleManager() {
+        this(GameConstants.PARTICLE_CAPACITY, GameConstants.PARTICLE_OVERWRITE_ON_OVERFLOW
+                ? OverflowPolicy.OVERWRITE : OverflowPolicy.DROP_NEW);
     }
 
-    private static class SingletonHolder {
-        private static final ParticleManager INSTANCE = new ParticleManager();
+    /**
+     * Tạo ParticleManager với dung lượng và chính sách tràn tùy chỉnh.
+     *
+     * @param capacity số particle tối đa tồn tại cùng lúc
+     * @param overflowPolicy cách xử lý khi spawn lúc đã đầy
+     */
+    public ParticleManager(int capacity, OverflowPolicy overflowPolicy) {
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.random = new Random();
+        this.x = new double[capacity];
+        this.y = new double[capacity];
+        this.dx = new double[capacity];
+        this.dy = new double[capacity];
+        this.life = new double[capacity];
+        this.maxLife = new double[capacity];
+        this.colorIndex = new int[capacity];
+        this.renderOrder = new int[capacity];
     }
 
+
     /**
-     * Lấy instance đơn của ParticleManager.
+     * Lấy ParticleManager của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton ParticleManager
+     * @return ParticleManager của world hiện tại
      */
     public static ParticleManager getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getParticleManager();
     }
 
     /**
-     * Cập nhật trạng thái tất cả particle và loại bỏ những particle đã hỏng.
+     * Cập nhật trạng thái tất cả particle và loại bỏ những particle đã hết hạn.
      *
      * @param deltaTime thời gian (giây) kể từ lần cập nhật trước
      */
     public void update(double deltaTime) {
-
-        Iterator<Particle> iterator = particles.iterator();
-        while (iterator.hasNext()) {
-            Particle p = iterator.next();
-            p.update(deltaTime);
-
-            if (p.isDestroyed()) {
-                iterator.remove();
+        int i = 0;
+        while (i < count) {
+            life[i] -= deltaTime;
+            if (life[i] <= 0) {
+                removeAt(i);
+                continue;
             }
+
+            x[i] += dx[i] * deltaTime;
+            y[i] += dy[i] * deltaTime;
+            dy[i] += GRAVITY * deltaTime;
+            i++;
         }
     }
 
     /**
-     * Vẽ tất cả particle lên canvas.
+     * Vẽ tất cả particle lên canvas, gom theo màu và mức alpha.
      *
      * @param gc GraphicsContext (kỳ vọng không null)
      */
     public void render(GraphicsContext gc) {
+        if (count == 0) {
+            return;
+        }
+
+        int buckets = GameConstants.PARTICLE_ALPHA_BUCKETS;
+        int groups = sortByGroup(buckets);
+
+        gc.save();
+        try {
+            int start = 0;
+            for (int g = 0; g < groups; g++) {
+                int end = bucketStart[g];
+                if (end > start) {
+                    gc.setFill(palette.get(g / buckets));
+                    gc.setGlobalAlpha(((g % buckets) + 1.0) / buckets);
+                    for (int k = start; k < end; k++) {
+                        int p = renderOrder[k];
+                        gc.fillRect(x[p], y[p], PARTICLE_SIZE, PARTICLE_SIZE);
+                    }
+                }
+                start = end;
+            }
+        } finally {
+            gc.restore();
+        }
+    }
+
+    /**
+     * Ghi lệnh tô cho tất cả particle vào buffer, gom theo màu và mức alpha
+     * để lúc phát lại chỉ đổi fill/alpha một lần mỗi nhóm.
+     *
+     * @param buffer buffer lệnh vẽ
+     */
+    public void render(RenderCommandBuffer buffer) {
+        if (count == 0) {
+            return;
+        }
 
-        for (Particle p : particles) {
-            p.render(gc);
+        int buckets = GameConstants.PARTICLE_ALPHA_BUCKETS;
+        int groups = sortByGroup(buckets);
+
+        int start = 0;
+        for (int g = 0; g < groups; g++) {
+            int end = bucketStart[g];
+            if (end > start) {
+                Color fill = palette.get(g / buckets);
+                buffer.setAlpha(((g % buckets) + 1.0) / buckets);
+                for (int k = start; k < end; k++) {
+                    int p = renderOrder[k];
+                    buffer.fillRect(fill, x[p], y[p], PARTICLE_SIZE, PARTICLE_SIZE);
+                }
+            }
+            start = end;
         }
+        buffer.setAlpha(1.0);
+    }
+
+    /**
+     * Sắp xếp chỉ số particle vào {@link #renderOrder} theo nhóm (màu, mức alpha);
+     * sau khi gọi, {@code bucketStart[g]} là vị trí kết thúc của nhóm {@code g}.
+     *
+     * @return số nhóm
+     */
+    private int sortByGroup(int buckets) {
+        int groups = palette.size() * buckets;
+        if (bucketStart.length < groups + 1) {
+            bucketStart = new int[groups + 1];
+        } else {
+            Arrays.fill(bucketStart, 0, groups + 1, 0);
+        }
+
+        // Counting sort chỉ số particle theo nhóm (màu, mức alpha)
+        for (int i = 0; i < count; i++) {
+            bucketStart[groupOf(i, buckets) + 1]++;
+        }
+        for (int g = 0; g < groups; g++) {
+            bucketStart[g + 1] += bucketStart[g];
+        }
+        for (int i = 0; i < count; i++) {
+            renderOrder[bucketStart[groupOf(i, buckets)]++] = i;
+        }
+        return groups;
     }
 
     /**
@@ -76,9 +211,9 @@ public final class ParticleManager {
      */
     public void spawnBrickDebris(double x, double y, Color color) {
         int particleCount = 20;
-        double particleSize = 4;
         double maxSpeed = 300.0;
         double maxLife = 0.8;
+        int colorId = colorIndexOf(color);
 
         for (int i = 0; i < particleCount; i++) {
             double dx = (random.nextDouble() - 0.5) * maxSpeed;
@@ -87,20 +222,88 @@ public final class ParticleManager {
 
             double life = maxLife * (0.5 + random.nextDouble() * 0.5);
 
-            Particle p = new Particle(
-                    x, y, dx, dy,
-                    particleSize, particleSize,
-                    life, color
-            );
-            particles.add(p);
+            spawn(x, y, dx, dy, life, colorId);
+        }
+    }
+
+    /**
+     * Thêm một particle; khi đầy thì xử lý theo chính sách tràn.
+     */
+    private void spawn(double px, double py, double vx, double vy, double lifeSpan, int color) {
+        int slot;
+        if (count < capacity) {
+            slot = count++;
+        } else if (overflowPolicy == OverflowPolicy.OVERWRITE && capacity > 0) {
+            slot = overwriteCursor;
+            overwriteCursor = (overwriteCursor + 1) % capacity;
+        } else {
+            return;
+        }
+
+        x[slot] = px;
+        y[slot] = py;
+        dx[slot] = vx;
+        dy[slot] = vy;
+        life[slot] = lifeSpan;
+        maxLife[slot] = lifeSpan;
+        colorIndex[slot] = color;
+    }
+
+    /**
+     * Xóa particle tại {@code i} bằng cách chép particle cuối vào chỗ của nó.
+     */
+    private void removeAt(int i) {
+        int last = --count;
+        x[i] = x[last];
+        y[i] = y[last];
+        dx[i] = dx[last];
+        dy[i] = dy[last];
+        life[i] = life[last];
+        maxLife[i] = maxLife[last];
+        colorIndex[i] = colorIndex[last];
+    }
+
+    private int groupOf(int i, int buckets) {
+        int bucket = (int) (life[i] / maxLife[i] * buckets);
+        return colorIndex[i] * buckets + Math.min(buckets - 1, Math.max(0, bucket));
+    }
+
+    private int colorIndexOf(Color color) {
+        int index = palette.indexOf(color);
+        if (index < 0) {
+            palette.add(color);
+            index = palette.size() - 1;
         }
+        return index;
+    }
+
+    /**
+     * @return số particle đang sống
+     */
+    public int getParticleCount() {
+        return count;
     }
 
+    /**
+     * @param color màu cần đếm
+     * @return số particle đang sống có màu {@code color}
+     */
+    public int getParticleCount(Color color) {
+        int colorId = palette.indexOf(color);
+        int matches = 0;
+        for (int i = 0; i < count; i++) {
+            if (colorIndex[i] == colorId) {
+                matches++;
+            }
+        }
+        return matches;
+    }
 
     /**
      * Xóa tất cả particle.
      */
     public void clear() {
-        particles.clear();
+        count = 0;
+        overwriteCursor = 0;
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,7 @@
 package org.example.gamelogic.core;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.config.GameConstants;
 import org.example.gamelogic.entities.powerups.*;
 import org.example.gamelogic.events.BrickDestroyedEvent;
@@ -18,20 +19,8 @@ import java.util.Random;
  * power-up đang hoạt động.
  */
 public final class PowerUpManager {
-    private static class SingletonHolder {
-        private static final PowerUpManager INSTANCE = new PowerUpManager();
-    }
-
-    /**
-     * Lấy instance đơn của PowerUpManager.
-     *
-     * @return singleton PowerUpManager
-     */
-    public static PowerUpManager getInstance() {
-        return SingletonHolder.INSTANCE;
-    }
-
     private final PowerUpFactory powerUpFactory;
+    private final EventManager eventManager;
     private List<PowerUp> activePowerUps = new ArrayList<>();
 
     private final Random random = new Random();
@@ -39,16 +28,22 @@ public final class PowerUpManager {
 
     private static final String[] POWERUP_TYPES = {"E", "S", "M", "B", "L", "P"};
 
-    public PowerUpManager() {
-        PowerUpRegistry registry = PowerUpRegistry.getInstance();
-        registerPowerUpPrototypes(registry);
+    /**
+     * Tạo mới PowerUpManager: đăng ký prototype và lắng nghe sự kiện phá gạch của world.
+     *
+     * @param world world sở hữu
+     */
+    public PowerUpManager(GameWorld world) {
+        this.eventManager = world.getEventManager();
+        PowerUpRegistry registry = world.getPowerUpRegistry();
+        registerPowerUpPrototypes(world, registry);
         this.powerUpFactory = new PowerUpFactory(registry);
 
-        subscribeToBrickDestroyedEvent();
+        subscribeToBrickDestroyedEvent(eventManager);
     }
 
-    private void subscribeToBrickDestroyedEvent() {
-        EventManager.getInstance().subscribe(
+    private void subscribeToBrickDestroyedEvent(EventManager eventManager) {
+        eventManager.subscribe(
                 BrickDestroyedEvent.class,
                 this::onBrickDestroyed
         );
@@ -65,23 +60,23 @@ public final class PowerUpManager {
         }
     }
 
-    private void registerPowerUpPrototypes(PowerUpRegistry powerUpRegistry) {
-        powerUpRegistry.register("E", new ExpandPaddlePowerUp(0.0, 0.0, GameConstants.POWERUP_WIDTH,
+    private void registerPowerUpPrototypes(GameWorld world, PowerUpRegistry powerUpRegistry) {
+        powerUpRegistry.register("E", new ExpandPaddlePowerUp(world, 0.0, 0.0, GameConstants.POWERUP_WIDTH,
                 GameConstants.POWERUP_HEIGHT, 0.0, 2.0, new ExpandPaddleStrategy()));
 
-        powerUpRegistry.register("S", new FastBallPowerUp(0.0, 0.0, GameConstants.POWERUP_WIDTH,
+        powerUpRegistry.register("S", new FastBallPowerUp(world, 0.0, 0.0, GameConstants.POWERUP_WIDTH,
                 GameConstants.POWERUP_HEIGHT, 0.0, 2.0, new FastBallStrategy()));
 
-        powerUpRegistry.register("M", new MultiBallPowerUp(0.0, 0.0, GameConstants.POWERUP_WIDTH,
+        powerUpRegistry.register("M", new MultiBallPowerUp(world, 0.0, 0.0, GameConstants.POWERUP_WIDTH,
                 GameConstants.POWERUP_HEIGHT, 0.0, 2.0, new MultiBallStrategy()));
 
-        powerUpRegistry.register("L", new ExtraLifePowerUp(0.0, 0.0, GameConstants.POWERUP_WIDTH,
+        powerUpRegistry.register("L", new ExtraLifePowerUp(world, 0.0, 0.0, GameConstants.POWERUP_WIDTH,
                 GameConstants.POWERUP_HEIGHT, 0.0, 2.0, new ExtraLifeStrategy()));
 
-        powerUpRegistry.register("B", new LaserPaddlePowerUp(0.0, 0.0, GameConstants.POWERUP_WIDTH,
+        powerUpRegistry.register("B", new LaserPaddlePowerUp(world, 0.0, 0.0, GameConstants.POWERUP_WIDTH,
                 GameConstants.POWERUP_HEIGHT, 0.0, 2.0, new LaserPaddleStrategy()));
 
-        powerUpRegistry.register("P", new PiercingBallPowerUp(0.0, 0.0, GameConstants.POWERUP_WIDTH,
+        powerUpRegistry.register("P", new PiercingBallPowerUp(world, 0.0, 0.0, GameConstants.POWERUP_WIDTH,
                 GameConstants.POWERUP_HEIGHT, 0.0, 2.0, new PiercingBallStrategy()));
     }
 
@@ -108,6 +103,7 @@ public final class PowerUpManager {
             PowerUp powerUp = iterator.next();
             powerUp.update(deltaTime);
             if (!powerUp.isActive() || powerUp.isOutOfBounds()) {
+                eventManager.unsubscribeTarget(powerUp);
                 iterator.remove();
             }
         }
@@ -124,10 +120,21 @@ public final class PowerUpManager {
         }
     }
 
+    public void render(RenderCommandBuffer buffer) {
+        for (PowerUp powerUp : activePowerUps) {
+            buffer.setKey(powerUp.getGameObject().getRenderId());
+            powerUp.render(buffer);
+        }
+        buffer.setKey(0);
+    }
+
     /**
      * Xóa mọi power-up đang tồn tại.
      */
     public void clear() {
+        for (PowerUp powerUp : activePowerUps) {
+            eventManager.unsubscribeTarget(powerUp);
+        }
         activePowerUps.clear();
     }
 
@@ -4,30 +4,30 @@ import org.example.gamelogic.entities.bricks.*;
 import org.example.gamelogic.events.BrickDestroyedEvent;
 
 /**
- * Quản lý điểm số người chơi (singleton).
+ * Quản lý điểm số người chơi (mỗi {@link GameWorld} một instance).
  *
  * <p>Subscribe vào sự kiện {@code BrickDestroyedEvent} để cộng điểm tương ứng.
  */
 public final class ScoreManager {
-
-    private static class SingletonHolder {
-        private static final ScoreManager INSTANCE = new ScoreManager();
-    }
-
     /**
-     * Lấy instance đơn của ScoreManager.
+     * Lấy ScoreManager của {@link GameWorld} đang gắn với thread hiện tại.
      *
-     * @return singleton ScoreManager
+     * @return ScoreManager của world hiện tại
      */
     public static ScoreManager getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getScoreManager();
     }
 
     private int currentScore;
 
-    private ScoreManager() {
+    /**
+     * Tạo ScoreManager cho một world và đăng ký listener cộng điểm.
+     *
+     * @param eventManager EventManager của world sở hữu
+     */
+    ScoreManager(EventManager eventManager) {
         this.currentScore = 0;
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 BrickDestroyedEvent.class,
                 this::onBrickDestroyed 
         );
@@ -0,0 +1,237 @@
+package org.example.gamelogic.core;
+
+import org.example.config.GameConstants;
+import org.example.data.AssetManager;
+
+import javax.sound.sampled.Clip;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Mixer hiệu ứng âm thanh: mỗi hiệu ứng có {@link GameConstants#SFX_VOICES} voice (Clip) mở sẵn,
+ * cho phép cùng một âm thanh phát chồng lên nhau thay vì cắt lẫn nhau.
+ *
+ * <p>Thread game chỉ ghi một số nguyên vào hàng đợi lệnh lock-free ({@link #play(int)}, {@link #stop(int)});
+ * mọi thao tác với Clip (start/stop, tính dB) chạy trên audio thread riêng. Audio thread bỏ qua các lần
+ * phát trùng id trong cùng một khung hình ({@link GameConstants#SFX_DEDUP_WINDOW_NANOS}) và khi mọi voice
+ * đều bận thì cướp voice được bắt đầu lâu nhất. Khi hàng đợi rỗng audio thread park hẳn và chỉ được
+ * đánh thức bởi producer, nên lúc không có âm thanh nó không tốn CPU.
+ */
+public final class SfxMixer {
+    private static final int EMPTY = Integer.MIN_VALUE;
+
+    private final AssetManager assetManager;
+    private final String[] names;
+
+    // Hàng đợi vòng nhiều producer / một consumer; lệnh phát là id, lệnh dừng là -(id + 1)
+    private final AtomicIntegerArray commands;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();
+    private volatile long head;
+    // Audio thread bật cờ trước khi park; producer thấy cờ thì unpark
+    private volatile boolean waiting;
+    private final Thread thread;
+
+    private volatile double volume = 1.0;
+    private final boolean enabled;
+
+    // Chỉ audio thread truy cập
+    private final Clip[][] voices;
+    private final int[] nextVoice;
+    private final long[] lastStartNanos;
+    private final double[] appliedVolume;
+
+    /**
+     * Tạo mixer và khởi động audio thread (daemon); ở chế độ headless không tạo thread và mọi lệnh bị bỏ qua.
+     *
+     * @param assetManager nơi lấy voice của từng hiệu ứng (voice được lấy lười vì asset load bất đồng bộ)
+     * @param names tên các hiệu ứng; id của hiệu ứng là chỉ số trong danh sách
+     */
+    public SfxMixer(AssetManager assetManager, List<String> names) {
+        this.assetManager = assetManager;
+        this.names = names.toArray(new String[0]);
+
+        int capacity = Integer.highestOneBit(Math.max(2, GameConstants.SFX_COMMAND_QUEUE_CAPACITY - 1)) << 1;
+        this.commands = new AtomicIntegerArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            commands.set(i, EMPTY);
+        }
+        this.mask = capacity - 1;
+
+        this.voices = new Clip[this.names.length][];
+        this.nextVoice = new int[this.names.length];
+        this.lastStartNanos = new long[this.names.length];
+        this.appliedVolume = new double[this.names.length];
+
+        this.enabled = !AssetManager.isHeadless();
+        if (enabled) {
+            this.thread = new Thread(this::runLoop, "sfx-mixer");
+            this.thread.setDaemon(true);
+            this.thread.start();
+        } else {
+            this.thread = null;
+        }
+    }
+
+    /**
+     * Lấy id của một hiệu ứng theo tên.
+     *
+     * @param name tên hiệu ứng
+     * @return id, hoặc -1 nếu không có
+     */
+    public int idOf(String name) {
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(name)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Yêu cầu phát một hiệu ứng (không chặn; bỏ qua nếu hàng đợi đầy hoặc id không hợp lệ).
+     *
+     * @param id id của hiệu ứng
+     */
+    public void play(int id) {
+        if (id >= 0 && id < names.length) {
+            offer(id);
+        }
+    }
+
+    /**
+     * Yêu cầu dừng mọi voice đang phát của một hiệu ứng.
+     *
+     * @param id id của hiệu ứng
+     */
+    public void stop(int id) {
+        if (id >= 0 && id < names.length) {
+            offer(-(id + 1));
+        }
+    }
+
+    /**
+     * Đặt âm lượng SFX; được áp dụng cho voice ở lần phát tiếp theo.
+     *
+     * @param volume âm lượng tuyến tính trong khoảng [0, 1]
+     */
+    public void setVolume(double volume) {
+        this.volume = volume;
+    }
+
+    private boolean offer(int command) {
+        if (!enabled) {
+            return false;
+        }
+        long t;
+        do {
+            t = tail.get();
+            if (t - head >= commands.length()) {
+                return false;
+            }
+        } while (!tail.compareAndSet(t, t + 1));
+        commands.set((int) (t & mask), command);
+        if (waiting) {
+            LockSupport.unpark(thread);
+        }
+        return true;
+    }
+
+    private void runLoop() {
+        long h = 0;
+        while (true) {
+            int index = (int) (h & mask);
+            int command = commands.get(index);
+            if (command == EMPTY) {
+                // Bật cờ rồi đọc lại ô: producer ghi ô rồi đọc cờ, nên ít nhất một bên thấy bên kia
+                waiting = true;
+                if (commands.get(index) == EMPTY) {
+                    LockSupport.park(this);
+                }
+                waiting = false;
+                continue;
+            }
+            commands.set(index, EMPTY);
+            head = ++h;
+
+            try {
+                if (command >= 0) {
+                    startVoice(command);
+                } else {
+                    stopVoices(-command - 1);
+                }
+            } catch (Exception e) {
+                System.err.println("Lỗi khi phát âm thanh: " + e.getMessage());
+            }
+        }
+    }
+
+    private Clip[] voicesOf(int id) {
+        if (voices[id] == null) {
+            voices[id] = assetManager.getSoundVoices(names[id]);
+            appliedVolume[id] = Double.NaN;
+        }
+        return voices[id];
+    }
+
+    private void startVoice(int id) {
+        long now = System.nanoTime();
+        if (lastStartNanos[id] != 0 && now - lastStartNanos[id] < GameConstants.SFX_DEDUP_WINDOW_NANOS) {
+            return;
+        }
+        Clip[] pool = voicesOf(id);
+        if (pool == null) {
+            return;
+        }
+        lastStartNanos[id] = now;
+
+        double currentVolume = volume;
+        if (currentVolume != appliedVolume[id]) {
+            for (Clip voice : pool) {
+                SoundManager.setLineVolume(voice, currentVolume);
+            }
+            appliedVolume[id] = currentVolume;
+        }
+
+        int chosen = pickVoice(pool, nextVoice[id]);
+        nextVoice[id] = (chosen + 1) % pool.length;
+
+        Clip voice = pool[chosen];
+        voice.stop();
+        voice.setFramePosition(0);
+        voice.start();
+    }
+
+    /**
+     * Chọn voice để phát: voice rảnh đầu tiên kể từ con trỏ; nếu mọi voice đều bận thì cướp voice
+     * tại con trỏ, tức voice được bắt đầu lâu nhất (con trỏ luôn trỏ ngay sau voice vừa phát).
+     *
+     * @param pool các voice của một hiệu ứng
+     * @param start con trỏ vòng của hiệu ứng
+     * @return chỉ số voice được chọn
+     */
+    public static int pickVoice(Clip[] pool, int start) {
+        for (int i = 0; i < pool.length; i++) {
+            int candidate = (start + i) % pool.length;
+            if (!pool[candidate].isRunning()) {
+                return candidate;
+            }
+        }
+        return start;
+    }
+
+    private void stopVoices(int id) {
+        Clip[] pool = voicesOf(id);
+        if (pool == null) {
+            return;
+        }
+        for (Clip voice : pool) {
+            if (voice.isRunning()) {
+                voice.stop();
+                voice.setFramePosition(0);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.example.gamelogic.core;
+
+import org.example.config.GameConstants;
+import org.example.gamelogic.graphics.RenderSnapshot;
+import org.example.gamelogic.graphics.SnapshotExchange;
+import org.example.gamelogic.states.GameState;
+
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Thread mô phỏng chạy {@link GameManager#update(double)} với bước cố định {@link GameConstants#FIXED_TIMESTEP}
+ * và sau mỗi tick công bố một {@link RenderSnapshot} cho FX thread qua {@link SnapshotExchange}.
+ *
+ * <p>Quyền cập nhật game thuộc về đúng một thread tại một thời điểm. FX thread giao quyền cho thread mô phỏng
+ * bằng {@link #resume()} khi state hiện tại là {@link RenderSnapshot.Source} (màn chơi); khi một tick chuyển sang
+ * state khác (menu, pause, ...) thread mô phỏng tự trả quyền và FX thread lại cập nhật, vẽ như bình thường.
+ * Cờ quyền là volatile nên mọi thay đổi trạng thái của bên giao đều thấy được ở bên nhận.
+ */
+public final class SimulationThread {
+    private static final long STEP_NANOS = (long) (GameConstants.FIXED_TIMESTEP * 1_000_000_000L);
+    // Chậm quá số bước này thì bỏ qua phần tồn đọng thay vì chạy bù liên tục
+    private static final long MAX_LAG_NANOS = (long) (GameConstants.MAX_SUBSTEPS * STEP_NANOS);
+
+    private final GameManager gameManager;
+    private final GameClock clock;
+    private final SnapshotExchange exchange = new SnapshotExchange();
+
+    private volatile boolean running;
+    private volatile boolean owned;
+    private Thread thread;
+
+    // Chỉ thread mô phỏng dùng
+    private long tick;
+
+    /**
+     * @param gameManager game cần mô phỏng
+     * @param clock       đồng hồ dùng để giữ nhịp tick và đóng dấu thời gian cho snapshot
+     */
+    public SimulationThread(GameManager gameManager, GameClock clock) {
+        this.gameManager = gameManager;
+        this.clock = clock;
+    }
+
+    /**
+     * Khởi động thread (daemon); thread chờ tới khi được giao quyền bằng {@link #resume()}.
+     */
+    public void start() {
+        if (thread != null) {
+            return;
+        }
+        running = true;
+        thread = new Thread(this::runLoop, "simulation");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    /**
+     * Dừng thread và chờ tick đang chạy kết thúc; quyền cập nhật trở về FX thread.
+     */
+    public void stop() {
+        if (thread == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(thread);
+        try {
+            thread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        thread = null;
+        owned = false;
+    }
+
+    /**
+     * Giao quyền cập nhật cho thread mô phỏng (gọi từ FX thread sau khi FX thread đã cập nhật xong).
+     * Không làm gì nếu thread đã dừng.
+     */
+    public void resume() {
+        if (!running) {
+            return;
+        }
+        exchange.reset();
+        owned = true;
+        LockSupport.unpark(thread);
+    }
+
+    /**
+     * @return true nếu thread mô phỏng đang giữ quyền cập nhật (FX thread chỉ được vẽ snapshot)
+     */
+    public boolean isOwned() {
+        return owned;
+    }
+
+    /**
+     * @return kênh trao snapshot; FX thread chỉ dùng các hàm phía FX
+     */
+    public SnapshotExchange getExchange() {
+        return exchange;
+    }
+
+    private void runLoop() {
+        GameWorld previous = gameManager.getWorld().enter();
+        try {
+            long next = 0;
+            boolean wasOwned = false;
+            while (running) {
+                if (!owned) {
+                    wasOwned = false;
+                    LockSupport.park(this);
+                    continue;
+                }
+                long now = clock.nanoTime();
+                if (!wasOwned || now - next > MAX_LAG_NANOS) {
+                    wasOwned = true;
+                    next = now;
+                }
+                if (now < next) {
+                    LockSupport.parkNanos(this, next - now);
+                    continue;
+                }
+
+                gameManager.update(GameConstants.FIXED_TIMESTEP);
+                next += STEP_NANOS;
+
+                GameState state = gameManager.getStateManager().getState();
+                if (state instanceof RenderSnapshot.Source source) {
+                    RenderSnapshot snapshot = exchange.acquire();
+                    snapshot.begin(++tick, clock.nanoTime(), source);
+                    source.capture(snapshot);
+                    exchange.publish(snapshot);
+                } else {
+                    owned = false;
+                }
+            }
+        } catch (RuntimeException e) {
+            // Trả quyền cho FX thread để game không đứng im
+            System.err.println("Lỗi trong thread mô phỏng: " + e.getMessage());
+            running = false;
+            owned = false;
+            throw e;
+        } finally {
+            GameWorld.exit(previous);
+        }
+    }
+}
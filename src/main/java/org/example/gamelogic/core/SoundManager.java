@@ -2,8 +2,8 @@ package org.example.gamelogic.core;
 
 import org.example.data.AssetManager;
 import org.example.gamelogic.events.*;
-import javax.sound.sampled.Clip;
 import javax.sound.sampled.FloatControl;
+import javax.sound.sampled.Line;
 
 import org.example.gamelogic.entities.bricks.Brick;
 import org.example.gamelogic.entities.bricks.ExplosiveBrick;
@@ -22,7 +22,18 @@ import org.example.gamelogic.events.PowerUpCollectedEvent;
  */
 public final class SoundManager {
     private AssetManager assetManager;
-    private Clip currentMusicClip = null;
+    private final MusicPlayer musicPlayer;
+    private final SfxMixer sfxMixer;
+
+    // Id hiệu ứng dùng trong các listener, tra một lần lúc khởi tạo
+    private final int brickDestroyedSfx;
+    private final int brickHitSfx;
+    private final int paddleHitSfx;
+    private final int ballLostSfx;
+    private final int victorySfx;
+    private final int glassSfx;
+    private final int bombSfx;
+    private final int powerUpSfx;
 
     private static class SingletonHolder {
         private static final SoundManager INSTANCE = new SoundManager();
@@ -39,45 +50,65 @@ public final class SoundManager {
 
     private SoundManager() {
         this.assetManager = AssetManager.getInstance();
-
-        subscribeToEvents();
+        this.musicPlayer = new MusicPlayer(assetManager);
+        this.sfxMixer = new SfxMixer(assetManager, AssetManager.getSoundNames());
+
+        this.brickDestroyedSfx = sfxMixer.idOf("brick_destroyed");
+        this.brickHitSfx = sfxMixer.idOf("brick_hit");
+        this.paddleHitSfx = sfxMixer.idOf("paddle_hit");
+        this.ballLostSfx = sfxMixer.idOf("ball_lost");
+        this.victorySfx = sfxMixer.idOf("victory");
+        this.glassSfx = sfxMixer.idOf("glass");
+        this.bombSfx = sfxMixer.idOf("bomb");
+        this.powerUpSfx = sfxMixer.idOf("powerup");
     }
 
     /**
      * Đăng ký các listener cho sự kiện liên quan tới âm thanh.
+     *
+     * <p>SoundManager dùng chung toàn ứng dụng nên chỉ đăng ký vào world đang được hiển thị
+     * (GameManager gọi khi khởi tạo ở chế độ JavaFX), không đăng ký vào các world headless.
+     *
+     * @param eventManager EventManager của world cần phát âm thanh
      */
-    public void subscribeToEvents() {
-        EventManager.getInstance().subscribe(
+    public void subscribeToEvents(EventManager eventManager) {
+        eventManager.subscribe(
                 BrickDestroyedEvent.class,
                 this::onBrickDestroyed
         );
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 BallHitPaddleEvent.class,
                 this::onPaddleHit
         );
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 GameOverEvent.class,
                 this::onGameOver
         );
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 LevelCompletedEvent.class,
                 this::onLevelCompleted
         );
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 BallHitBrickEvent.class,
                 this::onBallHitBrick
         );
-        EventManager.getInstance().subscribe(
+        eventManager.subscribe(
                 PowerUpCollectedEvent.class,
                 this::onPowerUpCollected
         );
     }
 
-    private void setClipVolume(Clip clip, double volume) {
-        if (clip == null) return;
+    /**
+     * Đặt âm lượng (tuyến tính, quy đổi sang dB) cho một Clip hoặc SourceDataLine.
+     *
+     * @param line line âm thanh (bỏ qua nếu null)
+     * @param volume âm lượng trong khoảng [0, 1]
+     */
+    static void setLineVolume(Line line, double volume) {
+        if (line == null) return;
 
         try {
-            FloatControl gainControl = (FloatControl) clip.getControl(FloatControl.Type.MASTER_GAIN);
+            FloatControl gainControl = (FloatControl) line.getControl(FloatControl.Type.MASTER_GAIN);
             float dB = (float) (Math.log10(Math.max(volume, 0.0001)) * 20.0);
 
             dB = Math.max(gainControl.getMinimum(), Math.min(dB, gainControl.getMaximum()));
@@ -89,16 +120,12 @@ public final class SoundManager {
     }
 
     /**
-     * Dừng một sound cụ thể nếu đang chạy.
+     * Dừng mọi voice của một sound cụ thể nếu đang chạy.
      *
-     * @param soundName tên asset âm thanh
+     * @param soundId id âm thanh trong mixer
      */
-    private void stopSound(String soundName) {
-        Clip clip = assetManager.getSound(soundName);
-        if (clip != null && clip.isRunning()) {
-            clip.stop();
-            clip.setFramePosition(0);
-        }
+    private void stopSound(int soundId) {
+        sfxMixer.stop(soundId);
     }
 
     /**
@@ -107,22 +134,23 @@ public final class SoundManager {
      * @param name tên âm thanh (khớp với assets)
      */
     public void playSound(String name) {
+        playSound(sfxMixer.idOf(name));
+    }
+
+    /**
+     * Phát một hiệu ứng âm thanh theo id trong mixer; chỉ đẩy lệnh vào hàng đợi của audio thread.
+     *
+     * @param soundId id âm thanh
+     */
+    private void playSound(int soundId) {
         if (!SettingsManager.getInstance().isSfxEnabled()) return;
 
-        Clip clip = assetManager.getSound(name);
-        if (clip != null) {
-            double sfxVolume = SettingsManager.getInstance().getSfxVolume();
-            setClipVolume(clip, sfxVolume);
-            if (clip.isRunning()) {
-                clip.stop();
-            }
-            clip.setFramePosition(0);
-            clip.start();
-        }
+        sfxMixer.setVolume(SettingsManager.getInstance().getSfxVolume());
+        sfxMixer.play(soundId);
     }
 
     /**
-     * Lặp nhạc nền theo tên asset (dừng nhạc trước khi lặp).
+     * Lặp nhạc nền theo tên asset (dừng nhạc trước khi lặp); track được stream, không decode sẵn.
      *
      * @param name tên track nhạc
      */
@@ -131,15 +159,8 @@ public final class SoundManager {
 
         if (!SettingsManager.getInstance().isMusicEnabled()) return;
 
-        Clip clip = assetManager.getSound(name);
-        if (clip != null) {
-            currentMusicClip = clip;
-            double musicVolume = SettingsManager.getInstance().getMusicVolume();
-            setClipVolume(currentMusicClip, musicVolume);
-
-            currentMusicClip.setFramePosition(0);
-            currentMusicClip.loop(Clip.LOOP_CONTINUOUSLY);
-        }
+        musicPlayer.setVolume(SettingsManager.getInstance().getMusicVolume());
+        musicPlayer.play(name, true);
     }
 
     /**
@@ -154,11 +175,7 @@ public final class SoundManager {
      * Dừng nhạc nền hiện tại (nếu có).
      */
     public void stopMusic() {
-        if (currentMusicClip != null && currentMusicClip.isRunning()) {
-            currentMusicClip.stop();
-            currentMusicClip.setFramePosition(0);
-        }
-        currentMusicClip = null;
+        musicPlayer.stop();
     }
 
     /**
@@ -167,14 +184,10 @@ public final class SoundManager {
     public void updateAllVolumes() {
         double musicVolume = SettingsManager.getInstance().getMusicVolume();
 
-        String musicName = SettingsManager.getInstance().getSelectedMusic();
-        Clip musicClip = assetManager.getSound(musicName);
-        if (musicClip != null) {
-            if (SettingsManager.getInstance().isMusicEnabled()) {
-                setClipVolume(musicClip, musicVolume);
-            } else {
-                musicClip.stop();
-            }
+        if (SettingsManager.getInstance().isMusicEnabled()) {
+            musicPlayer.setVolume(musicVolume);
+        } else {
+            musicPlayer.stop();
         }
     }
 
@@ -184,8 +197,8 @@ public final class SoundManager {
      * @param event sự kiện BrickDestroyedEvent
      */
     public void onBrickDestroyed(BrickDestroyedEvent event) {
-        stopSound("brick_hit");
-        playSound("brick_destroyed");
+        stopSound(brickHitSfx);
+        playSound(brickDestroyedSfx);
     }
 
     /**
@@ -194,7 +207,7 @@ public final class SoundManager {
      * @param event BallHitPaddleEvent
      */
     public void onPaddleHit(BallHitPaddleEvent event) {
-        playSound("paddle_hit");
+        playSound(paddleHitSfx);
     }
 
     /**
@@ -204,7 +217,7 @@ public final class SoundManager {
      */
     public void onGameOver(GameOverEvent event) {
         stopMusic();
-        playSound("ball_lost");
+        playSound(ballLostSfx);
     }
 
     /**
@@ -214,7 +227,7 @@ public final class SoundManager {
      */
     public void onLevelCompleted(LevelCompletedEvent event) {
         stopMusic();
-        playSound("victory");
+        playSound(victorySfx);
     }
 
     /**
@@ -231,13 +244,13 @@ public final class SoundManager {
         Brick brick = event.getBrick();
 
         if (brick instanceof UnbreakableBrick) {
-            playSound("glass");
+            playSound(glassSfx);
         }
         else if (brick instanceof ExplosiveBrick) {
-            playSound("bomb");
+            playSound(bombSfx);
         }
         else if (brick instanceof HardBrick || brick instanceof HealingBrick) {
-            playSound("brick_hit");
+            playSound(brickHitSfx);
         }
 
     }
@@ -248,6 +261,6 @@ public final class SoundManager {
      * @param event PowerUpCollectedEvent
      */
     private void onPowerUpCollected(PowerUpCollectedEvent event) {
-        playSound("powerup");
+        playSound(powerUpSfx);
     }
 }
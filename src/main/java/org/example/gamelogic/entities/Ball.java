@@ -3,15 +3,14 @@ package org.example.gamelogic.entities;
 import com.sun.glass.ui.SystemClipboard;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.CycleMethod;
-import javafx.scene.paint.RadialGradient;
-import javafx.scene.paint.Stop;
 import org.example.config.GameConstants;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.bricks.Brick;
+import org.example.gamelogic.graphics.BallSpriteCache;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 import java.util.ArrayList;
 import java.util.Iterator;
-import java.util.LinkedList;
 import java.util.List;
 
 public class Ball extends MovableObject implements IBall {
@@ -23,23 +22,22 @@ public class Ball extends MovableObject implements IBall {
     private int pierceLeft;
     private List<GameObject> piercingObjects;
 
-    private static class GhostSnapshot {
-        double x, y, width, height;
+    private static final int MAX_GHOSTS = 8;
 
-        GhostSnapshot(double x, double y, double width, double height) {
-            this.x = x;
-            this.y = y;
-            this.width = width;
-            this.height = height;
-        }
-    }
+    // Vệt bóng mờ lưu trong ring buffer cố định: trailHead là vị trí của ghost mới nhất
+    private final double[] ghostX = new double[MAX_GHOSTS];
+    private final double[] ghostY = new double[MAX_GHOSTS];
+    private final double[] ghostWidth = new double[MAX_GHOSTS];
+    private final double[] ghostHeight = new double[MAX_GHOSTS];
+    private int trailHead;
+    private int trailSize;
 
-    private final LinkedList<GhostSnapshot> trail = new LinkedList<>();
-    private final int MAX_GHOSTS = 8;
+    private BallSpriteCache.Sprites sprites;
+    private Color spritesColor;
     private double lastGhostX, lastGhostY;
 
-    public Ball(double x, double y, double radius) {
-        super(x, y, radius * 2, radius * 2, 0, 0);
+    public Ball(GameWorld world, double x, double y, double radius) {
+        super(world, x, y, radius * 2, radius * 2, 0, 0);
         this.radius = radius;
         this.speed = GameConstants.BALL_INITIAL_SPEED;
         this.attachedToPaddle = true;
@@ -81,79 +79,136 @@ public class Ball extends MovableObject implements IBall {
                 // Logic di chuyển tự do
                 ensureMinimumVelocity();
                 limitMaximumSpeed();
-                this.x += dx * deltaTime;
-                this.y += dy * deltaTime;
+                // Khi bật CCD, CollisionManager tự di chuyển bóng theo thời điểm va chạm (time of impact)
+                if (!GameConstants.USE_CCD) {
+                    this.x += dx * deltaTime;
+                    this.y += dy * deltaTime;
+                }
 
                 double distanceMoved = Math.hypot(x - lastGhostX, y - lastGhostY);
 
                 if (distanceMoved > 2.0) {
 
-                    trail.addFirst(new GhostSnapshot(x, y, width, height));
+                    addGhost();
                     this.lastGhostX = x;
                     this.lastGhostY = y;
-
-                    if (trail.size() > MAX_GHOSTS) {
-                        trail.removeLast();
-                    }
                 }
 
             } else {
-                trail.clear();
+                trailSize = 0;
                 this.lastGhostX = x;
                 this.lastGhostY = y;
             }
         }
     }
 
+    /**
+     * Raster hóa sẵn sprite của mọi màu bóng (gọi trên FX thread trước khi màn chơi được mô phỏng
+     * trên thread khác, vì thread đó không tự raster hóa được).
+     *
+     * @param radius bán kính bóng
+     */
+    public static void preloadSprites(double radius) {
+        BallSpriteCache.preload(radius, MAX_GHOSTS,
+                GameConstants.NORMAL_BALL_COLOR, GameConstants.PIERCING_BALL_COLOR);
+    }
+
     @Override
     public void render(GraphicsContext gc) {
         if (isActive) {
+            // Sprite raster hóa sẵn theo (bán kính, màu); chỉ tra cache khi màu bóng đổi
+            if (sprites == null || spritesColor != currentColor) {
+                sprites = BallSpriteCache.get(radius, currentColor, MAX_GHOSTS);
+                spritesColor = currentColor;
+            }
 
-            gc.save();
-            try {
-                for (int i = 0; i < trail.size(); i++) {
-                    GhostSnapshot ghost = trail.get(i);
+            for (int i = 0; i < trailSize; i++) {
+                int ghost = (trailHead - i + MAX_GHOSTS) % MAX_GHOSTS;
 
-                    double progress = 1.0 - (double) i / MAX_GHOSTS;
+                double progress = 1.0 - (double) i / MAX_GHOSTS;
 
-                    double opacity = 0.5 * progress;
+                double scale = 0.5 + (0.5 * progress);
 
-                    double scale = 0.5 + (0.5 * progress);
+                double scaledWidth = ghostWidth[ghost] * scale;
+                double scaledHeight = ghostHeight[ghost] * scale;
 
-                    double ghostWidth = ghost.width * scale;
-                    double ghostHeight = ghost.height * scale;
+                double drawX = ghostX[ghost] + (ghostWidth[ghost] - scaledWidth) / 2.0;
+                double drawY = ghostY[ghost] + (ghostHeight[ghost] - scaledHeight) / 2.0;
 
-                    double ghostX = ghost.x + (ghost.width - ghostWidth) / 2.0;
-                    double ghostY = ghost.y + (ghost.height - ghostHeight) / 2.0;
+                gc.drawImage(sprites.getGhost(i), drawX, drawY);
+            }
 
-                    gc.setGlobalAlpha(opacity);
-                    gc.setFill(currentColor);
-                    gc.fillOval(ghostX, ghostY, ghostWidth, ghostHeight);
-                }
+            gc.drawImage(sprites.getBody(), x - BallSpriteCache.PADDING, y - BallSpriteCache.PADDING);
+        }
+    }
 
-            } finally {
-                gc.restore();
-            }
+    /**
+     * Ghi bóng mờ ở layer hiện tại và thân bóng ở layer kế tiếp, để thân luôn nằm trên bóng mờ
+     * của mọi quả bóng khi buffer sắp xếp theo texture.
+     */
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (!isActive) {
+            return;
+        }
+        if (sprites == null || spritesColor != currentColor) {
+            sprites = BallSpriteCache.get(radius, currentColor, MAX_GHOSTS);
+            spritesColor = currentColor;
+        }
+        if (sprites == null) {
+            // Biến thể chưa được raster hóa sẵn và thread hiện tại không phải FX thread
+            return;
+        }
 
-            // Tạo gradient nhẹ để bóng có cảm giác 3D
-            RadialGradient gradient = new RadialGradient(
-                    0, 0,                // focus angle, focus distance
-                    x + radius, y + radius, // tâm gradient
-                    radius,               // bán kính gradient
-                    false,                // proportional = false -> dùng pixel
-                    CycleMethod.NO_CYCLE,
-                    new Stop(0, Color.WHITE),          // vùng sáng
-                    new Stop(1, currentColor) // vùng tối
-            );
+        // Ghi thân bóng trước: lệnh đầu tiên mang khóa của bóng là mốc nội suy của cả vệt
+        int layer = buffer.getLayer();
+        buffer.setLayer(layer + 1);
+        sprites.getBodyRegion().draw(buffer, x - BallSpriteCache.PADDING, y - BallSpriteCache.PADDING);
+        buffer.setLayer(layer);
+
+        for (int i = 0; i < trailSize; i++) {
+            int ghost = (trailHead - i + MAX_GHOSTS) % MAX_GHOSTS;
+            double scale = 0.5 + (0.5 * (1.0 - (double) i / MAX_GHOSTS));
+            double scaledWidth = ghostWidth[ghost] * scale;
+            double scaledHeight = ghostHeight[ghost] * scale;
+            sprites.getGhostRegion(i).draw(buffer,
+                    ghostX[ghost] + (ghostWidth[ghost] - scaledWidth) / 2.0,
+                    ghostY[ghost] + (ghostHeight[ghost] - scaledHeight) / 2.0);
+        }
+    }
 
-            // tô hình tròn bằng gradient
-            gc.setFill(gradient);
-            gc.fillOval(x, y, radius * 2, radius * 2);
+    /**
+     * @return số ghost đang có trong vệt bóng (tối đa {@code MAX_GHOSTS})
+     */
+    public int getTrailSize() {
+        return trailSize;
+    }
+
+    /**
+     * @param age tuổi của ghost (0 là ghost mới nhất, nhỏ hơn {@link #getTrailSize()})
+     * @return toạ độ x của ghost
+     */
+    public double getGhostX(int age) {
+        return ghostX[(trailHead - age + MAX_GHOSTS) % MAX_GHOSTS];
+    }
+
+    /**
+     * @param age tuổi của ghost (0 là ghost mới nhất, nhỏ hơn {@link #getTrailSize()})
+     * @return toạ độ y của ghost
+     */
+    public double getGhostY(int age) {
+        return ghostY[(trailHead - age + MAX_GHOSTS) % MAX_GHOSTS];
+    }
 
-            // vẽ viền bóng (cho rõ nét)
-            gc.setStroke(Color.gray(0.2));
-            gc.setLineWidth(1);
-            gc.strokeOval(x, y, radius * 2, radius * 2);
+    // ghi vị trí hiện tại vào ring buffer, ghi đè ghost cũ nhất khi đầy
+    private void addGhost() {
+        trailHead = (trailHead + 1) % MAX_GHOSTS;
+        ghostX[trailHead] = x;
+        ghostY[trailHead] = y;
+        ghostWidth[trailHead] = width;
+        ghostHeight[trailHead] = height;
+        if (trailSize < MAX_GHOSTS) {
+            trailSize++;
         }
     }
 
@@ -183,7 +238,7 @@ public class Ball extends MovableObject implements IBall {
         this.dy = 0;
         this.speed = GameConstants.BALL_INITIAL_SPEED;
 
-        this.trail.clear();
+        this.trailSize = 0;
         this.lastGhostX = this.x;
         this.lastGhostY = this.y;
     }
@@ -276,14 +331,14 @@ public class Ball extends MovableObject implements IBall {
     }
 
     public IBall clone() {
-        Ball newBall = new Ball(0, 0, this.width / 2.0);
+        Ball newBall = new Ball(world, 0, 0, this.width / 2.0);
         newBall.attachedToPaddle = false;
         newBall.isActive = true;
         return newBall;
     }
 
     public IBall duplicate() {
-        Ball newBall = new Ball(0, 0, this.width / 2.0);
+        Ball newBall = new Ball(world, 0, 0, this.width / 2.0);
         newBall.pierceLeft=pierceLeft;
         for (GameObject pierced : piercingObjects) {
             newBall.getPiercingObjects().add(pierced);
@@ -1,23 +1,52 @@
 package org.example.gamelogic.entities;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 import java.awt.geom.Rectangle2D;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 
-public abstract class GameObject {
+public abstract class GameObject implements RenderCommandBuffer.Immediate {
     protected double x, y, width, height;
     protected boolean isActive;
-    public GameObject(double x, double y, double width, double height) {
+    protected final GameWorld world;
+    // Id dương tăng dần, dùng làm khóa nội suy khi vẽ snapshot; cấp lại khi đối tượng được tái sử dụng từ pool
+    private static final AtomicInteger nextRenderId = new AtomicInteger();
+    private int renderId;
+
+    /**
+     * @param world  world sở hữu đối tượng: đồng hồ animation, EventManager và các manager mà đối tượng dùng
+     * @param x      toạ độ x
+     * @param y      toạ độ y
+     * @param width  chiều rộng
+     * @param height chiều cao
+     */
+    public GameObject(GameWorld world, double x, double y, double width, double height) {
         this.x = x;
         this.y = y;
         this.width = width;
         this.height = height;
         this.isActive = true;
+        this.world = Objects.requireNonNull(world, "world");
+        this.renderId = newRenderId();
     }
 
     public abstract void update(double deltaTime);
     public abstract void render(GraphicsContext gc);
 
+    /**
+     * Ghi lệnh vẽ của đối tượng vào buffer lệnh vẽ.
+     * <br>Mặc định chuyển tiếp sang {@link #render(GraphicsContext)} khi buffer được phát lại;
+     * lớp con ghi lệnh sprite/fill riêng để buffer có thể gom theo texture.
+     *
+     * @param buffer buffer lệnh vẽ của khung hình
+     */
+    public void render(RenderCommandBuffer buffer) {
+        buffer.immediate(this);
+    }
+
 
     public boolean isActive() {
         return isActive;
@@ -51,4 +80,27 @@ public abstract class GameObject {
         return this;
     }
 
+    public GameWorld getWorld() {
+        return world;
+    }
+
+    /**
+     * @return id vẽ của đối tượng (khóa lệnh vẽ trong {@link RenderCommandBuffer#setKey}), luôn dương
+     */
+    public int getRenderId() {
+        return renderId;
+    }
+
+    /**
+     * Cấp id vẽ mới; gọi khi đối tượng được lấy lại từ pool để snapshot không nội suy
+     * từ vị trí của lần dùng trước.
+     */
+    protected void renewRenderId() {
+        this.renderId = newRenderId();
+    }
+
+    private static int newRenderId() {
+        return nextRenderId.updateAndGet(id -> id == Integer.MAX_VALUE ? 1 : id + 1);
+    }
+
 }
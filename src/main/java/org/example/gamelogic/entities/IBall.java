@@ -1,6 +1,7 @@
 package org.example.gamelogic.entities;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.entities.bricks.Brick;
 
 import java.util.List;
@@ -24,6 +25,7 @@ public interface IBall {
 
     void update(double deltaTime);
     void render(GraphicsContext gc);
+    void render(RenderCommandBuffer buffer);
     boolean isActive();
     double getWidth();
     double getHeight();
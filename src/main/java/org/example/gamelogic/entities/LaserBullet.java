@@ -1,28 +1,46 @@
 package org.example.gamelogic.entities;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
-import org.example.data.AssetManager;
-import org.example.presentation.SpriteAnimation;
+import org.example.data.AtlasRegion;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.core.LaserManager;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 public class LaserBullet extends MovableObject {
-    private final BulletFrom faction;
-    private final BulletType type;
-    private final Image normalBulletImage;
-    private final Image bossBulletSheet;
-    private final SpriteAnimation bossBullet;
-
-    public LaserBullet(double x, double y, double dx, double dy, BulletType type, BulletFrom faction) {
-        super(x, y, type.width, type.height, dx, dy);
+    private BulletFrom faction;
+    private BulletType type;
+    private final LaserManager owner;
+
+    public LaserBullet(GameWorld world, double x, double y, double dx, double dy, BulletType type, BulletFrom faction) {
+        super(world, x, y, type.width, type.height, dx, dy);
         this.faction = faction;
         this.type = type;
+        this.owner = world.getLaserManager();
+    }
 
-        AssetManager am = AssetManager.getInstance();
-        normalBulletImage = am.getImage("bullet");
-        bossBulletSheet = am.getImage("bossBullet");
-        bossBullet = new SpriteAnimation(bossBulletSheet, 4, 4, 0.5, true);
+    /**
+     * Khởi tạo lại viên đạn lấy từ pool của LaserManager.
+     *
+     * @param x toạ độ x bắt đầu
+     * @param y toạ độ y bắt đầu
+     * @param dx vận tốc x
+     * @param dy vận tốc y
+     * @param type loại viên đạn
+     * @param faction phe bắn
+     */
+    public void reset(double x, double y, double dx, double dy, BulletType type, BulletFrom faction) {
+        this.x = x;
+        this.y = y;
+        this.dx = dx;
+        this.dy = dy;
+        this.width = type.width;
+        this.height = type.height;
+        this.type = type;
+        this.faction = faction;
+        this.isActive = true;
+        renewRenderId();
     }
 
     @Override
@@ -30,8 +48,6 @@ public class LaserBullet extends MovableObject {
         x += dx * deltaTime;
         y += dy * deltaTime;
 
-        bossBullet.update(deltaTime);
-
         if (y + height < 0 || y > GameConstants.SCREEN_HEIGHT ||
                 x + width < 0 || x > GameConstants.SCREEN_WIDTH) {
             isActive = false;
@@ -41,10 +57,14 @@ public class LaserBullet extends MovableObject {
     @Override
     public void render(GraphicsContext gc) {
         if (faction == BulletFrom.PLAYER) {
-            gc.drawImage(normalBulletImage, x, y, width, height);
+            AtlasRegion bulletImage = owner.getBulletImage();
+            if (bulletImage != null) {
+                bulletImage.draw(gc, x, y, width, height);
+            }
         } else {
             if (type == BulletType.BOSS_HOMING_SQUARE) {
-                bossBullet.render(gc, x, y, width, height);
+                // Mọi đạn boss dùng chung một animation, frame lấy theo đồng hồ animation của world
+                owner.getBossBulletAnimation().renderAt(gc, world.getAnimationClock().now(), x, y, width, height);
             } else {
                 gc.setFill(Color.RED);
                 gc.fillRect(x, y, width, height);
@@ -53,6 +73,20 @@ public class LaserBullet extends MovableObject {
 
     }
 
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (faction == BulletFrom.PLAYER) {
+            AtlasRegion bulletImage = owner.getBulletImage();
+            if (bulletImage != null) {
+                bulletImage.draw(buffer, x, y, width, height);
+            }
+        } else if (type == BulletType.BOSS_HOMING_SQUARE) {
+            owner.getBossBulletAnimation().renderAt(buffer, world.getAnimationClock().now(), x, y, width, height);
+        } else {
+            buffer.fillRect(Color.RED, x, y, width, height);
+        }
+    }
+
     public BulletFrom getFaction() {
         return this.faction;
     }
@@ -1,13 +1,14 @@
 package org.example.gamelogic.entities;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.core.GameWorld;
 
 public abstract class MovableObject extends GameObject {
     protected double dx, dy;
 
-    public MovableObject(double x, double y, double width,
+    public MovableObject(GameWorld world, double x, double y, double width,
                          double height, double dx, double dy) {
-        super(x, y, width, height);
+        super(world, x, y, width, height);
         this.dx = dx;
         this.dy = dy;
     }
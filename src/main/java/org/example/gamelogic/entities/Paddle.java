@@ -3,23 +3,25 @@ package org.example.gamelogic.entities;
 import java.lang.Math;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.example.config.GameConstants;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 public class Paddle extends MovableObject {
-    private Image paddleImage;
+    private AtlasRegion paddleImage;
     private double speed;
     private double minX;
     private double maxX;
 
-    public Paddle(double x, double y, double width, double height, double dx, double dy) {
-        super(x, y, width, height, dx, dy);
+    public Paddle(GameWorld world, double x, double y, double width, double height, double dx, double dy) {
+        super(world, x, y, width, height, dx, dy);
         this.speed = GameConstants.PADDLE_SPEED;
         this.minX = GameConstants.PLAY_AREA_X;
         this.maxX = GameConstants.PLAY_AREA_X + GameConstants.PLAY_AREA_WIDTH - this.width;
 
-        this.paddleImage = AssetManager.getInstance().getImage("paddle");
+        this.paddleImage = AssetManager.getInstance().getRegion("paddle");
     }
 
     public double getCenterX() {
@@ -66,7 +68,12 @@ public class Paddle extends MovableObject {
 
     @Override
     public void render(GraphicsContext gc) {
-        gc.drawImage(paddleImage, x, y, width, height);
+        paddleImage.draw(gc, x, y, width, height);
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        paddleImage.draw(buffer, x, y, width, height);
     }
 
     public void setVelocity(double v, int i) {
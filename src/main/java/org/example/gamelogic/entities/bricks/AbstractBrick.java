@@ -1,7 +1,7 @@
 package org.example.gamelogic.entities.bricks;
 
 import org.example.config.GameConstants;
-import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.GameObject;
 import org.example.gamelogic.entities.LaserBullet;
 import org.example.gamelogic.events.BrickDamagedEvent;
@@ -12,30 +12,32 @@ public abstract class AbstractBrick extends GameObject implements Brick {
     protected int health;
     private int id;
 
-    public AbstractBrick(double x, double y, double width, double height) {
-        super(x, y, width, height);
+    public AbstractBrick(GameWorld world, double x, double y, double width, double height) {
+        super(world, x, y, width, height);
         subscribeToBrickEvents();
     }
 
     private void subscribeToBrickEvents() {
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribeTarget(
                 BallHitBrickEvent.class,
+                this,
                 this::onHit
         );
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribeTarget(
                 BrickDamagedEvent.class,
+                this,
                 this::onDamaged
         );
     }
 
     private void onHit(BallHitBrickEvent event) {
-        if (event.getBrick() == this && !isDestroyed()) {
+        if (!isDestroyed()) {
             takeDamage(GameConstants.BALL_DAMAGE);
         }
     }
 
     private void onDamaged(BrickDamagedEvent event) {
-        if (event.getDamagedBrick()==this && !isDestroyed()) {
+        if (!isDestroyed()) {
             GameObject damageSource=event.getDamageSource();
             if (damageSource instanceof ExplosiveBrick) {
                 takeDamage(GameConstants.EXPLOSIVE_BRICK_DAMAGE);
@@ -3,6 +3,7 @@ package org.example.gamelogic.entities.bricks;
 import javafx.scene.canvas.GraphicsContext;
 import org.example.gamelogic.entities.Collidable;
 import org.example.gamelogic.entities.GameObject;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 public interface Brick extends Collidable {
     void takeDamage(double damage);
@@ -14,6 +15,17 @@ public interface Brick extends Collidable {
 
     void update(double deltaTime);
     void render(GraphicsContext gc);
+    void render(RenderCommandBuffer buffer);
+
+    /**
+     * Gạch đang có hiệu ứng thay đổi theo từng frame (nhấp nháy, animation khi bị đánh)
+     * thì không được cache trong lớp gạch tĩnh mà vẽ đè mỗi frame.
+     *
+     * @return true nếu hình ảnh của gạch đang thay đổi theo thời gian
+     */
+    default boolean isAnimating() {
+        return false;
+    }
 
     int getId();
 
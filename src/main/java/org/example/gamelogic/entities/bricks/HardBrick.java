@@ -1,24 +1,24 @@
 package org.example.gamelogic.entities.bricks;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.events.BrickDestroyedEvent;
-import org.example.gamelogic.core.ParticleManager;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 
 public class HardBrick extends AbstractBrick {
     /// type: H
     private double durability;
-    private Image brickImage;
+    private AtlasRegion brickImage;
 
-    public HardBrick(double x, double y, double width, double height) {
-        super(x, y, width, height);
+    public HardBrick(GameWorld world, double x, double y, double width, double height) {
+        super(world, x, y, width, height);
         this.durability = GameConstants.HARD_BRICK_DURABILITY;
-        this.brickImage = AssetManager.getInstance().getImage("hardBrick1");
+        this.brickImage = AssetManager.getInstance().getRegion("hardBrick1");
     }
 
     public void takeDamage(double damage) {
@@ -28,9 +28,9 @@ public class HardBrick extends AbstractBrick {
 
         this.durability -= damage;
         if (this.durability <= 0) {
-            ParticleManager.getInstance().spawnBrickDebris(this.x, this.y, Color.DARKGREY);
+            world.getParticleManager().spawnBrickDebris(this.x, this.y, Color.DARKGREY);
             this.isActive = false;
-            EventManager.getInstance().publish(new BrickDestroyedEvent(this));
+            world.getEventManager().publish(new BrickDestroyedEvent(this));
         }
     }
 
@@ -43,19 +43,33 @@ public class HardBrick extends AbstractBrick {
         if (isDestroyed()) {
             return;
         }
+        updateImage();
+        brickImage.draw(gc, this.x, this.y, this.width, this.height);
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (isDestroyed()) {
+            return;
+        }
+        updateImage();
+        brickImage.draw(buffer, this.x, this.y, this.width, this.height);
+    }
+
+    // Chọn sprite nứt theo độ bền còn lại
+    private void updateImage() {
         AssetManager am = AssetManager.getInstance();
         if (this.durability > 2) {
 
         } else if (this.durability <= 2 && this.durability > 1) {
-            this.brickImage = am.getImage("hardBrick2");
+            this.brickImage = am.getRegion("hardBrick2");
         } else {
-            this.brickImage = am.getImage("hardBrick3");
+            this.brickImage = am.getRegion("hardBrick3");
         }
-        gc.drawImage(brickImage, this.x, this.y, this.width, this.height);
     }
 
     @Override
     public Brick clone() {
-        return new HardBrick(0, 0, this.width, this.height);
+        return new HardBrick(world, 0, 0, this.width, this.height);
     }
 }
@@ -1,12 +1,12 @@
 package org.example.gamelogic.entities.bricks;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
-import org.example.gamelogic.core.ParticleManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.events.BrickDestroyedEvent;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 public class HealingBrick extends AbstractBrick {
     /// type: R
@@ -19,13 +19,13 @@ public class HealingBrick extends AbstractBrick {
     private double healingTimer = 0.0;
     private final double HEAL_TIME = 5.0;
 
-    private Image brickImage;
+    private AtlasRegion brickImage;
     private Color particleColor = Color.GREEN;
 
-    public HealingBrick(double x, double y, double width, double height) {
-        super(x, y, width, height);
+    public HealingBrick(GameWorld world, double x, double y, double width, double height) {
+        super(world, x, y, width, height);
         this.isActive = true;
-        this.brickImage = AssetManager.getInstance().getImage("healingBrick");
+        this.brickImage = AssetManager.getInstance().getRegion("healingBrick");
     }
 
     @Override
@@ -34,9 +34,9 @@ public class HealingBrick extends AbstractBrick {
             currentState = State.DAMAGED;
             healingTimer = HEAL_TIME;
         } else if (currentState == State.DAMAGED) {
-            ParticleManager.getInstance().spawnBrickDebris(this.x, this.y, this.particleColor);
+            world.getParticleManager().spawnBrickDebris(this.x, this.y, this.particleColor);
             this.isActive = false;
-            EventManager.getInstance().publish(new BrickDestroyedEvent(this));
+            world.getEventManager().publish(new BrickDestroyedEvent(this));
         }
     }
 
@@ -50,6 +50,11 @@ public class HealingBrick extends AbstractBrick {
         return true;
     }
 
+    @Override
+    public boolean isAnimating() {
+        return currentState == State.DAMAGED;
+    }
+
     @Override
     public void update(double deltaTime) {
         if (currentState == State.DAMAGED) {
@@ -65,7 +70,7 @@ public class HealingBrick extends AbstractBrick {
     public void render(GraphicsContext gc) {
         if (!isActive) return;
 
-        gc.drawImage(brickImage, this.x, this.y, this.width, this.height);
+        brickImage.draw(gc, this.x, this.y, this.width, this.height);
 
         if (currentState == State.DAMAGED) {
             double pulseAlpha = (Math.sin(healingTimer * 10) + 1) / 2.0;
@@ -80,8 +85,23 @@ public class HealingBrick extends AbstractBrick {
         }
     }
 
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (!isActive) return;
+
+        brickImage.draw(buffer, this.x, this.y, this.width, this.height);
+
+        if (currentState == State.DAMAGED) {
+            double pulseAlpha = (Math.sin(healingTimer * 10) + 1) / 2.0;
+            double alpha = buffer.getAlpha();
+            buffer.setAlpha(alpha * pulseAlpha * 0.7);
+            buffer.fillRect(Color.WHITE, x, y, width, height);
+            buffer.setAlpha(alpha);
+        }
+    }
+
     @Override
     public Brick clone() {
-        return new HealingBrick(0, 0, this.width, this.height);
+        return new HealingBrick(world, 0, 0, this.width, this.height);
     }
 }
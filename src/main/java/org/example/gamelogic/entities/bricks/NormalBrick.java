@@ -1,24 +1,24 @@
 package org.example.gamelogic.entities.bricks;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
-import org.example.gamelogic.core.ParticleManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.events.BrickDestroyedEvent;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 public class NormalBrick extends AbstractBrick {
     /// type: N
     private double durability;
     private Color color = Color.CYAN;
-    private final Image brickImage;
+    private final AtlasRegion brickImage;
 
-    public NormalBrick(double x, double y, double width, double height) {
-        super(x, y, width, height);
+    public NormalBrick(GameWorld world, double x, double y, double width, double height) {
+        super(world, x, y, width, height);
         this.durability = GameConstants.BRICK_DURABILITY;
-        this.brickImage = AssetManager.getInstance().getImage("normalBrick");
+        this.brickImage = AssetManager.getInstance().getRegion("normalBrick");
     }
 
     public void takeDamage(double damage) {
@@ -28,9 +28,9 @@ public class NormalBrick extends AbstractBrick {
 
         this.durability -= damage;
         if (this.durability <= 0) {
-            ParticleManager.getInstance().spawnBrickDebris(this.x, this.y, this.color);
+            world.getParticleManager().spawnBrickDebris(this.x, this.y, this.color);
             this.isActive = false;
-            EventManager.getInstance().publish(new BrickDestroyedEvent(this));
+            world.getEventManager().publish(new BrickDestroyedEvent(this));
         }
     }
 
@@ -45,12 +45,19 @@ public class NormalBrick extends AbstractBrick {
     @Override
     public void render(GraphicsContext gc) {
         if (!isDestroyed()) {
-            gc.drawImage(brickImage, this.x, this.y, this.width, this.height);
+            brickImage.draw(gc, this.x, this.y, this.width, this.height);
+        }
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (!isDestroyed()) {
+            brickImage.draw(buffer, this.x, this.y, this.width, this.height);
         }
     }
 
     @Override
     public Brick clone() {
-        return new NormalBrick(0, 0, this.width, this.height);
+        return new NormalBrick(world, 0, 0, this.width, this.height);
     }
 }
@@ -1,40 +1,33 @@
 package org.example.gamelogic.entities.bricks;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.presentation.SpriteAnimation;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 public class UnbreakableBrick extends AbstractBrick {
     /// type: U
 
-    private final Image brickImage;
-    private SpriteAnimation hitAnimation;
+    private final AtlasRegion brickImage;
+    private static final SpriteAnimation HIT = new SpriteAnimation("unbreakableBrickHit", 5, 5, 0.5, false);
 
     private boolean isAnimating = false;
+    private double hitStart;
 
-    public UnbreakableBrick(double x, double y, double width, double height) {
-        super(x, y, width, height);
+    public UnbreakableBrick(GameWorld world, double x, double y, double width, double height) {
+        super(world, x, y, width, height);
         AssetManager am = AssetManager.getInstance();
-        this.brickImage = am.getImage("unbreakableBrick");
-        Image animationSheet = am.getImage("unbreakableBrickHit");
-        if (animationSheet != null) {
-            int frameCount = 5;
-            int columns = 5;
-            double duration = 0.5;
-            boolean loops = false;
-            this.hitAnimation = new SpriteAnimation(
-                    animationSheet, frameCount, columns, duration, loops
-            );
-        }
+        this.brickImage = am.getRegion("unbreakableBrick");
     }
 
     @Override
     public void takeDamage(double damage) {
-        if (!isAnimating && hitAnimation != null) {
+        if (!isAnimating) {
             isAnimating = true;
-            hitAnimation.reset();
+            hitStart = world.getAnimationClock().now();
         }
     }
 
@@ -43,29 +36,42 @@ public class UnbreakableBrick extends AbstractBrick {
         return false;
     }
 
+    @Override
+    public boolean isAnimating() {
+        return isAnimating;
+    }
+
     @Override
     public void update(double deltaTime) {
-        if (isAnimating) {
-            hitAnimation.update(deltaTime);
-            if (hitAnimation.isFinished()) {
-                isAnimating = false;
-            }
+        if (isAnimating && HIT.isFinished(world.getAnimationClock().since(hitStart))) {
+            isAnimating = false;
         }
     }
 
     @Override
     public void render(GraphicsContext gc) {
         if (!isDestroyed()) {
-            if (isAnimating && hitAnimation != null) {
-                hitAnimation.render(gc, this.x, this.y, this.width, this.height);
+            if (isAnimating) {
+                HIT.renderAt(gc, world.getAnimationClock().since(hitStart), this.x, this.y, this.width, this.height);
+            } else {
+                brickImage.draw(gc, x, y, width, height);
+            }
+        }
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (!isDestroyed()) {
+            if (isAnimating) {
+                HIT.renderAt(buffer, world.getAnimationClock().since(hitStart), this.x, this.y, this.width, this.height);
             } else {
-                gc.drawImage(brickImage, x, y, width, height);
+                brickImage.draw(buffer, x, y, width, height);
             }
         }
     }
 
     @Override
     public Brick clone() {
-        return new UnbreakableBrick(0, 0, this.width, this.height);
+        return new UnbreakableBrick(world, 0, 0, this.width, this.height);
     }
 }
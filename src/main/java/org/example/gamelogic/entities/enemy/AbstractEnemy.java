@@ -1,14 +1,13 @@
 package org.example.gamelogic.entities.enemy;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import javafx.scene.image.PixelReader;
 import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
-import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
 import org.example.gamelogic.entities.GameObject;
 import org.example.gamelogic.entities.LaserBullet;
 import org.example.gamelogic.entities.MovableObject;
@@ -23,7 +22,9 @@ public abstract class AbstractEnemy extends MovableObject implements Enemy {
     protected double scoreValue;
     protected boolean hasEnteredScreen;
 
-    protected SpriteAnimation explosionAnim;
+    // Animation nổ dùng chung cho mọi kẻ địch; mỗi kẻ địch chỉ lưu thời điểm bắt đầu nổ
+    protected static final SpriteAnimation EXPLOSION = new SpriteAnimation("enemyExplode", 7, 7, 0.5, false);
+    private double explosionStart;
     protected enum LifeState {
         ALIVE,
         DYING
@@ -32,33 +33,30 @@ public abstract class AbstractEnemy extends MovableObject implements Enemy {
 
     protected EnemyMovementStrategy movementStrategy;
 
-    public AbstractEnemy(double x, double y, double width, double height,
+    public AbstractEnemy(GameWorld world, double x, double y, double width, double height,
                          double dx, double dy, EnemyMovementStrategy initialMovementStrategy) {
-        super(x, y, width, height, dx, dy);
+        super(world, x, y, width, height, dx, dy);
         this.isActive = true;
         this.hasEnteredScreen = false;
         this.movementStrategy = initialMovementStrategy;
-
-        Image sheet = AssetManager.getInstance().getImage("enemyExplode");
-        if (sheet != null) {
-            this.explosionAnim = new SpriteAnimation(sheet, 7, 7, 0.5, false);
-        }
         subscribeToEvents();
     }
 
     private void subscribeToEvents() {
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribeTarget(
                 BallHitEnemyEvent.class,
+                this,
                 this::onHit
         );
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribeTarget(
                 EnemyDamagedEvent.class,
+                this,
                 this::onDamaged
         );
     }
 
     private void onDamaged(EnemyDamagedEvent event) {
-        if (event.getDamagedEnemy()==this && !isDestroyed()) {
+        if (!isDestroyed()) {
             GameObject damageSource=event.getDamageSource();
             if (damageSource instanceof LaserBullet) {
                 takeDamage(GameConstants.LASER_BULLET_DAMAGE);
@@ -67,7 +65,7 @@ public abstract class AbstractEnemy extends MovableObject implements Enemy {
     }
 
     private void onHit(BallHitEnemyEvent event) {
-        if (event.getEnemy() == this && !isDestroyed()) {
+        if (!isDestroyed()) {
             takeDamage(GameConstants.BALL_DAMAGE);
         }
     }
@@ -78,12 +76,7 @@ public abstract class AbstractEnemy extends MovableObject implements Enemy {
     @Override
     public void update(double deltaTime) {
         if (lifeState == LifeState.DYING) {
-            if (explosionAnim != null) {
-                explosionAnim.update(deltaTime);
-                if (explosionAnim.isFinished()) {
-                    this.isActive = false;
-                }
-            } else {
+            if (EXPLOSION.isFinished(world.getAnimationClock().since(explosionStart))) {
                 this.isActive = false;
             }
             return;
@@ -104,6 +97,32 @@ public abstract class AbstractEnemy extends MovableObject implements Enemy {
     @Override
     public abstract void render(GraphicsContext gc);
 
+    /**
+     * Chuyển sang trạng thái đang nổ, bắt đầu animation nổ từ thời điểm hiện tại của đồng hồ animation.
+     */
+    protected void startExplosion() {
+        this.lifeState = LifeState.DYING;
+        this.explosionStart = world.getAnimationClock().now();
+    }
+
+    /**
+     * Vẽ frame hiện tại của animation nổ.
+     *
+     * @param gc context dùng để vẽ
+     */
+    protected void renderExplosion(GraphicsContext gc) {
+        EXPLOSION.renderAt(gc, world.getAnimationClock().since(explosionStart), x, y, width, height);
+    }
+
+    /**
+     * Ghi lệnh vẽ frame hiện tại của animation nổ.
+     *
+     * @param buffer buffer lệnh vẽ
+     */
+    protected void renderExplosion(RenderCommandBuffer buffer) {
+        EXPLOSION.renderAt(buffer, world.getAnimationClock().since(explosionStart), x, y, width, height);
+    }
+
     public abstract void handleEntry(double deltaTime);
 
     @Override
@@ -5,9 +5,11 @@ import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
 import org.example.data.AssetManager;
-import org.example.gamelogic.core.LaserManager;
+import org.example.data.AtlasRegion;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.BulletFrom;
 import org.example.gamelogic.entities.BulletType;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.strategy.bossbehavior.*;
 import org.example.gamelogic.strategy.movement.StaticMovementStrategy;
 import org.example.presentation.SpriteAnimation;
@@ -25,15 +27,22 @@ public class Boss extends AbstractEnemy {
 
     private AnimState animState = AnimState.IDLE;
 
+    private static final SpriteAnimation SHOOT_P1 = new SpriteAnimation("bossShoot", 3, 3, 0.5, false);
+    private static final SpriteAnimation SHOOT_P2 = new SpriteAnimation("bossEnragedShoot", 3, 3, 0.5, false);
+    private static final SpriteAnimation HIT_P1 = new SpriteAnimation("bossHit", 8, 8, 0.3, false);
+    private static final SpriteAnimation HIT_P2 = new SpriteAnimation("bossEnragedHit", 8, 8, 0.3, false);
+
     private Image idle, enraged;
-    private SpriteAnimation shootAnimP1, shootAnimP2;
-    private SpriteAnimation hitAnimP1, hitAnimP2;
+    // Region (id texture cấp sẵn) dùng khi ghi lệnh vẽ
+    private AtlasRegion idleRegion, enragedRegion;
+    // Thời điểm (theo đồng hồ animation) bắt đầu animation bắn/trúng đòn hiện tại
+    private double animStart;
 
     private BulletType bulletToFire_Type;
     private double bulletToFire_velX, bulletToFire_velY;
 
-    public Boss(double x, double y, double dx, double dy) {
-        super(x, y, GameConstants.BOSS_WIDTH, GameConstants.BOSS_HEIGHT,
+    public Boss(GameWorld world, double x, double y, double dx, double dy) {
+        super(world, x, y, GameConstants.BOSS_WIDTH, GameConstants.BOSS_HEIGHT,
                 dx, dy, new StaticMovementStrategy());
 
         this.health = GameConstants.BOSS_HEALTH;
@@ -45,12 +54,8 @@ public class Boss extends AbstractEnemy {
 
         this.idle = am.getImage("boss");
         this.enraged = am.getImage("bossEnraged");
-
-        this.shootAnimP1 = new SpriteAnimation(am.getImage("bossShoot"), 3, 3, 0.5, false);
-        this.shootAnimP2 = new SpriteAnimation(am.getImage("bossEnragedShoot"), 3, 3, 0.5, false);
-
-        this.hitAnimP1 = new SpriteAnimation(am.getImage("bossHit"), 8, 8, 0.3, false);
-        this.hitAnimP2 = new SpriteAnimation(am.getImage("bossEnragedHit"), 8, 8, 0.3, false);
+        this.idleRegion = am.getRegion("boss");
+        this.enragedRegion = am.getRegion("bossEnraged");
 
         this.currentStrategy = new BossEntryStrategy();
     }
@@ -68,25 +73,14 @@ public class Boss extends AbstractEnemy {
         }
 
         if (animState == AnimState.PREPARING_TO_SHOOT) {
-            SpriteAnimation anim = isPhase2() ? shootAnimP2 : shootAnimP1;
-            if (anim != null) {
-                anim.update(deltaTime);
-                if (anim.isFinished()) {
-                    fireBullet();
-                    animState = AnimState.IDLE;
-                }
-            } else {
+            SpriteAnimation anim = isPhase2() ? SHOOT_P2 : SHOOT_P1;
+            if (anim.isFinished(world.getAnimationClock().since(animStart))) {
                 fireBullet();
                 animState = AnimState.IDLE;
             }
         } else if (animState == AnimState.HIT_REACTION) {
-            SpriteAnimation anim = isPhase2() ? hitAnimP2 : hitAnimP1;
-            if (anim != null) {
-                anim.update(deltaTime);
-                if (anim.isFinished()) {
-                    animState = AnimState.IDLE;
-                }
-            } else { // Failsafe
+            SpriteAnimation anim = isPhase2() ? HIT_P2 : HIT_P1;
+            if (anim.isFinished(world.getAnimationClock().since(animStart))) {
                 animState = AnimState.IDLE;
             }
         }
@@ -118,12 +112,12 @@ public class Boss extends AbstractEnemy {
         }
 
         if (animState == AnimState.PREPARING_TO_SHOOT) {
-            SpriteAnimation anim = isPhase2() ? shootAnimP2 : shootAnimP1;
-            if (anim != null) anim.render(gc, x, y, width, height);
+            SpriteAnimation anim = isPhase2() ? SHOOT_P2 : SHOOT_P1;
+            anim.renderAt(gc, world.getAnimationClock().since(animStart), x, y, width, height);
 
         } else if (animState == AnimState.HIT_REACTION) {
-            SpriteAnimation anim = isPhase2() ? hitAnimP2 : hitAnimP1;
-            if (anim != null) anim.render(gc, x, y, width, height);
+            SpriteAnimation anim = isPhase2() ? HIT_P2 : HIT_P1;
+            anim.renderAt(gc, world.getAnimationClock().since(animStart), x, y, width, height);
 
         } else {
             Image idleImg = isPhase2() ? enraged : idle;
@@ -136,9 +130,37 @@ public class Boss extends AbstractEnemy {
         gc.fillRect(x, y - 10, width * (this.health / GameConstants.BOSS_HEALTH), 8);
     }
 
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (currentStrategy instanceof BossDyingStrategy) {
+            if (enragedRegion != null) {
+                enragedRegion.draw(buffer, x, y, width, height);
+            }
+            return;
+        }
+
+        if (animState == AnimState.PREPARING_TO_SHOOT) {
+            SpriteAnimation anim = isPhase2() ? SHOOT_P2 : SHOOT_P1;
+            anim.renderAt(buffer, world.getAnimationClock().since(animStart), x, y, width, height);
+
+        } else if (animState == AnimState.HIT_REACTION) {
+            SpriteAnimation anim = isPhase2() ? HIT_P2 : HIT_P1;
+            anim.renderAt(buffer, world.getAnimationClock().since(animStart), x, y, width, height);
+
+        } else {
+            AtlasRegion idleRegion = isPhase2() ? enragedRegion : this.idleRegion;
+            if (idleRegion != null) {
+                idleRegion.draw(buffer, x, y, width, height);
+            }
+        }
+
+        buffer.fillRect(Color.BLACK, x, y - 10, width, 8);
+        buffer.fillRect(Color.GREEN, x, y - 10, width * (this.health / GameConstants.BOSS_HEALTH), 8);
+    }
+
     @Override
     public Enemy clone() {
-        return new Boss(0, 0, this.dx, this.dy);
+        return new Boss(world, 0, 0, this.dx, this.dy);
     }
 
     @Override
@@ -153,11 +175,7 @@ public class Boss extends AbstractEnemy {
             setStrategy(new BossDyingStrategy());
         } else {
             this.animState = AnimState.HIT_REACTION;
-
-            SpriteAnimation currentHitAnim = (currentStrategy instanceof BossPhase1Strategy) ? hitAnimP1 : hitAnimP2;
-            if (currentHitAnim != null) {
-                currentHitAnim.reset();
-            }
+            this.animStart = world.getAnimationClock().now();
         }
     }
 
@@ -170,7 +188,7 @@ public class Boss extends AbstractEnemy {
         double x = this.getX() + this.getWidth() / 2 - 2;
         double y = this.getY() + this.getHeight() / 2 + 20;
 
-        LaserManager.getInstance().createBullet(x, y,
+        world.getLaserManager().createBullet(x, y,
                 bulletToFire_velX, bulletToFire_velY,
                 bulletToFire_Type, BulletFrom.ENEMY
         );
@@ -183,11 +201,7 @@ public class Boss extends AbstractEnemy {
             this.bulletToFire_velX = velX;
             this.bulletToFire_velY = velY;
             this.bulletToFire_Type = type;
-
-            SpriteAnimation currentShootAnim = isPhase2() ? shootAnimP2 : shootAnimP1;
-            if (currentShootAnim != null) {
-                currentShootAnim.reset();
-            }
+            this.animStart = world.getAnimationClock().now();
         }
     }
 
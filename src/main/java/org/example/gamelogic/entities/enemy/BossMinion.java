@@ -1,15 +1,15 @@
 package org.example.gamelogic.entities.enemy;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
-import org.example.gamelogic.core.LaserManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.BulletFrom;
 import org.example.gamelogic.entities.BulletType;
 import org.example.gamelogic.events.EnemyDestroyedEvent;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.strategy.movement.DashMovementStrategy;
 import org.example.gamelogic.strategy.movement.DownMovementStrategy;
 import org.example.gamelogic.strategy.movement.LRMovementStrategy;
@@ -19,22 +19,22 @@ public class BossMinion extends AbstractEnemy {
     private double shootTimer;
     private final double SHOOT_COOLDOWN = 2.5;
 
-    private Image idleImage;
-    private Image shootImage;
+    private AtlasRegion idleImage;
+    private AtlasRegion shootImage;
 
-    public BossMinion(double x, double y, double width, double height,
+    public BossMinion(GameWorld world, double x, double y, double width, double height,
                       double dx, double dy) {
-        super(x, y, width, height, dx, dy, new DashMovementStrategy());
+        super(world, x, y, width, height, dx, dy, new DashMovementStrategy());
         this.shootTimer = Math.random() * SHOOT_COOLDOWN;
         this.hasEnteredScreen = true;
         AssetManager am = AssetManager.getInstance();
-        this.idleImage = am.getImage("minion");
-        this.shootImage = am.getImage("minionShoot");
+        this.idleImage = am.getRegion("minion");
+        this.shootImage = am.getRegion("minionShoot");
     }
 
     @Override
     public Enemy clone() {
-        return new BossMinion(0.0, 0.0, this.width, this.height, this.dx, this.dy);
+        return new BossMinion(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy);
     }
 
     @Override
@@ -48,7 +48,7 @@ public class BossMinion extends AbstractEnemy {
             double bulletX = this.x + (this.width / 2.0) - 2;
             double bulletY = this.y + this.height;
 
-            LaserManager.getInstance().createBullet(
+            world.getLaserManager().createBullet(
                     bulletX,
                     bulletY,
                     0,
@@ -62,23 +62,27 @@ public class BossMinion extends AbstractEnemy {
     @Override
     public void render(GraphicsContext gc) {
         if (lifeState == LifeState.DYING) {
-            if (explosionAnim != null) {
-                explosionAnim.render(gc, x, y, width, height);
-            }
+            renderExplosion(gc);
             return;
         }
-        gc.drawImage(idleImage, this.x, this.y, this.width, this.height);
+        idleImage.draw(gc, this.x, this.y, this.width, this.height);
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (lifeState == LifeState.DYING) {
+            renderExplosion(buffer);
+            return;
+        }
+        idleImage.draw(buffer, this.x, this.y, this.width, this.height);
     }
 
     public void takeDamage(double damage) {
         if (isDestroyed()) {
             return;
         }
-        this.lifeState = LifeState.DYING;
-        EventManager.getInstance().publish(new EnemyDestroyedEvent(this));
-        if (explosionAnim != null) {
-            explosionAnim.reset();
-        }
+        startExplosion();
+        world.getEventManager().publish(new EnemyDestroyedEvent(this));
         this.setDx(0);
         this.setDy(0);
     }
@@ -1,6 +1,7 @@
 package org.example.gamelogic.entities.enemy;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.entities.Collidable;
 import org.example.gamelogic.entities.GameObject;
 
@@ -15,6 +16,7 @@ public interface Enemy extends Collidable {
 
     void update(double deltaTime);
     void render(GraphicsContext gc);
+    void render(RenderCommandBuffer buffer);
 
     void setActive(boolean active);
     boolean isActive();
@@ -1,47 +1,29 @@
 package org.example.gamelogic.entities.enemy;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
-import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.events.EnemyDestroyedEvent;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.strategy.movement.DownMovementStrategy;
 import org.example.presentation.SpriteAnimation;
 
 public class Enemy1 extends AbstractEnemy {
-    private Image enemyImage;
-    private SpriteAnimation idleAnimation;
-    public Enemy1(double x, double y, double width, double height,
+    private static final SpriteAnimation IDLE = new SpriteAnimation("enemy1", 5, 8, 2, true);
+    private final double spawnTime;
+
+    public Enemy1(GameWorld world, double x, double y, double width, double height,
                             double dx, double dy) {
-        super(x, y, width, height, dx, dy, new DownMovementStrategy());
+        super(world, x, y, width, height, dx, dy, new DownMovementStrategy());
         this.health = 1;
         this.scoreValue = 100;
-        AssetManager am = AssetManager.getInstance();
-        this.enemyImage = am.getImage("enemy1");
-        if (enemyImage != null) {
-            int frameCount = 5;
-            int columns = 8;
-            double duration = 2;
-            boolean loops = true;
-            this.idleAnimation = new SpriteAnimation(
-                    enemyImage, frameCount, columns, duration, loops
-            );
-        }
+        this.spawnTime = world.getAnimationClock().now();
     }
 
     @Override
     public Enemy clone() {
-        return new Enemy1(0.0, 0.0, this.width, this.height, this.dx, this.dy);
-    }
-
-    @Override
-    public void update(double deltaTime) {
-        super.update(deltaTime);
-        if (idleAnimation != null) {
-            idleAnimation.update(deltaTime);
-        }
+        return new Enemy1(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy);
     }
 
     @Override
@@ -56,23 +38,27 @@ public class Enemy1 extends AbstractEnemy {
     @Override
     public void render(GraphicsContext gc) {
         if (lifeState == LifeState.DYING) {
-            if (explosionAnim != null) {
-                explosionAnim.render(gc, x, y, width, height);
-            }
+            renderExplosion(gc);
             return;
         }
-        idleAnimation.render(gc, x, y, width, height);
+        IDLE.renderAt(gc, world.getAnimationClock().since(spawnTime), x, y, width, height);
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (lifeState == LifeState.DYING) {
+            renderExplosion(buffer);
+            return;
+        }
+        IDLE.renderAt(buffer, world.getAnimationClock().since(spawnTime), x, y, width, height);
     }
 
     public void takeDamage(double damage) {
         if (isDestroyed()) {
             return;
         }
-        this.lifeState = LifeState.DYING;
-        EventManager.getInstance().publish(new EnemyDestroyedEvent(this));
-        if (explosionAnim != null) {
-            explosionAnim.reset();
-        }
+        startExplosion();
+        world.getEventManager().publish(new EnemyDestroyedEvent(this));
         this.setDx(0);
         this.setDy(0);
     }
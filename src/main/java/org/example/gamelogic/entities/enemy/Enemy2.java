@@ -1,32 +1,33 @@
 package org.example.gamelogic.entities.enemy;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.image.WritableImage;
 import javafx.scene.paint.Color;
 import org.example.config.GameConstants;
+import org.example.data.AtlasRegion;
 import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.events.EnemyDestroyedEvent;
 import org.example.gamelogic.graphics.ImageModifier;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.strategy.movement.DownMovementStrategy;
 
 public class Enemy2 extends AbstractEnemy {
-    private Image enemyImage;
+    private AtlasRegion enemyImage;
     private static final double ENEMY_SPRITE_WIDTH = 180;
     private static final double ENEMY_SPRITE_HEIGHT = 140;
 
-    public Enemy2(double x, double y, double width, double height,
+    public Enemy2(GameWorld world, double x, double y, double width, double height,
                   double dx, double dy) {
-        super(x, y, width, height, dx, dy, new DownMovementStrategy());
+        super(world, x, y, width, height, dx, dy, new DownMovementStrategy());
 
         AssetManager am = AssetManager.getInstance();
-        this.enemyImage = am.getImage("enemy2");
+        this.enemyImage = am.getRegion("enemy2");
     }
 
     @Override
     public Enemy clone() {
-        return new Enemy2(0.0, 0.0, this.width, this.height, this.dx, this.dy);
+        return new Enemy2(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy);
     }
 
     @Override
@@ -46,23 +47,27 @@ public class Enemy2 extends AbstractEnemy {
     @Override
     public void render(GraphicsContext gc) {
         if (lifeState == LifeState.DYING) {
-            if (explosionAnim != null) {
-                explosionAnim.render(gc, x, y, width, height);
-            }
+            renderExplosion(gc);
             return;
         }
-        gc.drawImage(enemyImage, x, y, width, height);
+        enemyImage.draw(gc, x, y, width, height);
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        if (lifeState == LifeState.DYING) {
+            renderExplosion(buffer);
+            return;
+        }
+        enemyImage.draw(buffer, x, y, width, height);
     }
 
     public void takeDamage(double damage) {
         if (isDestroyed()) {
             return;
         }
-        this.lifeState = LifeState.DYING;
-        EventManager.getInstance().publish(new EnemyDestroyedEvent(this));
-        if (explosionAnim != null) {
-            explosionAnim.reset();
-        }
+        startExplosion();
+        world.getEventManager().publish(new EnemyDestroyedEvent(this));
         this.setDx(0);
         this.setDy(0);
     }
@@ -1,54 +1,55 @@
 package org.example.gamelogic.entities.powerups;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.config.GameConstants;
-import org.example.data.AssetManager;
-import org.example.gamelogic.core.EventManager;
 import org.example.gamelogic.entities.GameObject;
 import org.example.gamelogic.entities.MovableObject;
 import org.example.gamelogic.events.PowerUpCollectedEvent;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 import org.example.presentation.RowAnimation;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
 public abstract class AbstractPowerUp extends MovableObject implements PowerUp {
     protected PowerUpStrategy strategy;
     private boolean isTaken = false;
     protected boolean outOfBounds = false;
 
-    protected RowAnimation animation;
+    // Animation của mỗi hàng trong sheet power-up, dùng chung cho mọi power-up cùng loại
+    private static final Map<Integer, RowAnimation> ANIMATIONS = new ConcurrentHashMap<>();
+
+    private final RowAnimation animation;
+    private final double animationStart;
 
-    public AbstractPowerUp(double x, double y, double width, double height,
+    public AbstractPowerUp(GameWorld world, double x, double y, double width, double height,
                            double dx, double dy, PowerUpStrategy strategy) {
-        super(x, y, width, height, dx, dy);
+        super(world, x, y, width, height, dx, dy);
         this.strategy = strategy;
         this.isActive = true;
 
-        Image powerUpSprites = AssetManager.getInstance().getImage("powerups");
-        int spriteRow = getSpriteRow();
-
-        if (powerUpSprites != null) {
-            this.animation = new RowAnimation(
-                    powerUpSprites,
-                    spriteRow,
-                    GameConstants.POWERUP_TOTAL_FRAMES,
-                    GameConstants.POWERUP_FRAME_DURATION
-            );
-        }
+        this.animation = ANIMATIONS.computeIfAbsent(getSpriteRow(), row -> new RowAnimation(
+                "powerups",
+                row,
+                GameConstants.POWERUP_TOTAL_FRAMES,
+                GameConstants.POWERUP_FRAME_DURATION
+        ));
+        this.animationStart = world.getAnimationClock().now();
         subscribeToPowerUpCollectedEvent();
     }
 
     private void subscribeToPowerUpCollectedEvent() {
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribeTarget(
                 PowerUpCollectedEvent.class,
+                this,
                 this::onPowerUpCollected
         );
     }
 
     protected void onPowerUpCollected(PowerUpCollectedEvent event) {
-        if (event.getPowerUpCollected() == this) {
-            markAsTaken();
-        }
+        markAsTaken();
     }
 
     @Override
@@ -58,17 +59,18 @@ public abstract class AbstractPowerUp extends MovableObject implements PowerUp {
     public void update(double deltaTime) {
         if (!outOfBounds) y += dy;
         if (y > GameConstants.SCREEN_HEIGHT) outOfBounds = true;
-
-        if (animation != null) {
-            animation.update(deltaTime);
-        }
     }
 
     @Override
     public void render(GraphicsContext gc) {
-        if (animation != null) {
-            animation.render(gc, this.x, this.y, this.width, this.height);
-        }
+        animation.renderAt(gc, world.getAnimationClock().since(animationStart),
+                this.x, this.y, this.width, this.height);
+    }
+
+    @Override
+    public void render(RenderCommandBuffer buffer) {
+        animation.renderAt(buffer, world.getAnimationClock().since(animationStart),
+                this.x, this.y, this.width, this.height);
     }
 
     public abstract int getSpriteRow();
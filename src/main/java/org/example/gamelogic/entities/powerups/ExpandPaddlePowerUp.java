@@ -4,6 +4,7 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.data.AssetManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.strategy.powerup.ExpandPaddleStrategy;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 
@@ -11,16 +12,15 @@ public class ExpandPaddlePowerUp extends AbstractPowerUp {
     private Image expand;
 
     /// type: E
-    public ExpandPaddlePowerUp(double x, double y, double width, double height,
+    public ExpandPaddlePowerUp(GameWorld world, double x, double y, double width, double height,
                                double dx, double dy, PowerUpStrategy strategy) {
-        super(x, y, width, height, dx, dy, strategy);
+        super(world, x, y, width, height, dx, dy, strategy);
         expand = AssetManager.getInstance().getImage("icon_expand");
     }
 
     @Override
     public PowerUp clone() {
-        ExpandPaddlePowerUp newClone = new ExpandPaddlePowerUp(0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
-        newClone.animation = this.animation;
+        ExpandPaddlePowerUp newClone = new ExpandPaddlePowerUp(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
         return newClone;
     }
 
@@ -4,6 +4,7 @@ import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
 import org.example.data.AssetManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.strategy.powerup.ExtraLifeStrategy;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 
@@ -11,16 +12,15 @@ public class ExtraLifePowerUp extends AbstractPowerUp {
     private Image extra;
 
     /// type: L
-    public ExtraLifePowerUp(double x, double y, double width, double height,
+    public ExtraLifePowerUp(GameWorld world, double x, double y, double width, double height,
                            double dx, double dy, PowerUpStrategy strategy) {
-        super(x, y, width, height, dx, dy, strategy);
+        super(world, x, y, width, height, dx, dy, strategy);
         extra = AssetManager.getInstance().getImage("icon_extra_life");
     }
 
     @Override
     public PowerUp clone() {
-        ExtraLifePowerUp newClone = new ExtraLifePowerUp(0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
-        newClone.animation = this.animation;
+        ExtraLifePowerUp newClone = new ExtraLifePowerUp(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
         return newClone;
     }
 
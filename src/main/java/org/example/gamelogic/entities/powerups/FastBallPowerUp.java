@@ -2,20 +2,20 @@ package org.example.gamelogic.entities.powerups;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.strategy.powerup.FastBallStrategy;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 
 public class FastBallPowerUp extends AbstractPowerUp {
     /// type: S
-    public FastBallPowerUp(double x, double y, double width, double height,
+    public FastBallPowerUp(GameWorld world, double x, double y, double width, double height,
                            double dx, double dy, PowerUpStrategy strategy) {
-        super(x, y, width, height, dx, dy, strategy);
+        super(world, x, y, width, height, dx, dy, strategy);
     }
 
     @Override
     public PowerUp clone() {
-        FastBallPowerUp newClone = new FastBallPowerUp(0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
-        newClone.animation = this.animation;
+        FastBallPowerUp newClone = new FastBallPowerUp(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
         return newClone;
     }
 
@@ -2,20 +2,20 @@ package org.example.gamelogic.entities.powerups;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.strategy.powerup.LaserPaddleStrategy;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 
 public class LaserPaddlePowerUp extends AbstractPowerUp {
     /// type: B
-    public LaserPaddlePowerUp(double x, double y, double width, double height,
+    public LaserPaddlePowerUp(GameWorld world, double x, double y, double width, double height,
                            double dx, double dy, PowerUpStrategy strategy) {
-        super(x, y, width, height, dx, dy, strategy);
+        super(world, x, y, width, height, dx, dy, strategy);
     }
 
     @Override
     public PowerUp clone() {
-        LaserPaddlePowerUp newClone = new LaserPaddlePowerUp(0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
-        newClone.animation = this.animation;
+        LaserPaddlePowerUp newClone = new LaserPaddlePowerUp(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
         return newClone;
     }
 
@@ -2,19 +2,19 @@ package org.example.gamelogic.entities.powerups;
 
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.paint.Color;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 
 public class PiercingBallPowerUp extends AbstractPowerUp {
     /// type: P
-    public PiercingBallPowerUp(double x, double y, double width, double height,
+    public PiercingBallPowerUp(GameWorld world, double x, double y, double width, double height,
                             double dx, double dy, PowerUpStrategy strategy) {
-        super(x, y, width, height, dx, dy, strategy);
+        super(world, x, y, width, height, dx, dy, strategy);
     }
 
     @Override
     public PowerUp clone() {
-        PiercingBallPowerUp newClone = new PiercingBallPowerUp(0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
-        newClone.animation = this.animation;
+        PiercingBallPowerUp newClone = new PiercingBallPowerUp(world, 0.0, 0.0, this.width, this.height, this.dx, this.dy, getStrategy().clone());
         return newClone;
     }
 
@@ -1,6 +1,7 @@
 package org.example.gamelogic.entities.powerups;
 
 import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.gamelogic.core.GameManager;
 import org.example.gamelogic.entities.GameObject;
 import org.example.gamelogic.entities.Paddle;
@@ -15,6 +16,7 @@ public interface PowerUp {
 
     void update(double deltaTime);
     void render(GraphicsContext gc);
+    void render(RenderCommandBuffer buffer);
 
     void setActive(boolean active);
     boolean isActive();
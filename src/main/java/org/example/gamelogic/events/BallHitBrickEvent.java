@@ -3,9 +3,9 @@ package org.example.gamelogic.events;
 import org.example.gamelogic.entities.IBall;
 import org.example.gamelogic.entities.bricks.Brick;
 
-public final class BallHitBrickEvent extends GameEvent {
-    private final Brick brick;
-    private final IBall ball;
+public final class BallHitBrickEvent extends GameEvent implements TargetedEvent {
+    private Brick brick;
+    private IBall ball;
 
     /**
      * Tạo event khi bóng va chạm với gạch.
@@ -18,6 +18,31 @@ public final class BallHitBrickEvent extends GameEvent {
         this.ball = ball;
     }
 
+    private BallHitBrickEvent() {
+    }
+
+    /**
+     * Tạo pool tái sử dụng event va chạm bóng-gạch (xem {@link EventPool}).
+     *
+     * @return pool rỗng
+     */
+    public static EventPool<BallHitBrickEvent> newPool() {
+        return new EventPool<>(BallHitBrickEvent::new);
+    }
+
+    /**
+     * Gán lại dữ liệu cho event lấy từ pool.
+     *
+     * @param brick gạch bị bóng đập trúng
+     * @param ball  bóng gây ra va chạm
+     * @return chính event này
+     */
+    public BallHitBrickEvent set(Brick brick, IBall ball) {
+        this.brick = brick;
+        this.ball = ball;
+        return this;
+    }
+
     public Brick getBrick() {
         return brick;
     }
@@ -25,4 +50,9 @@ public final class BallHitBrickEvent extends GameEvent {
     public IBall getBall() {
         return ball;
     }
+
+    @Override
+    public Object getTarget() {
+        return brick;
+    }
 }
@@ -3,9 +3,9 @@ package org.example.gamelogic.events;
 import org.example.gamelogic.entities.IBall;
 import org.example.gamelogic.entities.enemy.Enemy;
 
-public final class BallHitEnemyEvent extends GameEvent {
-    private final Enemy enemy;
-    private final IBall ball;
+public final class BallHitEnemyEvent extends GameEvent implements TargetedEvent {
+    private Enemy enemy;
+    private IBall ball;
 
     /**
      * Tạo event khi bóng va chạm với enemy.
@@ -18,6 +18,31 @@ public final class BallHitEnemyEvent extends GameEvent {
         this.ball = ball;
     }
 
+    private BallHitEnemyEvent() {
+    }
+
+    /**
+     * Tạo pool tái sử dụng event va chạm bóng-enemy (xem {@link EventPool}).
+     *
+     * @return pool rỗng
+     */
+    public static EventPool<BallHitEnemyEvent> newPool() {
+        return new EventPool<>(BallHitEnemyEvent::new);
+    }
+
+    /**
+     * Gán lại dữ liệu cho event lấy từ pool.
+     *
+     * @param enemy enemy bị bóng đập trúng
+     * @param ball  bóng gây ra va chạm
+     * @return chính event này
+     */
+    public BallHitEnemyEvent set(Enemy enemy, IBall ball) {
+        this.enemy = enemy;
+        this.ball = ball;
+        return this;
+    }
+
     /**
      * @return enemy bị bóng va chạm
      */
@@ -31,4 +56,9 @@ public final class BallHitEnemyEvent extends GameEvent {
     public IBall getBall() {
         return ball;
     }
+
+    @Override
+    public Object getTarget() {
+        return enemy;
+    }
 }
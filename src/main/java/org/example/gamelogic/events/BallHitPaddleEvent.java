@@ -4,8 +4,8 @@ import org.example.gamelogic.entities.IBall;
 import org.example.gamelogic.entities.Paddle;
 
 public final class BallHitPaddleEvent extends GameEvent {
-    private final IBall ball;
-    private final Paddle paddle;
+    private IBall ball;
+    private Paddle paddle;
 
     /**
      * Tạo event khi bóng chạm vào paddle.
@@ -17,6 +17,31 @@ public final class BallHitPaddleEvent extends GameEvent {
         this.ball = ball;
         this.paddle = paddle;
     }
+
+    private BallHitPaddleEvent() {
+    }
+
+    /**
+     * Tạo pool tái sử dụng event va chạm bóng-paddle (xem {@link EventPool}).
+     *
+     * @return pool rỗng
+     */
+    public static EventPool<BallHitPaddleEvent> newPool() {
+        return new EventPool<>(BallHitPaddleEvent::new);
+    }
+
+    /**
+     * Gán lại dữ liệu cho event lấy từ pool.
+     *
+     * @param ball   bóng gây ra va chạm
+     * @param paddle paddle bị bóng đập trúng
+     * @return chính event này
+     */
+    public BallHitPaddleEvent set(IBall ball, Paddle paddle) {
+        this.ball = ball;
+        this.paddle = paddle;
+        return this;
+    }
     /**
      * @return bóng va chạm với paddle
      */
@@ -3,7 +3,7 @@ package org.example.gamelogic.events;
 import org.example.gamelogic.entities.IBall;
 
 public final class BallHitWallEvent extends GameEvent {
-    private final IBall ball;
+    private IBall ball;
 
     /**
      * Tạo event khi bóng va vào tường.
@@ -14,6 +14,29 @@ public final class BallHitWallEvent extends GameEvent {
         this.ball = ball;
     }
 
+    private BallHitWallEvent() {
+    }
+
+    /**
+     * Tạo pool tái sử dụng event va chạm bóng-tường (xem {@link EventPool}).
+     *
+     * @return pool rỗng
+     */
+    public static EventPool<BallHitWallEvent> newPool() {
+        return new EventPool<>(BallHitWallEvent::new);
+    }
+
+    /**
+     * Gán lại dữ liệu cho event lấy từ pool.
+     *
+     * @param ball bóng gây ra va chạm
+     * @return chính event này
+     */
+    public BallHitWallEvent set(IBall ball) {
+        this.ball = ball;
+        return this;
+    }
+
     /**
      * @return bóng vừa va vào tường
      */
@@ -3,9 +3,9 @@ package org.example.gamelogic.events;
 import org.example.gamelogic.entities.GameObject;
 import org.example.gamelogic.entities.bricks.Brick;
 
-public final class BrickDamagedEvent extends GameEvent {
-    private final Brick damagedBrick;
-    private final GameObject damageSource;
+public final class BrickDamagedEvent extends GameEvent implements TargetedEvent {
+    private Brick damagedBrick;
+    private GameObject damageSource;
 
     /**
      * Tạo event khi một viên gạch bị gây sát thương.
@@ -18,6 +18,31 @@ public final class BrickDamagedEvent extends GameEvent {
         this.damageSource = obj;
     }
 
+    private BrickDamagedEvent() {
+    }
+
+    /**
+     * Tạo pool tái sử dụng event gạch bị damage (xem {@link EventPool}).
+     *
+     * @return pool rỗng
+     */
+    public static EventPool<BrickDamagedEvent> newPool() {
+        return new EventPool<>(BrickDamagedEvent::new);
+    }
+
+    /**
+     * Gán lại dữ liệu cho event lấy từ pool.
+     *
+     * @param brick gạch bị damage
+     * @param obj   đối tượng gây ra sát thương (ball, laser, enemy...)
+     * @return chính event này
+     */
+    public BrickDamagedEvent set(Brick brick, GameObject obj) {
+        this.damagedBrick = brick;
+        this.damageSource = obj;
+        return this;
+    }
+
     /**
      * @return gạch vừa bị damage
      */
@@ -31,4 +56,9 @@ public final class BrickDamagedEvent extends GameEvent {
     public GameObject getDamageSource() {
         return damageSource;
     }
+
+    @Override
+    public Object getTarget() {
+        return damagedBrick;
+    }
 }
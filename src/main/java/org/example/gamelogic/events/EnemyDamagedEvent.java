@@ -3,9 +3,9 @@ package org.example.gamelogic.events;
 import org.example.gamelogic.entities.GameObject;
 import org.example.gamelogic.entities.enemy.Enemy;
 
-public final class EnemyDamagedEvent extends GameEvent {
-    private final Enemy damagedEnemy;
-    private final GameObject damageSource;
+public final class EnemyDamagedEvent extends GameEvent implements TargetedEvent {
+    private Enemy damagedEnemy;
+    private GameObject damageSource;
 
     /**
      * Tạo event khi enemy bị gây sát thương.
@@ -18,6 +18,31 @@ public final class EnemyDamagedEvent extends GameEvent {
         this.damageSource = obj;
     }
 
+    private EnemyDamagedEvent() {
+    }
+
+    /**
+     * Tạo pool tái sử dụng event enemy bị damage (xem {@link EventPool}).
+     *
+     * @return pool rỗng
+     */
+    public static EventPool<EnemyDamagedEvent> newPool() {
+        return new EventPool<>(EnemyDamagedEvent::new);
+    }
+
+    /**
+     * Gán lại dữ liệu cho event lấy từ pool.
+     *
+     * @param enemy enemy bị damage
+     * @param obj   đối tượng gây sát thương (ball, laser, brick explode...)
+     * @return chính event này
+     */
+    public EnemyDamagedEvent set(Enemy enemy, GameObject obj) {
+        this.damagedEnemy = enemy;
+        this.damageSource = obj;
+        return this;
+    }
+
     /**
      * @return enemy vừa bị damage
      */
@@ -31,4 +56,9 @@ public final class EnemyDamagedEvent extends GameEvent {
     public GameObject getDamageSource() {
         return damageSource;
     }
+
+    @Override
+    public Object getTarget() {
+        return damagedEnemy;
+    }
 }
@@ -0,0 +1,67 @@
+package org.example.gamelogic.events;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+/**
+ * Pool tái sử dụng instance sự kiện của một kiểu cụ thể.
+ *
+ * <p>Event lấy từ pool được EventManager tự trả lại sau khi phát xong (xem {@link GameEvent#recycle()}),
+ * nên listener không được giữ tham chiếu tới event sau khi callback kết thúc. Không thread-safe:
+ * mỗi pool chỉ được dùng trên thread mô phỏng của world sở hữu nó.
+ *
+ * @param <T> kiểu sự kiện
+ */
+public final class EventPool<T extends GameEvent> {
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final Supplier<T> factory;
+    private GameEvent[] free = new GameEvent[INITIAL_CAPACITY];
+    private int size;
+
+    /**
+     * Tạo pool rỗng.
+     *
+     * @param factory hàm tạo instance mới khi pool hết event rảnh
+     */
+    public EventPool(Supplier<T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Lấy một event rảnh (hoặc tạo mới nếu pool rỗng). Caller phải gán lại toàn bộ dữ liệu của event.
+     *
+     * @return event thuộc pool này
+     */
+    @SuppressWarnings("unchecked")
+    public T obtain() {
+        T event;
+        if (size > 0) {
+            event = (T) free[--size];
+            free[size] = null;
+        } else {
+            event = factory.get();
+        }
+        event.pool = this;
+        return event;
+    }
+
+    /**
+     * Trả event về pool.
+     *
+     * @param event event đã phát xong
+     */
+    void release(GameEvent event) {
+        if (size == free.length) {
+            free = Arrays.copyOf(free, size * 2);
+        }
+        free[size++] = event;
+    }
+
+    /**
+     * @return số event đang rảnh trong pool
+     */
+    public int getFreeCount() {
+        return size;
+    }
+}
@@ -1,5 +1,18 @@
 package org.example.gamelogic.events;
 
 public abstract class GameEvent {
+    // Pool sở hữu event; null với event tạo bằng new
+    EventPool<?> pool;
 
+    /**
+     * Trả event về pool đã cấp nó (không làm gì với event tạo bằng new).
+     * EventManager gọi sau khi đã phát event tới mọi listener.
+     */
+    public final void recycle() {
+        EventPool<?> owner = this.pool;
+        if (owner != null) {
+            this.pool = null;
+            owner.release(this);
+        }
+    }
 }
@@ -2,7 +2,7 @@ package org.example.gamelogic.events;
 
 import org.example.gamelogic.entities.powerups.PowerUp;
 
-public final class PowerUpCollectedEvent extends GameEvent {
+public final class PowerUpCollectedEvent extends GameEvent implements TargetedEvent {
     private final PowerUp collectedPowerUp;
 
     public PowerUpCollectedEvent(PowerUp powerUp) {
@@ -12,4 +12,9 @@ public final class PowerUpCollectedEvent extends GameEvent {
     public PowerUp getPowerUpCollected() {
         return collectedPowerUp;
     }
+
+    @Override
+    public Object getTarget() {
+        return collectedPowerUp;
+    }
 }
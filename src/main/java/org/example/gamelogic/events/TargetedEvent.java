@@ -0,0 +1,16 @@
+package org.example.gamelogic.events;
+
+/**
+ * Sự kiện nhắm tới một thực thể cụ thể (ví dụ viên gạch bị bóng đập trúng).
+ *
+ * <p>EventManager chuyển thẳng sự kiện loại này tới handler mà thực thể đích đã đăng ký
+ * bằng {@code subscribeTarget}, thay vì gọi handler của mọi thực thể cùng loại.
+ */
+public interface TargetedEvent {
+    /**
+     * Lấy thực thể đích của sự kiện.
+     *
+     * @return thực thể nhận sự kiện (so sánh theo identity)
+     */
+    Object getTarget();
+}
@@ -0,0 +1,159 @@
+package org.example.gamelogic.graphics;
+
+import javafx.application.Platform;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.RadialGradient;
+import javafx.scene.paint.Stop;
+import org.example.data.AssetManager;
+import org.example.data.AtlasRegion;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache sprite của bóng đã được raster hóa sẵn theo (bán kính, màu).
+ *
+ * <p>Mỗi biến thể gồm ảnh thân bóng (gradient + viền) và một ảnh cho từng bước của vệt bóng mờ
+ * (alpha và tỉ lệ đã được "nướng" sẵn vào ảnh), nên khi render chỉ cần {@code drawImage}.
+ * Ảnh được tạo bằng snapshot của Canvas nên chỉ raster hóa trên JavaFX Application Thread: các biến thể
+ * dùng trong màn chơi được tạo sẵn bằng {@link #preload} trước khi thread mô phỏng chạy, còn thread khác
+ * chỉ đọc cache (thread-safe) qua {@link #get}.
+ */
+public final class BallSpriteCache {
+    // Lề quanh ảnh thân bóng để không cắt mất nét viền 1px
+    public static final double PADDING = 1;
+
+    private static final Map<Key, Sprites> cache = new ConcurrentHashMap<>();
+
+    private BallSpriteCache() {}
+
+    private record Key(double radius, Color color, int ghostSteps) {}
+
+    /**
+     * Bộ ảnh đã raster hóa của một biến thể bóng.
+     */
+    public static final class Sprites {
+        private final Image body;
+        private final Image[] ghosts;
+        // Region bọc từng ảnh, tạo cùng lúc với ảnh nên id texture được cấp đúng một lần
+        private final AtlasRegion bodyRegion;
+        private final AtlasRegion[] ghostRegions;
+
+        private Sprites(Image body, Image[] ghosts) {
+            this.body = body;
+            this.ghosts = ghosts;
+            this.bodyRegion = AtlasRegion.of(body);
+            this.ghostRegions = new AtlasRegion[ghosts.length];
+            for (int i = 0; i < ghosts.length; i++) {
+                ghostRegions[i] = AtlasRegion.of(ghosts[i]);
+            }
+        }
+
+        /**
+         * @return ảnh thân bóng, kích thước {@code 2 * radius + 2 * PADDING}
+         */
+        public Image getBody() {
+            return body;
+        }
+
+        /**
+         * @param step bước của vệt (0 là ghost mới nhất)
+         * @return ảnh ghost đã thu nhỏ và làm mờ theo bước
+         */
+        public Image getGhost(int step) {
+            return ghosts[step];
+        }
+
+        /**
+         * @return region của ảnh thân bóng, dùng khi ghi lệnh vẽ
+         */
+        public AtlasRegion getBodyRegion() {
+            return bodyRegion;
+        }
+
+        /**
+         * @param step bước của vệt (0 là ghost mới nhất)
+         * @return region của ảnh ghost, dùng khi ghi lệnh vẽ
+         */
+        public AtlasRegion getGhostRegion(int step) {
+            return ghostRegions[step];
+        }
+    }
+
+    /**
+     * Raster hóa sẵn các biến thể bóng (gọi trên JavaFX Application Thread, trước khi thread khác cần tới).
+     *
+     * @param radius bán kính bóng
+     * @param ghostSteps số bước của vệt bóng mờ
+     * @param colors các màu bóng cần tạo sẵn
+     */
+    public static void preload(double radius, int ghostSteps, Color... colors) {
+        for (Color color : colors) {
+            cache.computeIfAbsent(new Key(radius, color, ghostSteps), BallSpriteCache::rasterize);
+        }
+    }
+
+    /**
+     * Lấy bộ sprite cho một biến thể bóng. Trên JavaFX Application Thread biến thể chưa có được raster hóa ngay;
+     * trên thread khác (hoặc ở chế độ headless, không có toolkit) chỉ trả về biến thể đã có (ví dụ nhờ {@link #preload}).
+     *
+     * @param radius bán kính bóng
+     * @param color màu bóng
+     * @param ghostSteps số bước của vệt bóng mờ
+     * @return bộ sprite của biến thể, hoặc {@code null} nếu chưa được raster hóa và đang ở ngoài FX thread
+     */
+    public static Sprites get(double radius, Color color, int ghostSteps) {
+        Key key = new Key(radius, color, ghostSteps);
+        Sprites sprites = cache.get(key);
+        if (sprites == null && !AssetManager.isHeadless() && Platform.isFxApplicationThread()) {
+            sprites = cache.computeIfAbsent(key, BallSpriteCache::rasterize);
+        }
+        return sprites;
+    }
+
+    private static Sprites rasterize(Key key) {
+        double radius = key.radius();
+        double diameter = radius * 2;
+        SnapshotParameters params = new SnapshotParameters();
+        params.setFill(Color.TRANSPARENT);
+
+        // Thân bóng: cùng gradient và viền như khi vẽ trực tiếp
+        Canvas canvas = new Canvas(diameter + PADDING * 2, diameter + PADDING * 2);
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setFill(new RadialGradient(
+                0, 0,
+                PADDING + radius, PADDING + radius,
+                radius,
+                false,
+                CycleMethod.NO_CYCLE,
+                new Stop(0, Color.WHITE),
+                new Stop(1, key.color())
+        ));
+        gc.fillOval(PADDING, PADDING, diameter, diameter);
+        gc.setStroke(Color.gray(0.2));
+        gc.setLineWidth(1);
+        gc.strokeOval(PADDING, PADDING, diameter, diameter);
+        Image body = canvas.snapshot(params, null);
+
+        // Vệt bóng: bước i có opacity 0.5 * progress và tỉ lệ 0.5 + 0.5 * progress
+        Image[] ghosts = new Image[key.ghostSteps()];
+        for (int i = 0; i < ghosts.length; i++) {
+            double progress = 1.0 - (double) i / ghosts.length;
+            double size = diameter * (0.5 + 0.5 * progress);
+
+            Canvas ghostCanvas = new Canvas(Math.ceil(size), Math.ceil(size));
+            GraphicsContext ghostGc = ghostCanvas.getGraphicsContext2D();
+            ghostGc.setGlobalAlpha(0.5 * progress);
+            ghostGc.setFill(key.color());
+            ghostGc.fillOval(0, 0, size, size);
+            ghosts[i] = ghostCanvas.snapshot(params, null);
+        }
+
+        return new Sprites(body, ghosts);
+    }
+}
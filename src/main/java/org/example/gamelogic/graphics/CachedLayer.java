@@ -0,0 +1,115 @@
+package org.example.gamelogic.graphics;
+
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Affine;
+import org.example.data.AssetManager;
+
+import java.util.function.Consumer;
+
+/**
+ * Một lớp hình ảnh được raster hóa vào ảnh offscreen và chỉ vẽ lại khi bị đánh dấu bẩn.
+ *
+ * <p>Dùng cho những phần màn hình ít thay đổi (nền, khung, HUD): mỗi frame chỉ tốn một
+ * {@code drawImage}, còn nội dung thật chỉ được vẽ lại sau {@link #invalidate()}.
+ * Ngoài vẽ lại toàn bộ, caller có thể vá trực tiếp một phần nội dung qua
+ * {@link #getGraphicsContext()} rồi gọi {@link #markChanged()}.
+ * Phải dùng trên JavaFX Application Thread vì cần snapshot Canvas; ở chế độ headless lớp vẫn gọi
+ * {@code painter} đúng như khi có màn hình nhưng không snapshot và không vẽ gì ra {@code gc}.
+ */
+public final class CachedLayer {
+    private static final Affine IDENTITY = new Affine();
+
+    private final Canvas canvas;
+    private final SnapshotParameters params = new SnapshotParameters();
+    private WritableImage image;
+    private boolean dirty = true;
+    private boolean changed;
+
+    /**
+     * Tạo lớp cache có kích thước cố định.
+     *
+     * @param width chiều rộng ảnh
+     * @param height chiều cao ảnh
+     */
+    public CachedLayer(double width, double height) {
+        this.canvas = new Canvas(width, height);
+        this.params.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Đánh dấu lớp cần vẽ lại ở lần {@link #draw} tiếp theo.
+     */
+    public void invalidate() {
+        this.dirty = true;
+    }
+
+    /**
+     * @return true nếu lớp sẽ được vẽ lại toàn bộ ở lần {@link #draw} tiếp theo
+     */
+    public boolean isDirty() {
+        return dirty;
+    }
+
+    /**
+     * Lấy context của canvas offscreen để vá trực tiếp một vùng của lớp.
+     *
+     * @return GraphicsContext của lớp (toạ độ gốc là góc trên trái của lớp)
+     */
+    public GraphicsContext getGraphicsContext() {
+        return canvas.getGraphicsContext2D();
+    }
+
+    /**
+     * Báo rằng nội dung canvas đã được vá; ảnh sẽ được snapshot lại (không vẽ lại toàn bộ)
+     * ở lần {@link #draw} tiếp theo.
+     */
+    public void markChanged() {
+        this.changed = true;
+    }
+
+    /**
+     * Vẽ ảnh cache lên {@code gc} tại (x, y); nếu lớp đang bẩn thì gọi {@code painter}
+     * (với toạ độ gốc là góc trên trái của lớp) để raster hóa lại trước.
+     *
+     * @param gc context đích
+     * @param x toạ độ x đặt lớp
+     * @param y toạ độ y đặt lớp
+     * @param painter hàm vẽ nội dung của lớp
+     */
+    public void draw(GraphicsContext gc, double x, double y, Consumer<GraphicsContext> painter) {
+        if (dirty) {
+            GraphicsContext layerGc = canvas.getGraphicsContext2D();
+            layerGc.setTransform(IDENTITY);
+            layerGc.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+            layerGc.save();
+            try {
+                painter.accept(layerGc);
+            } finally {
+                layerGc.restore();
+            }
+            dirty = false;
+            changed = true;
+        }
+        if (changed) {
+            if (!AssetManager.isHeadless()) {
+                image = canvas.snapshot(params, image);
+            }
+            changed = false;
+        }
+        if (image != null) {
+            gc.drawImage(image, x, y);
+        }
+    }
+
+    /**
+     * @return ảnh đã raster hóa gần nhất (null nếu chưa vẽ lần nào)
+     */
+    public Image getImage() {
+        return image;
+    }
+}
@@ -0,0 +1,39 @@
+package org.example.gamelogic.graphics;
+
+/**
+ * Các giá trị đang được vẽ trên lớp giá trị của HUD (điểm, thời gian, màn, số mạng).
+ *
+ * <p>Lớp khung của HUD (nền, nhãn) không phụ thuộc các giá trị này nên chỉ raster hóa một lần;
+ * lớp giá trị chỉ cần vẽ lại khi {@link #set} báo có thay đổi.
+ */
+public final class HudValues {
+    private int score = -1;
+    private String time;
+    private int level = -1;
+    private int lives = -1;
+
+    /**
+     * Ghi nhận giá trị mới.
+     *
+     * @param score điểm
+     * @param time  thời gian đã định dạng
+     * @param level số màn / wave
+     * @param lives số mạng
+     * @return true nếu có ít nhất một giá trị khác lần trước (lớp giá trị cần vẽ lại)
+     */
+    public boolean set(int score, String time, int level, int lives) {
+        if (score == this.score && time.equals(this.time) && level == this.level && lives == this.lives) {
+            return false;
+        }
+        this.score = score;
+        this.time = time;
+        this.level = level;
+        this.lives = lives;
+        return true;
+    }
+
+    public int getScore() { return score; }
+    public String getTime() { return time; }
+    public int getLevel() { return level; }
+    public int getLives() { return lives; }
+}
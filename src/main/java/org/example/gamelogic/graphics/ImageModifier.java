@@ -2,38 +2,102 @@ package org.example.gamelogic.graphics;
 
 import javafx.scene.image.Image;
 import javafx.scene.image.PixelReader;
-import javafx.scene.image.PixelWriter;
 import javafx.scene.image.WritableImage;
+import javafx.scene.image.WritablePixelFormat;
 import javafx.scene.paint.Color;
+import org.example.config.GameConstants;
+
+import java.nio.IntBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.stream.IntStream;
 
 public final class ImageModifier {
+    // Kết quả tint theo (ảnh nguồn, màu); ảnh nguồn bị GC thì các bản tint cũng được giải phóng
+    private static final Map<Image, Map<Color, Image>> tintCache = new WeakHashMap<>();
+
     private ImageModifier() {
 
     }
 
     /**
      * Creates a tinted copy of the given grayscale image.
+     * <br>Kết quả được cache theo (ảnh, màu tint): gọi lại với cùng tham số trả về cùng một ảnh.
+     * Pixel được xử lý theo lô qua bộ đệm ARGB {@code int[]}; ảnh lớn được chia theo hàng
+     * và tint song song trên fork-join pool.
      */
     public static Image tintImage(Image src, Color tint) {
+        synchronized (tintCache) {
+            Map<Color, Image> variants = tintCache.computeIfAbsent(src, key -> new HashMap<>());
+            Image cached = variants.get(tint);
+            if (cached == null) {
+                cached = tintPixels(src, tint);
+                variants.put(tint, cached);
+            }
+            return cached;
+        }
+    }
+
+    private static Image tintPixels(Image src, Color tint) {
         int w = (int) src.getWidth();
         int h = (int) src.getHeight();
-        WritableImage tinted = new WritableImage(w, h);
         PixelReader pr = src.getPixelReader();
-        PixelWriter pw = tinted.getPixelWriter();
-
-        for (int y = 0; y < h; y++) {
-            for (int x = 0; x < w; x++) {
-                Color c = pr.getColor(x, y);
-                if (c.getOpacity() > 0.0) {
-                    // multiply tint hue with brightness of grayscale pixel
-                    double brightness = c.getBrightness();
-                    Color newColor = tint.deriveColor(0, 1, brightness, c.getOpacity());
-                    pw.setColor(x, y, newColor);
-                } else {
-                    pw.setColor(x, y, Color.TRANSPARENT);
-                }
-            }
+        WritablePixelFormat<IntBuffer> format = WritablePixelFormat.getIntArgbInstance();
+
+        int[] pixels = new int[w * h];
+        pr.getPixels(0, 0, w, h, format, pixels, 0, w);
+
+        int tintArgb = toArgb(tint);
+        IntStream rows = IntStream.range(0, h);
+        if ((long) w * h >= GameConstants.TINT_PARALLEL_MIN_PIXELS) {
+            rows = rows.parallel();
         }
+        rows.forEach(y -> {
+            int end = (y + 1) * w;
+            for (int i = y * w; i < end; i++) {
+                pixels[i] = tintArgb(pixels[i], tintArgb);
+            }
+        });
+
+        WritableImage tinted = new WritableImage(w, h);
+        tinted.getPixelWriter().setPixels(0, 0, w, h, format, pixels, 0, w);
         return tinted;
     }
+
+    /**
+     * Kernel tint số nguyên cho một pixel ARGB (không premultiplied): giữ hue/saturation của màu tint,
+     * nhân độ sáng của tint với độ sáng (kênh lớn nhất) của pixel xám và nhân alpha của hai bên;
+     * tương đương {@code tint.deriveColor(0, 1, brightness, opacity)}.
+     *
+     * @param pixel pixel nguồn
+     * @param tintArgb màu tint dạng ARGB
+     * @return pixel đã tint (0 nếu pixel nguồn trong suốt hoàn toàn)
+     */
+    public static int tintArgb(int pixel, int tintArgb) {
+        int alpha = pixel >>> 24;
+        if (alpha == 0) {
+            return 0;
+        }
+        int brightness = Math.max((pixel >> 16) & 0xFF, Math.max((pixel >> 8) & 0xFF, pixel & 0xFF));
+        int a = mul255(tintArgb >>> 24, alpha);
+        int r = mul255((tintArgb >> 16) & 0xFF, brightness);
+        int g = mul255((tintArgb >> 8) & 0xFF, brightness);
+        int b = mul255(tintArgb & 0xFF, brightness);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
+
+    // (x * y) / 255 làm tròn, không dùng phép chia
+    private static int mul255(int x, int y) {
+        int t = x * y + 128;
+        return (t + (t >> 8)) >> 8;
+    }
+
+    private static int toArgb(Color color) {
+        int a = (int) Math.round(color.getOpacity() * 255);
+        int r = (int) Math.round(color.getRed() * 255);
+        int g = (int) Math.round(color.getGreen() * 255);
+        int b = (int) Math.round(color.getBlue() * 255);
+        return (a << 24) | (r << 16) | (g << 8) | b;
+    }
 }
@@ -0,0 +1,494 @@
+package org.example.gamelogic.graphics;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Paint;
+import javafx.scene.text.Font;
+import org.example.config.GameConstants;
+import org.example.data.TextureRegistry;
+
+import java.util.Arrays;
+
+/**
+ * Danh sách lệnh vẽ trung gian giữa logic game và {@link GraphicsContext}.
+ *
+ * <p>Trong lúc render, entity/manager ghi lệnh (vẽ sprite theo id texture, tô hình chữ nhật, chữ, hoặc
+ * chuyển tiếp sang vẽ trực tiếp) vào buffer; {@link #submit(GraphicsContext)} phát lại toàn bộ trong một lượt,
+ * chỉ đổi fill/alpha khi cần. Mỗi lệnh mang layer và alpha hiện tại lúc ghi ({@link #setLayer}, {@link #setAlpha}).
+ *
+ * <p>{@link #sortByLayerAndTexture()} sắp xếp ổn định theo layer rồi gom các sprite cùng texture; trong một
+ * layer, lệnh không phải sprite (hình chữ nhật, chữ, vẽ trực tiếp) giữ nguyên vị trí so với các sprite ghi
+ * trước và sau nó, nên lớp phủ ghi sau sprite vẫn nằm trên sprite đó.
+ * Buffer không cần JavaFX toolkit để ghi và đọc lại, nên dùng được trong test và benchmark headless.
+ *
+ * <p>Lệnh có thể mang khóa đối tượng ({@link #setKey}); khi phát lại kèm buffer của tick trước
+ * ({@link #submit(GraphicsContext, RenderCommandBuffer, double)}), mọi lệnh cùng khóa được dời theo
+ * độ lệch nội suy của lệnh đầu tiên mang khóa đó.
+ */
+public final class RenderCommandBuffer {
+    public static final int SPRITE = 0;
+    public static final int FILL_RECT = 1;
+    public static final int TEXT = 2;
+    public static final int IMMEDIATE = 3;
+
+    /**
+     * Đối tượng tự vẽ trực tiếp lên {@link GraphicsContext}; dùng cho phần chưa chuyển sang lệnh.
+     */
+    public interface Immediate {
+        void render(GraphicsContext gc);
+    }
+
+    private static final int COORDS = 8;
+
+    private int size;
+    private byte[] ops = new byte[64];
+    private int[] layers = new int[64];
+    private int[] textures = new int[64];
+    private int[] keys = new int[64];
+    private double[] alphas = new double[64];
+    private double[] coords = new double[64 * COORDS];
+    // String của lệnh chữ, Immediate của lệnh vẽ trực tiếp
+    private Object[] payloads = new Object[64];
+    private Paint[] fills = new Paint[64];
+    private Font[] fonts = new Font[64];
+
+    private int[] order = new int[64];
+    private long[] sortKeys = new long[0];
+    private boolean sorted;
+    // (khóa << 32 | chỉ số lệnh đầu tiên mang khóa), sắp xếp theo khóa; keyIndexSize = -1 khi chưa lập
+    private long[] keyIndex = new long[0];
+    private int keyIndexSize = -1;
+
+    private int currentLayer;
+    private double currentAlpha = 1.0;
+    private int currentKey;
+
+    /**
+     * Đặt layer cho các lệnh ghi sau đó.
+     *
+     * @param layer layer (nhỏ hơn được vẽ trước)
+     */
+    public void setLayer(int layer) {
+        this.currentLayer = layer;
+    }
+
+    /**
+     * @return layer đang dùng để ghi lệnh
+     */
+    public int getLayer() {
+        return currentLayer;
+    }
+
+    /**
+     * Đặt độ trong suốt cho các lệnh ghi sau đó.
+     *
+     * @param alpha alpha trong khoảng [0, 1]
+     */
+    public void setAlpha(double alpha) {
+        this.currentAlpha = alpha;
+    }
+
+    /**
+     * @return alpha đang dùng để ghi lệnh
+     */
+    public double getAlpha() {
+        return currentAlpha;
+    }
+
+    /**
+     * Đặt khóa đối tượng cho các lệnh ghi sau đó, dùng để ghép lệnh giữa hai tick khi nội suy.
+     *
+     * @param key khóa dương (0 = không nội suy)
+     */
+    public void setKey(int key) {
+        this.currentKey = key;
+    }
+
+    /**
+     * Ghi lệnh vẽ một vùng của texture.
+     *
+     * @param texture id texture do {@link TextureRegistry} cấp
+     */
+    public void drawSprite(int texture, double sx, double sy, double sw, double sh,
+                           double dx, double dy, double dw, double dh) {
+        int i = add(SPRITE, texture, null);
+        int c = i * COORDS;
+        coords[c] = sx;
+        coords[c + 1] = sy;
+        coords[c + 2] = sw;
+        coords[c + 3] = sh;
+        coords[c + 4] = dx;
+        coords[c + 5] = dy;
+        coords[c + 6] = dw;
+        coords[c + 7] = dh;
+    }
+
+    /**
+     * Ghi lệnh tô hình chữ nhật.
+     *
+     * @param fill màu/paint tô
+     */
+    public void fillRect(Paint fill, double x, double y, double w, double h) {
+        int i = add(FILL_RECT, -1, null);
+        fills[i] = fill;
+        int c = i * COORDS;
+        coords[c] = x;
+        coords[c + 1] = y;
+        coords[c + 2] = w;
+        coords[c + 3] = h;
+    }
+
+    /**
+     * Ghi lệnh vẽ chữ (theo text align hiện tại của context khi phát lại).
+     *
+     * @param text nội dung
+     * @param font font (null thì giữ font hiện tại của context)
+     * @param fill màu chữ
+     */
+    public void fillText(String text, Font font, Paint fill, double x, double y) {
+        int i = add(TEXT, -1, text);
+        fills[i] = fill;
+        fonts[i] = font;
+        int c = i * COORDS;
+        coords[c] = x;
+        coords[c + 1] = y;
+    }
+
+    /**
+     * Ghi lệnh chuyển tiếp: khi phát lại, {@code target} tự vẽ trực tiếp lên context.
+     *
+     * @param target đối tượng tự vẽ
+     */
+    public void immediate(Immediate target) {
+        add(IMMEDIATE, -1, target);
+    }
+
+    private int add(int op, int texture, Object payload) {
+        if (size == ops.length) {
+            grow();
+        }
+        if (sorted) {
+            // Ghi thêm sau khi đã sắp xếp: quay về thứ tự ghi
+            for (int k = 0; k < size; k++) {
+                order[k] = k;
+            }
+            sorted = false;
+        }
+        keyIndexSize = -1;
+        int i = size++;
+        ops[i] = (byte) op;
+        layers[i] = currentLayer;
+        textures[i] = texture;
+        keys[i] = currentKey;
+        alphas[i] = currentAlpha;
+        payloads[i] = payload;
+        fills[i] = null;
+        fonts[i] = null;
+        order[i] = i;
+        return i;
+    }
+
+    private void grow() {
+        int capacity = ops.length * 2;
+        ops = Arrays.copyOf(ops, capacity);
+        layers = Arrays.copyOf(layers, capacity);
+        textures = Arrays.copyOf(textures, capacity);
+        keys = Arrays.copyOf(keys, capacity);
+        alphas = Arrays.copyOf(alphas, capacity);
+        coords = Arrays.copyOf(coords, capacity * COORDS);
+        payloads = Arrays.copyOf(payloads, capacity);
+        fills = Arrays.copyOf(fills, capacity);
+        fonts = Arrays.copyOf(fonts, capacity);
+        order = Arrays.copyOf(order, capacity);
+    }
+
+    /**
+     * Sắp xếp ổn định thứ tự phát lại theo layer; trong một layer chỉ các sprite nằm giữa hai lệnh
+     * không phải sprite liền kề mới được gom theo texture, còn lệnh không phải sprite giữ thứ tự ghi.
+     */
+    public void sortByLayerAndTexture() {
+        if (sortKeys.length < size) {
+            sortKeys = new long[ops.length];
+        }
+        // Khóa 63 bit: layer (11) | đoạn (12) | texture (12) | chỉ số lệnh (28).
+        // Đoạn tăng mỗi khi lệnh chuyển giữa sprite và không phải sprite. Đoạn và texture bị chặn trên:
+        // quá 4096 đoạn trong một frame thì các đoạn cuối dồn chung và chỉ còn giữ thứ tự theo texture.
+        int run = 0;
+        for (int i = 0; i < size; i++) {
+            if (i > 0 && (ops[i] == SPRITE) != (ops[i - 1] == SPRITE)) {
+                run++;
+            }
+            long layer = (layers[i] + 0x400L) & 0x7FFL;
+            long segment = Math.min(run, 0xFFF);
+            long texture = Math.min(textures[i] + 1L, 0xFFFL);
+            sortKeys[i] = (layer << 52) | (segment << 40) | (texture << 28) | i;
+        }
+        Arrays.sort(sortKeys, 0, size);
+        for (int i = 0; i < size; i++) {
+            order[i] = (int) (sortKeys[i] & 0xFFFFFFFL);
+        }
+        sorted = true;
+    }
+
+    /**
+     * Lập bảng tra lệnh đầu tiên (theo thứ tự ghi) của mỗi khóa; cần gọi trước khi buffer
+     * được dùng làm một trong hai đầu nội suy.
+     */
+    public void buildKeyIndex() {
+        if (keyIndex.length < size) {
+            keyIndex = new long[ops.length];
+        }
+        int n = 0;
+        for (int i = 0; i < size; i++) {
+            if (keys[i] > 0) {
+                keyIndex[n++] = ((long) keys[i] << 32) | i;
+            }
+        }
+        Arrays.sort(keyIndex, 0, n);
+        // Giữ lại mục có chỉ số nhỏ nhất của mỗi khóa
+        int unique = 0;
+        for (int k = 0; k < n; k++) {
+            if (unique == 0 || (keyIndex[k] >>> 32) != (keyIndex[unique - 1] >>> 32)) {
+                keyIndex[unique++] = keyIndex[k];
+            }
+        }
+        keyIndexSize = unique;
+    }
+
+    /**
+     * Tìm lệnh đầu tiên (theo thứ tự ghi) mang khóa cho trước.
+     *
+     * @param key khóa đối tượng
+     * @return chỉ số lệnh theo thứ tự ghi, hoặc -1 nếu không có hoặc chưa gọi {@link #buildKeyIndex()}
+     */
+    public int indexOfKey(int key) {
+        int lo = 0;
+        int hi = keyIndexSize - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            long midKey = keyIndex[mid] >>> 32;
+            if (midKey < key) {
+                lo = mid + 1;
+            } else if (midKey > key) {
+                hi = mid - 1;
+            } else {
+                return (int) keyIndex[mid];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Toạ độ x đích của lệnh theo thứ tự ghi (góc trên trái của sprite/hình chữ nhật, gốc của chữ).
+     *
+     * @param i chỉ số lệnh theo thứ tự ghi
+     */
+    public double getX(int i) {
+        return coords[i * COORDS + (ops[i] == SPRITE ? 4 : 0)];
+    }
+
+    /**
+     * Toạ độ y đích của lệnh theo thứ tự ghi.
+     *
+     * @param i chỉ số lệnh theo thứ tự ghi
+     */
+    public double getY(int i) {
+        return coords[i * COORDS + (ops[i] == SPRITE ? 5 : 1)];
+    }
+
+    /**
+     * Phát lại mọi lệnh lên context theo thứ tự hiện tại (thứ tự ghi, hoặc thứ tự đã sắp xếp).
+     * <br>Trạng thái của context (fill, alpha, font) được khôi phục sau khi phát lại.
+     *
+     * @param gc context đích
+     * @return số lệnh vẽ đã gửi tới context
+     */
+    public int submit(GraphicsContext gc) {
+        return submit(gc, null, 1.0);
+    }
+
+    /**
+     * Phát lại mọi lệnh, nội suy vị trí của lệnh có khóa giữa buffer của tick trước và buffer này.
+     * <br>Lệnh có khóa không xuất hiện ở tick trước, hoặc dịch quá
+     * {@link GameConstants#SNAPSHOT_MAX_INTERPOLATION_DISTANCE} (đối tượng được tái sử dụng/dịch chuyển tức thời),
+     * được vẽ nguyên vị trí hiện tại. Cả hai buffer cần đã gọi {@link #buildKeyIndex()}.
+     *
+     * @param gc       context đích
+     * @param previous buffer của tick trước (null thì không nội suy)
+     * @param alpha    vị trí trong khoảng [0, 1] giữa tick trước (0) và tick này (1)
+     * @return số lệnh vẽ đã gửi tới context
+     */
+    public int submit(GraphicsContext gc, RenderCommandBuffer previous, double alpha) {
+        boolean interpolate = previous != null && alpha < 1.0 && keyIndexSize >= 0 && previous.keyIndexSize >= 0;
+        double back = 1.0 - alpha;
+        double maxDistance = GameConstants.SNAPSHOT_MAX_INTERPOLATION_DISTANCE;
+        int lastKey = 0;
+        double offsetX = 0;
+        double offsetY = 0;
+
+        int drawCalls = 0;
+        Paint lastFill = null;
+        double lastAlpha = Double.NaN;
+        Font lastFont = null;
+
+        gc.save();
+        try {
+            for (int k = 0; k < size; k++) {
+                int i = order[k];
+                if (alphas[i] != lastAlpha && ops[i] != IMMEDIATE) {
+                    lastAlpha = alphas[i];
+                    gc.setGlobalAlpha(lastAlpha);
+                }
+                double ox = 0;
+                double oy = 0;
+                if (interpolate && keys[i] > 0) {
+                    if (keys[i] != lastKey) {
+                        lastKey = keys[i];
+                        offsetX = 0;
+                        offsetY = 0;
+                        int from = previous.indexOfKey(lastKey);
+                        if (from >= 0) {
+                            int to = indexOfKey(lastKey);
+                            double deltaX = previous.getX(from) - getX(to);
+                            double deltaY = previous.getY(from) - getY(to);
+                            if (Math.abs(deltaX) <= maxDistance && Math.abs(deltaY) <= maxDistance) {
+                                offsetX = deltaX * back;
+                                offsetY = deltaY * back;
+                            }
+                        }
+                    }
+                    ox = offsetX;
+                    oy = offsetY;
+                }
+                int c = i * COORDS;
+                switch (ops[i]) {
+                    case SPRITE -> {
+                        Image image = TextureRegistry.get(textures[i]);
+                        if (image != null) {
+                            gc.drawImage(image, coords[c], coords[c + 1], coords[c + 2], coords[c + 3],
+                                    coords[c + 4] + ox, coords[c + 5] + oy, coords[c + 6], coords[c + 7]);
+                            drawCalls++;
+                        }
+                    }
+                    case FILL_RECT -> {
+                        Paint fill = fills[i];
+                        if (fill != lastFill) {
+                            lastFill = fill;
+                            gc.setFill(fill);
+                        }
+                        gc.fillRect(coords[c] + ox, coords[c + 1] + oy, coords[c + 2], coords[c + 3]);
+                        drawCalls++;
+                    }
+                    case TEXT -> {
+                        Paint fill = fills[i];
+                        if (fill != lastFill) {
+                            lastFill = fill;
+                            gc.setFill(fill);
+                        }
+                        if (fonts[i] != null && fonts[i] != lastFont) {
+                            lastFont = fonts[i];
+                            gc.setFont(lastFont);
+                        }
+                        gc.fillText((String) payloads[i], coords[c] + ox, coords[c + 1] + oy);
+                        drawCalls++;
+                    }
+                    default -> {
+                        // Vẽ trực tiếp có thể đổi bất kỳ trạng thái nào của context
+                        gc.setGlobalAlpha(1.0);
+                        ((Immediate) payloads[i]).render(gc);
+                        lastFill = null;
+                        lastFont = null;
+                        lastAlpha = Double.NaN;
+                        drawCalls++;
+                    }
+                }
+            }
+        } finally {
+            gc.restore();
+        }
+        return drawCalls;
+    }
+
+    /**
+     * Xóa mọi lệnh để ghi khung hình mới; layer và alpha trở về mặc định.
+     */
+    public void clear() {
+        Arrays.fill(payloads, 0, size, null);
+        Arrays.fill(fills, 0, size, null);
+        Arrays.fill(fonts, 0, size, null);
+        size = 0;
+        sorted = false;
+        keyIndexSize = -1;
+        currentLayer = 0;
+        currentAlpha = 1.0;
+        currentKey = 0;
+    }
+
+    /**
+     * @return số lệnh đã ghi
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * @return true nếu thứ tự phát lại hiện tại là thứ tự đã sắp xếp
+     */
+    public boolean isSorted() {
+        return sorted;
+    }
+
+    /**
+     * Loại lệnh thứ {@code k} theo thứ tự phát lại.
+     *
+     * @param k vị trí trong thứ tự phát lại
+     * @return một trong {@link #SPRITE}, {@link #FILL_RECT}, {@link #TEXT}, {@link #IMMEDIATE}
+     */
+    public int getOp(int k) {
+        return ops[order[k]];
+    }
+
+    /**
+     * @param k vị trí trong thứ tự phát lại
+     * @return layer của lệnh
+     */
+    public int getLayerAt(int k) {
+        return layers[order[k]];
+    }
+
+    /**
+     * @param k vị trí trong thứ tự phát lại
+     * @return id texture của lệnh (-1 nếu lệnh không dùng texture)
+     */
+    public int getTexture(int k) {
+        return textures[order[k]];
+    }
+
+    /**
+     * @param k vị trí trong thứ tự phát lại
+     * @return alpha của lệnh
+     */
+    public double getAlpha(int k) {
+        return alphas[order[k]];
+    }
+
+    /**
+     * Số lần phải đổi texture khi phát lại theo thứ tự hiện tại (xấp xỉ số batch sprite).
+     *
+     * @return số lần đổi texture giữa hai lệnh sprite liên tiếp
+     */
+    public int countTextureSwitches() {
+        int switches = 0;
+        int last = Integer.MIN_VALUE;
+        for (int k = 0; k < size; k++) {
+            int i = order[k];
+            if (ops[i] == SPRITE && textures[i] != last) {
+                if (last != Integer.MIN_VALUE) {
+                    switches++;
+                }
+                last = textures[i];
+            }
+        }
+        return switches;
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.gamelogic.graphics;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Ảnh chụp trạng thái cần để vẽ một tick mô phỏng: lệnh vẽ vùng chơi và các giá trị HUD.
+ *
+ * <p>Thread mô phỏng ghi snapshot qua {@link #begin} và các setter, rồi công bố qua {@link SnapshotExchange};
+ * từ lúc đó snapshot được coi là bất biến cho tới khi FX thread trả lại để tái sử dụng.
+ * Snapshot chỉ chứa giá trị (toạ độ, id texture, số, chuỗi), không tham chiếu tới entity đang được cập nhật.
+ */
+public final class RenderSnapshot {
+    private final RenderCommandBuffer commands = new RenderCommandBuffer();
+
+    private long tick;
+    private long timeNanos;
+    private Source source;
+
+    private Image background;
+    private double backgroundBlend;
+    private int phase;
+    private double phaseTimer;
+    private int score;
+    private int lives;
+    private int level;
+    private String time = "";
+
+    /**
+     * State có thể được mô phỏng trên thread riêng: chụp snapshot trên thread mô phỏng
+     * và vẽ snapshot trên FX thread.
+     */
+    public interface Source {
+        /**
+         * Ghi trạng thái hiện tại vào snapshot (gọi trên thread mô phỏng, sau {@link #begin}).
+         *
+         * @param snapshot snapshot đích
+         */
+        void capture(RenderSnapshot snapshot);
+
+        /**
+         * Vẽ {@code current}, nội suy từ {@code previous} theo {@code alpha}.
+         *
+         * @param gc       context đích
+         * @param current  snapshot mới nhất
+         * @param previous snapshot trước đó (có thể null)
+         * @param alpha    vị trí trong khoảng [0, 1] giữa previous (0) và current (1)
+         */
+        void render(GraphicsContext gc, RenderSnapshot current, RenderSnapshot previous, double alpha);
+    }
+
+    /**
+     * Bắt đầu ghi snapshot cho một tick mới; xóa lệnh vẽ của lần dùng trước.
+     *
+     * @param tick      số thứ tự tick mô phỏng
+     * @param timeNanos thời điểm kết thúc tick (nanosecond, cùng nguồn với {@link System#nanoTime()})
+     * @param source    state chụp và sẽ vẽ snapshot
+     */
+    public void begin(long tick, long timeNanos, Source source) {
+        this.tick = tick;
+        this.timeNanos = timeNanos;
+        this.source = source;
+        this.commands.clear();
+    }
+
+    /**
+     * @return buffer lệnh vẽ vùng chơi
+     */
+    public RenderCommandBuffer getCommands() {
+        return commands;
+    }
+
+    public long getTick() { return tick; }
+    public long getTimeNanos() { return timeNanos; }
+    public Source getSource() { return source; }
+
+    public Image getBackground() { return background; }
+    public void setBackground(Image background) { this.background = background; }
+
+    public double getBackgroundBlend() { return backgroundBlend; }
+    public void setBackgroundBlend(double backgroundBlend) { this.backgroundBlend = backgroundBlend; }
+
+    public int getPhase() { return phase; }
+    public void setPhase(int phase) { this.phase = phase; }
+
+    public double getPhaseTimer() { return phaseTimer; }
+    public void setPhaseTimer(double phaseTimer) { this.phaseTimer = phaseTimer; }
+
+    public int getScore() { return score; }
+    public void setScore(int score) { this.score = score; }
+
+    public int getLives() { return lives; }
+    public void setLives(int lives) { this.lives = lives; }
+
+    public int getLevel() { return level; }
+    public void setLevel(int level) { this.level = level; }
+
+    public String getTime() { return time; }
+    public void setTime(String time) { this.time = time; }
+}
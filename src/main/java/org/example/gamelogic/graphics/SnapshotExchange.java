@@ -0,0 +1,96 @@
+package org.example.gamelogic.graphics;
+
+import java.util.ArrayDeque;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Trao {@link RenderSnapshot} từ thread mô phỏng sang FX thread không cần khóa.
+ *
+ * <p>Mỗi snapshot tại một thời điểm chỉ thuộc về đúng một bên: thread mô phỏng (đang ghi hoặc nằm trong pool),
+ * ô {@code latest} (đã công bố, chưa được lấy), FX thread (cặp current/previous dùng để nội suy),
+ * hoặc ô {@code returned} (FX đã vẽ xong, chờ tái sử dụng). Các ô trao đổi là {@link AtomicReference},
+ * nên mọi thay đổi ghi vào snapshot trước khi công bố đều thấy được ở bên nhận.
+ * <br>Ở trạng thái ổn định chỉ có khoảng năm snapshot luân phiên, không cấp phát thêm.
+ *
+ * <p>{@link #acquire()} và {@link #publish} chỉ được gọi từ thread mô phỏng;
+ * {@link #poll()}, {@link #current()}, {@link #previous()} chỉ từ FX thread.
+ */
+public final class SnapshotExchange {
+    private final AtomicReference<RenderSnapshot> latest = new AtomicReference<>();
+    private final AtomicReference<RenderSnapshot> returned = new AtomicReference<>();
+
+    // Chỉ thread mô phỏng dùng
+    private final ArrayDeque<RenderSnapshot> free = new ArrayDeque<>();
+
+    // Chỉ FX thread dùng
+    private RenderSnapshot current;
+    private RenderSnapshot previous;
+
+    /**
+     * Lấy một snapshot rảnh để ghi tick mới (tái sử dụng snapshot FX đã trả lại nếu có).
+     *
+     * @return snapshot thuộc về thread mô phỏng cho tới khi {@link #publish}
+     */
+    public RenderSnapshot acquire() {
+        RenderSnapshot back = returned.getAndSet(null);
+        if (back != null) {
+            free.push(back);
+        }
+        return free.isEmpty() ? new RenderSnapshot() : free.pop();
+    }
+
+    /**
+     * Công bố snapshot vừa ghi xong; snapshot công bố trước đó mà FX chưa kịp lấy được thu hồi.
+     *
+     * @param snapshot snapshot lấy từ {@link #acquire()}
+     */
+    public void publish(RenderSnapshot snapshot) {
+        RenderSnapshot skipped = latest.getAndSet(snapshot);
+        if (skipped != null) {
+            free.push(skipped);
+        }
+    }
+
+    /**
+     * Lấy snapshot mới nhất nếu có: current cũ thành previous, previous cũ được trả cho thread mô phỏng.
+     *
+     * @return true nếu có snapshot mới
+     */
+    public boolean poll() {
+        RenderSnapshot incoming = latest.getAndSet(null);
+        if (incoming == null) {
+            return false;
+        }
+        if (previous != null) {
+            // Nếu ô trả lại còn đầy thì snapshot cũ đó bị bỏ cho GC
+            returned.set(previous);
+        }
+        previous = current;
+        current = incoming;
+        return true;
+    }
+
+    /**
+     * @return snapshot mới nhất FX thread đang giữ (null nếu chưa có)
+     */
+    public RenderSnapshot current() {
+        return current;
+    }
+
+    /**
+     * @return snapshot FX thread giữ trước {@link #current()} (null nếu chưa có)
+     */
+    public RenderSnapshot previous() {
+        return previous;
+    }
+
+    /**
+     * Bỏ các snapshot FX đang giữ và snapshot chưa được lấy.
+     * Chỉ gọi khi thread mô phỏng không công bố (ví dụ trước khi giao lại quyền mô phỏng).
+     */
+    public void reset() {
+        latest.set(null);
+        current = null;
+        previous = null;
+    }
+}
@@ -1,13 +1,69 @@
 package org.example.gamelogic.graphics;
 
+import javafx.geometry.Bounds;
+import javafx.geometry.VPos;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.effect.BlurType;
 import javafx.scene.effect.DropShadow;
+import javafx.scene.image.Image;
+import javafx.scene.paint.Color;
 import javafx.scene.paint.Paint;
 import javafx.scene.text.Font;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+import org.example.config.GameConstants;
+import org.example.data.WeightedLruCache;
 
 public final class TextRenderer {
     private TextRenderer() {}
 
+    private static final double LINE_GAP = 10;
+
+    /**
+     * Khóa cache: mọi tham số ảnh hưởng tới ảnh chữ đã raster hóa.
+     */
+    private record TextKey(String text, Font font, Paint fill, Paint stroke, double strokeWidth,
+                           ShadowKey shadow, TextAlignment align) {}
+
+    /**
+     * Giá trị của bóng đổ; {@link DropShadow} so sánh theo identity nên không dùng trực tiếp làm khóa,
+     * nếu không mỗi state tạo bóng mới sẽ raster hóa lại mọi chuỗi chữ.
+     */
+    private record ShadowKey(double radius, double spread, double offsetX, double offsetY,
+                             Color color, BlurType blurType) {
+        static ShadowKey of(DropShadow shadow) {
+            if (shadow == null) {
+                return null;
+            }
+            return new ShadowKey(shadow.getRadius(), shadow.getSpread(), shadow.getOffsetX(),
+                    shadow.getOffsetY(), shadow.getColor(), shadow.getBlurType());
+        }
+    }
+
+    /**
+     * Ảnh chữ đã raster hóa và điểm neo (vị trí của (x, baseline dòng đầu) trong ảnh).
+     */
+    private record CachedText(Image image, double anchorX, double anchorY) {}
+
+    // LRU bị giới hạn theo cả số mục và tổng dung lượng pixel
+    private static final WeightedLruCache<TextKey, CachedText> cache = new WeightedLruCache<>(
+            GameConstants.TEXT_CACHE_MAX_ENTRIES, GameConstants.TEXT_CACHE_MAX_BYTES);
+
+    private static final Text measure = new Text();
+    private static final SnapshotParameters snapshotParams = new SnapshotParameters();
+    static {
+        measure.setTextOrigin(VPos.BASELINE);
+        snapshotParams.setFill(Color.TRANSPARENT);
+    }
+
+    /**
+     * Vẽ chữ có viền và bóng tại (x, y) theo text align hiện tại của {@code gc}.
+     * <br>Lần đầu gặp một tổ hợp (chữ, font, màu, viền, bóng, align) chữ được raster hóa vào ảnh
+     * và cache lại; các lần sau chỉ còn một {@code drawImage}. Khi baseline của {@code gc}
+     * không phải {@link VPos#BASELINE} thì vẽ trực tiếp như cũ.
+     */
     public static void drawOutlinedText(GraphicsContext gc,
                                         String text,
                                         double x,
@@ -17,6 +73,87 @@ public final class TextRenderer {
                                         Paint strokePaint,
                                         double strokeWidth,
                                         DropShadow shadow) {
+        if (!GameConstants.USE_TEXT_CACHE || font == null || gc.getTextBaseline() != VPos.BASELINE) {
+            drawOutlinedTextDirect(gc, text, x, y, font, fillPaint, strokePaint, strokeWidth, shadow);
+            return;
+        }
+
+        TextAlignment align = gc.getTextAlign();
+        TextKey key = new TextKey(text, font, fillPaint, strokePaint, strokeWidth, ShadowKey.of(shadow), align);
+        CachedText cached = cache.get(key);
+        if (cached == null) {
+            cached = rasterize(key, shadow);
+            Image image = cached.image();
+            cache.put(key, cached, (long) image.getWidth() * (long) image.getHeight() * 4);
+        }
+        gc.drawImage(cached.image(), x - cached.anchorX(), y - cached.anchorY());
+    }
+
+    /**
+     * @return số ảnh chữ đang được cache
+     */
+    public static int getCachedCount() {
+        return cache.size();
+    }
+
+    /**
+     * Xóa toàn bộ cache ảnh chữ.
+     */
+    public static void clearCache() {
+        cache.clear();
+    }
+
+    private static CachedText rasterize(TextKey key, DropShadow shadow) {
+        String[] lines = key.text().split("\n");
+        measure.setFont(key.font());
+
+        double maxWidth = 0;
+        double ascent = 0;
+        double descent = 0;
+        for (String line : lines) {
+            measure.setText(line);
+            Bounds bounds = measure.getLayoutBounds();
+            maxWidth = Math.max(maxWidth, bounds.getWidth());
+            ascent = Math.max(ascent, -bounds.getMinY());
+            descent = Math.max(descent, bounds.getMaxY());
+        }
+        double lineStep = key.font().getSize() + LINE_GAP;
+
+        double pad = Math.ceil(key.strokeWidth()) + 2;
+        if (shadow != null) {
+            pad += Math.ceil(shadow.getRadius()
+                    + Math.max(Math.abs(shadow.getOffsetX()), Math.abs(shadow.getOffsetY())));
+        }
+
+        double anchorX = pad;
+        if (key.align() == TextAlignment.CENTER) {
+            anchorX += maxWidth / 2;
+        } else if (key.align() == TextAlignment.RIGHT) {
+            anchorX += maxWidth;
+        }
+        double anchorY = pad + ascent;
+
+        int width = (int) Math.ceil(maxWidth + pad * 2);
+        int height = (int) Math.ceil(ascent + descent + lineStep * (lines.length - 1) + pad * 2);
+        Canvas canvas = new Canvas(Math.max(1, width), Math.max(1, height));
+        GraphicsContext textGc = canvas.getGraphicsContext2D();
+        textGc.setTextAlign(key.align());
+        drawOutlinedTextDirect(textGc, key.text(), anchorX, anchorY, key.font(),
+                key.fill(), key.stroke(), key.strokeWidth(), shadow);
+
+        Image image = canvas.snapshot(snapshotParams, null);
+        return new CachedText(image, anchorX, anchorY);
+    }
+
+    private static void drawOutlinedTextDirect(GraphicsContext gc,
+                                               String text,
+                                               double x,
+                                               double y,
+                                               Font font,
+                                               Paint fillPaint,
+                                               Paint strokePaint,
+                                               double strokeWidth,
+                                               DropShadow shadow) {
         Font previousFont = gc.getFont();
         Paint previousFill = gc.getFill();
         Paint previousStroke = gc.getStroke();
@@ -43,7 +180,7 @@ public final class TextRenderer {
                 gc.setFill(fillPaint);
                 gc.fillText(line, x, currentY);
 
-                currentY += lineHeight + 10;
+                currentY += lineHeight + LINE_GAP;
             }
         } finally {
             gc.setFont(previousFont);
@@ -54,5 +191,3 @@ public final class TextRenderer {
         }
     }
 }
-
-
@@ -14,6 +14,8 @@ public class Button extends AbstractButton {
     private Image hoverImage;
     private static final double FONT_SCALE_RATIO = 0.5;
     private static final String DEFAULT_FONT_FAMILY = "Anxel";
+    private static final Color TEXT_STROKE = Color.color(0, 0, 0, 0.85);
+    private static final DropShadow TEXT_SHADOW = new DropShadow(6, Color.color(0, 0, 0, 0.6));
 
     public Button(double x, double y, double width, double height,
                   Image normalImage, Image hoverImage, String text) {
@@ -49,9 +51,9 @@ public class Button extends AbstractButton {
                     y + height / 2 + 9,
                     font,
                     textColor,
-                    Color.color(0, 0, 0, 0.85),
+                    TEXT_STROKE,
                     1.5,
-                    new DropShadow(6, Color.color(0, 0, 0, 0.6))
+                    TEXT_SHADOW
             );
         } finally {
             gc.setTextAlign(previousAlignment);
@@ -9,6 +9,7 @@ import org.example.gamelogic.I_InputProvider;
 import org.example.gamelogic.graphics.TextRenderer;
 
 public class TextLabel extends AbstractButton {
+    private static final Color TEXT_STROKE = Color.color(0, 0, 0, 0.85);
 
     public TextLabel(double x, double y, double width, double height, String text) {
         super(x, y, width, height, text);
@@ -38,7 +39,7 @@ public class TextLabel extends AbstractButton {
                     textY,
                     font,
                     textColor,
-                    Color.color(0, 0, 0, 0.85),
+                    TEXT_STROKE,
                     1.5,
                     null
             );
@@ -8,6 +8,7 @@ import javafx.scene.text.TextAlignment;
 import org.example.config.GameConstants;
 import org.example.data.AssetManager;
 import org.example.gamelogic.I_InputProvider;
+import org.example.gamelogic.graphics.CachedLayer;
 import org.example.gamelogic.graphics.TextRenderer;
 import org.example.gamelogic.graphics.buttons.AbstractUIElement;
 import org.example.gamelogic.graphics.buttons.Button;
@@ -28,6 +29,10 @@ public class Window {
     private boolean windowTransitionFinished = false;
     private boolean childrenTransitionsStarted = false;
 
+    // Ảnh chụp state phía sau (đã phủ lớp tối), chụp một lần khi cửa sổ mở
+    private static final Color BACKDROP_DIM = new Color(0, 0, 0, 0.6);
+    private CachedLayer backdrop;
+
     public Window(GameState previousState, double windowWidth, double windowHeight,
                   ITransitionStrategy windowTransition) {
         this.previousState = previousState;
@@ -67,15 +72,10 @@ public class Window {
 
     public void render(GraphicsContext gc) {
         if (previousState != null) {
-            previousState.render(gc);
-            gc.save();
-            try {
-                gc.setFill(new Color(0, 0, 0, 0.6));
-                gc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
-            } finally {
-                gc.restore();
+            if (backdrop == null) {
+                backdrop = new CachedLayer(GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
             }
-
+            backdrop.draw(gc, 0, 0, this::paintBackdrop);
         }
 
         if (windowTransition != null) {
@@ -88,6 +88,25 @@ public class Window {
         }
     }
 
+    /**
+     * Vẽ state phía sau cùng lớp phủ tối vào ảnh backdrop; state đó bị đóng băng khi cửa sổ đang mở
+     * nên chỉ cần vẽ một lần.
+     */
+    private void paintBackdrop(GraphicsContext layerGc) {
+        previousState.render(layerGc);
+        layerGc.setFill(BACKDROP_DIM);
+        layerGc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+    }
+
+    /**
+     * Buộc chụp lại state phía sau ở frame tiếp theo (ví dụ khi nội dung của nó đã thay đổi).
+     */
+    public void invalidateBackdrop() {
+        if (backdrop != null) {
+            backdrop.invalidate();
+        }
+    }
+
     public void renderContents(GraphicsContext gc) {
         for (AbstractUIElement element : elements) {
             element.render(gc);
@@ -1,5 +1,9 @@
 package org.example.gamelogic.multithreading;
 
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
 public final class AsyncExecutor {
     private AsyncExecutor() { }
 
@@ -8,4 +12,20 @@ public final class AsyncExecutor {
         t.setDaemon(true);
         t.start();
     }
-}
\ No newline at end of file
+
+    /**
+     * Tạo thread pool cố định gồm các daemon thread (không giữ JVM sống khi đóng game).
+     *
+     * @param name tiền tố tên thread
+     * @param threads số worker
+     * @return pool mới; caller chịu trách nhiệm gọi {@code shutdown()} khi dùng xong
+     */
+    public static ExecutorService newWorkerPool(String name, int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, task -> {
+            Thread t = new Thread(task, name + "-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+}
@@ -1,6 +1,7 @@
 package org.example.gamelogic.registry;
 
 import org.example.gamelogic.entities.IBall;
+import org.example.gamelogic.core.GameWorld;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -8,12 +9,8 @@ import java.util.Map;
 public class BallRegistry {
     private final Map<String, IBall> prototypes = new HashMap<>();
 
-    private static class SingletonHolder {
-        private static final BallRegistry INSTANCE = new BallRegistry();
-    }
-
     public static BallRegistry getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getBallRegistry();
     }
 
     public void register(String key, IBall prototype) {
@@ -2,18 +2,16 @@ package org.example.gamelogic.registry;
 
 import org.example.gamelogic.core.PowerUpManager;
 import org.example.gamelogic.entities.bricks.Brick;
+import org.example.gamelogic.core.GameWorld;
+
 import java.util.HashMap;
 import java.util.Map;
 
 public class BrickRegistry {
     private final Map<String, Brick> prototypes = new HashMap<>();
 
-    private static class SingletonHolder {
-        private static final BrickRegistry INSTANCE = new BrickRegistry();
-    }
-
     public static BrickRegistry getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getBrickRegistry();
     }
 
     public void register(String key, Brick prototype) {
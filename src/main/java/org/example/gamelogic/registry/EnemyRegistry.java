@@ -1,6 +1,7 @@
 package org.example.gamelogic.registry;
 
 import org.example.gamelogic.entities.enemy.Enemy;
+import org.example.gamelogic.core.GameWorld;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -8,12 +9,8 @@ import java.util.Map;
 public class EnemyRegistry {
     private final Map<String, Enemy> prototypes = new HashMap<>();
 
-    private static class SingletonHolder {
-        private static final EnemyRegistry INSTANCE = new EnemyRegistry();
-    }
-
     public static EnemyRegistry getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getEnemyRegistry();
     }
 
     public void register(String key, Enemy prototype) {
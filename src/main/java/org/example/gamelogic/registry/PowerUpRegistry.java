@@ -1,6 +1,7 @@
 package org.example.gamelogic.registry;
 
 import org.example.gamelogic.entities.powerups.PowerUp;
+import org.example.gamelogic.core.GameWorld;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -8,12 +9,8 @@ import java.util.Map;
 public class PowerUpRegistry {
     private final Map<String, PowerUp> prototypes = new HashMap<>();
 
-    private static class SingletonHolder {
-        private static final PowerUpRegistry INSTANCE = new PowerUpRegistry();
-    }
-
     public static PowerUpRegistry getInstance() {
-        return SingletonHolder.INSTANCE;
+        return GameWorld.current().getPowerUpRegistry();
     }
 
     public void register(String key, PowerUp prototype) {
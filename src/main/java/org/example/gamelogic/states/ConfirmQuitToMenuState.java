@@ -25,6 +25,8 @@ public final class ConfirmQuitToMenuState implements GameState {
     private final Window window;
     private final Font warningFont;
     private final Font messageFont;
+    private static final Color TEXT_STROKE = Color.color(0, 0, 0, 0.9);
+    private final DropShadow titleShadow = new DropShadow(10, Color.color(0, 0, 0, 0.7));
 
     // Button layout uses GameConstants
     private Image buttonImage;
@@ -78,7 +80,6 @@ public final class ConfirmQuitToMenuState implements GameState {
         if (window.transitionFinished()) {
             // Title text (centered, outlined, shadow)
             gc.setTextAlign(TextAlignment.CENTER);
-            DropShadow titleShadow = new DropShadow(10, Color.color(0, 0, 0, 0.7));
             TextRenderer.drawOutlinedText(
                     gc,
                     "WARNING",
@@ -86,7 +87,7 @@ public final class ConfirmQuitToMenuState implements GameState {
                     window.getY() + 60,
                     warningFont,
                     Color.RED,
-                    Color.color(0, 0, 0, 0.9),
+                    TEXT_STROKE,
                     2.0,
                     titleShadow
             );
@@ -97,7 +98,7 @@ public final class ConfirmQuitToMenuState implements GameState {
                     window.getY() + 98,
                     messageFont,
                     Color.WHITE,
-                    Color.color(0, 0, 0, 0.9),
+                    TEXT_STROKE,
                     2.0,
                     titleShadow
             );
@@ -108,7 +109,7 @@ public final class ConfirmQuitToMenuState implements GameState {
                     window.getY() + 180,
                     messageFont,
                     Color.YELLOW,
-                    Color.color(0, 0, 0, 0.9),
+                    TEXT_STROKE,
                     2.0,
                     titleShadow
             );
@@ -8,6 +8,7 @@ import javafx.scene.input.KeyCode;
 import javafx.scene.text.TextAlignment;
 import org.example.config.GameConstants;
 import org.example.data.AssetManager;
+import org.example.data.AtlasRegion;
 import org.example.gamelogic.I_InputProvider;
 import org.example.gamelogic.core.EventManager;
 import org.example.gamelogic.events.ChangeStateEvent;
@@ -28,6 +29,9 @@ public final class GameModeState implements GameState {
     private SpriteAnimation infiniteAnim;
     private Image casualStatic;
     private SpriteAnimation casualAnim;
+    // Thời gian hover liên tục của mỗi nửa, dùng làm thời gian cho animation tương ứng
+    private double infiniteAnimTime;
+    private double casualAnimTime;
 
     private final AbstractButton backButton;
 
@@ -43,20 +47,20 @@ public final class GameModeState implements GameState {
         this.descFont = am.getFont("Anxel", 18);
 
         this.frameImage = am.getImage("modesFrame");
-        this.bgLeft = am.getImage("victory");
-        this.bgRight = am.getImage("victory");
+        this.bgLeft = am.getScaledImage(panelSize());
+        this.bgRight = bgLeft;
 
         this.infiniteStatic = am.getImage("infiniteStatic");
         this.casualStatic = am.getImage("boss");
 
         Image infiniteSheet = am.getImage("infinite");
         if (infiniteSheet != null) {
-            this.infiniteAnim = new SpriteAnimation(infiniteSheet, 32, 32, 1.0, true);
+            this.infiniteAnim = new SpriteAnimation(AtlasRegion.of(infiniteSheet), 32, 32, 1.0, true);
         }
 
         Image casualSheet = am.getImage("bossHit");
         if (casualSheet != null) {
-            this.casualAnim = new SpriteAnimation(casualSheet, 8, 8, 1.0, true);
+            this.casualAnim = new SpriteAnimation(AtlasRegion.of(casualSheet), 8, 8, 1.0, true);
         }
 
         Image btnImg = am.getImage("button");
@@ -69,13 +73,22 @@ public final class GameModeState implements GameState {
         );
     }
 
+    /**
+     * Kích thước ảnh nền của mỗi nửa màn hình chọn chế độ.
+     *
+     * @return khóa ảnh scale sẵn tương ứng
+     */
+    public static AssetManager.ScaledKey panelSize() {
+        return AssetManager.scaledKeyOf("victory", GameConstants.SCREEN_WIDTH / 2.0, GameConstants.SCREEN_HEIGHT);
+    }
+
     @Override
     public void update(double deltaTime) {
-        if (isHoveringLeft && infiniteAnim != null) {
-            infiniteAnim.update(deltaTime);
+        if (isHoveringLeft) {
+            infiniteAnimTime += deltaTime;
         }
-        if (isHoveringRight && casualAnim != null) {
-            casualAnim.update(deltaTime);
+        if (isHoveringRight) {
+            casualAnimTime += deltaTime;
         }
     }
 
@@ -84,10 +97,11 @@ public final class GameModeState implements GameState {
                             Image background,
                             Image staticEntity,
                             SpriteAnimation animSpriteEntity,
+                            double animTime,
                             double entityW, double entityH,
                             String title, String description) {
 
-        gc.drawImage(background, x, y, w, h);
+        gc.drawImage(background, x, y);
 
         double entityCenterX = x + w / 2.0;
         double entityCenterY = y + h / 2.0 + 50;
@@ -112,7 +126,7 @@ public final class GameModeState implements GameState {
         }
 
         if (animToDraw != null) {
-            animToDraw.render(gc, scaledX, scaledY, scaledW, scaledH);
+            animToDraw.renderAt(gc, animTime, scaledX, scaledY, scaledW, scaledH);
         } else {
             gc.drawImage(imageToDraw, scaledX, scaledY, scaledW, scaledH);
         }
@@ -145,6 +159,7 @@ public final class GameModeState implements GameState {
                 bgLeft,
                 infiniteStatic,
                 infiniteAnim,
+                infiniteAnimTime,
                 300, 300,
                 "INFINITE", "Destroy bricks and defeat boss infinitely"); // Text
 
@@ -153,6 +168,7 @@ public final class GameModeState implements GameState {
                 bgRight,
                 casualStatic,
                 casualAnim,
+                casualAnimTime,
                 190, 350,
                 "CASUAL", "Play through different levels");
 
@@ -180,11 +196,11 @@ public final class GameModeState implements GameState {
             isHoveringRight = true;
         }
 
-        if (isHoveringLeft && !wasHoveringLeft && infiniteAnim != null) {
-            infiniteAnim.reset();
+        if (isHoveringLeft && !wasHoveringLeft) {
+            infiniteAnimTime = 0;
         }
-        if (isHoveringRight && !wasHoveringRight && casualAnim != null) {
-            casualAnim.reset();
+        if (isHoveringRight && !wasHoveringRight) {
+            casualAnimTime = 0;
         }
 
         if (inputProvider.isMouseClicked()) {
@@ -3,6 +3,7 @@ package org.example.gamelogic.states;
 import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.image.Image;
 import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
 import javafx.scene.text.Font;
 import javafx.scene.text.TextAlignment;
 import org.example.config.GameConstants;
@@ -33,11 +34,30 @@ public final class GameOverState implements GameState {
 
     private final double FADE_IN_DURATION = 1.5;
 
+    private static final Color TITLE_STROKE = Color.color(0, 0, 0, 0.9);
+    private static final Color SCORE_FILL = Color.web("#ffffcc");
+    private static final Color SCORE_STROKE = Color.color(0, 0, 0, 0.85);
+
+    private final Font titleFont;
+    private final Font scoreFont;
+    private final Paint titleFill;
+    private final Paint titleFlickerFill;
+    private final DropShadow titleShadow;
+    private final DropShadow scoreShadow;
+
     public GameOverState(int levelToRestart) {
         this.levelToRestart = levelToRestart;
 
         AssetManager am = AssetManager.getInstance();
         gameOverGif = am.getImage("gameOver");
+        titleFont = am.getFont("Anxel", 70);
+        scoreFont = am.getFont("Anxel", 40);
+        titleFill = am.getGradient("gameOverTitle", () -> titleGradient(Color.web("#ff4444")));
+        titleFlickerFill = am.getGradient("gameOverTitleFlicker", () -> titleGradient(Color.WHITE));
+        titleShadow = am.getEffect("gameOverTitleShadow", DropShadow.class,
+                () -> new DropShadow(14, Color.color(0, 0, 0, 0.7)));
+        scoreShadow = am.getEffect("gameOverScoreShadow", DropShadow.class,
+                () -> new DropShadow(8, Color.color(0, 0, 0, 0.6)));
         final Image normalImage = am.getImage("button");
         final Image hoveredImage = am.getImage("hoveredButton");
         restartButton = new Button(centerX - GameConstants.UI_BUTTON_WIDTH / 2,
@@ -57,6 +77,14 @@ public final class GameOverState implements GameState {
                 "Exit");
     }
 
+    private static LinearGradient titleGradient(Color bottom) {
+        return new LinearGradient(
+                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+                new Stop(0, Color.web("#ff8888")),
+                new Stop(1, bottom)
+        );
+    }
+
     @Override
     public void update(double deltaTime) {
         elapsedTime += deltaTime;
@@ -64,7 +92,7 @@ public final class GameOverState implements GameState {
 
     @Override
     public void render(GraphicsContext gc) {
-        gc.drawImage(gameOverGif, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+        gc.drawImage(gameOverGif, 0, 0);
 
         double lineOffset = (elapsedTime * 100) % 4.0;
 
@@ -87,19 +115,11 @@ public final class GameOverState implements GameState {
             gc.setGlobalAlpha(alpha);
 
             gc.setTextAlign(TextAlignment.CENTER);
-            Color flickerColor = Color.web("#ff4444");
+            Paint fill = titleFill;
             if (Math.random() < 0.1) { // (10% cơ hội nháy sang màu trắng)
-                flickerColor = Color.WHITE;
+                fill = titleFlickerFill;
             }
 
-            LinearGradient titleFill = new LinearGradient(
-                    0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                    new Stop(0, Color.web("#ff8888")),
-                    new Stop(1, flickerColor)
-            );
-            DropShadow titleShadow = new DropShadow(14, Color.color(0, 0, 0, 0.7));
-            Font titleFont = AssetManager.getInstance().getFont("Anxel", 70);
-
             double glitchX = centerX + (Math.random() - 0.5) * 10;
             double glitchY = 230 + (Math.random() - 0.5) * 4;
 
@@ -109,24 +129,23 @@ public final class GameOverState implements GameState {
                     glitchX,
                     glitchY,
                     titleFont,
-                    titleFill,
-                    Color.color(0,0,0,0.9),
+                    fill,
+                    TITLE_STROKE,
                     3.0,
                     titleShadow
             );
 
             int finalScore = ScoreManager.getInstance().getScore();
-            Font scoreFont = AssetManager.getInstance().getFont("Anxel", 40);
             TextRenderer.drawOutlinedText(
                     gc,
                     "Final Score: " + finalScore,
                     centerX,
                     280,
                     scoreFont,
-                    Color.web("#ffffcc"),
-                    Color.color(0,0,0,0.85),
+                    SCORE_FILL,
+                    SCORE_STROKE,
                     2.0,
-                    new DropShadow(8, Color.color(0,0,0,0.6))
+                    scoreShadow
             );
 
             if (restartButton != null) restartButton.render(gc);
@@ -129,7 +129,7 @@ public final class InfiniteModeState implements GameState {
 
     @Override
     public void render(GraphicsContext gc) {
-        gc.drawImage(background, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+        gc.drawImage(background, 0, 0);
         window.render(gc);
 
         if (window.transitionFinished()) {
@@ -199,7 +199,7 @@ public final class LevelState implements GameState {
 
     @Override
     public void render(GraphicsContext gc) {
-        gc.drawImage(levelBackground, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+        gc.drawImage(levelBackground, 0, 0);
 
         window.render(gc);
 
@@ -0,0 +1,79 @@
+package org.example.gamelogic.states;
+
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.text.Font;
+import javafx.scene.text.TextAlignment;
+import org.example.config.GameConstants;
+import org.example.data.AssetManager;
+import org.example.gamelogic.I_InputProvider;
+import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.events.ChangeStateEvent;
+import org.example.gamelogic.graphics.TextRenderer;
+
+/**
+ * Màn hình chờ nhẹ hiển thị tiến độ load tài nguyên nền.
+ *
+ * <p>GameManager chuyển vào state này khi người chơi rời main menu trong lúc tài nguyên chưa load xong;
+ * khi {@link AssetManager#isLoaded()} trả về true, yêu cầu chuyển state ban đầu được phát lại.
+ */
+public final class LoadingState implements GameState {
+    private static final double BAR_WIDTH = 400;
+    private static final double BAR_HEIGHT = 16;
+    private static final Color BAR_FILL = Color.web("#228BE6");
+
+    private final ChangeStateEvent pendingEvent;
+    private final GameState previousState;
+    private final Font textFont;
+    private boolean resumed = false;
+
+    /**
+     * @param pendingEvent yêu cầu chuyển state sẽ được phát lại khi load xong
+     * @param previousState state đang hiển thị trước khi vào màn hình loading
+     */
+    public LoadingState(ChangeStateEvent pendingEvent, GameState previousState) {
+        this.pendingEvent = pendingEvent;
+        this.previousState = previousState;
+        this.textFont = AssetManager.getInstance().getFont("Anxel", 30);
+    }
+
+    /**
+     * @return state trước khi vào màn hình loading
+     */
+    public GameState getPreviousState() {
+        return previousState;
+    }
+
+    @Override
+    public void update(double deltaTime) {
+        if (!resumed && AssetManager.getInstance().isLoaded()) {
+            resumed = true;
+            EventManager.getInstance().publish(pendingEvent);
+        }
+    }
+
+    @Override
+    public void render(GraphicsContext gc) {
+        gc.setFill(Color.BLACK);
+        gc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+
+        double centerX = GameConstants.SCREEN_WIDTH / 2.0;
+        double centerY = GameConstants.SCREEN_HEIGHT / 2.0;
+        double progress = AssetManager.getInstance().getLoadProgress();
+
+        gc.setTextAlign(TextAlignment.CENTER);
+        TextRenderer.drawOutlinedText(gc, "LOADING", centerX, centerY - 30,
+                textFont, Color.WHITE, Color.BLACK, 1.0, null);
+
+        double barX = centerX - BAR_WIDTH / 2;
+        gc.setStroke(Color.WHITE);
+        gc.setLineWidth(2);
+        gc.strokeRect(barX, centerY, BAR_WIDTH, BAR_HEIGHT);
+        gc.setFill(BAR_FILL);
+        gc.fillRect(barX + 2, centerY + 2, (BAR_WIDTH - 4) * progress, BAR_HEIGHT - 4);
+    }
+
+    @Override
+    public void handleInput(I_InputProvider input) {
+    }
+}
@@ -12,6 +12,7 @@ import javafx.scene.paint.LinearGradient;
 import javafx.scene.paint.CycleMethod;
 import javafx.scene.paint.Stop;
 import javafx.scene.effect.DropShadow;
+import javafx.scene.paint.Paint;
 import org.example.config.GameConstants;
 import org.example.data.AssetManager;
 import org.example.gamelogic.core.EventManager;
@@ -33,11 +34,27 @@ public final class MainMenuState implements GameState {
     private final double centerX = GameConstants.SCREEN_WIDTH / 2.0;
     private final double baseY = GameConstants.SCREEN_HEIGHT / 2.0 - 100;
 
+    private static final Affine IDENTITY = new Affine();
+    private static final Color TITLE_STROKE = Color.color(0, 0, 0, 0.8);
+    private final Font titleFont;
+    private final Font hintFont;
+    private final Paint titleFill;
+    private final DropShadow titleShadow;
+
     public MainMenuState() {
         AssetManager am = AssetManager.getInstance();
         this.mainMenuImage = am.getImage("mainMenu");
         this.normalImage = am.getImage("button");
         this.hoveredImage = am.getImage("hoveredButton");
+        this.titleFont = am.getFont("Anxel", FontWeight.BOLD, 80);
+        this.hintFont = new Font("Arial", 16);
+        this.titleFill = am.getGradient("mainMenuTitle", () -> new LinearGradient(
+                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
+                new Stop(0, Color.web("#66ccff")),
+                new Stop(1, Color.web("#228BE6"))
+        ));
+        this.titleShadow = am.getEffect("mainMenuTitleShadow", DropShadow.class,
+                () -> new DropShadow(12, Color.color(0, 0, 0, 0.6)));
 
         double buttonGap = 70;
         startButton = new Button(centerX - GameConstants.UI_BUTTON_WIDTH / 2,
@@ -57,25 +74,18 @@ public final class MainMenuState implements GameState {
 
     @Override
     public void render(GraphicsContext gc) {
-        gc.setTransform(new Affine());
+        gc.setTransform(IDENTITY);
         gc.setTextAlign(TextAlignment.LEFT);
         gc.clearRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
         // Background
         if (mainMenuImage != null) {
-            gc.drawImage(mainMenuImage, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+            gc.drawImage(mainMenuImage, 0, 0);
         } else {
             gc.setFill(Color.BLACK);
             gc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
         }
         // Title (outlined with subtle shadow and gradient)
         gc.setTextAlign(TextAlignment.CENTER);
-        LinearGradient titleFill = new LinearGradient(
-                0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
-                new Stop(0, Color.web("#66ccff")),
-                new Stop(1, Color.web("#228BE6"))
-        );
-        DropShadow titleShadow = new DropShadow(12, Color.color(0, 0, 0, 0.6));
-        Font titleFont = Font.font("Anxel", FontWeight.BOLD, 80);
         TextRenderer.drawOutlinedText(
                 gc,
                 "ARKANOID",
@@ -83,7 +93,7 @@ public final class MainMenuState implements GameState {
                 215,
                 titleFont,
                 titleFill,
-                Color.color(0, 0, 0, 0.8),
+                TITLE_STROKE,
                 2.5,
                 titleShadow
         );
@@ -96,7 +106,7 @@ public final class MainMenuState implements GameState {
 
         // Nháy nhẹ phần gợi ý thoát
         if ((int) (elapsedTime * 2) % 2 == 0) {
-            gc.setFont(new Font("Arial", 16));
+            gc.setFont(hintFont);
             gc.setFill(Color.WHITE);
             gc.fillText("Press ESC to Exit", GameConstants.SCREEN_WIDTH / 2.0, GameConstants.SCREEN_HEIGHT - 40);
         }
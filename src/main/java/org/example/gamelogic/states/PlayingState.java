@@ -16,6 +16,10 @@ import org.example.gamelogic.core.*;
 import org.example.gamelogic.entities.IBall;
 import org.example.gamelogic.entities.Paddle;
 import org.example.gamelogic.events.*;
+import org.example.gamelogic.graphics.CachedLayer;
+import org.example.gamelogic.graphics.HudValues;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
+import org.example.gamelogic.graphics.RenderSnapshot;
 import org.example.gamelogic.strategy.powerup.PowerUpStrategy;
 import org.example.data.SavedGameState;
 import org.example.data.SaveGameRepository;
@@ -27,10 +31,11 @@ import java.util.Map;
 import java.util.function.Consumer;
 
 
-public final class PlayingState implements GameState {
+public final class PlayingState implements GameState, RenderSnapshot.Source {
     BrickManager brickManager;
     PowerUpManager powerUpManager;
     GameManager gameManager;
+    private final GameWorld world;
     BallManager ballManager;
     CollisionManager collisionManager;
     LaserManager laserManager;
@@ -53,6 +58,38 @@ public final class PlayingState implements GameState {
     private int lastSecond = -1;
     private Font labelFont;
     private Font valueFont;
+    private Font bannerFont;
+    private Font bannerSubtitleFont;
+
+    private static final Affine IDENTITY = new Affine();
+
+    // Các lớp tĩnh được raster hóa sẵn (tạo khi render lần đầu). HUD tách làm hai lớp: khung
+    // (nền, nhãn) chỉ vẽ một lần, còn lớp giá trị trong suốt chỉ vẽ lại khi điểm, thời gian,
+    // màn hoặc số mạng thay đổi
+    private CachedLayer backgroundLayer;
+    private Image backgroundLayerSource;
+    private CachedLayer bossBackgroundLayer;
+    private CachedLayer frameLayer;
+    private CachedLayer hudChromeLayer;
+    private CachedLayer hudValuesLayer;
+    private final HudValues hudValues = new HudValues();
+    private final Consumer<GraphicsContext> paintBackground = this::paintBackground;
+    private final Consumer<GraphicsContext> paintBossBackground = this::paintBossBackground;
+    private final Consumer<GraphicsContext> paintFrame = this::paintFrame;
+    private final Consumer<GraphicsContext> paintHUDChrome = this::paintHUDChrome;
+    private final Consumer<GraphicsContext> paintHUDValues = this::paintHUDValues;
+
+    // Vùng chơi được ghi thành lệnh vẽ (vào snapshot) rồi phát lại một lượt, sắp xếp theo (layer, texture)
+    private static final int LAYER_BRICKS = 10;
+    private static final int LAYER_ENEMIES = 20;
+    private static final int LAYER_POWERUPS = 30;
+    private static final int LAYER_BALLS = 40;   // thân bóng ở LAYER_BALLS + 1
+    private static final int LAYER_LASERS = 50;
+    private static final int LAYER_PADDLE = 60;
+    private static final int LAYER_PARTICLES = 70;
+    private final RenderSnapshot liveSnapshot = new RenderSnapshot();
+    private final RenderCommandBuffer.Immediate renderBricks = gc -> brickManager.render(gc);
+    private int lastDrawCalls;
 
     private List<PowerUpStrategy> activeStrategies = new ArrayList<>();
     private int levelNumber;
@@ -70,6 +107,8 @@ public final class PlayingState implements GameState {
         WAVE_CLEARED
     }
 
+    private static final SubState[] SUB_STATES = SubState.values();
+
     private GameModeEnum currentGameMode;
     private SubState currentSubState;
 
@@ -88,6 +127,7 @@ public final class PlayingState implements GameState {
     public PlayingState(GameManager gameManager, GameModeEnum currentGameMode,
                         int levelNumber, boolean startingNewGame) {
         this.gameManager = gameManager;
+        this.world = gameManager.getWorld();
         this.brickManager = gameManager.getBrickManager();
         this.brickManager.loadLevel(levelNumber);
         this.powerUpManager = gameManager.getPowerUpManager();
@@ -96,14 +136,14 @@ public final class PlayingState implements GameState {
         this.collisionManager = gameManager.getCollisionManager();
         this.laserManager = gameManager.getLaserManager();
 
-        this.paddle = new Paddle(
+        this.paddle = new Paddle(world,
                 GameConstants.PLAY_AREA_X + (GameConstants.PLAY_AREA_WIDTH / 2.0) - (GameConstants.PADDLE_WIDTH / 2.0),
                 GameConstants.PLAY_AREA_Y + GameConstants.PLAY_AREA_HEIGHT - GameConstants.PADDLE_HEIGHT - 45,
                 GameConstants.PADDLE_WIDTH,
                 GameConstants.PADDLE_HEIGHT,
                 0,
                 0);
-        ObjectAccess.getInstance().registerPaddle(this.paddle);
+        world.getObjectAccess().registerPaddle(this.paddle);
 
         this.ballManager.createInitialBall(this.paddle);
 
@@ -115,16 +155,16 @@ public final class PlayingState implements GameState {
         this.currentGameMode = currentGameMode;
         Map<String, String> data = ProgressManager.loadSession(currentGameMode.toString());
         if (!data.isEmpty() && !startingNewGame) {
-            ScoreManager.getInstance().resetScore();
-            ScoreManager.getInstance().addScore(Integer.parseInt(data.get("score")));
+            world.getScoreManager().resetScore();
+            world.getScoreManager().addScore(Integer.parseInt(data.get("score")));
             elapsedTime = Double.parseDouble(data.get("time"));
             this.levelNumber = Integer.parseInt(data.get("level"));
             this.currentLives = Integer.parseInt(data.get("lives"));
-            LifeManager.getInstance().setLives(this.currentLives);
+            world.getLifeManager().setLives(this.currentLives);
         } else if (startingNewGame) {
-            ScoreManager.getInstance().resetScore();
-            LifeManager.getInstance().reset();
-            this.currentLives = LifeManager.getInstance().getLives();
+            world.getScoreManager().resetScore();
+            world.getLifeManager().reset();
+            this.currentLives = world.getLifeManager().getLives();
             this.levelNumber = levelNumber;
         }
         this.currentBackground = gameManager.getBackgroundForLevel(this.levelNumber);
@@ -134,6 +174,8 @@ public final class PlayingState implements GameState {
         this.scoreFont = am.getFont("Anxel", 24);
         this.labelFont = am.getFont("Anxel", 18);
         this.valueFont = am.getFont("Anxel", 28);
+        this.bannerFont = am.getFont("Anxel", 80);
+        this.bannerSubtitleFont = am.getFont("Anxel", 30);
 
 
         this.pauseIcon = am.getImage("pause");
@@ -146,19 +188,19 @@ public final class PlayingState implements GameState {
     }
 
     private void subscribeToEvents() {
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribe(
                 BallLostEvent.class,
                 handleBallLost
         );
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribe(
                 PowerUpCollectedEvent.class,
                 handlePowerUpCollected
         );
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribe(
                 LifeLostEvent.class,
                 handleLifeLost
         );
-        EventManager.getInstance().subscribe(
+        world.getEventManager().subscribe(
                 LifeAddedEvent.class,
                 handleLifeAdded
         );
@@ -185,12 +227,12 @@ public final class PlayingState implements GameState {
 
         switch (currentSubState) {
             case LEVEL_START:
-                if (levelStartTimer == 0) {
+                if (levelStartTimer == 0 && !gameManager.isHeadless()) {
                     ProgressManager.saveSession(currentGameMode.toString(),
-                            ScoreManager.getInstance().getScore(),
+                            world.getScoreManager().getScore(),
                             elapsedTime,
                             levelNumber,
-                            LifeManager.getInstance().getLives());
+                            world.getLifeManager().getLives());
                 }
 
                 levelStartTimer += deltaTime;
@@ -203,6 +245,7 @@ public final class PlayingState implements GameState {
                 break;
 
             case NORMAL_PLAY:
+                world.getAnimationClock().advance(deltaTime);
                 updateStrategy(deltaTime);
                 paddle.update(deltaTime);
                 updateAttachedBallPosition();
@@ -213,13 +256,18 @@ public final class PlayingState implements GameState {
                 enemyManager.update(deltaTime);
 
                 if (collisionManager != null) {
-                    collisionManager.checkCollisions(
-                            ballManager.getActiveBalls(),
-                            paddle, brickManager.getBricks(),
-                            powerUpManager.getActivePowerUps(),
-                            laserManager.getLasers(),
-                            enemyManager.getActiveEnemies()
-                    );
+                    // Hoãn sự kiện va chạm và phát một lượt sau khi đã xét hết va chạm của tick
+                    if (GameConstants.USE_EVENT_QUEUE) {
+                        world.getEventManager().beginQueue();
+                        try {
+                            checkCollisions(deltaTime);
+                        } finally {
+                            // Luôn phát hết và tắt hàng đợi, kể cả khi xét va chạm ném ngoại lệ
+                            world.getEventManager().drainQueue();
+                        }
+                    } else {
+                        checkCollisions(deltaTime);
+                    }
                 }
                 if (((this.currentGameMode == GameModeEnum.LEVEL && this.levelNumber == 5) ||
                         (this.currentGameMode == GameModeEnum.INFINITE && this.levelNumber % 5 == 0)) &&
@@ -260,10 +308,10 @@ public final class PlayingState implements GameState {
 
                 if (bossDyingTimer >= BOSS_DEATH_DURATION && enemyManager.isBossDefeated()) {
                     if (this.currentGameMode == GameModeEnum.LEVEL) {
-                        EventManager.getInstance().publish(
+                        world.getEventManager().publish(
                                 new ChangeStateEvent(GameStateEnum.VICTORY)
                         );
-                        EventManager.getInstance().publish(
+                        world.getEventManager().publish(
                                 new LevelCompletedEvent()
                         );
                     } else if (this.currentGameMode == GameModeEnum.INFINITE) {
@@ -290,17 +338,28 @@ public final class PlayingState implements GameState {
         }
     }
 
+    private void checkCollisions(double deltaTime) {
+        collisionManager.checkCollisions(
+                ballManager.getActiveBalls(),
+                paddle, brickManager,
+                powerUpManager.getActivePowerUps(),
+                laserManager.getLasers(),
+                enemyManager.getActiveEnemies(),
+                deltaTime
+        );
+    }
+
     private void handleVictory() {
-        if (this.hasWon || LifeManager.getInstance().getLives() <= 0) {
+        if (this.hasWon || world.getLifeManager().getLives() <= 0) {
             return;
         }
         if (currentGameMode == GameModeEnum.LEVEL && this.levelNumber != 5) {
             if (brickManager.isLevelComplete()) {
                 this.hasWon = true;
-                EventManager.getInstance().publish(
+                world.getEventManager().publish(
                         new ChangeStateEvent(GameStateEnum.VICTORY)
                 );
-                EventManager.getInstance().publish(
+                world.getEventManager().publish(
                         new LevelCompletedEvent()
                 );
             }
@@ -315,10 +374,91 @@ public final class PlayingState implements GameState {
     }
 
     public void render(GraphicsContext gc) {
-        gc.setTransform(new Affine());
+        liveSnapshot.begin(0, 0, this);
+        captureFrame(liveSnapshot, false);
+        render(gc, liveSnapshot, null, 1.0);
+    }
+
+    /**
+     * Chụp trạng thái vẽ của tick hiện tại (gọi trên thread mô phỏng).
+     * <br>Gạch được ghi thành từng lệnh sprite thay vì lớp cache, vì lớp cache đọc trạng thái gạch lúc vẽ.
+     *
+     * @param snapshot snapshot đích
+     */
+    @Override
+    public void capture(RenderSnapshot snapshot) {
+        captureFrame(snapshot, true);
+    }
+
+    /**
+     * Ghi giá trị HUD, nền, trạng thái phụ và lệnh vẽ vùng chơi vào snapshot.
+     *
+     * @param snapshot snapshot đích
+     * @param detached true nếu snapshot sẽ được vẽ trên thread khác (không được tham chiếu trạng thái sống)
+     */
+    private void captureFrame(RenderSnapshot snapshot, boolean detached) {
+        snapshot.setBackground(currentBackground);
+        snapshot.setBackgroundBlend(backgroundTransitionTimer / BACKGROUND_TRANSITION_DURATION);
+        snapshot.setPhase(currentSubState.ordinal());
+        snapshot.setPhaseTimer(currentSubState == SubState.BOSS_DYING ? bossDyingTimer : warningFlashTimer);
+        snapshot.setScore(world.getScoreManager().getScore());
+        snapshot.setLives(currentLives);
+        snapshot.setLevel(levelNumber);
+        snapshot.setTime(formattedTime);
+
+        RenderCommandBuffer commands = snapshot.getCommands();
+        commands.setLayer(LAYER_BRICKS);
+        if (currentSubState == SubState.LEVEL_START) {
+            brickManager.render(commands, levelStartTimer, LEVEL_START_DURATION);
+        } else if (detached) {
+            brickManager.render(commands);
+        } else {
+            commands.immediate(renderBricks);
+        }
+
+        if (currentSubState != SubState.LEVEL_START) {
+            commands.setLayer(LAYER_ENEMIES);
+            enemyManager.render(commands);
+            commands.setLayer(LAYER_POWERUPS);
+            powerUpManager.render(commands);
+        }
+        commands.setLayer(LAYER_BALLS);
+        ballManager.render(commands);
+        if (currentSubState != SubState.LEVEL_START) {
+            commands.setLayer(LAYER_LASERS);
+            laserManager.render(commands);
+        }
+        commands.setLayer(LAYER_PADDLE);
+        commands.setKey(paddle.getRenderId());
+        paddle.render(commands);
+        commands.setKey(0);
+        if (currentSubState != SubState.LEVEL_START) {
+            commands.setLayer(LAYER_PARTICLES);
+            world.getParticleManager().render(commands);
+        }
+
+        commands.sortByLayerAndTexture();
+        if (detached) {
+            // Chỉ snapshot của thread mô phỏng được nội suy, khung vẽ trực tiếp không cần chỉ mục khóa
+            commands.buildKeyIndex();
+        }
+    }
+
+    /**
+     * Vẽ một snapshot (chỉ đọc snapshot và tài nguyên bất biến của state, không đọc trạng thái mô phỏng).
+     */
+    @Override
+    public void render(GraphicsContext gc, RenderSnapshot current, RenderSnapshot previous, double alpha) {
+        SubState phase = SUB_STATES[current.getPhase()];
+        Image background = current.getBackground();
+
+        gc.setTransform(IDENTITY);
         gc.clearRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+        if (hudChromeLayer == null) {
+            createLayers();
+        }
 
-        renderHUD(gc);
+        renderHUD(gc, current);
 
         gc.save();
         gc.beginPath();
@@ -326,59 +466,35 @@ public final class PlayingState implements GameState {
                 GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH,
                 GameConstants.SCREEN_HEIGHT);
         gc.clip();
-        if (currentSubState == SubState.BOSS_WARNING && this.bossBackground != null) {
-            double alpha = this.backgroundTransitionTimer / BACKGROUND_TRANSITION_DURATION;
-
-            if (this.currentBackground != null) {
-                gc.drawImage(this.currentBackground,
-                        0, 0,
-                        GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH,
-                        GameConstants.SCREEN_HEIGHT);
+        if (phase == SubState.BOSS_WARNING && this.bossBackground != null) {
+            if (background != null) {
+                renderBackground(gc, background);
             }
 
-            gc.setGlobalAlpha(alpha);
-            gc.drawImage(this.bossBackground,
-                    0, 0,
-                    GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH,
-                    GameConstants.SCREEN_HEIGHT);
+            gc.setGlobalAlpha(current.getBackgroundBlend());
+            bossBackgroundLayer.draw(gc, 0, 0, paintBossBackground);
             gc.setGlobalAlpha(1.0);
 
-        } else if (this.currentBackground != null) {
-            gc.drawImage(this.currentBackground,
-                    0, 0,
-                    GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH,
-                    GameConstants.SCREEN_HEIGHT);
+        } else if (background != null) {
+            renderBackground(gc, background);
         }
 
-        if (currentSubState == SubState.LEVEL_START) {
-            brickManager.render(gc, levelStartTimer, LEVEL_START_DURATION);
-            paddle.render(gc);
-            ballManager.render(gc);
-
-        } else {
-            brickManager.render(gc);
-            enemyManager.render(gc);
-            powerUpManager.render(gc);
-            ballManager.render(gc);
-            laserManager.render(gc);
-            paddle.render(gc);
-            ParticleManager.getInstance().render(gc);
-        }
+        lastDrawCalls = current.getCommands().submit(gc,
+                previous != null ? previous.getCommands() : null, alpha);
 
         gc.restore();
 
         if (gameFrameImage != null) {
-            gc.drawImage(gameFrameImage, 0, 0,
-                    GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH, GameConstants.SCREEN_HEIGHT);
+            frameLayer.draw(gc, 0, 0, paintFrame);
         }
 
         renderPauseButton(gc);
 
-        if (currentSubState == SubState.BOSS_WARNING) {
-            if ((warningFlashTimer % 0.8) < 0.5) {
+        if (phase == SubState.BOSS_WARNING) {
+            if ((current.getPhaseTimer() % 0.8) < 0.5) {
 
                 gc.setFill(Color.RED);
-                gc.setFont(AssetManager.getInstance().getFont("Anxel", 80));
+                gc.setFont(bannerFont);
 
                 gc.setTextAlign(TextAlignment.CENTER);
                 gc.setTextBaseline(VPos.CENTER);
@@ -392,21 +508,22 @@ public final class PlayingState implements GameState {
             }
         }
 
-        if (currentSubState == SubState.BOSS_DYING && currentGameMode == GameModeEnum.LEVEL) {
-            double fadeAlpha = Math.min(1.0, bossDyingTimer / BOSS_DEATH_DURATION);
+        if (phase == SubState.BOSS_DYING && currentGameMode == GameModeEnum.LEVEL) {
+            double fadeAlpha = Math.min(1.0, current.getPhaseTimer() / BOSS_DEATH_DURATION);
 
             gc.save();
             try {
-                gc.setFill(Color.color(1.0, 1.0, 1.0, fadeAlpha));
+                gc.setGlobalAlpha(fadeAlpha);
+                gc.setFill(Color.WHITE);
                 gc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
             } finally {
                 gc.restore();
             }
         }
 
-        if (currentSubState == SubState.WAVE_CLEARED) {
+        if (phase == SubState.WAVE_CLEARED) {
             gc.setFill(Color.GREEN);
-            gc.setFont(AssetManager.getInstance().getFont("Anxel", 80));
+            gc.setFont(bannerFont);
 
             gc.setTextAlign(TextAlignment.CENTER);
             gc.setTextBaseline(VPos.CENTER);
@@ -415,7 +532,7 @@ public final class PlayingState implements GameState {
                     GameConstants.PLAY_AREA_X + GameConstants.PLAY_AREA_WIDTH / 2,
                     GameConstants.PLAY_AREA_Y + GameConstants.PLAY_AREA_HEIGHT / 2);
 
-            gc.setFont(AssetManager.getInstance().getFont("Anxel", 30));
+            gc.setFont(bannerSubtitleFont);
             gc.fillText("Loading next wave, please wait warmly...",
                     GameConstants.PLAY_AREA_X + GameConstants.PLAY_AREA_WIDTH / 2,
                     GameConstants.PLAY_AREA_Y + GameConstants.PLAY_AREA_HEIGHT / 2 + 60);
@@ -425,48 +542,81 @@ public final class PlayingState implements GameState {
         }
     }
 
-    private void renderHUD(GraphicsContext gc) {
+    private void createLayers() {
+        double playWidth = GameConstants.SCREEN_WIDTH - GameConstants.UI_BAR_WIDTH;
+        this.backgroundLayer = new CachedLayer(playWidth, GameConstants.SCREEN_HEIGHT);
+        this.bossBackgroundLayer = new CachedLayer(playWidth, GameConstants.SCREEN_HEIGHT);
+        this.frameLayer = new CachedLayer(playWidth, GameConstants.SCREEN_HEIGHT);
+        this.hudChromeLayer = new CachedLayer(GameConstants.UI_BAR_WIDTH, GameConstants.SCREEN_HEIGHT);
+        this.hudValuesLayer = new CachedLayer(GameConstants.UI_BAR_WIDTH, GameConstants.SCREEN_HEIGHT);
+    }
+
+    private void renderBackground(GraphicsContext gc, Image background) {
+        if (backgroundLayerSource != background) {
+            backgroundLayerSource = background;
+            backgroundLayer.invalidate();
+        }
+        backgroundLayer.draw(gc, 0, 0, paintBackground);
+    }
+
+    private void paintBackground(GraphicsContext gc) {
+        gc.drawImage(this.backgroundLayerSource, 0, 0);
+    }
+
+    private void paintBossBackground(GraphicsContext gc) {
+        gc.drawImage(this.bossBackground, 0, 0);
+    }
+
+    private void paintFrame(GraphicsContext gc) {
+        gc.drawImage(gameFrameImage, 0, 0);
+    }
+
+    private void renderHUD(GraphicsContext gc, RenderSnapshot values) {
+        if (hudValues.set(values.getScore(), values.getTime(), values.getLevel(), values.getLives())) {
+            hudValuesLayer.invalidate();
+        }
+
         double hudAreaStartX = GameConstants.PLAY_AREA_X + GameConstants.PLAY_AREA_WIDTH + GameConstants.FRAME_RIGHT_BORDER;
+        hudChromeLayer.draw(gc, hudAreaStartX, 0, paintHUDChrome);
+        hudValuesLayer.draw(gc, hudAreaStartX, 0, paintHUDValues);
+    }
+
+    private void paintHUDChrome(GraphicsContext gc) {
         double hudAreaWidth = GameConstants.UI_BAR_WIDTH;
-        double hudCenterX = hudAreaStartX + (hudAreaWidth / 2.0);
+        double hudCenterX = hudAreaWidth / 2.0;
 
+        // Lớp HUD có gốc toạ độ tại mép trái thanh HUD
         if (hudBackground != null) {
-            gc.drawImage(hudBackground,
-                    hudAreaStartX, 0,
-                    hudAreaWidth, GameConstants.SCREEN_HEIGHT
-            );
+            gc.drawImage(hudBackground, 0, 0);
         } else {
             gc.setFill(Color.BLACK);
-            gc.fillRect(hudAreaStartX, 0, hudAreaWidth, GameConstants.SCREEN_HEIGHT);
+            gc.fillRect(0, 0, hudAreaWidth, GameConstants.SCREEN_HEIGHT);
         }
 
         double startY = GameConstants.SCREEN_HEIGHT / 4.0 / 2.0 - 15;
         double spacingY = GameConstants.SCREEN_HEIGHT / 4.0;
 
-        int currentScore = ScoreManager.getInstance().getScore();
-
         gc.setTextAlign(TextAlignment.CENTER);
         gc.setFill(Color.WHITE);
-
         gc.setFont(labelFont);
         gc.fillText("SCORE", hudCenterX, startY);
-        gc.setFont(valueFont);
-        gc.fillText(String.valueOf(currentScore), hudCenterX, startY + 40);
-
-        gc.setFont(labelFont);
         gc.fillText("TIME", hudCenterX, startY + spacingY);
-        gc.setFont(valueFont);
-        gc.fillText(this.formattedTime, hudCenterX, startY + spacingY + 40);
-
-        gc.setFont(labelFont);
         gc.fillText((currentGameMode == GameModeEnum.LEVEL ? "ROUND" : "WAVE"), hudCenterX, startY + (spacingY * 2));
-        gc.setFont(valueFont);
-        gc.fillText(String.valueOf(this.levelNumber), hudCenterX, startY + (spacingY * 2) + 40);
-
-        gc.setFont(labelFont);
         gc.fillText("LIVES", hudCenterX, startY + (spacingY * 3));
+    }
+
+    private void paintHUDValues(GraphicsContext gc) {
+        double hudCenterX = GameConstants.UI_BAR_WIDTH / 2.0;
+        double startY = GameConstants.SCREEN_HEIGHT / 4.0 / 2.0 - 15;
+        double spacingY = GameConstants.SCREEN_HEIGHT / 4.0;
+
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setFill(Color.WHITE);
         gc.setFont(valueFont);
-        gc.fillText(String.valueOf(this.currentLives), hudCenterX, startY + (spacingY * 3) + 40);
+        gc.fillText(String.valueOf(hudValues.getScore()), hudCenterX, startY + 40);
+        gc.fillText(hudValues.getTime(), hudCenterX, startY + spacingY + 40);
+        gc.fillText(String.valueOf(hudValues.getLevel()), hudCenterX, startY + (spacingY * 2) + 40);
+        gc.fillText(String.valueOf(hudValues.getLives()), hudCenterX, startY + (spacingY * 3) + 40);
     }
 
     private void renderPauseButton(GraphicsContext gc) {
@@ -479,7 +629,7 @@ public final class PlayingState implements GameState {
     }
 
     private void renderScore(GraphicsContext gc) {
-        int currentScore = ScoreManager.getInstance().getScore();
+        int currentScore = world.getScoreManager().getScore();
 
         gc.setFont(scoreFont);
         gc.setFill(Color.BLACK);
@@ -513,7 +663,7 @@ public final class PlayingState implements GameState {
         }
 
         if (input.isKeyPressed(KeyCode.P)) {
-            EventManager.getInstance().publish(
+            world.getEventManager().publish(
                     new ChangeStateEvent(GameStateEnum.PAUSED)
             );
             return;
@@ -534,7 +684,7 @@ public final class PlayingState implements GameState {
                             mouseY <= pauseIconY + pauseIconSize;
 
             if (clickOnPause) {
-                EventManager.getInstance().publish(
+                world.getEventManager().publish(
                         new ChangeStateEvent(GameStateEnum.PAUSED)
                 );
                 return;
@@ -596,8 +746,8 @@ public final class PlayingState implements GameState {
         SavedGameState state = new SavedGameState();
 
         state.levelId = this.levelNumber;
-        state.score = ScoreManager.getInstance().getScore();
-        state.lives = LifeManager.getInstance().getLives();
+        state.score = world.getScoreManager().getScore();
+        state.lives = world.getLifeManager().getLives();
 
         state.paddleX = paddle.getX();
         state.paddleY = paddle.getY();
@@ -613,8 +763,8 @@ public final class PlayingState implements GameState {
     public void loadGame(SavedGameState state) {
         System.out.println("Applying saved state for level " + state.levelId);
 
-        ScoreManager.getInstance().setScore(state.score);
-        LifeManager.getInstance().setLives(state.lives);
+        world.getScoreManager().setScore(state.score);
+        world.getLifeManager().setLives(state.lives);
 
         this.levelNumber = state.levelId;
         this.currentLives = state.lives;
@@ -635,19 +785,19 @@ public final class PlayingState implements GameState {
     }
 
     public void cleanUp() {
-        EventManager.getInstance().unsubscribe(
+        world.getEventManager().unsubscribe(
                 BallLostEvent.class,
                 handleBallLost
         );
-        EventManager.getInstance().unsubscribe(
+        world.getEventManager().unsubscribe(
                 PowerUpCollectedEvent.class,
                 handlePowerUpCollected
         );
-        EventManager.getInstance().unsubscribe(
+        world.getEventManager().unsubscribe(
                 LifeLostEvent.class,
                 handleLifeLost
         );
-        EventManager.getInstance().unsubscribe(
+        world.getEventManager().unsubscribe(
                 LifeAddedEvent.class,
                 handleLifeAdded
         );
@@ -665,12 +815,12 @@ public final class PlayingState implements GameState {
         powerUpManager.clear();
         laserManager.clear();
         enemyManager.clear();
-        ParticleManager.getInstance().clear();
+        world.getParticleManager().clear();
     }
 
     private void handleBallLost(BallLostEvent event) {
         if (ballManager.countActiveBalls() == 0) {
-            LifeManager.getInstance().loseLife();
+            world.getLifeManager().loseLife();
         }
     }
 
@@ -690,4 +840,15 @@ public final class PlayingState implements GameState {
     public int getCurrentLives() {
         return this.currentLives;
     }
+
+    /**
+     * @return số lệnh vẽ vùng chơi đã gửi tới GraphicsContext ở khung hình gần nhất
+     */
+    public int getLastDrawCalls() {
+        return lastDrawCalls;
+    }
+
+    public GameWorld getWorld() {
+        return this.world;
+    }
 }
@@ -38,6 +38,8 @@ public final class RankingState implements GameState {
     private final Color bgEnd = Color.web("#FFE4E1");
     private final Color scoreNormalColor = Color.web("#ffdd44");
     private final Color scoreHighlightColor = Color.web("#ffff44");
+    private final Color textStrokeColor = Color.web("#4A0404", 0.8);
+    private final Color scoreCardFallback = Color.web("#333", 0.5);
     private final LinearGradient titleGradient = new LinearGradient(
             0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
             new Stop(0, Color.web("#ffff88")),
@@ -54,7 +56,7 @@ public final class RankingState implements GameState {
         if (scoreCardImage != null) {
             gc.drawImage(scoreCardImage, x, y, width, height);
         } else {
-            gc.setFill(Color.web("#333", 0.5));
+            gc.setFill(scoreCardFallback);
             gc.fillRect(x, y, width, height);
         }
 
@@ -69,7 +71,7 @@ public final class RankingState implements GameState {
                 y + height/2 + 10,
                 rankFont,
                 textColor,
-                Color.web("#4A0404", 0.8),
+                textStrokeColor,
                 1.8,
                 rank == 1 ? normalScoreShadow : null
         );
@@ -83,7 +85,7 @@ public final class RankingState implements GameState {
                 y + height/2 + 10,
                 scoreFont,
                 textColor,
-                Color.web("#4A0404", 0.8),
+                textStrokeColor,
                 2.0,
                 rank == 1 ? normalScoreShadow : null
         );
@@ -115,7 +117,7 @@ public final class RankingState implements GameState {
     public void render(GraphicsContext gc) {
         gc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
         if (rankingIcon != null) {
-            gc.drawImage(rankingIcon, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+            gc.drawImage(rankingIcon, 0, 0);
         }
 
         gc.setTextAlign(TextAlignment.CENTER);
@@ -136,7 +138,7 @@ public final class RankingState implements GameState {
                 scoreY,
                 titleFont,
                 scoreHighlightColor,
-                Color.web("#4A0404", 0.8),
+                textStrokeColor,
                 2.0,
                 null
         );
@@ -149,7 +151,7 @@ public final class RankingState implements GameState {
                     scoreY,
                     scoreFont, 
                     scoreNormalColor, 
-                    Color.web("#4A0404", 0.8), 
+                    textStrokeColor, 
                     2.0, 
                     null
             );
@@ -155,7 +155,7 @@ public final class SettingsState implements GameState {
         SettingsManager settings = SettingsManager.getInstance();
         gc.fillRect(0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
         if (settingsImage != null) {
-            gc.drawImage(settingsImage, 0, 0, GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT);
+            gc.drawImage(settingsImage, 0, 0);
         }
 
         window.render(gc);
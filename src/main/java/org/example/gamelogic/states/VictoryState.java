@@ -36,7 +36,11 @@ public final class VictoryState implements GameState {
     private final Font titleFont;
     private final Font starFont;
     private final Font scoreFont;
+    private static final Color TITLE_STROKE = Color.color(0, 0, 0, 0.9);
+    private static final Color SCORE_FILL = Color.web("#ffffcc");
+    private static final Color SCORE_STROKE = Color.color(0, 0, 0, 0.85);
     private final DropShadow titleShadow = new DropShadow(14, Color.color(0, 0, 0, 0.7));
+    private final DropShadow scoreShadow = new DropShadow(8, Color.color(0, 0, 0, 0.6));
     private final LinearGradient titleFill = new LinearGradient(
             0, 0, 0, 1, true, CycleMethod.NO_CYCLE,
             new Stop(0, Color.web("#88ff88")),
@@ -95,7 +99,7 @@ public final class VictoryState implements GameState {
         this.nextButton = new Button(nextX, buttonY, buttonWidth,
                 GameConstants.UI_BUTTON_HEIGHT, normalImage, hoveredImage, "Next Level");
 
-        if (levelCompleted < 5) {
+        if (levelCompleted < GameConstants.CAMPAIGN_LEVEL_COUNT) {
             this.quitButton = new Button(quitX, buttonY + GameConstants.UI_BUTTON_HEIGHT +
                     GameConstants.UI_BUTTON_PADDING, buttonWidth, GameConstants.UI_BUTTON_HEIGHT,
                     normalImage, hoveredImage, "Quit");
@@ -104,7 +108,24 @@ public final class VictoryState implements GameState {
                     normalImage, hoveredImage, "Quit");
         }
 
+        // Bản đã scale sẵn theo chiều cao màn hình (giữ tỉ lệ); khi render chỉ còn cắt phần bên phải
         victory = AssetManager.getInstance().getImage("victory");
+        if (victory != null) {
+            victory = AssetManager.getInstance().getScaledImage(
+                    backgroundSize(victory.getWidth(), victory.getHeight()));
+        }
+    }
+
+    /**
+     * Kích thước ảnh nền chiến thắng trên màn hình: cao bằng màn hình, giữ tỉ lệ ảnh gốc.
+     *
+     * @param sourceWidth  chiều rộng ảnh gốc
+     * @param sourceHeight chiều cao ảnh gốc
+     * @return khóa ảnh scale sẵn tương ứng
+     */
+    public static AssetManager.ScaledKey backgroundSize(double sourceWidth, double sourceHeight) {
+        double scale = GameConstants.SCREEN_HEIGHT / sourceHeight;
+        return AssetManager.scaledKeyOf("victory", sourceWidth * scale, GameConstants.SCREEN_HEIGHT);
     }
 
     @Override
@@ -116,22 +137,21 @@ public final class VictoryState implements GameState {
         quitButton.handleInput(inputProvider);
         menuButton.handleInput(inputProvider);
         restartButton.handleInput(inputProvider);
-        if (levelCompleted < 5) {
+        if (levelCompleted < GameConstants.CAMPAIGN_LEVEL_COUNT) {
             nextButton.handleInput(inputProvider);
         }
     }
 
     @Override
     public void render(GraphicsContext gc) {
+        // Với bản scale sẵn thì scale = 1 và chỉ còn cắt 1:1; nếu chỉ có ảnh gốc thì scale khi vẽ
         double scale = GameConstants.SCREEN_HEIGHT / victory.getHeight();
-        double scaledWidth = victory.getWidth() * scale;
-
-        double cropStartX = scaledWidth - GameConstants.SCREEN_WIDTH;
+        double cropStartX = victory.getWidth() * scale - GameConstants.SCREEN_WIDTH;
 
         gc.drawImage(
                 victory,
                 cropStartX / scale, 0, // sx, sy
-                GameConstants.SCREEN_WIDTH / scale, victory.getHeight(), // sw, sh (crop gốc)
+                GameConstants.SCREEN_WIDTH / scale, victory.getHeight(), // sw, sh (crop)
                 0, 0, // dx, dy
                 GameConstants.SCREEN_WIDTH, GameConstants.SCREEN_HEIGHT // dw, dh (vẽ full screen)
         );
@@ -144,7 +164,7 @@ public final class VictoryState implements GameState {
                 230,
                 titleFont,
                 titleFill,
-                Color.color(0, 0, 0, 0.9),
+                TITLE_STROKE,
                 3.0,
                 titleShadow
         );
@@ -156,10 +176,10 @@ public final class VictoryState implements GameState {
                 centerX,
                 370,
                 scoreFont,
-                Color.web("#ffffcc"),
-                Color.color(0,0,0,0.85),
+                SCORE_FILL,
+                SCORE_STROKE,
                 2.0,
-                new DropShadow(8, Color.color(0,0,0,0.6))
+                scoreShadow
         );
 
         double starAnimProgress = elapsedTime - STAR_ANIM_START_TIME;
@@ -201,7 +221,7 @@ public final class VictoryState implements GameState {
                 quitButton.render(gc);
                 menuButton.render(gc);
                 restartButton.render(gc);
-                if (levelCompleted < 5) {
+                if (levelCompleted < GameConstants.CAMPAIGN_LEVEL_COUNT) {
                     nextButton.render(gc);
                 }
             } finally {
@@ -238,7 +258,7 @@ public final class VictoryState implements GameState {
             );
         }
 
-        if (nextButton.isClicked() && levelCompleted < 5) {
+        if (nextButton.isClicked() && levelCompleted < GameConstants.CAMPAIGN_LEVEL_COUNT) {
             EventManager.getInstance().publish(
                     new ChangeStateEvent(GameStateEnum.PLAYING, levelCompleted + 1)
             );
@@ -1,8 +1,6 @@
 package org.example.gamelogic.strategy.bossbehavior;
 
 import javafx.scene.paint.Color;
-import org.example.gamelogic.core.EventManager;
-import org.example.gamelogic.core.ParticleManager;
 import org.example.gamelogic.entities.enemy.Boss;
 import org.example.gamelogic.events.EnemyDestroyedEvent;
 
@@ -21,7 +19,7 @@ public class BossDyingStrategy implements BossBehaviorStrategy {
 
     @Override
     public void update(Boss boss, double deltaTime) {
-        EventManager.getInstance().publish(new EnemyDestroyedEvent(boss));
+        boss.getWorld().getEventManager().publish(new EnemyDestroyedEvent(boss));
         boss.setDx(0);
         boss.setDy(0);
 
@@ -34,11 +32,11 @@ public class BossDyingStrategy implements BossBehaviorStrategy {
             double explosionX = boss.getX() + random.nextDouble() * boss.getWidth();
             double explosionY = boss.getY() + random.nextDouble() * boss.getHeight();
 
-            ParticleManager.getInstance().spawnBrickDebris(explosionX, explosionY, Color.ORANGERED);
+            boss.getWorld().getParticleManager().spawnBrickDebris(explosionX, explosionY, Color.ORANGERED);
         }
 
         if (duration <= 0.0) {
-            ParticleManager.getInstance().spawnBrickDebris(boss.getCenterX(), boss.getCenterY(), Color.RED);
+            boss.getWorld().getParticleManager().spawnBrickDebris(boss.getCenterX(), boss.getCenterY(), Color.RED);
             boss.setActive(false);
         }
     }
@@ -1,8 +1,6 @@
 package org.example.gamelogic.strategy.bossbehavior;
 
-import org.example.gamelogic.core.EnemyManager;
 import org.example.gamelogic.core.LaserManager;
-import org.example.gamelogic.core.ObjectAccess;
 import org.example.gamelogic.entities.BulletFrom;
 import org.example.gamelogic.entities.BulletType;
 import org.example.gamelogic.entities.Paddle;
@@ -40,7 +38,7 @@ public class BossPhase2Strategy implements BossBehaviorStrategy {
             spawnTimer = 0.0;
             double bossCenterX = boss.getX() + (boss.getWidth() / 2.0);
             double bossCenterY = boss.getY() + (boss.getHeight() / 2.0);
-            EnemyManager.getInstance().spawnEnemy("MINION", bossCenterX, bossCenterY);
+            boss.getWorld().getEnemyManager().spawnEnemy("MINION", bossCenterX, bossCenterY);
         }
 
         //
@@ -55,7 +53,7 @@ public class BossPhase2Strategy implements BossBehaviorStrategy {
             timerPerShot -= deltaTime;
 
             if (timerPerShot <= 0.0) {
-                Paddle paddle = ObjectAccess.getInstance().getPaddle();
+                Paddle paddle = boss.getWorld().getObjectAccess().getPaddle();
                 double targetX = paddle.getX() + paddle.getWidth() / 2;
                 double targetY = paddle.getY() + paddle.getHeight() / 2;
 
@@ -2,7 +2,6 @@ package org.example.gamelogic.strategy.powerup;
 
 import org.example.config.GameConstants;
 import org.example.gamelogic.core.BallManager;
-import org.example.gamelogic.core.LifeManager;
 import org.example.gamelogic.entities.IBall;
 import org.example.gamelogic.states.PlayingState;
 
@@ -12,7 +11,7 @@ import java.util.List;
 public class ExtraLifeStrategy implements PowerUpStrategy {
     @Override
     public void apply(PlayingState playingState) {
-        LifeManager.getInstance().addLife();
+        playingState.getWorld().getLifeManager().addLife();
     }
 
     @Override
@@ -1,6 +1,5 @@
 package org.example.gamelogic.strategy.powerup;
 
-import org.example.gamelogic.core.LaserManager;
 import org.example.gamelogic.entities.BulletFrom;
 import org.example.gamelogic.entities.BulletType;
 import org.example.gamelogic.entities.LaserBullet;
@@ -30,8 +29,8 @@ public class LaserPaddleStrategy implements PowerUpStrategy {
             double rightX = paddle.getX() + paddle.getWidth() - 14;
             double y = paddle.getY() - 16;
 
-            LaserManager.getInstance().createBullet(leftX, y, 0, -600, BulletType.PLAYER_LASER, BulletFrom.PLAYER);
-            LaserManager.getInstance().createBullet(rightX, y, 0, -600, BulletType.PLAYER_LASER, BulletFrom.PLAYER);
+            playingState.getWorld().getLaserManager().createBullet(leftX, y, 0, -600, BulletType.PLAYER_LASER, BulletFrom.PLAYER);
+            playingState.getWorld().getLaserManager().createBullet(rightX, y, 0, -600, BulletType.PLAYER_LASER, BulletFrom.PLAYER);
         }
 
         if (remainingTime <= 0) {
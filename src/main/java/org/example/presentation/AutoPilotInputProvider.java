@@ -0,0 +1,117 @@
+package org.example.presentation;
+
+import javafx.scene.input.KeyCode;
+import org.example.gamelogic.I_InputProvider;
+import org.example.gamelogic.core.GameManager;
+import org.example.gamelogic.entities.IBall;
+import org.example.gamelogic.entities.Paddle;
+import org.example.gamelogic.states.GameState;
+import org.example.gamelogic.states.PlayingState;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Input giả lập cho chế độ headless: luôn thả bóng và di chuyển paddle theo quả bóng thấp nhất.
+ * <br>Không cần JavaFX toolkit; chỉ đọc trạng thái hiện tại của {@link GameManager}.
+ */
+public class AutoPilotInputProvider implements I_InputProvider {
+    private static final double DEAD_ZONE = 8.0;
+
+    private final GameManager gameManager;
+
+    /**
+     * Tạo autopilot đọc trạng thái từ GameManager cho trước.
+     *
+     * @param gameManager GameManager đang chạy headless
+     */
+    public AutoPilotInputProvider(GameManager gameManager) {
+        this.gameManager = gameManager;
+    }
+
+    /**
+     * @return tập phím autopilot đang "nhấn" ở tick hiện tại
+     */
+    @Override
+    public Set<KeyCode> getPressedKeys() {
+        Set<KeyCode> keys = EnumSet.of(KeyCode.SPACE);
+        if (isKeyPressed(KeyCode.LEFT)) keys.add(KeyCode.LEFT);
+        if (isKeyPressed(KeyCode.RIGHT)) keys.add(KeyCode.RIGHT);
+        return keys;
+    }
+
+    /**
+     * SPACE luôn được nhấn để thả bóng; LEFT/RIGHT được nhấn khi paddle lệch khỏi bóng.
+     *
+     * @param code mã phím cần kiểm tra
+     * @return true nếu autopilot đang nhấn phím đó
+     */
+    @Override
+    public boolean isKeyPressed(KeyCode code) {
+        if (code == KeyCode.SPACE) {
+            return true;
+        }
+        if (code != KeyCode.LEFT && code != KeyCode.RIGHT) {
+            return false;
+        }
+
+        GameState state = gameManager.getStateManager().getState();
+        if (!(state instanceof PlayingState)) {
+            return false;
+        }
+        Paddle paddle = ((PlayingState) state).getPaddle();
+        IBall target = lowestBall();
+        if (paddle == null || target == null) {
+            return false;
+        }
+
+        double offset = (target.getX() + target.getWidth() / 2.0) - paddle.getCenterX();
+        if (code == KeyCode.LEFT) {
+            return offset < -DEAD_ZONE;
+        }
+        return offset > DEAD_ZONE;
+    }
+
+    /**
+     * Tìm quả bóng đang rơi thấp nhất (gần paddle nhất).
+     *
+     * @return IBall thấp nhất; null nếu không còn bóng
+     */
+    private IBall lowestBall() {
+        IBall lowest = null;
+        for (IBall ball : gameManager.getBallManager().getActiveBalls()) {
+            if (ball.isActive() && (lowest == null || ball.getY() > lowest.getY())) {
+                lowest = ball;
+            }
+        }
+        return lowest;
+    }
+
+    @Override
+    public int getMouseX() {
+        return 0;
+    }
+
+    @Override
+    public int getMouseY() {
+        return 0;
+    }
+
+    @Override
+    public boolean isMouseClicked() {
+        return false;
+    }
+
+    @Override
+    public boolean isMousePressed() {
+        return false;
+    }
+
+    @Override
+    public void pollMouseClick() {
+    }
+
+    @Override
+    public void clear() {
+    }
+}
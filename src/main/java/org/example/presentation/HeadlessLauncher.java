@@ -0,0 +1,93 @@
+package org.example.presentation;
+
+import org.example.config.GameConstants;
+import org.example.data.AssetManager;
+import org.example.gamelogic.core.GameManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.states.GameState;
+import org.example.gamelogic.states.PlayingState;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Entry point chạy game headless (không cửa sổ, không canvas, không âm thanh).
+ * <br>Chạy một số tick cố định nhanh nhất có thể và in ra số tick/giây.
+ *
+ * <p>Cách dùng: {@code HeadlessLauncher [ticks] [games]} (mặc định 10 phút thời gian game, 1 ván).
+ * Khi {@code games > 1}, mỗi ván chạy trên một {@link GameWorld} riêng trong thread pool.
+ */
+public final class HeadlessLauncher {
+    private static final long DEFAULT_TICKS = Math.round(600 / GameConstants.FIXED_TIMESTEP);
+
+    private HeadlessLauncher() {
+    }
+
+    /**
+     * Hàm main khởi chạy mô phỏng headless.
+     *
+     * @param args args[0] (tùy chọn): số tick mỗi ván; args[1] (tùy chọn): số ván chạy song song
+     */
+    public static void main(String[] args) throws InterruptedException, ExecutionException {
+        long ticks = (args.length > 0) ? Long.parseLong(args[0]) : DEFAULT_TICKS;
+        int games = (args.length > 1) ? Integer.parseInt(args[1]) : 1;
+
+        AssetManager.enableHeadlessMode();
+
+        if (games <= 1) {
+            GameManager gameManager = GameManager.getInstance();
+            long elapsedNanos = runGame(gameManager, ticks);
+            printThroughput(ticks, elapsedNanos);
+            printResult(gameManager);
+            return;
+        }
+
+        int threads = Math.min(games, Runtime.getRuntime().availableProcessors());
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<GameManager>> results = new ArrayList<>();
+            long start = System.nanoTime();
+            for (int i = 0; i < games; i++) {
+                results.add(pool.submit(() -> {
+                    GameManager gameManager = new GameManager(new GameWorld());
+                    runGame(gameManager, ticks);
+                    return gameManager;
+                }));
+            }
+            for (Future<GameManager> result : results) {
+                printResult(result.get());
+            }
+            long elapsedNanos = System.nanoTime() - start;
+
+            System.out.printf("%d games on %d threads:%n", games, threads);
+            printThroughput(ticks * games, elapsedNanos);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static long runGame(GameManager gameManager, long ticks) {
+        gameManager.setInputProvider(new AutoPilotInputProvider(gameManager));
+        gameManager.initHeadless();
+        return gameManager.runHeadless(ticks);
+    }
+
+    private static void printThroughput(long ticks, long elapsedNanos) {
+        double seconds = elapsedNanos / 1_000_000_000.0;
+        double simulatedSeconds = ticks * GameConstants.FIXED_TIMESTEP;
+        System.out.printf("Headless: %d ticks (%.1f s game time) in %.3f s -> %.0f ticks/s (%.1fx real time)%n",
+                ticks, simulatedSeconds, seconds, ticks / seconds, simulatedSeconds / seconds);
+    }
+
+    private static void printResult(GameManager gameManager) {
+        GameState finalState = gameManager.getStateManager().getState();
+        if (finalState instanceof PlayingState) {
+            System.out.println("Final level: " + ((PlayingState) finalState).getLevelNumber()
+                    + ", score: " + gameManager.getWorld().getScoreManager().getScore());
+        }
+    }
+}
@@ -4,25 +4,30 @@ import javafx.scene.input.KeyCode;
 import org.example.gamelogic.I_InputProvider;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 /**
  * Lớp xử lý input cho JavaFX.
  * Lớp này KHÔNG implement listener, nó chỉ lưu trữ trạng thái.
  * Các events sẽ được đăng ký từ lớp có {@link javafx.scene.Scene}.
+ * <br>FX thread ghi, thread mô phỏng (nếu bật) đọc, nên trạng thái được lưu trong cấu trúc an toàn đa luồng.
  */
 public class InputHandler implements I_InputProvider {
 
     private Set<KeyCode> pressedKeys;
-    private int mouseX;
-    private int mouseY;
-    private boolean mouseClicked;
-    private boolean mouseIsPressed;
+    private volatile int mouseX;
+    private volatile int mouseY;
+    // Click do FX thread ghi, được lấy (getAndSet) đúng một lần ở đầu mỗi lượt cập nhật
+    private final AtomicBoolean pendingClick = new AtomicBoolean();
+    private volatile boolean mouseClicked;
+    private volatile boolean mouseIsPressed;
 
     /**
      * Khởi tạo bộ xử lý input, thiết lập trạng thái ban đầu cho bàn phím và chuột.
      */
     public InputHandler() {
-        this.pressedKeys = new HashSet<>();
+        this.pressedKeys = ConcurrentHashMap.newKeySet();
         this.mouseX = 0;
         this.mouseY = 0;
         this.mouseClicked = false;
@@ -59,12 +64,12 @@ public class InputHandler implements I_InputProvider {
     }
 
     /**
-     * Đánh dấu trạng thái chuột vừa click (one-shot).
+     * Đánh dấu trạng thái chuột vừa click (one-shot); click được giao cho lượt cập nhật kế tiếp.
      *
      * @param clicked true nếu chuột vừa click
      */
     public void setMouseClicked(boolean clicked) {
-        this.mouseClicked = clicked;
+        this.pendingClick.set(clicked);
     }
 
     /**
@@ -129,7 +134,7 @@ public class InputHandler implements I_InputProvider {
     }
 
     /**
-     * @return true nếu chuột vừa click (one-shot, sẽ reset sau khi xử lý)
+     * @return true nếu có click được lấy ở {@link #pollMouseClick()} của lượt cập nhật hiện tại
      */
     @Override
     public boolean isMouseClicked() {
@@ -145,10 +150,11 @@ public class InputHandler implements I_InputProvider {
     }
 
     /**
-     * Reset trạng thái mouse click sau khi game đã xử lý click.
+     * Lấy click đang chờ cho lượt cập nhật hiện tại và xoá nó khỏi hàng chờ trong một thao tác nguyên tử,
+     * nên click đến giữa lượt không bị mất mà được giao cho lượt sau.
      */
     @Override
-    public void resetMouseClick() {
-        mouseClicked = false;
+    public void pollMouseClick() {
+        mouseClicked = pendingClick.getAndSet(false);
     }
 }
@@ -1,36 +1,57 @@
 package org.example.presentation;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import org.example.data.AssetManager;
+import org.example.data.AtlasRegion;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 import org.example.config.GameConstants;
 
 /**
- * Điều khiển hoạt ảnh theo hàng (row) trong sprite sheet.
+ * Mô tả hoạt ảnh lặp theo hàng (row) trong sprite sheet.
  * Dùng cho animation power-up hoặc hiệu ứng có nhiều frame nằm trên cùng một hàng.
+ * <br>Không giữ trạng thái: frame được tính từ thời gian kể từ lúc bắt đầu, nên một instance
+ * được dùng chung cho mọi đối tượng cùng hàng.
  */
 public class RowAnimation {
-    private final Image spriteSheet;
+    private final String sheetName;
+    private volatile AtlasRegion spriteSheet;
     private final int spriteRow;
     private final int totalFrames;
     private final double frameDuration;
 
-    private int currentFrame = 0;
-    private double frameTimer = 0.0;
-
     private final double SPRITE_OFFSET = GameConstants.POWERUP_SPRITE_OFFSET;
     private final double SPRITE_WIDTH = GameConstants.POWERUP_SPRITE_WIDTH;
     private final double SPRITE_HEIGHT = GameConstants.POWERUP_SPRITE_HEIGHT;
     private final double SPRITE_PADDING = GameConstants.POWERUP_SPRITE_PADDING;
 
     /**
-     * Tạo hoạt ảnh sử dụng một hàng trong sprite sheet.
+     * Tạo hoạt ảnh sử dụng một hàng trong sprite sheet theo tên trong {@link AssetManager}
+     * (region được lấy lười ở lần vẽ đầu tiên).
      *
-     * @param spriteSheet   ảnh sprite sheet chứa các frame
+     * @param sheetName     key của sprite sheet
      * @param spriteRow     hàng (row) chứa animation
      * @param totalFrames   tổng số frame trong animation
      * @param frameDuration thời gian hiển thị mỗi frame (giây)
      */
-    public RowAnimation(Image spriteSheet, int spriteRow, int totalFrames, double frameDuration) {
+    public RowAnimation(String sheetName, int spriteRow, int totalFrames, double frameDuration) {
+        this(sheetName, null, spriteRow, totalFrames, frameDuration);
+    }
+
+    /**
+     * Tạo hoạt ảnh sử dụng một hàng trong sprite sheet nằm trong region của texture atlas.
+     *
+     * @param spriteSheet   region chứa sprite sheet
+     * @param spriteRow     hàng (row) chứa animation
+     * @param totalFrames   tổng số frame trong animation
+     * @param frameDuration thời gian hiển thị mỗi frame (giây)
+     */
+    public RowAnimation(AtlasRegion spriteSheet, int spriteRow, int totalFrames, double frameDuration) {
+        this(null, spriteSheet, spriteRow, totalFrames, frameDuration);
+    }
+
+    private RowAnimation(String sheetName, AtlasRegion spriteSheet, int spriteRow,
+                         int totalFrames, double frameDuration) {
+        this.sheetName = sheetName;
         this.spriteSheet = spriteSheet;
         this.spriteRow = spriteRow;
         this.totalFrames = totalFrames;
@@ -38,37 +59,60 @@ public class RowAnimation {
     }
 
     /**
-     * Cập nhật frame theo thời gian.
+     * Tính frame ứng với một thời điểm.
      *
-     * @param deltaTime thời gian trôi qua giữa hai cập nhật (giây)
+     * @param time thời gian (giây) tính từ lúc bắt đầu animation
+     * @return chỉ số frame trong hàng
      */
-    public void update(double deltaTime) {
-        frameTimer += deltaTime;
-        if (frameTimer >= frameDuration) {
-            frameTimer = 0;
-            currentFrame = (currentFrame + 1) % totalFrames;
-        }
+    public int frameAt(double time) {
+        return (int) (Math.max(0, time) / frameDuration) % totalFrames;
     }
 
     /**
-     * Vẽ frame hiện tại của animation lên canvas.
+     * Vẽ frame ứng với thời điểm {@code time} lên canvas.
      *
-     * @param gc context để vẽ lên
-     * @param x  vị trí X để vẽ
-     * @param y  vị trí Y để vẽ
-     * @param w  chiều rộng hiển thị
-     * @param h  chiều cao hiển thị
+     * @param gc   context để vẽ lên
+     * @param time thời gian (giây) tính từ lúc bắt đầu animation
+     * @param x    vị trí X để vẽ
+     * @param y    vị trí Y để vẽ
+     * @param w    chiều rộng hiển thị
+     * @param h    chiều cao hiển thị
      */
-    public void render(GraphicsContext gc, double x, double y, double w, double h) {
-        if (spriteSheet == null) return;
+    public void renderAt(GraphicsContext gc, double time, double x, double y, double w, double h) {
+        AtlasRegion sheet = resolveSheet();
+        if (sheet == null) return;
 
-        double sourceX = SPRITE_OFFSET + currentFrame * (SPRITE_WIDTH + SPRITE_PADDING);
+        double sourceX = SPRITE_OFFSET + frameAt(time) * (SPRITE_WIDTH + SPRITE_PADDING);
         double sourceY = SPRITE_OFFSET + spriteRow * (SPRITE_HEIGHT + SPRITE_PADDING);
 
-        gc.drawImage(
-                spriteSheet,
+        sheet.draw(
+                gc,
                 sourceX, sourceY, SPRITE_WIDTH, SPRITE_HEIGHT,
                 x, y, w, h
         );
     }
+
+    /**
+     * Ghi lệnh vẽ frame ứng với thời điểm {@code time} vào buffer lệnh vẽ.
+     *
+     * @param buffer buffer lệnh vẽ
+     * @param time   thời gian (giây) tính từ lúc bắt đầu animation
+     */
+    public void renderAt(RenderCommandBuffer buffer, double time, double x, double y, double w, double h) {
+        AtlasRegion sheet = resolveSheet();
+        if (sheet == null) return;
+
+        double sourceX = SPRITE_OFFSET + frameAt(time) * (SPRITE_WIDTH + SPRITE_PADDING);
+        double sourceY = SPRITE_OFFSET + spriteRow * (SPRITE_HEIGHT + SPRITE_PADDING);
+        sheet.draw(buffer, sourceX, sourceY, SPRITE_WIDTH, SPRITE_HEIGHT, x, y, w, h);
+    }
+
+    private AtlasRegion resolveSheet() {
+        AtlasRegion sheet = spriteSheet;
+        if (sheet == null && sheetName != null && !AssetManager.isHeadless()) {
+            sheet = AssetManager.getInstance().getRegion(sheetName);
+            spriteSheet = sheet;
+        }
+        return sheet;
+    }
 }
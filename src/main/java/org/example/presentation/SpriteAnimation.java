@@ -1,103 +1,144 @@
 package org.example.presentation;
 
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
+import org.example.data.AssetManager;
+import org.example.data.AtlasRegion;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
 
 /**
- * Hoạt ảnh theo dạng sprite sheet nhiều hàng/cột.
- * Cho phép loop hoặc chạy một lần rồi kết thúc.
+ * Mô tả hoạt ảnh theo dạng sprite sheet nhiều hàng/cột (loop hoặc chạy một lần rồi kết thúc).
+ * <br>Animation không giữ trạng thái: frame được tính từ thời gian kể từ lúc bắt đầu
+ * (thường lấy từ {@link org.example.gamelogic.core.AnimationClock}), nên một instance có thể
+ * dùng chung cho mọi entity cùng loại.
  */
 public class SpriteAnimation {
-    private final Image spriteSheet;
+    private final String sheetName;
+    private volatile AtlasRegion spriteSheet;
     private final int frameCount;
-    private final int frameWidth;
-    private final int frameHeight;
     private final int columns;
+    private final double duration;
     private final double frameDuration;
+    private final boolean loops;
 
-    private double elapsedTime = 0;
-    private int currentFrame = 0;
-    private boolean loops = true;
-    private boolean isFinished = false;
+    /**
+     * Tạo một sprite animation từ sprite sheet theo tên trong {@link AssetManager}.
+     * <br>Region được lấy lười ở lần vẽ đầu tiên, nên animation có thể được tạo trước khi tài nguyên load xong.
+     *
+     * @param sheetName   key của sprite sheet
+     * @param frameCount  tổng số frame animation
+     * @param columns     số cột trong sprite sheet
+     * @param duration    tổng thời gian chạy toàn bộ animation (giây)
+     * @param loops       true nếu animation lặp lại
+     */
+    public SpriteAnimation(String sheetName, int frameCount, int columns, double duration, boolean loops) {
+        this(sheetName, null, frameCount, columns, duration, loops);
+    }
 
     /**
-     * Tạo một sprite animation từ sprite sheet.
+     * Tạo một sprite animation từ sprite sheet nằm trong một region của texture atlas.
      *
-     * @param sheet       ảnh sprite sheet
+     * @param sheet       region chứa sprite sheet (có thể null, khi đó animation chỉ chạy thời gian mà không vẽ)
      * @param frameCount  tổng số frame animation
      * @param columns     số cột trong sprite sheet
      * @param duration    tổng thời gian chạy toàn bộ animation (giây)
      * @param loops       true nếu animation lặp lại
      */
-    public SpriteAnimation(Image sheet, int frameCount, int columns, double duration, boolean loops) {
+    public SpriteAnimation(AtlasRegion sheet, int frameCount, int columns, double duration, boolean loops) {
+        this(null, sheet, frameCount, columns, duration, loops);
+    }
+
+    private SpriteAnimation(String sheetName, AtlasRegion sheet, int frameCount, int columns,
+                            double duration, boolean loops) {
+        this.sheetName = sheetName;
         this.spriteSheet = sheet;
         this.frameCount = frameCount;
         this.columns = columns;
-        this.frameWidth = (int) (sheet.getWidth() / columns);
-        this.frameHeight = (int) (sheet.getHeight() / (Math.ceil((double) frameCount / columns)));
+        this.duration = duration;
         this.frameDuration = duration / frameCount;
         this.loops = loops;
     }
 
     /**
-     * Cập nhật tiến trình animation theo thời gian.
+     * Tính frame ứng với một thời điểm.
      *
-     * @param deltaTime thời gian trôi qua giữa hai frame (giây)
+     * @param time thời gian (giây) tính từ lúc bắt đầu animation
+     * @return chỉ số frame (frame cuối nếu animation không lặp và đã chạy xong)
      */
-    public void update(double deltaTime) {
-        if (isFinished) return;
+    public int frameAt(double time) {
+        int frame = (int) (Math.max(0, time) / frameDuration);
+        return loops ? frame % frameCount : Math.min(frame, frameCount - 1);
+    }
 
-        elapsedTime += deltaTime;
-        if (elapsedTime >= frameDuration) {
-            elapsedTime -= frameDuration;
-            currentFrame++;
-            if (currentFrame >= frameCount) {
-                if (loops) {
-                    currentFrame = 0;
-                } else {
-                    isFinished = true;
-                    currentFrame = frameCount - 1;
-                }
-            }
-        }
+    /**
+     * Kiểm tra animation đã kết thúc tại thời điểm cho trước hay chưa (luôn false khi loops = true).
+     *
+     * @param time thời gian (giây) tính từ lúc bắt đầu animation
+     * @return true nếu animation đã chạy xong
+     */
+    public boolean isFinished(double time) {
+        return !loops && time >= duration;
     }
 
     /**
-     * Vẽ frame hiện tại của animation lên canvas.
+     * @return tổng thời gian chạy toàn bộ animation (giây)
+     */
+    public double getDuration() {
+        return duration;
+    }
+
+    /**
+     * Vẽ frame ứng với thời điểm {@code time}.
      *
-     * @param gc context dùng để vẽ
-     * @param x  vị trí X hiển thị
-     * @param y  vị trí Y hiển thị
-     * @param w  chiều rộng hiển thị
-     * @param h  chiều cao hiển thị
+     * @param gc   context dùng để vẽ
+     * @param time thời gian (giây) tính từ lúc bắt đầu animation
+     * @param x    vị trí X hiển thị
+     * @param y    vị trí Y hiển thị
+     * @param w    chiều rộng hiển thị
+     * @param h    chiều cao hiển thị
      */
-    public void render(GraphicsContext gc, double x, double y, double w, double h) {
-        int sx = (currentFrame % columns) * frameWidth;
-        int sy = (currentFrame / columns) * frameHeight;
+    public void renderAt(GraphicsContext gc, double time, double x, double y, double w, double h) {
+        AtlasRegion sheet = resolveSheet();
+        if (sheet == null) return;
+
+        int frameWidth = (int) (sheet.getWidth() / columns);
+        int frameHeight = (int) (sheet.getHeight() / (Math.ceil((double) frameCount / columns)));
+        int frame = frameAt(time);
+        int sx = (frame % columns) * frameWidth;
+        int sy = (frame / columns) * frameHeight;
 
-        gc.drawImage(
-                spriteSheet,
+        sheet.draw(
+                gc,
                 sx, sy, frameWidth, frameHeight,
                 x, y, w, h
         );
     }
 
     /**
-     * Kiểm tra animation đã kết thúc hay chưa (chỉ áp dụng khi loops = false).
+     * Ghi lệnh vẽ frame ứng với thời điểm {@code time} vào buffer lệnh vẽ.
      *
-     * @return true nếu animation đã chạy xong
+     * @param buffer buffer lệnh vẽ
+     * @param time   thời gian (giây) tính từ lúc bắt đầu animation
      */
-    public boolean isFinished() {
-        return isFinished;
+    public void renderAt(RenderCommandBuffer buffer, double time, double x, double y, double w, double h) {
+        AtlasRegion sheet = resolveSheet();
+        if (sheet == null) return;
+
+        int frameWidth = (int) (sheet.getWidth() / columns);
+        int frameHeight = (int) (sheet.getHeight() / (Math.ceil((double) frameCount / columns)));
+        int frame = frameAt(time);
+        sheet.draw(
+                buffer,
+                (frame % columns) * frameWidth, (frame / columns) * frameHeight, frameWidth, frameHeight,
+                x, y, w, h
+        );
     }
 
-    /**
-     * Đặt lại animation về frame đầu tiên.
-     * <br>Dùng khi muốn chạy lại từ đầu.
-     */
-    public void reset() {
-        this.currentFrame = 0;
-        this.elapsedTime = 0;
-        this.isFinished = false;
+    private AtlasRegion resolveSheet() {
+        AtlasRegion sheet = spriteSheet;
+        if (sheet == null && sheetName != null && !AssetManager.isHeadless()) {
+            sheet = AssetManager.getInstance().getRegion(sheetName);
+            spriteSheet = sheet;
+        }
+        return sheet;
     }
 }
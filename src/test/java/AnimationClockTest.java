@@ -0,0 +1,47 @@
+import org.example.data.AtlasRegion;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.bricks.UnbreakableBrick;
+import org.example.presentation.SpriteAnimation;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AnimationClockTest {
+
+    @Test
+    public void testFrameComputedFromTime() {
+        SpriteAnimation loop = new SpriteAnimation((AtlasRegion) null, 4, 4, 1.0, true);
+
+        assertEquals(0, loop.frameAt(0.0));
+        assertEquals(1, loop.frameAt(0.3));
+        assertEquals(0, loop.frameAt(1.1));
+        assertFalse(loop.isFinished(10.0));
+    }
+
+    @Test
+    public void testOneShotClampsToLastFrame() {
+        SpriteAnimation once = new SpriteAnimation((AtlasRegion) null, 5, 5, 0.5, false);
+
+        assertFalse(once.isFinished(0.4));
+        assertTrue(once.isFinished(0.5));
+        assertEquals(4, once.frameAt(3.0));
+    }
+
+    @Test
+    public void testBrickAnimationFollowsWorldClock() {
+        GameWorld world = new GameWorld();
+        world.run(() -> {
+            UnbreakableBrick brick = new UnbreakableBrick(world, 0, 0, 50, 20);
+            brick.takeDamage(1);
+            assertTrue(brick.isAnimating());
+
+            // update không tự tick animation: chỉ đồng hồ của world quyết định
+            brick.update(1.0);
+            assertTrue(brick.isAnimating());
+
+            world.getAnimationClock().advance(0.5);
+            brick.update(0.0);
+            assertFalse(brick.isAnimating());
+        });
+    }
+}
@@ -0,0 +1,50 @@
+import org.example.data.AtlasPacker;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AtlasPackerTest {
+
+    @Test
+    public void testPlacementsStayInPageAndDoNotOverlap() {
+        int pageSize = 128;
+        int padding = 1;
+        AtlasPacker packer = new AtlasPacker(pageSize, padding);
+
+        int[][] sizes = {{60, 40}, {60, 40}, {30, 30}, {30, 30}, {100, 20}, {16, 16}, {16, 16}, {50, 50}};
+        List<AtlasPacker.Placement> placements = new ArrayList<>();
+        for (int[] size : sizes) {
+            AtlasPacker.Placement p = packer.place(size[0], size[1]);
+            assertNotNull(p);
+            assertTrue(p.x() - padding >= 0 && p.y() - padding >= 0);
+            assertTrue(p.x() + size[0] + padding <= pageSize);
+            assertTrue(p.y() + size[1] + padding <= pageSize);
+            placements.add(p);
+        }
+
+        for (int i = 0; i < placements.size(); i++) {
+            for (int j = i + 1; j < placements.size(); j++) {
+                AtlasPacker.Placement a = placements.get(i);
+                AtlasPacker.Placement b = placements.get(j);
+                if (a.page() != b.page()) {
+                    continue;
+                }
+                boolean overlap = a.x() < b.x() + sizes[j][0] && b.x() < a.x() + sizes[i][0]
+                        && a.y() < b.y() + sizes[j][1] && b.y() < a.y() + sizes[i][1];
+                assertFalse(overlap, "Vùng " + i + " và " + j + " chồng lên nhau");
+            }
+        }
+        assertTrue(packer.getPageCount() >= 1);
+    }
+
+    @Test
+    public void testOversizedSpriteIsRejected() {
+        AtlasPacker packer = new AtlasPacker(64, 1);
+
+        assertNull(packer.place(64, 10));
+        assertEquals(0, packer.getPageCount());
+    }
+}
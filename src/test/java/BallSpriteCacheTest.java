@@ -0,0 +1,39 @@
+import org.example.config.GameConstants;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.Ball;
+import org.example.gamelogic.graphics.BallSpriteCache;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BallSpriteCacheTest {
+
+    @Test
+    public void testMissOffFxThreadReturnsNullInsteadOfRasterizing() {
+        assertNull(BallSpriteCache.get(GameConstants.BALL_RADIUS, GameConstants.NORMAL_BALL_COLOR, 8));
+    }
+
+    @Test
+    public void testBallRecordsNothingOnSimulationThreadWithoutPreloadedSprites() throws InterruptedException {
+        Ball ball = new Ball(GameWorld.getDefault(), 100, 200, GameConstants.BALL_RADIUS);
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+
+        // Giống thread mô phỏng: ghi lệnh vẽ ngoài FX thread
+        Thread simulation = new Thread(() -> {
+            try {
+                ball.render(buffer);
+            } catch (Throwable e) {
+                failure.set(e);
+            }
+        });
+        simulation.start();
+        simulation.join();
+
+        assertNull(failure.get());
+        assertEquals(0, buffer.size());
+    }
+}
@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.Ball;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,7 @@ public class BallTest {
 
     @BeforeEach
     void setUp() {
-        ball = new Ball(100, 200, 10);
+        ball = new Ball(GameWorld.getDefault(), 100, 200, 10);
     }
 
     @Test
@@ -0,0 +1,68 @@
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.Ball;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BallTrailTest {
+    private Ball ball;
+
+    @BeforeEach
+    void setUp() {
+        ball = new Ball(GameWorld.getDefault(), 100, 200, 10);
+        ball.release();
+    }
+
+    // Đặt bóng tới (x, y) rồi cập nhật với deltaTime 0 để chỉ có vệt bóng thay đổi
+    private void moveTo(double x, double y) {
+        ball.setPosition(x, y);
+        ball.update(0);
+    }
+
+    @Test
+    void testGhostsAreNewestFirst() {
+        moveTo(110, 200);
+        moveTo(120, 205);
+        moveTo(130, 210);
+
+        assertEquals(3, ball.getTrailSize());
+        assertEquals(130, ball.getGhostX(0), 0.001);
+        assertEquals(210, ball.getGhostY(0), 0.001);
+        assertEquals(110, ball.getGhostX(2), 0.001);
+        assertEquals(200, ball.getGhostY(2), 0.001);
+    }
+
+    @Test
+    void testRingOverwritesOldestGhostWhenFull() {
+        for (int i = 1; i <= 12; i++) {
+            moveTo(100 + 10 * i, 200);
+        }
+
+        assertEquals(8, ball.getTrailSize());
+        for (int age = 0; age < 8; age++) {
+            assertEquals(100 + 10 * (12 - age), ball.getGhostX(age), 0.001);
+        }
+    }
+
+    @Test
+    void testSmallMovesDoNotAddGhosts() {
+        moveTo(101, 200);
+        moveTo(101, 201);
+        assertEquals(0, ball.getTrailSize());
+
+        moveTo(105, 201);
+        assertEquals(1, ball.getTrailSize());
+    }
+
+    @Test
+    void testAttachingToPaddleClearsTrail() {
+        moveTo(120, 200);
+        moveTo(140, 200);
+        assertEquals(2, ball.getTrailSize());
+
+        ball.reset(200, 300, 100);
+        ball.update(0);
+        assertEquals(0, ball.getTrailSize());
+    }
+}
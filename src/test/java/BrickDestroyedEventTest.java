@@ -1,4 +1,5 @@
 import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.bricks.Brick;
 import org.example.gamelogic.entities.bricks.NormalBrick;
 import org.example.gamelogic.events.BrickDestroyedEvent;
@@ -23,7 +24,7 @@ public class BrickDestroyedEventTest {
             called[0] = true;
         });
 
-        Brick dummyBrick = new NormalBrick(0, 0, 50, 20);
+        Brick dummyBrick = new NormalBrick(GameWorld.getDefault(), 0, 0, 50, 20);
         BrickDestroyedEvent event = new BrickDestroyedEvent(dummyBrick);
 
         eventManager.publish(event);
@@ -0,0 +1,60 @@
+import org.example.data.LevelData;
+import org.example.gamelogic.core.BrickManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.Ball;
+import org.example.gamelogic.entities.bricks.Brick;
+import org.example.gamelogic.events.BallHitBrickEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickDirtyTrackingTest {
+    private GameWorld world;
+    private BrickManager brickManager;
+
+    @BeforeEach
+    public void setup() {
+        world = new GameWorld();
+        brickManager = new BrickManager(level -> new LevelData(List.of(
+                "H H H H",
+                "N N N N")), world);
+        brickManager.loadLevel(1);
+    }
+
+    private void hitEveryBrick() {
+        Ball ball = new Ball(world, 0, 0, 8);
+        for (Brick brick : brickManager.getBricks()) {
+            brick.takeDamage(1);
+            world.getEventManager().publish(new BallHitBrickEvent(brick, ball));
+        }
+        brickManager.update(0);
+    }
+
+    @Test
+    public void testHitsBeforeFirstRenderDoNotQueueDirtyBricks() {
+        for (int i = 0; i < 100; i++) {
+            hitEveryBrick();
+        }
+        assertEquals(0, brickManager.getDirtyBrickCount());
+    }
+
+    @Test
+    public void testUpdatesFromSimulationThreadDoNotTouchDirtyList() throws InterruptedException {
+        int before = brickManager.getBricks().size();
+
+        // Thread mô phỏng chỉ đánh dấu cả lớp cần dựng lại, không ghi vào danh sách của FX thread
+        Thread simulation = new Thread(() -> {
+            for (int i = 0; i < 100; i++) {
+                hitEveryBrick();
+            }
+        });
+        simulation.start();
+        simulation.join();
+
+        assertTrue(brickManager.getBricks().size() < before);
+        assertEquals(0, brickManager.getDirtyBrickCount());
+    }
+}
@@ -0,0 +1,56 @@
+import org.example.config.GameConstants;
+import org.example.data.LevelData;
+import org.example.gamelogic.core.BrickManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.bricks.Brick;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BrickGridTest {
+    private BrickManager brickManager;
+    private final List<Brick> result = new ArrayList<>();
+
+    @BeforeEach
+    public void setup() {
+        brickManager = new BrickManager(level -> new LevelData(List.of(
+                "N N N N",
+                "_ N N _",
+                "N N N N")), new GameWorld());
+        brickManager.loadLevel(1);
+    }
+
+    @Test
+    public void testQueryMatchesLinearScan() {
+        double step = 7;
+        for (double y = GameConstants.PLAY_AREA_Y; y < GameConstants.PLAY_AREA_Y + 150; y += step) {
+            for (double x = GameConstants.PLAY_AREA_X; x < GameConstants.PLAY_AREA_X + GameConstants.PLAY_AREA_WIDTH; x += step) {
+                brickManager.queryBricks(x, y, 16, 16, result);
+
+                for (Brick brick : brickManager.getBricks()) {
+                    boolean overlaps = x < brick.getX() + brick.getWidth() && x + 16 > brick.getX()
+                            && y < brick.getY() + brick.getHeight() && y + 16 > brick.getY();
+                    if (overlaps) {
+                        assertTrue(result.contains(brick), "missing brick " + brick.getId());
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testDestroyedBrickIsRemovedFromGrid() {
+        Brick brick = brickManager.getBricks().get(0);
+        brick.setDestroyed(true);
+        brickManager.update(0);
+
+        brickManager.queryBricks(brick.getX(), brick.getY(), brick.getWidth(), brick.getHeight(), result);
+
+        assertFalse(result.contains(brick));
+        assertEquals(9, brickManager.getBricks().size());
+    }
+}
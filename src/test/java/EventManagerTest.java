@@ -0,0 +1,98 @@
+import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.events.BallHitWallEvent;
+import org.example.gamelogic.events.EventPool;
+import org.example.gamelogic.events.GameOverEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventManagerTest {
+    private EventManager eventManager;
+
+    @BeforeEach
+    public void setUp() {
+        eventManager = new GameWorld().getEventManager();
+    }
+
+    @Test
+    public void testSubscribeDuringPublishAffectsOnlyNextPublish() {
+        AtomicInteger lateCalls = new AtomicInteger();
+        Consumer<GameOverEvent> late = e -> lateCalls.incrementAndGet();
+        eventManager.subscribe(GameOverEvent.class, e -> eventManager.subscribe(GameOverEvent.class, late));
+
+        eventManager.publish(new GameOverEvent());
+        assertEquals(0, lateCalls.get());
+
+        eventManager.publish(new GameOverEvent());
+        assertEquals(1, lateCalls.get());
+    }
+
+    @Test
+    public void testConcurrentSubscribersAreAllRegistered() throws InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        Thread[] threads = new Thread[4];
+        for (int i = 0; i < threads.length; i++) {
+            threads[i] = new Thread(() -> {
+                for (int j = 0; j < 250; j++) {
+                    eventManager.subscribe(GameOverEvent.class, e -> calls.incrementAndGet());
+                }
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        eventManager.publish(new GameOverEvent());
+
+        assertEquals(1000, calls.get());
+    }
+
+    @Test
+    public void testQueuedEventsAreDispatchedInOrderOnDrain() {
+        List<String> order = new ArrayList<>();
+        eventManager.subscribe(BallHitWallEvent.class, e -> {
+            order.add("wall");
+            eventManager.publish(new GameOverEvent());
+        });
+        eventManager.subscribe(GameOverEvent.class, e -> order.add("over"));
+
+        eventManager.beginQueue();
+        eventManager.publish(new BallHitWallEvent(null));
+        eventManager.publish(new BallHitWallEvent(null));
+        assertTrue(order.isEmpty());
+        assertEquals(2, eventManager.getQueuedCount());
+
+        eventManager.drainQueue();
+
+        assertEquals(List.of("wall", "wall", "over", "over"), order);
+        assertEquals(0, eventManager.getQueuedCount());
+    }
+
+    @Test
+    public void testPooledEventIsRecycledAfterDispatch() {
+        EventPool<BallHitWallEvent> pool = BallHitWallEvent.newPool();
+        AtomicInteger calls = new AtomicInteger();
+        eventManager.subscribe(BallHitWallEvent.class, e -> calls.incrementAndGet());
+
+        BallHitWallEvent first = pool.obtain().set(null);
+        eventManager.beginQueue();
+        eventManager.publish(first);
+        assertEquals(0, pool.getFreeCount());
+        eventManager.drainQueue();
+
+        assertEquals(1, pool.getFreeCount());
+        assertSame(first, pool.obtain());
+
+        eventManager.publish(first.set(null));
+        assertEquals(2, calls.get());
+        assertEquals(1, pool.getFreeCount());
+    }
+}
@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.Paddle;
 import org.example.gamelogic.entities.powerups.ExpandPaddlePowerUp;
 import org.example.gamelogic.strategy.powerup.ExpandPaddleStrategy;
@@ -12,8 +13,8 @@ public class ExpandPaddlePowerUpTest {
 
     @BeforeEach
     void setUp() {
-        powerUp = new ExpandPaddlePowerUp(0, 0, 20, 10, 0, 0, new ExpandPaddleStrategy());
-        paddle = new Paddle(50, 100, 40, 10, 0, 0);
+        powerUp = new ExpandPaddlePowerUp(GameWorld.getDefault(), 0, 0, 20, 10, 0, 0, new ExpandPaddleStrategy());
+        paddle = new Paddle(GameWorld.getDefault(), 50, 100, 40, 10, 0, 0);
     }
 
     @Test
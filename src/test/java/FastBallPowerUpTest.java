@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.powerups.FastBallPowerUp;
 import org.example.gamelogic.strategy.powerup.FastBallStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,7 +11,7 @@ public class FastBallPowerUpTest {
 
     @BeforeEach
     void setUp() {
-        powerUp = new FastBallPowerUp(10, 20, 30, 30, 0, 0, new FastBallStrategy());
+        powerUp = new FastBallPowerUp(GameWorld.getDefault(), 10, 20, 30, 30, 0, 0, new FastBallStrategy());
     }
 
     @Test
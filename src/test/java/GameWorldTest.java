@@ -0,0 +1,80 @@
+import org.example.config.GameConstants;
+import org.example.data.LevelData;
+import org.example.gamelogic.core.BrickManager;
+import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.bricks.Brick;
+import org.example.gamelogic.entities.bricks.NormalBrick;
+import org.example.gamelogic.events.BrickDestroyedEvent;
+import org.example.gamelogic.states.PlayingState;
+import org.example.presentation.AutoPilotInputProvider;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GameWorldTest {
+
+    @Test
+    public void testWorldsDoNotShareScore() {
+        GameWorld first = new GameWorld();
+        GameWorld second = new GameWorld();
+
+        first.getEventManager().publish(new BrickDestroyedEvent(new NormalBrick(first, 0, 0, 50, 20)));
+
+        assertEquals(GameConstants.POINTS_PER_BRICK, first.getScoreManager().getScore());
+        assertEquals(0, second.getScoreManager().getScore());
+    }
+
+    @Test
+    public void testGetInstanceFollowsBoundWorld() {
+        GameWorld world = new GameWorld();
+
+        world.run(() -> assertSame(world.getEventManager(), EventManager.getInstance()));
+
+        assertSame(GameWorld.getDefault().getEventManager(), EventManager.getInstance());
+    }
+
+    @Test
+    public void testGameManagersRunIndependently() throws InterruptedException {
+        GameManager[] games = new GameManager[2];
+        Thread[] threads = new Thread[games.length];
+        for (int i = 0; i < games.length; i++) {
+            GameManager gameManager = new GameManager(new GameWorld());
+            games[i] = gameManager;
+            threads[i] = new Thread(() -> {
+                gameManager.setInputProvider(new AutoPilotInputProvider(gameManager));
+                gameManager.initHeadless();
+                gameManager.runHeadless(Math.round(10 / GameConstants.FIXED_TIMESTEP));
+            });
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        for (GameManager gameManager : games) {
+            assertInstanceOf(PlayingState.class, gameManager.getStateManager().getState());
+        }
+        assertNotSame(games[0].getWorld().getScoreManager(), games[1].getWorld().getScoreManager());
+    }
+
+    @Test
+    public void testClonesBelongToPrototypeWorld() throws InterruptedException {
+        GameWorld world = new GameWorld();
+        BrickManager brickManager = new BrickManager(level -> new LevelData(List.of("N N")), world);
+
+        // Không gắn world nào vào thread, kể cả khi load từ thread phụ: gạch vẫn thuộc world của manager
+        Thread loader = new Thread(() -> brickManager.loadLevel(1));
+        loader.start();
+        loader.join();
+
+        assertEquals(2, brickManager.getBricks().size());
+        for (Brick brick : brickManager.getBricks()) {
+            assertSame(world, brick.getGameObject().getWorld());
+            assertNotSame(GameWorld.getDefault(), brick.getGameObject().getWorld());
+        }
+    }
+}
@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.bricks.HardBrick;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,7 @@ public class HardBrickTest {
 
     @BeforeEach
     void setUp() {
-        brick = new HardBrick(10, 20, 50, 20);
+        brick = new HardBrick(GameWorld.getDefault(), 10, 20, 50, 20);
     }
 
     @Test
@@ -0,0 +1,37 @@
+import org.example.config.GameConstants;
+import org.example.gamelogic.core.GameManager;
+import org.example.gamelogic.core.ScoreManager;
+import org.example.gamelogic.states.PlayingState;
+import org.example.presentation.AutoPilotInputProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HeadlessSimulationTest {
+
+    @AfterEach
+    void tearDown() {
+        if (GameManager.getInstance().getStateManager().getState() instanceof PlayingState playingState) {
+            playingState.cleanUp();
+        }
+        ScoreManager.getInstance().resetScore();
+    }
+
+    @Test
+    void testRunHeadlessStaysInPlayingState() {
+        GameManager gameManager = GameManager.getInstance();
+        gameManager.setInputProvider(new AutoPilotInputProvider(gameManager));
+        gameManager.initHeadless();
+
+        long[] now = {0};
+        gameManager.setClock(() -> now[0] += 1_000);
+
+        long ticks = Math.round(30 / GameConstants.FIXED_TIMESTEP);
+        long elapsed = gameManager.runHeadless(ticks);
+
+        assertTrue(gameManager.isHeadless());
+        assertEquals(1_000, elapsed);
+        assertInstanceOf(PlayingState.class, gameManager.getStateManager().getState());
+    }
+}
@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.bricks.HealingBrick;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,7 @@ public class HealingBrickTest {
 
     @BeforeEach
     void setUp() {
-        brick = new HealingBrick(10, 20, 50, 20);
+        brick = new HealingBrick(GameWorld.getDefault(), 10, 20, 50, 20);
     }
 
     @Test
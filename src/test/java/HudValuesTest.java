@@ -0,0 +1,37 @@
+import org.example.gamelogic.graphics.HudValues;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class HudValuesTest {
+
+    @Test
+    public void testFirstValuesAlwaysRepaint() {
+        HudValues values = new HudValues();
+        assertTrue(values.set(0, "00:00", 1, 3));
+        assertEquals("00:00", values.getTime());
+    }
+
+    @Test
+    public void testUnchangedValuesDoNotRepaint() {
+        HudValues values = new HudValues();
+        values.set(120, "01:05", 2, 3);
+
+        // Chuỗi thời gian mới nhưng cùng nội dung không làm lớp giá trị bẩn
+        assertFalse(values.set(120, new String("01:05"), 2, 3));
+    }
+
+    @Test
+    public void testEachValueChangeRepaints() {
+        HudValues values = new HudValues();
+        values.set(120, "01:05", 2, 3);
+
+        assertTrue(values.set(130, "01:05", 2, 3));
+        assertTrue(values.set(130, "01:06", 2, 3));
+        assertTrue(values.set(130, "01:06", 3, 3));
+        assertTrue(values.set(130, "01:06", 3, 2));
+        assertEquals(130, values.getScore());
+        assertEquals(3, values.getLevel());
+        assertEquals(2, values.getLives());
+    }
+}
@@ -0,0 +1,28 @@
+import org.example.gamelogic.graphics.ImageModifier;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ImageModifierTest {
+
+    @Test
+    public void testTransparentPixelStaysTransparent() {
+        assertEquals(0, ImageModifier.tintArgb(0x00FFFFFF, 0xFFFF0000));
+    }
+
+    @Test
+    public void testWhitePixelTakesTintColor() {
+        assertEquals(0xFF3366CC, ImageModifier.tintArgb(0xFFFFFFFF, 0xFF3366CC));
+    }
+
+    @Test
+    public void testBrightnessAndAlphaScaleTint() {
+        // Pixel xám 50% sáng, alpha 50%: màu tint còn một nửa độ sáng và một nửa alpha
+        int tinted = ImageModifier.tintArgb(0x80808080, 0xFFFF0000);
+
+        assertEquals(0x80, tinted >>> 24);
+        assertEquals(0x80, (tinted >> 16) & 0xFF);
+        assertEquals(0, (tinted >> 8) & 0xFF);
+        assertEquals(0, tinted & 0xFF);
+    }
+}
@@ -0,0 +1,37 @@
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.core.LaserManager;
+import org.example.gamelogic.entities.BulletFrom;
+import org.example.gamelogic.entities.BulletType;
+import org.example.gamelogic.entities.LaserBullet;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LaserManagerTest {
+
+    @Test
+    public void testInactiveBulletIsReused() {
+        GameWorld world = new GameWorld();
+        LaserManager laserManager = world.getLaserManager();
+
+        world.run(() -> {
+            laserManager.createBullet(100, 100, 0, -600, BulletType.PLAYER_LASER, BulletFrom.PLAYER);
+            LaserBullet first = laserManager.getLasers().get(0);
+            first.setActive(false);
+            laserManager.update(0.01);
+
+            assertTrue(laserManager.getLasers().isEmpty());
+            assertEquals(1, laserManager.getPooledCount());
+
+            laserManager.createBullet(50, 60, 0, 200, BulletType.BOSS_HOMING_SQUARE, BulletFrom.ENEMY);
+            LaserBullet second = laserManager.getLasers().get(0);
+
+            assertSame(first, second);
+            assertTrue(second.isActive());
+            assertEquals(BulletFrom.ENEMY, second.getFaction());
+            assertEquals(BulletType.BOSS_HOMING_SQUARE.width, second.getWidth());
+            assertEquals(50, second.getX());
+            assertEquals(0, laserManager.getPooledCount());
+        });
+    }
+}
@@ -0,0 +1,63 @@
+import javafx.scene.effect.DropShadow;
+import javafx.scene.effect.Glow;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.Paint;
+import org.example.config.GameConstants;
+import org.example.data.AssetManager;
+import org.example.data.LruCache;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LruCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsedEntry() {
+        Map<String, Integer> cache = new LruCache<>(2);
+        cache.put("a", 1);
+        cache.put("b", 2);
+        // Đọc "a" làm nó mới nhất, nên "b" bị loại khi thêm "c"
+        cache.get("a");
+        cache.put("c", 3);
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.containsKey("a"));
+        assertFalse(cache.containsKey("b"));
+        assertEquals(List.of("a", "c"), List.copyOf(cache.keySet()));
+    }
+
+    @Test
+    public void testGradientCacheStaysBounded() {
+        AssetManager am = AssetManager.getInstance();
+        int[] created = {0};
+        int capacity = GameConstants.GRADIENT_CACHE_CAPACITY;
+
+        Paint first = am.getGradient("lru-test-0", () -> { created[0]++; return Color.gray(0); });
+        for (int i = 1; i <= capacity; i++) {
+            double shade = (double) i / capacity;
+            am.getGradient("lru-test-" + i, () -> { created[0]++; return Color.gray(shade); });
+        }
+        assertEquals(capacity + 1, created[0]);
+
+        // Gradient đầu tiên đã bị loại nên factory được gọi lại; gradient mới nhất vẫn còn
+        Paint again = am.getGradient("lru-test-0", () -> { created[0]++; return Color.gray(0); });
+        assertEquals(capacity + 2, created[0]);
+        assertEquals(first, again);
+        am.getGradient("lru-test-" + capacity, () -> { created[0]++; return Color.WHITE; });
+        assertEquals(capacity + 2, created[0]);
+    }
+
+    @Test
+    public void testEffectsWithSameNameButDifferentTypeDoNotCollide() {
+        AssetManager am = AssetManager.getInstance();
+
+        DropShadow shadow = am.getEffect("lru-test-effect", DropShadow.class, () -> new DropShadow(4, Color.BLACK));
+        Glow glow = am.getEffect("lru-test-effect", Glow.class, () -> new Glow(0.5));
+
+        assertSame(shadow, am.getEffect("lru-test-effect", DropShadow.class, DropShadow::new));
+        assertSame(glow, am.getEffect("lru-test-effect", Glow.class, Glow::new));
+    }
+}
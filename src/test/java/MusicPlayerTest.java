@@ -0,0 +1,34 @@
+import org.example.data.AssetManager;
+import org.example.gamelogic.core.MusicPlayer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MusicPlayerTest {
+
+    private static boolean awaitStopped(MusicPlayer player) throws InterruptedException {
+        long deadline = System.nanoTime() + 2_000_000_000L;
+        while (player.isPlaying() && System.nanoTime() < deadline) {
+            Thread.sleep(5);
+        }
+        return !player.isPlaying();
+    }
+
+    @Test
+    public void testNonLoopingTrackStopsPlayingWhenFinished() throws InterruptedException {
+        // Ở chế độ headless stream rỗng nên session kết thúc ngay như một track đã phát hết
+        MusicPlayer player = new MusicPlayer(AssetManager.getInstance());
+        player.play("music_1", false);
+
+        assertTrue(awaitStopped(player));
+    }
+
+    @Test
+    public void testStopEndsPlaybackImmediately() {
+        MusicPlayer player = new MusicPlayer(AssetManager.getInstance());
+        player.play("music_1", true);
+        player.stop();
+
+        assertFalse(player.isPlaying());
+    }
+}
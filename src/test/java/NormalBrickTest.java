@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.bricks.NormalBrick;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -9,7 +10,7 @@ public class NormalBrickTest {
 
     @BeforeEach
     void SetUp() {
-        brick = new NormalBrick(0, 0, 50, 20);
+        brick = new NormalBrick(GameWorld.getDefault(), 0, 0, 50, 20);
     }
 
     @Test
@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.Paddle;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,7 @@ public class PaddleTest {
 
     @BeforeEach
     void setUp() {
-        paddle = new Paddle(100, 400, 80, 20, 0, 0);
+        paddle = new Paddle(GameWorld.getDefault(), 100, 400, 80, 20, 0, 0);
     }
 
     @Test
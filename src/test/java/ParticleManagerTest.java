@@ -0,0 +1,45 @@
+import javafx.scene.paint.Color;
+import org.example.gamelogic.core.ParticleManager;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParticleManagerTest {
+
+    @Test
+    public void testExpiredParticlesAreRemoved() {
+        ParticleManager particleManager = new ParticleManager(100, ParticleManager.OverflowPolicy.DROP_NEW);
+        particleManager.spawnBrickDebris(0, 0, Color.RED);
+        assertEquals(20, particleManager.getParticleCount());
+
+        particleManager.update(0.1);
+        assertEquals(20, particleManager.getParticleCount());
+
+        // Thời gian sống tối đa của mảnh vụn là 0.8 s
+        particleManager.update(0.8);
+        assertEquals(0, particleManager.getParticleCount());
+    }
+
+    @Test
+    public void testOverflowPolicy() {
+        ParticleManager dropping = new ParticleManager(30, ParticleManager.OverflowPolicy.DROP_NEW);
+        ParticleManager overwriting = new ParticleManager(30, ParticleManager.OverflowPolicy.OVERWRITE);
+        // 40 mảnh đỏ làm đầy bộ đệm, sau đó 20 mảnh xanh mới hơn
+        for (ParticleManager particleManager : new ParticleManager[]{dropping, overwriting}) {
+            particleManager.spawnBrickDebris(0, 0, Color.RED);
+            particleManager.spawnBrickDebris(0, 0, Color.RED);
+            particleManager.spawnBrickDebris(0, 0, Color.BLUE);
+        }
+
+        assertEquals(30, dropping.getParticleCount());
+        assertEquals(30, overwriting.getParticleCount());
+
+        // DROP_NEW giữ các mảnh đỏ cũ và bỏ hết mảnh xanh mới
+        assertEquals(30, dropping.getParticleCount(Color.RED));
+        assertEquals(0, dropping.getParticleCount(Color.BLUE));
+
+        // OVERWRITE ghi đè các mảnh cũ nhất: mọi mảnh xanh mới đều còn
+        assertEquals(20, overwriting.getParticleCount(Color.BLUE));
+        assertEquals(10, overwriting.getParticleCount(Color.RED));
+    }
+}
@@ -1,3 +1,4 @@
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.entities.powerups.PiercingBallPowerUp;
 import org.example.gamelogic.strategy.powerup.ExtraLifeStrategy;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,7 +12,7 @@ public class PiercingBallPowerUpTest {
 
     @BeforeEach
     void setUp() {
-        powerUp = new PiercingBallPowerUp(10, 20, 30, 30, 0, 0, new ExtraLifeStrategy());
+        powerUp = new PiercingBallPowerUp(GameWorld.getDefault(), 10, 20, 30, 30, 0, 0, new ExtraLifeStrategy());
     }
 
     @Test
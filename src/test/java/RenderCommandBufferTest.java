@@ -0,0 +1,92 @@
+import javafx.scene.paint.Color;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RenderCommandBufferTest {
+
+    @Test
+    public void testSortGroupsByLayerThenTexture() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        buffer.setLayer(20);
+        buffer.drawSprite(2, 0, 0, 8, 8, 0, 0, 8, 8);
+        buffer.drawSprite(1, 0, 0, 8, 8, 10, 0, 8, 8);
+        buffer.drawSprite(2, 0, 0, 8, 8, 20, 0, 8, 8);
+        buffer.fillRect(Color.RED, 0, 0, 4, 4);
+        buffer.setLayer(10);
+        buffer.drawSprite(1, 0, 0, 8, 8, 30, 0, 8, 8);
+
+        assertEquals(3, buffer.countTextureSwitches());
+
+        buffer.sortByLayerAndTexture();
+
+        assertTrue(buffer.isSorted());
+        assertEquals(10, buffer.getLayerAt(0));
+        assertEquals(1, buffer.getTexture(1));
+        assertEquals(2, buffer.getTexture(2));
+        assertEquals(2, buffer.getTexture(3));
+        // Hình chữ nhật ghi sau các sprite vẫn nằm trên chúng
+        assertEquals(RenderCommandBuffer.FILL_RECT, buffer.getOp(4));
+        assertEquals(1, buffer.countTextureSwitches());
+    }
+
+    @Test
+    public void testOverlayStaysAboveSpriteInSameLayer() {
+        // Như HealingBrick: sprite của viên gạch rồi lớp phủ nhấp nháy, xen giữa các viên gạch khác
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        buffer.setLayer(10);
+        buffer.drawSprite(1, 0, 0, 8, 8, 0, 0, 8, 8);
+        buffer.drawSprite(3, 0, 0, 8, 8, 10, 0, 8, 8);
+        buffer.fillRect(Color.WHITE, 10, 0, 8, 8);
+        buffer.drawSprite(3, 0, 0, 8, 8, 20, 0, 8, 8);
+        buffer.drawSprite(1, 0, 0, 8, 8, 30, 0, 8, 8);
+
+        buffer.sortByLayerAndTexture();
+
+        // Sprite trước lớp phủ được gom theo texture, lớp phủ ở ngay sau chúng, rồi tới sprite ghi sau
+        assertEquals(1, buffer.getTexture(0));
+        assertEquals(3, buffer.getTexture(1));
+        assertEquals(RenderCommandBuffer.FILL_RECT, buffer.getOp(2));
+        assertEquals(1, buffer.getTexture(3));
+        assertEquals(3, buffer.getTexture(4));
+    }
+
+    @Test
+    public void testCommandsCaptureRecordingState() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        buffer.setAlpha(0.5);
+        buffer.fillRect(Color.BLUE, 0, 0, 1, 1);
+        buffer.setAlpha(1.0);
+        buffer.fillText("x", null, Color.WHITE, 0, 0);
+
+        assertEquals(0.5, buffer.getAlpha(0));
+        assertEquals(1.0, buffer.getAlpha(1));
+        assertEquals(RenderCommandBuffer.TEXT, buffer.getOp(1));
+    }
+
+    @Test
+    public void testRecordingAfterSortAndClear() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        for (int i = 0; i < 100; i++) {
+            buffer.setLayer(i % 3);
+            buffer.drawSprite(i % 5, 0, 0, 1, 1, i, 0, 1, 1);
+        }
+        buffer.sortByLayerAndTexture();
+        for (int k = 1; k < buffer.size(); k++) {
+            assertTrue(buffer.getLayerAt(k - 1) <= buffer.getLayerAt(k));
+        }
+
+        // Ghi thêm sau khi sắp xếp đưa thứ tự phát lại về thứ tự ghi
+        buffer.drawSprite(9, 0, 0, 1, 1, 0, 0, 1, 1);
+        assertFalse(buffer.isSorted());
+        assertEquals(9, buffer.getTexture(buffer.size() - 1));
+
+        buffer.clear();
+        assertEquals(0, buffer.size());
+        assertEquals(0, buffer.getLayer());
+        buffer.fillRect(Color.GREEN, 0, 0, 1, 1);
+        assertEquals(1, buffer.size());
+        assertEquals(1.0, buffer.getAlpha(0));
+    }
+}
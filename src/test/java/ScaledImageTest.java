@@ -0,0 +1,51 @@
+import org.example.config.GameConstants;
+import org.example.data.AssetManager;
+import org.example.data.AssetManager.ScaledKey;
+import org.example.gamelogic.states.GameModeState;
+import org.example.gamelogic.states.VictoryState;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScaledImageTest {
+    private BufferedImage victorySource;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        // Kích thước thật của ảnh gốc trong resource, đọc bằng ImageIO để không cần JavaFX toolkit
+        try (InputStream in = getClass().getResourceAsStream("/images/victory.png")) {
+            victorySource = ImageIO.read(in);
+        }
+    }
+
+    private List<ScaledKey> victoryVariants() {
+        return AssetManager.scaledVariantsOf("victory", victorySource.getWidth(), victorySource.getHeight());
+    }
+
+    @Test
+    public void testGameModePanelIsPreDecoded() {
+        assertTrue(victoryVariants().contains(GameModeState.panelSize()));
+    }
+
+    @Test
+    public void testVictoryBackgroundIsPreDecodedWithSourceAspect() {
+        ScaledKey requested = VictoryState.backgroundSize(victorySource.getWidth(), victorySource.getHeight());
+        assertTrue(victoryVariants().contains(requested));
+
+        // Cao bằng màn hình và giữ đúng tỉ lệ ảnh gốc, không bị ép về nửa màn hình
+        assertEquals((int) GameConstants.SCREEN_HEIGHT, requested.height());
+        double sourceAspect = (double) victorySource.getWidth() / victorySource.getHeight();
+        assertEquals(sourceAspect, (double) requested.width() / requested.height(), 0.01);
+    }
+
+    @Test
+    public void testHeadlessHasNoScaledImages() {
+        assertNull(AssetManager.getInstance().getScaledImage(GameModeState.panelSize()));
+    }
+}
@@ -1,5 +1,6 @@
 import org.example.config.GameConstants;
 import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
 import org.example.gamelogic.core.ScoreManager;
 import org.example.gamelogic.entities.bricks.Brick;
 import org.example.gamelogic.entities.bricks.NormalBrick;
@@ -17,11 +18,12 @@ public class ScoreManagerTest {
     public void setup() {
         eventManager = EventManager.getInstance();
         scoreManager = ScoreManager.getInstance();
+        scoreManager.resetScore();
     }
 
     @Test
     public void testScoreIncreasesOnNormalBrickDestroyed() {
-        Brick normal = new NormalBrick(0, 0, 50, 20);
+        Brick normal = new NormalBrick(GameWorld.getDefault(), 0, 0, 50, 20);
         BrickDestroyedEvent event = new BrickDestroyedEvent(normal);
 
         eventManager.publish(event);
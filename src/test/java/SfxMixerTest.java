@@ -0,0 +1,49 @@
+import org.example.gamelogic.core.SfxMixer;
+import org.junit.jupiter.api.Test;
+
+import javax.sound.sampled.Clip;
+import java.lang.reflect.Proxy;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SfxMixerTest {
+
+    // Clip giả chỉ trả lời isRunning(), không cần thiết bị âm thanh
+    private static Clip fakeClip(boolean[] running, int index) {
+        return (Clip) Proxy.newProxyInstance(Clip.class.getClassLoader(), new Class<?>[]{Clip.class},
+                (proxy, method, args) -> method.getName().equals("isRunning") ? running[index] : null);
+    }
+
+    private static Clip[] pool(boolean[] running) {
+        Clip[] pool = new Clip[running.length];
+        for (int i = 0; i < pool.length; i++) {
+            pool[i] = fakeClip(running, i);
+        }
+        return pool;
+    }
+
+    @Test
+    public void testPicksFirstIdleVoiceFromPointer() {
+        boolean[] running = {false, true, true, false};
+        Clip[] pool = pool(running);
+
+        assertEquals(3, SfxMixer.pickVoice(pool, 1));
+        // Quay vòng về đầu mảng khi các voice sau con trỏ đều bận
+        running[3] = true;
+        assertEquals(0, SfxMixer.pickVoice(pool, 1));
+    }
+
+    @Test
+    public void testStealsOldestVoiceWhenAllBusy() {
+        boolean[] running = {true, true, true};
+        Clip[] pool = pool(running);
+
+        // Mô phỏng con trỏ của mixer: mỗi lần cướp đều lấy voice được bắt đầu lâu nhất
+        int pointer = 1;
+        for (int expected : new int[]{1, 2, 0, 1}) {
+            int chosen = SfxMixer.pickVoice(pool, pointer);
+            assertEquals(expected, chosen);
+            pointer = (chosen + 1) % pool.length;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+import javafx.scene.paint.Color;
+import org.example.gamelogic.graphics.RenderCommandBuffer;
+import org.example.gamelogic.graphics.RenderSnapshot;
+import org.example.gamelogic.graphics.SnapshotExchange;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SnapshotExchangeTest {
+
+    private static RenderSnapshot publish(SnapshotExchange exchange, long tick) {
+        RenderSnapshot snapshot = exchange.acquire();
+        snapshot.begin(tick, tick, null);
+        snapshot.setScore((int) tick);
+        exchange.publish(snapshot);
+        return snapshot;
+    }
+
+    @Test
+    public void testPollKeepsLatestAndPrevious() {
+        SnapshotExchange exchange = new SnapshotExchange();
+        assertFalse(exchange.poll());
+        assertNull(exchange.current());
+
+        RenderSnapshot first = publish(exchange, 1);
+        assertTrue(exchange.poll());
+        RenderSnapshot second = publish(exchange, 2);
+        assertTrue(exchange.poll());
+        assertFalse(exchange.poll());
+
+        assertSame(second, exchange.current());
+        assertSame(first, exchange.previous());
+    }
+
+    @Test
+    public void testSkippedAndReleasedSnapshotsAreReused() {
+        SnapshotExchange exchange = new SnapshotExchange();
+
+        // Snapshot bị thay trước khi FX kịp lấy được thu hồi ngay
+        RenderSnapshot skipped = publish(exchange, 1);
+        publish(exchange, 2);
+        assertSame(skipped, exchange.acquire());
+
+        SnapshotExchange chain = new SnapshotExchange();
+        RenderSnapshot oldest = publish(chain, 1);
+        chain.poll();
+        publish(chain, 2);
+        chain.poll();
+        publish(chain, 3);
+        chain.poll();
+        // previous cũ (tick 1) được FX trả lại
+        assertSame(oldest, chain.acquire());
+        assertEquals(3, chain.current().getTick());
+        assertEquals(2, chain.previous().getTick());
+    }
+
+    @Test
+    public void testConsumerNeverSeesSnapshotBeingRewritten() throws InterruptedException {
+        SnapshotExchange exchange = new SnapshotExchange();
+        AtomicBoolean done = new AtomicBoolean();
+        Thread producer = new Thread(() -> {
+            for (long tick = 1; tick <= 200_000; tick++) {
+                publish(exchange, tick);
+            }
+            done.set(true);
+        });
+        producer.start();
+
+        long lastTick = 0;
+        while (!done.get()) {
+            exchange.poll();
+            lastTick = check(exchange, lastTick);
+        }
+        producer.join();
+        exchange.poll();
+        check(exchange, lastTick);
+        assertEquals(200_000, exchange.current().getTick());
+    }
+
+    // Snapshot FX đang giữ không bao giờ bị thread mô phỏng ghi đè (tick và score luôn khớp)
+    private static long check(SnapshotExchange exchange, long lastTick) {
+        RenderSnapshot current = exchange.current();
+        RenderSnapshot previous = exchange.previous();
+        if (current == null) {
+            return lastTick;
+        }
+        assertEquals(current.getTick(), current.getScore());
+        assertTrue(current.getTick() >= lastTick);
+        if (previous != null) {
+            assertEquals(previous.getTick(), previous.getScore());
+            assertTrue(previous.getTick() < current.getTick());
+        }
+        return current.getTick();
+    }
+
+    @Test
+    public void testKeyIndexFindsFirstCommandOfEachObject() {
+        RenderCommandBuffer buffer = new RenderCommandBuffer();
+        buffer.setKey(7);
+        buffer.fillRect(Color.RED, 10, 20, 4, 4);
+        buffer.drawSprite(0, 0, 0, 8, 8, 30, 40, 8, 8);
+        buffer.setKey(3);
+        buffer.drawSprite(0, 0, 0, 8, 8, 50, 60, 8, 8);
+        buffer.setKey(0);
+        buffer.fillRect(Color.BLUE, 0, 0, 1, 1);
+
+        assertEquals(-1, buffer.indexOfKey(7));
+        buffer.buildKeyIndex();
+
+        assertEquals(0, buffer.indexOfKey(7));
+        assertEquals(2, buffer.indexOfKey(3));
+        assertEquals(-1, buffer.indexOfKey(5));
+        assertEquals(50, buffer.getX(2));
+        assertEquals(60, buffer.getY(2));
+    }
+}
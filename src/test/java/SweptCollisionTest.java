@@ -0,0 +1,80 @@
+import org.example.config.GameConstants;
+import org.example.data.LevelData;
+import org.example.gamelogic.core.BrickManager;
+import org.example.gamelogic.core.CollisionManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.Ball;
+import org.example.gamelogic.entities.IBall;
+import org.example.gamelogic.entities.Paddle;
+import org.example.gamelogic.entities.bricks.Brick;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SweptCollisionTest {
+    private GameWorld world;
+    private CollisionManager collisionManager;
+    private BrickManager brickManager;
+
+    @BeforeEach
+    public void setup() {
+        world = new GameWorld();
+        collisionManager = new CollisionManager(world);
+        brickManager = new BrickManager(level -> new LevelData(List.of("U")), world);
+        brickManager.loadLevel(1);
+    }
+
+    @Test
+    public void testFastBallDoesNotTunnelThroughBrick() {
+        Brick brick = brickManager.getBricks().get(0);
+        Ball ball = new Ball(world, 0, 0, GameConstants.BALL_RADIUS);
+        ball.release();
+        ball.setPosition(brick.getX() + 10, brick.getY() + brick.getHeight() + 5);
+        ball.setDx(0);
+        ball.setDy(-GameConstants.BALL_MAX_SPEED);
+
+        // 0.1 s ở tốc độ tối đa là 80px, dài hơn nhiều so với chiều cao gạch
+        collisionManager.checkCollisions(new ArrayList<>(List.<IBall>of(ball)), null, brickManager,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), 0.1);
+
+        assertTrue(ball.getDy() > 0);
+        assertTrue(ball.getY() >= brick.getY() + brick.getHeight());
+    }
+
+    @Test
+    public void testBallBouncesOffLeftWall() {
+        Ball ball = new Ball(world, 0, 0, GameConstants.BALL_RADIUS);
+        ball.release();
+        ball.setPosition(GameConstants.PLAY_AREA_X + 5, GameConstants.PLAY_AREA_Y + 300);
+        ball.setDx(-GameConstants.BALL_MAX_SPEED);
+        ball.setDy(0);
+
+        collisionManager.checkCollisions(new ArrayList<>(List.<IBall>of(ball)), null, brickManager,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), 0.05);
+
+        assertTrue(ball.getDx() > 0);
+        assertTrue(ball.getX() > GameConstants.PLAY_AREA_X);
+    }
+
+    @Test
+    public void testBallHitsPaddleThatMovedAwayDuringStep() {
+        // Paddle đã được cập nhật tới cuối bước: đi 60px sang phải, từ x = 240 tới x = 300
+        Paddle paddle = new Paddle(world, 300, 500, 100, GameConstants.PADDLE_HEIGHT, GameConstants.PADDLE_SPEED, 0);
+        Ball ball = new Ball(world, 0, 0, GameConstants.BALL_RADIUS);
+        ball.release();
+        // Bóng rơi ngay trên chỗ paddle lúc đầu bước và chạm mặt trên sớm, khi paddle chưa rời đi
+        ball.setPosition(245, 500 - ball.getHeight() - 5);
+        ball.setDx(0);
+        ball.setDy(GameConstants.BALL_MAX_SPEED);
+
+        collisionManager.checkCollisions(new ArrayList<>(List.<IBall>of(ball)), paddle, brickManager,
+                new ArrayList<>(), new ArrayList<>(), new ArrayList<>(), 0.1);
+
+        assertTrue(ball.getDy() < 0);
+        assertTrue(ball.getY() + ball.getHeight() <= paddle.getY());
+    }
+}
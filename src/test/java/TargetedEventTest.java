@@ -0,0 +1,81 @@
+import org.example.gamelogic.core.EventManager;
+import org.example.gamelogic.core.GameWorld;
+import org.example.gamelogic.entities.bricks.NormalBrick;
+import org.example.gamelogic.events.BallHitBrickEvent;
+import org.example.gamelogic.events.GameEvent;
+import org.example.gamelogic.events.TargetedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TargetedEventTest {
+    // Sự kiện có đích tùy ý để thử các đích equals nhau nhưng khác instance
+    private static final class PingEvent extends GameEvent implements TargetedEvent {
+        private final Object target;
+
+        PingEvent(Object target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object getTarget() {
+            return target;
+        }
+    }
+
+    private GameWorld world;
+    private EventManager eventManager;
+
+    @BeforeEach
+    public void setUp() {
+        world = new GameWorld();
+        eventManager = world.getEventManager();
+    }
+
+    @Test
+    public void testEventReachesOnlyTargetBrick() {
+        NormalBrick[] bricks = new NormalBrick[2];
+        world.run(() -> {
+            bricks[0] = new NormalBrick(world, 0, 0, 50, 20);
+            bricks[1] = new NormalBrick(world, 60, 0, 50, 20);
+        });
+
+        eventManager.publish(new BallHitBrickEvent(bricks[0], null));
+
+        assertTrue(bricks[0].isDestroyed());
+        assertFalse(bricks[1].isDestroyed());
+    }
+
+    @Test
+    public void testUnsubscribedBrickIgnoresEvent() {
+        NormalBrick[] brick = new NormalBrick[1];
+        world.run(() -> brick[0] = new NormalBrick(world, 0, 0, 50, 20));
+
+        eventManager.unsubscribeTarget(brick[0]);
+        eventManager.publish(new BallHitBrickEvent(brick[0], null));
+
+        assertFalse(brick[0].isDestroyed());
+    }
+
+    @Test
+    public void testEqualTargetsKeepSeparateHandlers() {
+        // Hai list rỗng equals nhau nhưng là hai đích khác nhau
+        List<String> first = new ArrayList<>();
+        List<String> second = new ArrayList<>();
+        int[] hits = new int[2];
+        eventManager.subscribeTarget(PingEvent.class, first, e -> hits[0]++);
+        eventManager.subscribeTarget(PingEvent.class, second, e -> hits[1]++);
+
+        eventManager.publish(new PingEvent(first));
+        assertArrayEquals(new int[]{1, 0}, hits);
+
+        eventManager.unsubscribeTarget(second);
+        eventManager.publish(new PingEvent(first));
+        eventManager.publish(new PingEvent(second));
+        assertArrayEquals(new int[]{2, 0}, hits);
+    }
+}
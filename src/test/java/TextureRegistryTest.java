@@ -0,0 +1,37 @@
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import org.example.data.TextureRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.lang.ref.WeakReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TextureRegistryTest {
+
+    @Test
+    public void testSameImageKeepsItsId() {
+        Image image = new WritableImage(4, 4);
+        int id = TextureRegistry.idOf(image);
+
+        assertEquals(id, TextureRegistry.idOf(image));
+        assertSame(image, TextureRegistry.get(id));
+        assertNotEquals(id, TextureRegistry.idOf(new WritableImage(4, 4)));
+    }
+
+    @Test
+    public void testRegistryDoesNotPinImages() throws InterruptedException {
+        Image image = new WritableImage(4, 4);
+        int id = TextureRegistry.idOf(image);
+        WeakReference<Image> watcher = new WeakReference<>(image);
+        image = null;
+
+        // Registry chỉ giữ tham chiếu yếu nên ảnh không còn ai dùng phải được GC thu hồi
+        for (int i = 0; i < 50 && watcher.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(watcher.get());
+        assertNull(TextureRegistry.get(id));
+    }
+}
@@ -0,0 +1,49 @@
+import org.example.data.WeightedLruCache;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WeightedLruCacheTest {
+
+    @Test
+    public void testEvictsLeastRecentlyUsedWhenEntryLimitExceeded() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(2, 1_000);
+        cache.put("a", "A", 10);
+        cache.put("b", "B", 10);
+        // Đọc "a" làm nó mới nhất, nên "b" bị loại khi thêm "c"
+        assertEquals("A", cache.get("a"));
+        cache.put("c", "C", 10);
+
+        assertEquals(2, cache.size());
+        assertNull(cache.get("b"));
+        assertEquals("A", cache.get("a"));
+        assertEquals(20, cache.getWeight());
+    }
+
+    @Test
+    public void testEvictsUntilWeightFits() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, 100);
+        cache.put("a", "A", 40);
+        cache.put("b", "B", 40);
+        // Ảnh lớn đẩy cả hai ảnh cũ ra để tổng dung lượng không vượt giới hạn
+        cache.put("c", "C", 90);
+
+        assertEquals(1, cache.size());
+        assertEquals("C", cache.get("c"));
+        assertEquals(90, cache.getWeight());
+    }
+
+    @Test
+    public void testReplacingEntryUpdatesWeight() {
+        WeightedLruCache<String, String> cache = new WeightedLruCache<>(10, 100);
+        cache.put("a", "A", 40);
+        cache.put("a", "A2", 60);
+
+        assertEquals(1, cache.size());
+        assertEquals(60, cache.getWeight());
+
+        cache.clear();
+        assertEquals(0, cache.size());
+        assertEquals(0, cache.getWeight());
+    }
+}
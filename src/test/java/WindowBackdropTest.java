@@ -0,0 +1,58 @@
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import org.example.gamelogic.I_InputProvider;
+import org.example.gamelogic.graphics.windows.Window;
+import org.example.gamelogic.states.GameState;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class WindowBackdropTest {
+
+    // State phía sau cửa sổ, chỉ đếm số lần bị vẽ
+    private static final class CountingState implements GameState {
+        private int renders;
+
+        @Override
+        public void update(double deltaTime) {
+        }
+
+        @Override
+        public void render(GraphicsContext gc) {
+            renders++;
+        }
+
+        @Override
+        public void handleInput(I_InputProvider input) {
+        }
+    }
+
+    @Test
+    public void testPreviousStateRenderedOnceWhileOpen() {
+        CountingState behind = new CountingState();
+        Window window = new Window(behind, 600, 400, null);
+        GraphicsContext gc = new Canvas(1, 1).getGraphicsContext2D();
+
+        for (int i = 0; i < 60; i++) {
+            window.render(gc);
+        }
+
+        assertEquals(1, behind.renders);
+    }
+
+    @Test
+    public void testInvalidateBackdropRendersPreviousStateAgain() {
+        CountingState behind = new CountingState();
+        Window window = new Window(behind, 600, 400, null);
+        GraphicsContext gc = new Canvas(1, 1).getGraphicsContext2D();
+        window.render(gc);
+        window.render(gc);
+
+        window.invalidateBackdrop();
+        for (int i = 0; i < 10; i++) {
+            window.render(gc);
+        }
+
+        assertEquals(2, behind.renders);
+    }
+}